@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.benchmarks.domain.PurchaseOrder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Builds the H2 in-memory SessionFactory shared by all benchmarks and seeds it with data.
+ * <p/>
+ * Each factory gets its own named in-memory database so that benchmarks running in the
+ * same JVM never see each other's data.
+ */
+public final class BenchmarkSupport {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSupport() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( new HashMap<>() );
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> additionalSettings) {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" );
+		settings.put( AvailableSettings.DRIVER, "org.h2.Driver" );
+		settings.put(
+				AvailableSettings.URL,
+				"jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+		);
+		settings.put( AvailableSettings.USER, "sa" );
+		settings.put( AvailableSettings.PASS, "" );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.SHOW_SQL, "false" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "false" );
+		settings.putAll( additionalSettings );
+
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code count} customers with ids {@code 1..count}, each with {@code ordersPerCustomer} orders.
+	 */
+	public static void seed(SessionFactoryImplementor sessionFactory, int count, int ordersPerCustomer) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			long orderId = 0;
+			for ( long id = 1; id <= count; id++ ) {
+				final Customer customer = new Customer( id, "customer" + id );
+				session.persist( customer );
+				for ( int i = 0; i < ordersPerCustomer; i++ ) {
+					session.persist( new PurchaseOrder( ++orderId, customer ) );
+				}
+				if ( id % 500 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntrySerializer;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.jboss.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the Java serialization of an entity cache entry, as done by out-of-process or by-value
+ * caches, with the {@link CompactCacheEntrySerializer}.  The size of both serialized forms of the
+ * entry is logged when setting up the trial.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class CacheEntrySerializationBenchmark {
+	private static final Logger log = Logger.getLogger( CacheEntrySerializationBenchmark.class );
+
+	private final CompactCacheEntrySerializer serializer = new CompactCacheEntrySerializer();
+
+	private SessionFactoryImplementor sessionFactory;
+	private EntityPersister persister;
+	private CacheEntry entry;
+	private byte[] javaSerialized;
+	private byte[] compactSerialized;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.seed( sessionFactory, 1, 0 );
+		persister = sessionFactory.getMetamodel().entityPersister( Customer.class );
+		try ( Session session = sessionFactory.openSession() ) {
+			final Customer customer = session.get( Customer.class, 1L );
+			entry = new StandardCacheEntryImpl(
+					persister.getPropertyValues( customer ),
+					persister,
+					null,
+					(SharedSessionContractImplementor) session,
+					customer
+			);
+		}
+		javaSerialized = SerializationHelper.serialize( entry );
+		compactSerialized = serializer.serializeEntity( entry, persister );
+		log.infof(
+				"Serialized cache entry: %d bytes with Java serialization, %d bytes compact",
+				javaSerialized.length,
+				compactSerialized.length
+		);
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public byte[] javaSerialization() {
+		return SerializationHelper.serialize( entry );
+	}
+
+	@Benchmark
+	public byte[] compactSerialization() {
+		return serializer.serializeEntity( entry, persister );
+	}
+
+	@Benchmark
+	public Object javaDeserialization() {
+		return SerializationHelper.deserialize( javaSerialized );
+	}
+
+	@Benchmark
+	public CacheEntry compactDeserialization() {
+		return serializer.deserializeEntity( compactSerialized, persister, sessionFactory );
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the cost of a flush over a large number of managed entities, which is dominated by
+ * the dirty checking performed by {@code DefaultFlushEntityEventListener}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+public class FlushDirtyCheckBenchmark {
+
+	@Param( { "1000", "10000" } )
+	public int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private List<Customer> customers;
+	private int round;
+
+	@Setup( Level.Trial )
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.seed( sessionFactory, managedEntities, 0 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Iteration )
+	public void loadEntities() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		customers = session.createQuery( "from Customer", Customer.class ).list();
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	/**
+	 * Nothing changed: every managed entity is dirty checked and found clean.
+	 */
+	@Benchmark
+	public void flushClean() {
+		session.flush();
+	}
+
+	/**
+	 * One entity out of a hundred changed: the dirty check has to find them and issue the updates.
+	 */
+	@Benchmark
+	public void flushOnePercentDirty() {
+		round++;
+		for ( int i = round % 100; i < customers.size(); i += 100 ) {
+			customers.get( i ).setAge( round );
+		}
+		session.flush();
+	}
+}
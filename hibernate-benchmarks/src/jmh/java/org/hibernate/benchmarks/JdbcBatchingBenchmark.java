@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.benchmarks.domain.PurchaseOrder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush of interleaved parent/child inserts through {@code BatchingBatch#addToBatch},
+ * with and without {@code hibernate.order_inserts}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+public class JdbcBatchingBenchmark {
+	private static final int CUSTOMERS = 500;
+	private static final int ORDERS_PER_CUSTOMER = 4;
+
+	@Param( { "1", "50" } )
+	public int batchSize;
+
+	@Param( { "false", "true" } )
+	public boolean orderInserts;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup( Level.Trial )
+	public void setUpSessionFactory() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( batchSize ) );
+		settings.put( AvailableSettings.ORDER_INSERTS, Boolean.toString( orderInserts ) );
+		sessionFactory = BenchmarkSupport.buildSessionFactory( settings );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Invocation )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+	}
+
+	@TearDown( Level.Invocation )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void insertParentsAndChildren() {
+		long orderId = 0;
+		for ( long id = 1; id <= CUSTOMERS; id++ ) {
+			final Customer customer = new Customer( id, "customer" + id );
+			session.persist( customer );
+			for ( int i = 0; i < ORDERS_PER_CUSTOMER; i++ ) {
+				session.persist( new PurchaseOrder( ++orderId, customer ) );
+			}
+		}
+		session.flush();
+	}
+}
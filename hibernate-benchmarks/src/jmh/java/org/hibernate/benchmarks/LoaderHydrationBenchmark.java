@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures row hydration in {@code Loader#doQuery}: reading the columns of every row, building the
+ * entity state and registering the instance in the persistence context (or not, for the stateless case).
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class LoaderHydrationBenchmark {
+
+	@Param( { "100", "5000" } )
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.seed( sessionFactory, rows, 0 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> session() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createQuery( "from Customer", Customer.class ).list();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> readOnlySession() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.setDefaultReadOnly( true );
+			return session.createQuery( "from Customer", Customer.class ).list();
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public List<Customer> statelessSession() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createQuery( "from Customer" ).list();
+		}
+	}
+}
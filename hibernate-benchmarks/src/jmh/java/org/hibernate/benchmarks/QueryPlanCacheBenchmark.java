@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures {@link QueryPlanCache#getHQLQueryPlan} for cache hits (single threaded and contended)
+ * and for cache misses, which include the whole HQL translation.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+public class QueryPlanCacheBenchmark {
+	private static final String HQL = "select c from Customer c where c.name = :name and c.age > :age order by c.id";
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryPlanCache queryPlanCache;
+
+	@State( Scope.Thread )
+	public static class MissCounter {
+		private long counter;
+	}
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		queryPlanCache = sessionFactory.getQueryPlanCache();
+		queryPlanCache.getHQLQueryPlan( HQL, false, Collections.emptyMap() );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HQLQueryPlan hit() {
+		return queryPlanCache.getHQLQueryPlan( HQL, false, Collections.emptyMap() );
+	}
+
+	@Benchmark
+	@Threads( 8 )
+	public HQLQueryPlan hitContended() {
+		return queryPlanCache.getHQLQueryPlan( HQL, false, Collections.emptyMap() );
+	}
+
+	@Benchmark
+	@OutputTimeUnit( TimeUnit.MICROSECONDS )
+	public HQLQueryPlan miss(MissCounter missCounter) {
+		// a distinct literal makes every query string unique, hence a guaranteed miss
+		final String hql = "select c from Customer c where c.id = " + missCounter.counter++;
+		return queryPlanCache.getHQLQueryPlan( hql, false, Collections.emptyMap() );
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.query.internal.LirsQueryPlanCacheStorageFactory;
+import org.hibernate.engine.query.internal.TinyLfuQueryPlanCacheStorageFactory;
+import org.hibernate.engine.query.spi.QueryPlanCacheStorage;
+import org.hibernate.engine.query.spi.QueryPlanCacheStorageFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the {@link QueryPlanCacheStorage} implementations under a skewed, read-mostly workload
+ * similar to the one of the query plan cache: a few queries are executed very often, the long tail
+ * rarely, and the working set is larger than the cache. Run with {@code -t} to change the number
+ * of threads; the interesting case is a high number of threads all hitting the same entries.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Threads( 64 )
+public class QueryPlanCacheStorageBenchmark {
+	private static final int MAX_SIZE = 2048;
+	private static final int DISTINCT_KEYS = 8192;
+	private static final int SAMPLES = 1 << 16;
+
+	@Param( { LirsQueryPlanCacheStorageFactory.SHORT_NAME, TinyLfuQueryPlanCacheStorageFactory.SHORT_NAME } )
+	public String storage;
+
+	private QueryPlanCacheStorage<String, Object> cache;
+	private String[] samples;
+
+	@State( Scope.Thread )
+	public static class Cursor {
+		private int index = new Random().nextInt( SAMPLES );
+	}
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		final QueryPlanCacheStorageFactory factory = LirsQueryPlanCacheStorageFactory.SHORT_NAME.equals( storage )
+				? LirsQueryPlanCacheStorageFactory.INSTANCE
+				: TinyLfuQueryPlanCacheStorageFactory.INSTANCE;
+		cache = factory.buildStorage( MAX_SIZE, count -> {} );
+
+		// Zipf-like distribution of the keys (exponent ~1)
+		final Random random = new Random( 7 );
+		samples = new String[SAMPLES];
+		for ( int i = 0; i < SAMPLES; i++ ) {
+			final int rank = (int) Math.pow( DISTINCT_KEYS, random.nextDouble() ) - 1;
+			samples[i] = "select e from Entity" + rank + " e where e.id = :id";
+		}
+		for ( String sample : samples ) {
+			cache.putIfAbsent( sample, sample );
+		}
+	}
+
+	@Benchmark
+	public Object getOrCompute(Cursor cursor) {
+		final String key = samples[cursor.index++ & ( SAMPLES - 1 )];
+		// the "plan" is the key itself: only the cache overhead is measured
+		return cache.computeIfAbsent( key, k -> k );
+	}
+}
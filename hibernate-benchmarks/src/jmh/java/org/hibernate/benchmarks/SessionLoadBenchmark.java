@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.domain.Customer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures {@code SessionImpl#get} and {@code SessionImpl#find}, both against an empty persistence
+ * context (a database round trip through the entity loader) and against an already managed instance
+ * (a pure persistence context lookup).
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+public class SessionLoadBenchmark {
+	private static final int CUSTOMERS = 1_000;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+	private long nextId;
+
+	@Setup( Level.Trial )
+	public void setUpSessionFactory() {
+		sessionFactory = BenchmarkSupport.buildSessionFactory();
+		BenchmarkSupport.seed( sessionFactory, CUSTOMERS, 0 );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDownSessionFactory() {
+		sessionFactory.close();
+	}
+
+	@Setup( Level.Iteration )
+	public void openSession() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		nextId = 0;
+	}
+
+	@TearDown( Level.Iteration )
+	public void closeSession() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	private Long nextId() {
+		nextId = nextId % CUSTOMERS + 1;
+		return nextId;
+	}
+
+	@Benchmark
+	public Customer getFromDatabase() {
+		session.clear();
+		return session.get( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public Customer findFromDatabase() {
+		session.clear();
+		return session.find( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public Customer getFromPersistenceContext() {
+		return session.get( Customer.class, nextId() );
+	}
+
+	@Benchmark
+	public Customer findFromPersistenceContext() {
+		return session.find( Customer.class, nextId() );
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.domain;
+
+import java.util.Date;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+@Entity
+@Table( name = "customers" )
+public class Customer {
+	@Id
+	private Long id;
+	private String name;
+	private String email;
+	private int age;
+	private boolean active;
+	private double balance;
+	@Temporal( TemporalType.TIMESTAMP )
+	private Date createdOn;
+
+	protected Customer() {
+	}
+
+	public Customer(Long id, String name) {
+		this.id = id;
+		this.name = name;
+		this.email = name + "@hibernate.org";
+		this.age = (int) ( id % 90 );
+		this.active = id % 2 == 0;
+		this.balance = id * 1.5d;
+		this.createdOn = new Date();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public int getAge() {
+		return age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public double getBalance() {
+		return balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+
+	public Date getCreatedOn() {
+		return createdOn;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.domain;
+
+import java.math.BigDecimal;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+@Entity
+@Table( name = "orders" )
+public class PurchaseOrder {
+	@Id
+	private Long id;
+	@ManyToOne( fetch = FetchType.LAZY )
+	private Customer customer;
+	private String reference;
+	private BigDecimal amount;
+
+	protected PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Long id, Customer customer) {
+		this.id = id;
+		this.customer = customer;
+		this.reference = "PO-" + id;
+		this.amount = BigDecimal.valueOf( id, 2 );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+}
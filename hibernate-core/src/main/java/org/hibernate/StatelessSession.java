@@ -9,6 +9,8 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.query.NativeQuery;
 
@@ -125,6 +127,49 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Object get(Class entityClass, Serializable id, LockMode lockMode);
 
+	/**
+	 * Asynchronously retrieve a row, on the
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}.
+	 * The asynchronous executions of a session never interleave, but the session
+	 * must not be used otherwise until the returned stage completes.
+	 * <p/>
+	 * The default implementation retrieves the row synchronously, on the calling thread.
+	 *
+	 * @param entityName The name of the entity to retrieve
+	 * @param id The id of the entity to retrieve
+	 *
+	 * @return a stage completed with a detached entity instance
+	 *
+	 * @since 5.5
+	 */
+	default CompletionStage<Object> getAsync(String entityName, Serializable id) {
+		final CompletableFuture<Object> execution = new CompletableFuture<>();
+		try {
+			execution.complete( get( entityName, id ) );
+		}
+		catch (RuntimeException e) {
+			execution.completeExceptionally( e );
+		}
+		return execution;
+	}
+
+	/**
+	 * Asynchronously retrieve a row, on the
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param id The id of the entity to retrieve
+	 *
+	 * @return a stage completed with a detached entity instance
+	 *
+	 * @see #getAsync(String, Serializable)
+	 *
+	 * @since 5.5
+	 */
+	default <T> CompletionStage<T> getAsync(Class<T> entityClass, Serializable id) {
+		return getAsync( entityClass.getName(), id ).thenApply( entityClass::cast );
+	}
+
 	/**
 	 * Refresh the entity instance state from the database.
 	 *
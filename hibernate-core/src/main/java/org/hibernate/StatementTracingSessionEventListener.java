@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+/**
+ * A {@link SessionEventListener} also notified of the details of the JDBC work of the Session:
+ * the SQL executed, its timings and the number of rows it affected or fetched.
+ * <p/>
+ * The callbacks take no event object, so that tracing allocates nothing on behalf of the
+ * listener; the timings are {@link System#nanoTime()} values. None of these details is
+ * collected unless at least one listener of the Session implements this interface.
+ * <p/>
+ * NOTE : Consider this an incubating API, likely to change as wider usage indicates changes that need to be made
+ *
+ * @since 5.5
+ */
+public interface StatementTracingSessionEventListener extends SessionEventListener {
+
+	/**
+	 * Called after the execution of a single JDBC statement, successful or not.
+	 *
+	 * @param sql The SQL executed, or {@code null} if unknown
+	 * @param startNanos The {@link System#nanoTime()} when the execution started
+	 * @param durationNanos The duration of the execution, in nanoseconds
+	 * @param rowCount The number of rows affected by an update, or {@code -1} for queries and
+	 * failed executions
+	 */
+	default void jdbcStatementExecuted(String sql, long startNanos, long durationNanos, int rowCount) {
+	}
+
+	/**
+	 * Called after the execution of a JDBC batch, successful or not.
+	 *
+	 * @param sql The SQL of the batched statement
+	 * @param origin What the batch was executed for, or {@code null} if unknown
+	 * @param batchSize The number of statements in the batch
+	 * @param startNanos The {@link System#nanoTime()} when the execution started
+	 * @param durationNanos The duration of the execution, in nanoseconds
+	 * @param rowCount The total number of rows affected by the batch, or {@code -1} if unknown
+	 */
+	default void jdbcBatchExecuted(
+			String sql,
+			String origin,
+			int batchSize,
+			long startNanos,
+			long durationNanos,
+			long rowCount) {
+	}
+
+	/**
+	 * Called once the results of a query have been read.
+	 *
+	 * @param sql The SQL of the query
+	 * @param origin The query or entity the results were read for, or {@code null} if unknown
+	 * @param rowCount The number of rows read
+	 */
+	default void jdbcRowsFetched(String sql, String origin, int rowCount) {
+	}
+}
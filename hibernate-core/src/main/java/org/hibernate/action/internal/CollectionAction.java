@@ -12,7 +12,9 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
+import org.hibernate.cache.spi.access.SessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -181,7 +183,16 @@ public abstract class CollectionAction implements Executable, Serializable, Comp
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			cache.unlockItem( session, ck, lock );
+			final CacheTransactionSynchronization cacheSynchronization = session.getCacheTransactionSynchronization();
+			if ( cacheSynchronization.isAppliedAfterCompletion( cache ) ) {
+				// the lock is released later, on another thread: only immutable state is captured
+				final SoftLock softLock = lock;
+				final SessionlessCompletionAccess sessionlessCache = (SessionlessCompletionAccess) cache;
+				cacheSynchronization.applyAfterCompletion( cache, () -> sessionlessCache.unlockItem( ck, softLock ) );
+			}
+			else {
+				cache.unlockItem( session, ck, lock );
+			}
 		}
 	}
 
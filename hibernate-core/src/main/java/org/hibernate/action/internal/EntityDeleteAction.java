@@ -10,7 +10,9 @@ import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -205,14 +207,23 @@ public class EntityDeleteAction extends EntityAction {
 	public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) throws HibernateException {
 		EntityPersister entityPersister = getPersister();
 		if ( entityPersister.canWriteToCache() ) {
-			EntityDataAccess cache = entityPersister.getCacheAccessStrategy();
+			final EntityDataAccess cache = entityPersister.getCacheAccessStrategy();
 			final Object ck = cache.generateCacheKey(
 					getId(),
 					entityPersister,
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			cache.unlockItem( session, ck, lock );
+			final CacheTransactionSynchronization cacheSynchronization = session.getCacheTransactionSynchronization();
+			if ( cacheSynchronization.isAppliedAfterCompletion( cache ) ) {
+				// the lock is released later, on another thread: only immutable state is captured
+				final SoftLock softLock = lock;
+				final SessionlessCompletionAccess sessionlessCache = (SessionlessCompletionAccess) cache;
+				cacheSynchronization.applyAfterCompletion( cache, () -> sessionlessCache.unlockItem( ck, softLock ) );
+			}
+			else {
+				cache.unlockItem( session, ck, lock );
+			}
 		}
 		postCommitDelete( success );
 	}
@@ -10,7 +10,9 @@ import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
@@ -241,6 +243,19 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		try {
 			eventListenerManager.cachePutStart();
+			final CacheTransactionSynchronization cacheSynchronization = session.getCacheTransactionSynchronization();
+			if ( cacheSynchronization.isAppliedAfterCompletion( cache ) ) {
+				// the put is applied later, on another thread: only immutable state is captured,
+				// and the put is assumed to happen
+				final Object entry = cacheEntry;
+				final Object entryVersion = version;
+				final EntitySessionlessCompletionAccess sessionlessCache = (EntitySessionlessCompletionAccess) cache;
+				cacheSynchronization.applyAfterCompletion(
+						cache,
+						() -> sessionlessCache.afterInsert( ck, entry, entryVersion )
+				);
+				return true;
+			}
 			return cache.afterInsert( session, ck, cacheEntry, version );
 		}
 		finally {
@@ -11,7 +11,10 @@ import java.io.Serializable;
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheTransactionSynchronization;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
+import org.hibernate.cache.spi.access.SessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.engine.internal.Versioning;
@@ -381,7 +384,16 @@ public class EntityUpdateAction extends EntityAction {
 				}
 			}
 			else {
-				cache.unlockItem( session, ck, lock );
+				final CacheTransactionSynchronization cacheSynchronization = session.getCacheTransactionSynchronization();
+				if ( cacheSynchronization.isAppliedAfterCompletion( cache ) ) {
+					// the lock is released later, on another thread: only immutable state is captured
+					final SoftLock softLock = lock;
+					final SessionlessCompletionAccess sessionlessCache = (SessionlessCompletionAccess) cache;
+					cacheSynchronization.applyAfterCompletion( cache, () -> sessionlessCache.unlockItem( ck, softLock ) );
+				}
+				else {
+					cache.unlockItem( session, ck, lock );
+				}
 			}
 		}
 		postCommitUpdate( success );
@@ -392,6 +404,21 @@ public class EntityUpdateAction extends EntityAction {
 		SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		try {
 			eventListenerManager.cachePutStart();
+			final CacheTransactionSynchronization cacheSynchronization = session.getCacheTransactionSynchronization();
+			if ( cacheSynchronization.isAppliedAfterCompletion( cache ) ) {
+				// the put is applied later, on another thread: only immutable state is captured,
+				// and the put is assumed to happen
+				final Object entry = cacheEntry;
+				final Object currentVersion = nextVersion;
+				final Object replacedVersion = previousVersion;
+				final SoftLock softLock = lock;
+				final EntitySessionlessCompletionAccess sessionlessCache = (EntitySessionlessCompletionAccess) cache;
+				cacheSynchronization.applyAfterCompletion(
+						cache,
+						() -> sessionlessCache.afterUpdate( ck, entry, currentVersion, replacedVersion, softLock )
+				);
+				return true;
+			}
 			return cache.afterUpdate( session, ck, cacheEntry, nextVersion, previousVersion, lock );
 		}
 		finally {
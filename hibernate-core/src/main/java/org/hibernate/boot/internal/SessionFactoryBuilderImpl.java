@@ -468,7 +468,13 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		final StandardServiceRegistry serviceRegistry = metadata.getMetadataBuildingOptions().getServiceRegistry();
 		BytecodeProvider bytecodeProvider = serviceRegistry.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
-		return new SessionFactoryImpl( metadata, buildSessionFactoryOptions(), HQLQueryPlan::new );
+		final SessionFactoryOptions options = buildSessionFactoryOptions();
+		final SessionFactoryImpl sessionFactory = new SessionFactoryImpl( metadata, options, HQLQueryPlan::new );
+		// the preloading opens sessions from other threads, so it must only start once the SessionFactory is built
+		if ( !options.getCachePreloadEntityNames().isEmpty() ) {
+			sessionFactory.getCache().preload( options.getCachePreloadEntityNames() );
+		}
+		return sessionFactory;
 	}
 
 	@Override
@@ -8,11 +8,15 @@ package org.hibernate.boot.internal;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionAcquisitionMode;
@@ -37,6 +41,7 @@ import org.hibernate.cache.internal.NoCachingRegionFactory;
 import org.hibernate.cache.internal.StandardTimestampsCacheFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
@@ -49,6 +54,7 @@ import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.id.uuid.LocalObjectUuidHelper;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.log.DeprecationLogger;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
@@ -68,26 +74,40 @@ import static org.hibernate.cfg.AvailableSettings.ACQUIRE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ADAPTIVE_MIN_SIZE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_ARRAY_PARAMETER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_STATEMENT_GROUPING;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
+import static org.hibernate.cfg.AvailableSettings.CACHE_ASYNC_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.CACHE_ASYNC_UPDATES_QUEUE_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_ENTRY_SERIALIZER;
+import static org.hibernate.cfg.AvailableSettings.CACHE_PRELOAD;
+import static org.hibernate.cfg.AvailableSettings.CACHE_PRELOAD_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.CRITERIA_PLAN_CACHE_NORMALIZATION;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
+import static org.hibernate.cfg.AvailableSettings.DIRTY_CHECK_OPTIMIZER;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
+import static org.hibernate.cfg.AvailableSettings.HYDRATION_OPTIMIZER;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
@@ -99,12 +119,16 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
+import static org.hibernate.cfg.AvailableSettings.ORDER_BY_DEPENDENCY_GRAPH;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_LAZY_RESULTS;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_ROW_INVALIDATION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
@@ -127,6 +151,7 @@ import static org.hibernate.cfg.AvailableSettings.USE_STRUCTURED_CACHE;
 import static org.hibernate.cfg.AvailableSettings.VALIDATE_QUERY_PARAMETERS;
 import static org.hibernate.cfg.AvailableSettings.WRAP_RESULT_SETS;
 import static org.hibernate.engine.config.spi.StandardConverters.BOOLEAN;
+import static org.hibernate.engine.config.spi.StandardConverters.STRING;
 import static org.hibernate.internal.CoreLogging.messageLogger;
 import static org.hibernate.jpa.AvailableSettings.DISCARD_PC_ON_CLOSE;
 
@@ -191,6 +216,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private boolean adaptiveBatchFetchEnabled;
+	private int adaptiveBatchFetchMinSize;
+	private boolean batchFetchArrayParameterEnabled;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
@@ -217,10 +245,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Caching
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
+	private boolean queryCacheRowInvalidationEnabled;
+	private boolean queryCacheLazyResultsEnabled;
+	private boolean asyncCacheUpdatesEnabled;
+	private int asyncCacheUpdatesQueueSize;
+	private Set<String> cachePreloadEntityNames;
+	private int cachePreloadBatchSize;
 	private TimestampsCacheFactory timestampsCacheFactory;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private CacheEntrySerializer cacheEntrySerializer;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -252,6 +287,15 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
 
+	private boolean compactEntityMapEnabled;
+	private boolean criteriaPlanCacheNormalizationEnabled;
+	private boolean jdbcBatchStatementGroupingEnabled;
+	private int preparedStatementCacheSize;
+	private boolean orderByDependencyGraphEnabled;
+	private boolean dirtyCheckOptimizerEnabled;
+	private boolean hydrationOptimizerEnabled;
+	private Executor asyncExecutor;
+
 
 	@SuppressWarnings({"WeakerAccess", "deprecation"})
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -303,6 +347,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				StatementInspector.class,
 				configurationSettings.get( STATEMENT_INSPECTOR )
 		);
+		this.asyncExecutor = strategySelector.resolveStrategy(
+				Executor.class,
+				configurationSettings.get( ASYNC_EXECUTOR )
+		);
 
 		// todo : expose this from builder?
 		final String autoSessionEventsListenerName = (String) configurationSettings.get(
@@ -342,6 +390,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.adaptiveBatchFetchEnabled = cfgService.getSetting( BATCH_FETCH_ADAPTIVE, BOOLEAN, false );
+		this.adaptiveBatchFetchMinSize = Math.max(
+				1,
+				ConfigurationHelper.getInt( BATCH_FETCH_ADAPTIVE_MIN_SIZE, configurationSettings, 2 )
+		);
+		this.batchFetchArrayParameterEnabled = cfgService.getSetting( BATCH_FETCH_ARRAY_PARAMETER, BOOLEAN, false );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -366,6 +420,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		if ( !NoCachingRegionFactory.class.isInstance( regionFactory ) ) {
 			this.secondLevelCacheEnabled = cfgService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			this.queryCacheEnabled = cfgService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
+			this.queryCacheRowInvalidationEnabled = cfgService.getSetting( QUERY_CACHE_ROW_INVALIDATION, BOOLEAN, false );
+			this.queryCacheLazyResultsEnabled = cfgService.getSetting( QUERY_CACHE_LAZY_RESULTS, BOOLEAN, false );
+			this.asyncCacheUpdatesEnabled = cfgService.getSetting( CACHE_ASYNC_UPDATES, BOOLEAN, false );
+			this.asyncCacheUpdatesQueueSize = ConfigurationHelper.getInt( CACHE_ASYNC_UPDATES_QUEUE_SIZE, configurationSettings, 1024 );
+			this.cachePreloadEntityNames = new LinkedHashSet<>( Arrays.asList(
+					StringHelper.split( ", \t\n", cfgService.getSetting( CACHE_PRELOAD, STRING, "" ) )
+			) );
+			this.cachePreloadBatchSize = ConfigurationHelper.getInt( CACHE_PRELOAD_BATCH_SIZE, configurationSettings, 100 );
 			this.timestampsCacheFactory = strategySelector.resolveDefaultableStrategy(
 					TimestampsCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -381,6 +443,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.cacheEntrySerializer = strategySelector.resolveStrategy(
+					CacheEntrySerializer.class,
+					configurationSettings.get( CACHE_ENTRY_SERIALIZER )
+			);
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -391,10 +457,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
+			this.queryCacheRowInvalidationEnabled = false;
+			this.queryCacheLazyResultsEnabled = false;
+			this.asyncCacheUpdatesEnabled = false;
+			this.asyncCacheUpdatesQueueSize = 1024;
+			this.cachePreloadEntityNames = Collections.emptySet();
+			this.cachePreloadBatchSize = 100;
 			this.timestampsCacheFactory = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.cacheEntrySerializer = null;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -532,6 +605,47 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			log.nativeExceptionHandling51ComplianceJpaBootstrapping();
 			this.nativeExceptionHandling51Compliance = false;
 		}
+
+		this.compactEntityMapEnabled = ConfigurationHelper.getBoolean(
+				PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP,
+				configurationSettings,
+				false
+		);
+
+		this.criteriaPlanCacheNormalizationEnabled = ConfigurationHelper.getBoolean(
+				CRITERIA_PLAN_CACHE_NORMALIZATION,
+				configurationSettings,
+				false
+		);
+
+		this.jdbcBatchStatementGroupingEnabled = ConfigurationHelper.getBoolean(
+				BATCH_STATEMENT_GROUPING,
+				configurationSettings,
+				false
+		);
+
+		this.preparedStatementCacheSize = Math.max(
+				0,
+				ConfigurationHelper.getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 )
+		);
+
+		this.orderByDependencyGraphEnabled = ConfigurationHelper.getBoolean(
+				ORDER_BY_DEPENDENCY_GRAPH,
+				configurationSettings,
+				false
+		);
+
+		this.dirtyCheckOptimizerEnabled = ConfigurationHelper.getBoolean(
+				DIRTY_CHECK_OPTIMIZER,
+				configurationSettings,
+				false
+		);
+
+		this.hydrationOptimizerEnabled = ConfigurationHelper.getBoolean(
+				HYDRATION_OPTIMIZER,
+				configurationSettings,
+				false
+		);
 	}
 
 	@SuppressWarnings("deprecation")
@@ -820,6 +934,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public boolean isBatchFetchArrayParameterEnabled() {
+		return batchFetchArrayParameterEnabled;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -1070,6 +1199,81 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return omitJoinOfSuperclassTablesEnabled;
 	}
 
+	@Override
+	public boolean isCompactEntityMapEnabled() {
+		return compactEntityMapEnabled;
+	}
+
+	@Override
+	public boolean isCriteriaPlanCacheNormalizationEnabled() {
+		return criteriaPlanCacheNormalizationEnabled;
+	}
+
+	@Override
+	public boolean isJdbcBatchStatementGroupingEnabled() {
+		return jdbcBatchStatementGroupingEnabled;
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
+	@Override
+	public boolean isOrderByDependencyGraphEnabled() {
+		return orderByDependencyGraphEnabled;
+	}
+
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return dirtyCheckOptimizerEnabled;
+	}
+
+	@Override
+	public boolean isHydrationOptimizerEnabled() {
+		return hydrationOptimizerEnabled;
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	@Override
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return cacheEntrySerializer;
+	}
+
+	@Override
+	public boolean isQueryCacheRowInvalidationEnabled() {
+		return queryCacheRowInvalidationEnabled;
+	}
+
+	@Override
+	public boolean isQueryCacheLazyResultsEnabled() {
+		return queryCacheLazyResultsEnabled;
+	}
+
+	@Override
+	public boolean isAsyncCacheUpdatesEnabled() {
+		return asyncCacheUpdatesEnabled;
+	}
+
+	@Override
+	public int getAsyncCacheUpdatesQueueSize() {
+		return asyncCacheUpdatesQueueSize;
+	}
+
+	@Override
+	public Set<String> getCachePreloadEntityNames() {
+		return cachePreloadEntityNames;
+	}
+
+	@Override
+	public int getCachePreloadBatchSize() {
+		return cachePreloadBatchSize;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
@@ -23,7 +23,12 @@ import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CompactCacheEntrySerializer;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.query.internal.LirsQueryPlanCacheStorageFactory;
+import org.hibernate.engine.query.internal.TinyLfuQueryPlanCacheStorageFactory;
+import org.hibernate.engine.query.spi.QueryPlanCacheStorageFactory;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.global.GlobalTemporaryTableBulkIdStrategy;
@@ -100,6 +105,8 @@ public class StrategySelectorBuilder {
 		addMultiTableBulkIdStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addCacheEntrySerializers( strategySelector );
+		addQueryPlanCacheStorageFactories( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -215,4 +222,25 @@ public class StrategySelectorBuilder {
 			SimpleCacheKeysFactory.class
 		);
 	}
+
+	private void addCacheEntrySerializers(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+			CacheEntrySerializer.class,
+			CompactCacheEntrySerializer.SHORT_NAME,
+			CompactCacheEntrySerializer.class
+		);
+	}
+
+	private void addQueryPlanCacheStorageFactories(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+			QueryPlanCacheStorageFactory.class,
+			TinyLfuQueryPlanCacheStorageFactory.SHORT_NAME,
+			TinyLfuQueryPlanCacheStorageFactory.class
+		);
+		strategySelector.registerStrategyImplementor(
+			QueryPlanCacheStorageFactory.class,
+			LirsQueryPlanCacheStorageFactory.SHORT_NAME,
+			LirsQueryPlanCacheStorageFactory.class
+		);
+	}
 }
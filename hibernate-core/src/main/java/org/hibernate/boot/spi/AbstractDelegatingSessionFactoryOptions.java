@@ -7,7 +7,9 @@
 package org.hibernate.boot.spi;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -22,6 +24,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
@@ -182,6 +185,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public boolean isBatchFetchArrayParameterEnabled() {
+		return delegate.isBatchFetchArrayParameterEnabled();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -457,4 +475,79 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
 	}
+
+	@Override
+	public boolean isCompactEntityMapEnabled() {
+		return delegate.isCompactEntityMapEnabled();
+	}
+
+	@Override
+	public boolean isCriteriaPlanCacheNormalizationEnabled() {
+		return delegate.isCriteriaPlanCacheNormalizationEnabled();
+	}
+
+	@Override
+	public boolean isJdbcBatchStatementGroupingEnabled() {
+		return delegate.isJdbcBatchStatementGroupingEnabled();
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
+	@Override
+	public boolean isOrderByDependencyGraphEnabled() {
+		return delegate.isOrderByDependencyGraphEnabled();
+	}
+
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return delegate.isDirtyCheckOptimizerEnabled();
+	}
+
+	@Override
+	public boolean isHydrationOptimizerEnabled() {
+		return delegate.isHydrationOptimizerEnabled();
+	}
+
+	@Override
+	public Executor getAsyncExecutor() {
+		return delegate.getAsyncExecutor();
+	}
+
+	@Override
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return delegate.getCacheEntrySerializer();
+	}
+
+	@Override
+	public boolean isQueryCacheRowInvalidationEnabled() {
+		return delegate.isQueryCacheRowInvalidationEnabled();
+	}
+
+	@Override
+	public boolean isQueryCacheLazyResultsEnabled() {
+		return delegate.isQueryCacheLazyResultsEnabled();
+	}
+
+	@Override
+	public boolean isAsyncCacheUpdatesEnabled() {
+		return delegate.isAsyncCacheUpdatesEnabled();
+	}
+
+	@Override
+	public int getAsyncCacheUpdatesQueueSize() {
+		return delegate.getAsyncCacheUpdatesQueueSize();
+	}
+
+	@Override
+	public Set<String> getCachePreloadEntityNames() {
+		return delegate.getCachePreloadEntityNames();
+	}
+
+	@Override
+	public int getCachePreloadBatchSize() {
+		return delegate.getCachePreloadBatchSize();
+	}
 }
@@ -6,8 +6,11 @@
  */
 package org.hibernate.boot.spi;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
@@ -23,6 +26,7 @@ import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
@@ -323,4 +327,167 @@ public interface SessionFactoryOptions {
 	}
 
 	boolean isOmitJoinOfSuperclassTablesEnabled();
+
+	/**
+	 * Should the persistence context keep its entities and collection entries in compact, open-addressing maps?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP
+	 */
+	default boolean isCompactEntityMapEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should Criteria queries of the same structure be rendered to the same JPQL?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_NORMALIZATION
+	 */
+	default boolean isCriteriaPlanCacheNormalizationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should JDBC batches of different entity inserts be kept open side by side during a flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_STATEMENT_GROUPING
+	 */
+	default boolean isJdbcBatchStatementGroupingEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of prepared statements kept open for reuse per JDBC Connection, {@code 0} if disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * Should the entity actions of a flush be ordered by the dependency graph of the entities?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_BY_DEPENDENCY_GRAPH
+	 */
+	default boolean isOrderByDependencyGraphEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the dirty checking of entities be performed by generated classes?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DIRTY_CHECK_OPTIMIZER
+	 */
+	default boolean isDirtyCheckOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the state of entities be read from JDBC results by generated classes?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#HYDRATION_OPTIMIZER
+	 */
+	default boolean isHydrationOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * The Executor of the asynchronous operations, or {@code null} to use the default one.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR
+	 */
+	default Executor getAsyncExecutor() {
+		return null;
+	}
+
+	/**
+	 * The serializer of the second-level cache entries, or {@code null} to store the entries as they are.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_SERIALIZER
+	 */
+	default CacheEntrySerializer getCacheEntrySerializer() {
+		return null;
+	}
+
+	/**
+	 * Whether the cached results of queries restricted to some rows by a primary key or natural id
+	 * predicate are only invalidated by the changes made to those rows.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ROW_INVALIDATION
+	 */
+	default boolean isQueryCacheRowInvalidationEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the rows of cached query results are assembled as they are accessed.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_LAZY_RESULTS
+	 */
+	default boolean isQueryCacheLazyResultsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether the cache updates which complete the transactions are applied asynchronously.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+	 */
+	default boolean isAsyncCacheUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of transactions whose cache updates wait to be applied asynchronously.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES_QUEUE_SIZE
+	 */
+	default int getAsyncCacheUpdatesQueueSize() {
+		return 1024;
+	}
+
+	/**
+	 * The names of the entities preloaded into the second-level cache once the SessionFactory is built.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+	 */
+	default Set<String> getCachePreloadEntityNames() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * The number of entities read by the preloading of the second-level cache before clearing its session.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD_BATCH_SIZE
+	 */
+	default int getCachePreloadBatchSize() {
+		return 100;
+	}
+
+	/**
+	 * Whether the batch fetch sizes are adjusted at runtime, within the configured batch sizes.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * The smallest batch fetch size chosen by the adaptive batch fetching.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE
+	 */
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * Whether the keys of batch fetches are bound as a single array parameter, where the Dialect supports it.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+	 */
+	default boolean isBatchFetchArrayParameterEnabled() {
+		return false;
+	}
 }
@@ -9,6 +9,8 @@ package org.hibernate.bytecode.internal.bytebuddy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import org.hibernate.HibernateException;
@@ -16,8 +18,11 @@ import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.bytecode.spi.HydrationOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import net.bytebuddy.ClassFileVersion;
@@ -31,6 +36,7 @@ import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.jar.asm.Label;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
@@ -41,10 +47,14 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECKER_NAMING_SUFFIX = "HibernateDirtyChecker";
+	private static final String HYDRATOR_NAMING_SUFFIX = "HibernateHydrator";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction findDirtyMethodName = ElementMatchers.named( "findDirty" );
+	private static final ElementMatcher.Junction hydrateMethodName = ElementMatchers.named( "hydrate" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -123,6 +133,46 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(
+			final Class clazz,
+			final DirtyCheckOptimizer.PropertyComparison[] comparisons) {
+		final Class dirtyChecker = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( DIRTY_CHECKER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( DirtyCheckOptimizer.class )
+				.method( findDirtyMethodName )
+						.intercept( new Implementation.Simple( new FindDirty( comparisons ) ) )
+		);
+
+		try {
+			return (DirtyCheckOptimizer) dirtyChecker.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	@Override
+	public HydrationOptimizer getHydrationOptimizer(
+			final Class clazz,
+			final HydrationOptimizer.ColumnRead[] reads) {
+		final Class hydrator = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( HYDRATOR_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( HydrationOptimizer.class )
+				.method( hydrateMethodName )
+						.intercept( new Implementation.Simple( new Hydrate( reads ) ) )
+		);
+
+		try {
+			return (HydrationOptimizer) hydrator.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -222,6 +272,346 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Generates {@link DirtyCheckOptimizer#findDirty}, unrolled over the properties.  For each property the
+	 * loaded value (local 7) and the current value (local 8) are compared as per its comparison, and its
+	 * index is appended to the results (local 5, allocated on the first dirty property) at the position
+	 * given by the count (local 6).
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+
+		private static final int CURRENT_STATE = 1;
+		private static final int PREVIOUS_STATE = 2;
+		private static final int DELEGATE = 3;
+		private static final int SESSION = 4;
+		private static final int RESULTS = 5;
+		private static final int COUNT = 6;
+		private static final int PREVIOUS = 7;
+		private static final int CURRENT = 8;
+
+		private final DirtyCheckOptimizer.PropertyComparison[] comparisons;
+
+		public FindDirty(DirtyCheckOptimizer.PropertyComparison[] comparisons) {
+			this.comparisons = comparisons;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// all locals are initialized upfront, so that the same full frame holds at every jump target
+			final Object[] frameLocals = new Object[] {
+					implementationContext.getInstrumentedType().getInternalName(),
+					Type.getInternalName( Object[].class ),
+					Type.getInternalName( Object[].class ),
+					Type.getInternalName( DirtyCheckOptimizer.PropertyDirtyCheck.class ),
+					Type.getInternalName( SharedSessionContractImplementor.class ),
+					Type.getInternalName( int[].class ),
+					Opcodes.INTEGER,
+					Type.getInternalName( Object.class ),
+					Type.getInternalName( Object.class )
+			};
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, RESULTS );
+			methodVisitor.visitInsn( Opcodes.ICONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.ISTORE, COUNT );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, PREVIOUS );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, CURRENT );
+
+			for ( int index = 0; index < comparisons.length; index++ ) {
+				final DirtyCheckOptimizer.PropertyComparison comparison = comparisons[index];
+				if ( comparison == DirtyCheckOptimizer.PropertyComparison.NONE ) {
+					continue;
+				}
+				final Label dirty = new Label();
+				final Label clean = new Label();
+
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_STATE );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, PREVIOUS );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_STATE );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, CURRENT );
+
+				if ( comparison == DirtyCheckOptimizer.PropertyComparison.DELEGATE ) {
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, DELEGATE );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, SESSION );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( DirtyCheckOptimizer.PropertyDirtyCheck.class ),
+							"isDirty",
+							Type.getMethodDescriptor(
+									Type.BOOLEAN_TYPE,
+									Type.INT_TYPE,
+									Type.getType( Object.class ),
+									Type.getType( Object.class ),
+									Type.getType( SharedSessionContractImplementor.class )
+							),
+							true
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, clean );
+				}
+				else {
+					// same instance (or both null), or only one of them null
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, clean );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS );
+					methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirty );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT );
+					methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirty );
+					compare( methodVisitor, comparison, clean );
+				}
+
+				methodVisitor.visitLabel( dirty );
+				methodVisitor.visitFrame( Opcodes.F_FULL, frameLocals.length, frameLocals, 0, null );
+				final Label allocated = new Label();
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+				methodVisitor.visitJumpInsn( Opcodes.IFNONNULL, allocated );
+				methodVisitor.visitLdcInsn( comparisons.length );
+				methodVisitor.visitIntInsn( Opcodes.NEWARRAY, Opcodes.T_INT );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, RESULTS );
+				methodVisitor.visitLabel( allocated );
+				methodVisitor.visitFrame( Opcodes.F_FULL, frameLocals.length, frameLocals, 0, null );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.IASTORE );
+				methodVisitor.visitIincInsn( COUNT, 1 );
+
+				methodVisitor.visitLabel( clean );
+				methodVisitor.visitFrame( Opcodes.F_FULL, frameLocals.length, frameLocals, 0, null );
+			}
+
+			final Label anyDirty = new Label();
+			methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+			methodVisitor.visitJumpInsn( Opcodes.IFNE, anyDirty );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			methodVisitor.visitLabel( anyDirty );
+			methodVisitor.visitFrame( Opcodes.F_FULL, frameLocals.length, frameLocals, 0, null );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+			methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESTATIC,
+					Type.getInternalName( Arrays.class ),
+					"copyOf",
+					Type.getMethodDescriptor( Type.getType( int[].class ), Type.getType( int[].class ), Type.INT_TYPE ),
+					false
+			);
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 6, CURRENT + 1 );
+		}
+
+		/**
+		 * Compares the two non null values, jumping to {@code clean} when equal and falling through otherwise.
+		 */
+		private static void compare(
+				MethodVisitor methodVisitor,
+				DirtyCheckOptimizer.PropertyComparison comparison,
+				Label clean) {
+			switch ( comparison ) {
+				case LONG:
+					unbox( methodVisitor, PREVIOUS, Long.class, "longValue", Type.LONG_TYPE );
+					unbox( methodVisitor, CURRENT, Long.class, "longValue", Type.LONG_TYPE );
+					methodVisitor.visitInsn( Opcodes.LCMP );
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, clean );
+					break;
+				case INTEGER:
+					unbox( methodVisitor, PREVIOUS, Integer.class, "intValue", Type.INT_TYPE );
+					unbox( methodVisitor, CURRENT, Integer.class, "intValue", Type.INT_TYPE );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, clean );
+					break;
+				case SHORT:
+					unbox( methodVisitor, PREVIOUS, Short.class, "shortValue", Type.SHORT_TYPE );
+					unbox( methodVisitor, CURRENT, Short.class, "shortValue", Type.SHORT_TYPE );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, clean );
+					break;
+				case BYTE:
+					unbox( methodVisitor, PREVIOUS, Byte.class, "byteValue", Type.BYTE_TYPE );
+					unbox( methodVisitor, CURRENT, Byte.class, "byteValue", Type.BYTE_TYPE );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, clean );
+					break;
+				case CHARACTER:
+					unbox( methodVisitor, PREVIOUS, Character.class, "charValue", Type.CHAR_TYPE );
+					unbox( methodVisitor, CURRENT, Character.class, "charValue", Type.CHAR_TYPE );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, clean );
+					break;
+				case BOOLEAN:
+					unbox( methodVisitor, PREVIOUS, Boolean.class, "booleanValue", Type.BOOLEAN_TYPE );
+					unbox( methodVisitor, CURRENT, Boolean.class, "booleanValue", Type.BOOLEAN_TYPE );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, clean );
+					break;
+				case STRING:
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS );
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( String.class ) );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( String.class ),
+							"equals",
+							Type.getMethodDescriptor( Type.BOOLEAN_TYPE, Type.getType( Object.class ) ),
+							false
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFNE, clean );
+					break;
+				default:
+					throw new IllegalArgumentException( "Unexpected property comparison: " + comparison );
+			}
+		}
+
+		private static void unbox(
+				MethodVisitor methodVisitor,
+				int local,
+				Class<?> wrapperType,
+				String unboxingMethod,
+				Type primitiveType) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, local );
+			methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( wrapperType ) );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					Type.getInternalName( wrapperType ),
+					unboxingMethod,
+					Type.getMethodDescriptor( primitiveType ),
+					false
+			);
+		}
+	}
+
+	/**
+	 * Generates {@link HydrationOptimizer#hydrate}, unrolled over the properties.  For each read property the
+	 * value is read by column index and stored in the values array, boxed unless {@link ResultSet#wasNull()}.
+	 */
+	private static class Hydrate implements ByteCodeAppender {
+
+		private static final int RESULT_SET = 1;
+		private static final int COLUMN_INDEXES = 2;
+		private static final int VALUES = 3;
+		private static final int VALUE = 4;
+
+		private final HydrationOptimizer.ColumnRead[] reads;
+
+		public Hydrate(HydrationOptimizer.ColumnRead[] reads) {
+			this.reads = reads;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// the value local is initialized upfront, so that the same full frame holds at every jump target
+			final Object[] frameLocals = new Object[] {
+					implementationContext.getInstrumentedType().getInternalName(),
+					Type.getInternalName( ResultSet.class ),
+					Type.getInternalName( int[].class ),
+					Type.getInternalName( Object[].class ),
+					Type.getInternalName( Object.class )
+			};
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, VALUE );
+
+			for ( int index = 0; index < reads.length; index++ ) {
+				switch ( reads[index] ) {
+					case NONE:
+						break;
+					case STRING:
+						// getString() returns null for SQL NULL
+						methodVisitor.visitVarInsn( Opcodes.ALOAD, VALUES );
+						methodVisitor.visitLdcInsn( index );
+						readColumn( methodVisitor, index, "getString", Type.getType( String.class ) );
+						methodVisitor.visitInsn( Opcodes.AASTORE );
+						break;
+					case LONG:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getLong", Type.LONG_TYPE, Long.class );
+						break;
+					case INTEGER:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getInt", Type.INT_TYPE, Integer.class );
+						break;
+					case SHORT:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getShort", Type.SHORT_TYPE, Short.class );
+						break;
+					case BYTE:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getByte", Type.BYTE_TYPE, Byte.class );
+						break;
+					case BOOLEAN:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getBoolean", Type.BOOLEAN_TYPE, Boolean.class );
+						break;
+					case DOUBLE:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getDouble", Type.DOUBLE_TYPE, Double.class );
+						break;
+					case FLOAT:
+						readPrimitiveColumn( methodVisitor, frameLocals, index, "getFloat", Type.FLOAT_TYPE, Float.class );
+						break;
+					default:
+						throw new IllegalArgumentException( "Unexpected column read: " + reads[index] );
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 6, VALUE + 1 );
+		}
+
+		private static void readColumn(MethodVisitor methodVisitor, int index, String getter, Type valueType) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULT_SET );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, COLUMN_INDEXES );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitInsn( Opcodes.IALOAD );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEINTERFACE,
+					Type.getInternalName( ResultSet.class ),
+					getter,
+					Type.getMethodDescriptor( valueType, Type.INT_TYPE ),
+					true
+			);
+		}
+
+		private static void readPrimitiveColumn(
+				MethodVisitor methodVisitor,
+				Object[] frameLocals,
+				int index,
+				String getter,
+				Type primitiveType,
+				Class<?> wrapperType) {
+			readColumn( methodVisitor, index, getter, primitiveType );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESTATIC,
+					Type.getInternalName( wrapperType ),
+					"valueOf",
+					Type.getMethodDescriptor( Type.getType( wrapperType ), primitiveType ),
+					false
+			);
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, VALUE );
+
+			final Label notNull = new Label();
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULT_SET );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEINTERFACE,
+					Type.getInternalName( ResultSet.class ),
+					"wasNull",
+					Type.getMethodDescriptor( Type.BOOLEAN_TYPE ),
+					true
+			);
+			methodVisitor.visitJumpInsn( Opcodes.IFEQ, notNull );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, VALUE );
+			methodVisitor.visitLabel( notNull );
+			methodVisitor.visitFrame( Opcodes.F_FULL, frameLocals.length, frameLocals, 0, null );
+
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, VALUES );
+			methodVisitor.visitLdcInsn( index );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, VALUE );
+			methodVisitor.visitInsn( Opcodes.AASTORE );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
@@ -41,6 +41,30 @@ public interface BytecodeProvider extends Service {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve the DirtyCheckOptimizer delegate for this provider, capable of comparing the
+	 * state of the entities of the given class as per the given property comparisons.
+	 *
+	 * @param clazz The entity class.
+	 * @param comparisons How the values of each property are to be compared.
+	 * @return The dirty check optimization delegate, or {@code null} if not supported by this provider.
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, DirtyCheckOptimizer.PropertyComparison[] comparisons) {
+		return null;
+	}
+
+	/**
+	 * Retrieve the HydrationOptimizer delegate for this provider, capable of reading the
+	 * state of the entities of the given class as per the given column reads.
+	 *
+	 * @param clazz The entity class.
+	 * @param reads How the value of each property is to be read.
+	 * @return The hydration optimization delegate, or {@code null} if not supported by this provider.
+	 */
+	default HydrationOptimizer getHydrationOptimizer(Class clazz, HydrationOptimizer.ColumnRead[] reads) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents dirty checking optimization for the properties of a particular entity: the comparison
+ * of the current and loaded state is specialized per property, so that the values of the most common
+ * basic types are compared on their primitive value rather than through
+ * {@link org.hibernate.type.Type#isDirty}.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ * @see org.hibernate.cfg.AvailableSettings#DIRTY_CHECK_OPTIMIZER
+ */
+public interface DirtyCheckOptimizer {
+
+	/**
+	 * How the values of a property are to be compared.
+	 */
+	enum PropertyComparison {
+		/**
+		 * The property is never dirty (e.g. it is not updatable).
+		 */
+		NONE,
+		/**
+		 * The values are compared by the {@link PropertyDirtyCheck} passed to {@link #findDirty}.
+		 */
+		DELEGATE,
+		/**
+		 * The values are {@link Long}s, compared on their primitive value.
+		 */
+		LONG,
+		/**
+		 * The values are {@link Integer}s, compared on their primitive value.
+		 */
+		INTEGER,
+		/**
+		 * The values are {@link Short}s, compared on their primitive value.
+		 */
+		SHORT,
+		/**
+		 * The values are {@link Byte}s, compared on their primitive value.
+		 */
+		BYTE,
+		/**
+		 * The values are {@link Character}s, compared on their primitive value.
+		 */
+		CHARACTER,
+		/**
+		 * The values are {@link Boolean}s, compared on their primitive value.
+		 */
+		BOOLEAN,
+		/**
+		 * The values are {@link String}s, compared through {@link String#equals}.
+		 */
+		STRING
+	}
+
+	/**
+	 * The dirty checking of the properties compared as {@link PropertyComparison#DELEGATE}.
+	 */
+	interface PropertyDirtyCheck {
+		/**
+		 * Is the given property dirty?
+		 *
+		 * @param property The index of the property
+		 * @param previous The loaded value of the property
+		 * @param current The current value of the property
+		 * @param session The session from which the dirty check request originated
+		 *
+		 * @return {@code true} if the property is dirty
+		 */
+		boolean isDirty(int property, Object previous, Object current, SharedSessionContractImplementor session);
+	}
+
+	/**
+	 * Locate the property-indices of all properties considered to be dirty.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The loaded state of the entity
+	 * @param delegate The dirty checking of the properties which are not compared by the optimizer
+	 * @param session The session from which the dirty check request originated
+	 *
+	 * @return {@code null} or the indices of the dirty properties
+	 */
+	int[] findDirty(
+			Object[] currentState,
+			Object[] previousState,
+			PropertyDirtyCheck delegate,
+			SharedSessionContractImplementor session);
+}
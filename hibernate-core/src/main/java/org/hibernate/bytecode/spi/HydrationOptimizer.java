@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Represents hydration optimization for the properties of a particular entity: the values of the properties
+ * of the most common basic types are read from the {@link ResultSet} by column index, through the specific
+ * getter of the type, rather than by column label through {@link org.hibernate.type.Type#hydrate}.
+ *
+ * @see BytecodeProvider#getHydrationOptimizer
+ * @see org.hibernate.cfg.AvailableSettings#HYDRATION_OPTIMIZER
+ */
+public interface HydrationOptimizer {
+
+	/**
+	 * How the value of a property is to be read.
+	 */
+	enum ColumnRead {
+		/**
+		 * The property is not read by the optimizer.
+		 */
+		NONE,
+		/**
+		 * Read through {@link ResultSet#getLong(int)}, as a {@link Long}.
+		 */
+		LONG,
+		/**
+		 * Read through {@link ResultSet#getInt(int)}, as an {@link Integer}.
+		 */
+		INTEGER,
+		/**
+		 * Read through {@link ResultSet#getShort(int)}, as a {@link Short}.
+		 */
+		SHORT,
+		/**
+		 * Read through {@link ResultSet#getByte(int)}, as a {@link Byte}.
+		 */
+		BYTE,
+		/**
+		 * Read through {@link ResultSet#getBoolean(int)}, as a {@link Boolean}.
+		 */
+		BOOLEAN,
+		/**
+		 * Read through {@link ResultSet#getDouble(int)}, as a {@link Double}.
+		 */
+		DOUBLE,
+		/**
+		 * Read through {@link ResultSet#getFloat(int)}, as a {@link Float}.
+		 */
+		FLOAT,
+		/**
+		 * Read through {@link ResultSet#getString(int)}.
+		 */
+		STRING
+	}
+
+	/**
+	 * Read the values of the optimized properties from the current row.  The values of the
+	 * other properties are left untouched.
+	 *
+	 * @param resultSet The result set, positioned on the row to read
+	 * @param columnIndexes The index of the column of each property in the result set
+	 * @param values The hydrated state of the entity, by property index
+	 *
+	 * @throws SQLException Indicates a problem reading from the result set
+	 */
+	void hydrate(ResultSet resultSet, int[] columnIndexes, Object[] values) throws SQLException;
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Transaction;
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.Type;
+
+/**
+ * Preloads the second-level cache regions of cached entities, by scanning the entities with
+ * sessions in {@link CacheMode#PUT} mode: the loaded entities, their natural ids, and their
+ * cached collections are then put into the cache as they would be by any other session.
+ * <p/>
+ * The entities are read as a stream, and the sessions are cleared after each batch of entities,
+ * once the cached collections of the batch have been initialized (by batches as well, when
+ * batch fetching is enabled).
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+ */
+class CachePreloader {
+	private static final int[] NO_COLLECTIONS = new int[0];
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final Executor executor;
+	private final int batchSize;
+
+	/**
+	 * The indexes of the cached collection properties of the entities, keyed by entity name
+	 */
+	private final Map<String, int[]> cachedCollections = new ConcurrentHashMap<>();
+
+	CachePreloader(SessionFactoryImplementor sessionFactory, Executor executor, int batchSize) {
+		this.sessionFactory = sessionFactory;
+		this.executor = executor;
+		this.batchSize = batchSize;
+	}
+
+	CompletableFuture<Void> preload(Collection<String> entityNames) {
+		final MetamodelImplementor metamodel = sessionFactory.getMetamodel();
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		final List<CompletableFuture<Void>> preloads = new ArrayList<>( entityNames.size() );
+		for ( String entityName : entityNames ) {
+			final EntityPersister persister = metamodel.entityPersister( metamodel.getImportedClassName( entityName ) );
+			if ( !persister.canWriteToCache() ) {
+				SecondLevelCacheLogger.INSTANCE.unableToPreloadUncachedEntity( persister.getEntityName() );
+				continue;
+			}
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityCachePreloadScheduled( persister.getEntityName() );
+			}
+			preloads.add( CompletableFuture.runAsync( () -> preload( persister ), executor ) );
+		}
+		return CompletableFuture.allOf( preloads.toArray( new CompletableFuture[preloads.size()] ) );
+	}
+
+	private void preload(EntityPersister persister) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
+		final long start = System.nanoTime();
+		long count = 0;
+		try ( SessionImplementor session = (SessionImplementor) sessionFactory.openSession() ) {
+			session.setCacheMode( CacheMode.PUT );
+			session.setDefaultReadOnly( true );
+			final Transaction transaction = session.beginTransaction();
+			try ( ScrollableResults results = session.createQuery( "select e from " + persister.getEntityName() + " e" )
+					.setFetchSize( batchSize )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				final List<Object> batch = new ArrayList<>( batchSize );
+				while ( !sessionFactory.isClosed() && results.next() ) {
+					batch.add( results.get( 0 ) );
+					if ( batch.size() == batchSize ) {
+						count += preloaded( session, persister, regionName, batch );
+					}
+				}
+				count += preloaded( session, persister, regionName, batch );
+			}
+			transaction.commit();
+			SecondLevelCacheLogger.INSTANCE.preloadedEntity(
+					persister.getEntityName(),
+					count,
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+		}
+		catch (RuntimeException e) {
+			SecondLevelCacheLogger.INSTANCE.unableToPreloadEntity( persister.getEntityName(), e );
+		}
+		finally {
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.entityCachePreloadEnded( persister.getEntityName() );
+			}
+		}
+	}
+
+	private int preloaded(SessionImplementor session, EntityPersister persister, String regionName, List<Object> batch) {
+		final int count = batch.size();
+		if ( count == 0 ) {
+			return 0;
+		}
+		// all the collections of the batch are in the session, to be loaded together by batch fetching
+		for ( Object entity : batch ) {
+			final EntityPersister concretePersister = session.getEntityPersister( persister.getEntityName(), entity );
+			for ( int property : getCachedCollections( concretePersister ) ) {
+				Hibernate.initialize( concretePersister.getPropertyValue( entity, property ) );
+			}
+		}
+		session.clear();
+		batch.clear();
+
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityCachePreloaded( persister.getEntityName(), regionName, count );
+		}
+		return count;
+	}
+
+	private int[] getCachedCollections(EntityPersister persister) {
+		return cachedCollections.computeIfAbsent(
+				persister.getEntityName(),
+				entityName -> {
+					final Type[] propertyTypes = persister.getPropertyTypes();
+					final List<Integer> properties = new ArrayList<>();
+					for ( int i = 0; i < propertyTypes.length; i++ ) {
+						if ( propertyTypes[i] instanceof CollectionType ) {
+							final String role = ( (CollectionType) propertyTypes[i] ).getRole();
+							if ( sessionFactory.getMetamodel().collectionPersister( role ).hasCache() ) {
+								properties.add( i );
+							}
+						}
+					}
+					return properties.isEmpty()
+							? NO_COLLECTIONS
+							: properties.stream().mapToInt( Integer::intValue ).toArray();
+				}
+		);
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -14,6 +15,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.persistence.PersistenceException;
 
@@ -35,6 +37,7 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.AsyncCacheUpdateQueue;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -71,6 +74,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
+	private final transient AsyncCacheUpdateQueue asyncCacheUpdateQueue;
+
 
 	private final Set<String> legacySecondLevelCacheNames = new LinkedHashSet<>();
 	private final Map<String,Set<NaturalIdDataAccess>> legacyNaturalIdAccessesForRegion = new ConcurrentHashMap<>();
@@ -98,13 +103,26 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					sessionFactory.getSessionFactoryOptions().getCacheEntrySerializer(),
+					sessionFactory.getSessionFactoryOptions().isQueryCacheLazyResultsEnabled()
 			);
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+
+		if ( sessionFactory.getSessionFactoryOptions().isAsyncCacheUpdatesEnabled() ) {
+			// the caching is built before the FastSessionServices holding the executor
+			asyncCacheUpdateQueue = new AsyncCacheUpdateQueue(
+					command -> sessionFactory.getFastSessionServices().asyncExecutor.execute( command ),
+					sessionFactory.getSessionFactoryOptions().getAsyncCacheUpdatesQueueSize()
+			);
+		}
+		else {
+			asyncCacheUpdateQueue = null;
+		}
 	}
 
 	@Override
@@ -466,6 +484,20 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		return defaultQueryResultsCache;
 	}
 
+	@Override
+	public AsyncCacheUpdateQueue getAsyncCacheUpdateQueue() {
+		return asyncCacheUpdateQueue;
+	}
+
+	@Override
+	public CompletableFuture<Void> preload(Collection<String> entityNames) {
+		return new CachePreloader(
+				sessionFactory,
+				sessionFactory.getFastSessionServices().asyncExecutor,
+				sessionFactory.getSessionFactoryOptions().getCachePreloadBatchSize()
+		).preload( entityNames );
+	}
+
 	@Override
 	public QueryResultsCache getQueryResultsCache(String regionName) throws HibernateException {
 		if ( !getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
@@ -512,7 +544,9 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				getSessionFactory().getSessionFactoryOptions().getCacheEntrySerializer(),
+				getSessionFactory().getSessionFactoryOptions().isQueryCacheLazyResultsEnabled()
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -553,6 +587,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	@Override
 	public void close() {
+		if ( asyncCacheUpdateQueue != null ) {
+			// apply the pending updates while the regions are still available
+			asyncCacheUpdateQueue.close();
+		}
 		for ( Region region : regionsByName.values() ) {
 			region.destroy();
 		}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A caching provider, local to the JVM, keeping the entity, collection, natural id and query
+ * result regions off-heap, through {@link OffHeapStorageAccess}.
+ * <p/>
+ * It is meant for large, read-mostly datasets, ideally with a
+ * {@link AvailableSettings#CACHE_ENTRY_SERIALIZER compact entry serializer} so that the cached
+ * entries are stored as they are rather than Java serialized.  The timestamps region, which must
+ * not lose entries, is kept on-heap.
+ * <p/>
+ * Not registered as a strategy, so that it does not compete with the caching providers found on the
+ * classpath: it is selected by naming this class as {@value AvailableSettings#CACHE_REGION_FACTORY}.
+ *
+ * @see AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size of the values of a region, in bytes
+	 */
+	public static final int DEFAULT_MAX_SIZE = 64 * 1024 * 1024;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new DomainDataRegionImpl(
+				regionConfig,
+				this,
+				applyNearCache(
+						new OffHeapStorageAccess(
+								getMaxSize( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
+						),
+						regionConfig,
+						buildingContext
+				),
+				getImplicitCacheKeysFactory(),
+				buildingContext
+		);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( getMaxSize( regionName, sessionFactory ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private static long getMaxSize(String regionName, SessionFactoryImplementor sessionFactory) {
+		final Map properties = sessionFactory.getProperties();
+		final String regionMaxSizeName = AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + '.' + regionName;
+		return ConfigurationHelper.getLong(
+				properties.containsKey( regionMaxSizeName )
+						? regionMaxSizeName
+						: AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE,
+				properties,
+				DEFAULT_MAX_SIZE
+		);
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -7,20 +7,34 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.LockOptions;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.ManyToOneType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -35,14 +49,25 @@ import org.hibernate.type.TypeHelper;
 public class QueryResultsCacheImpl implements QueryResultsCache {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QueryResultsCacheImpl.class );
 
+	/**
+	 * The number of rows assembled at once by the lazily assembled results
+	 */
+	private static final int LAZY_ASSEMBLY_WINDOW = 100;
+
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final CacheEntrySerializer serializer;
+	private final boolean lazyResults;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
-			TimestampsCache timestampsCache) {
+			TimestampsCache timestampsCache,
+			CacheEntrySerializer serializer,
+			boolean lazyResults) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.serializer = serializer;
+		this.lazyResults = lazyResults;
 	}
 
 	@Override
@@ -82,10 +107,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			logCachedResultDetails( key, null, returnTypes, resultsCopy );
 		}
 
-		final CacheItem cacheItem = new CacheItem(
-				session.getTransactionStartTimestamp(),
-				resultsCopy
-		);
+		final CacheItem cacheItem = serializer == null
+				? new CacheItem( session.getTransactionStartTimestamp(), resultsCopy )
+				: new CacheItem( session.getTransactionStartTimestamp(), serializer.serializeQueryResults( resultsCopy, returnTypes ) );
 
 		try {
 			session.getEventListenerManager().cachePutStart();
@@ -161,6 +185,10 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			if ( LOG.isDebugEnabled() ) {
 				LOG.debug( "Cached query results were not up-to-date" );
 			}
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryCacheStale( cacheRegion.getName() );
+			}
 			return null;
 		}
 
@@ -168,19 +196,23 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			LOG.debug( "Returning cached query results" );
 		}
 
+		final List cachedResults = cacheItem.serializedResults == null
+				? cacheItem.results
+				: serializer.deserializeQueryResults( cacheItem.serializedResults, returnTypes );
+
 		final boolean singleResult = returnTypes.length == 1;
-		for ( int i = 0; i < cacheItem.results.size(); i++ ) {
-			if ( singleResult ) {
-				returnTypes[0].beforeAssemble( (Serializable) cacheItem.results.get( i ), session );
-			}
-			else {
-				TypeHelper.beforeAssemble( (Serializable[]) cacheItem.results.get( i ), returnTypes, session );
-			}
+		if ( lazyResults && cachedResults.size() > LAZY_ASSEMBLY_WINDOW ) {
+			return new LazilyAssembledResults(
+					cachedResults,
+					singleResult,
+					returnTypes,
+					session,
+					session.getPersistenceContextInternal().isDefaultReadOnly()
+			);
 		}
 
-		return assembleCachedResult( key, cacheItem.results, singleResult, returnTypes, session );
+		return assembleCachedResult( key, cachedResults, singleResult, returnTypes, session );
 	}
-
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		try {
@@ -200,6 +232,8 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			boolean singleResult,
 			final Type[] returnTypes,
 			final SharedSessionContractImplementor session) throws HibernateException {
+		beforeAssemble( cached, 0, cached.size(), singleResult, returnTypes, session );
+		loadEntities( cached, 0, cached.size(), singleResult, returnTypes, session );
 
 		final List result = new ArrayList( cached.size() );
 		if ( singleResult ) {
@@ -220,6 +254,92 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return result;
 	}
 
+	private static void beforeAssemble(
+			List cached,
+			int from,
+			int to,
+			boolean singleResult,
+			Type[] returnTypes,
+			SharedSessionContractImplementor session) {
+		for ( int i = from; i < to; i++ ) {
+			if ( singleResult ) {
+				returnTypes[0].beforeAssemble( (Serializable) cached.get( i ), session );
+			}
+			else {
+				TypeHelper.beforeAssemble( (Serializable[]) cached.get( i ), returnTypes, session );
+			}
+		}
+	}
+
+	/**
+	 * Load the entities returned by the given rows of the cached results which are not yet
+	 * associated with the session, through a single multi-load per entity type.  This way, the
+	 * entities are looked up in the second-level cache in bulk, and those missing from it are
+	 * loaded by batches, rather than each entity being loaded on its own when the rows are
+	 * assembled.
+	 */
+	private static void loadEntities(
+			List cached,
+			int from,
+			int to,
+			boolean singleResult,
+			Type[] returnTypes,
+			SharedSessionContractImplementor session) {
+		if ( !( session instanceof EventSource ) || to - from < 2 ) {
+			return;
+		}
+
+		Map<EntityPersister, Set<Serializable>> idsByPersister = null;
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( int column = 0; column < returnTypes.length; column++ ) {
+			if ( !isBatchLoadable( returnTypes[column] ) ) {
+				continue;
+			}
+			final EntityPersister persister = session.getFactory().getMetamodel().entityPersister(
+					( (ManyToOneType) returnTypes[column] ).getAssociatedEntityName( session.getFactory() )
+			);
+			for ( int i = from; i < to; i++ ) {
+				final Serializable disassembledId = singleResult
+						? (Serializable) cached.get( i )
+						: ( (Serializable[]) cached.get( i ) )[column];
+				if ( disassembledId == null ) {
+					continue;
+				}
+				final Serializable id = (Serializable) persister.getIdentifierType().assemble( disassembledId, session, null );
+				if ( !persistenceContext.containsEntity( session.generateEntityKey( id, persister ) ) ) {
+					if ( idsByPersister == null ) {
+						idsByPersister = new LinkedHashMap<>();
+					}
+					idsByPersister.computeIfAbsent( persister, p -> new LinkedHashSet<>() ).add( id );
+				}
+			}
+		}
+
+		if ( idsByPersister != null ) {
+			for ( Map.Entry<EntityPersister, Set<Serializable>> entry : idsByPersister.entrySet() ) {
+				final Set<Serializable> ids = entry.getValue();
+				if ( ids.size() > 1 ) {
+					entry.getKey().multiLoad(
+							ids.toArray( new Serializable[ids.size()] ),
+							session,
+							AssemblyMultiLoadOptions.INSTANCE
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Whether the assembly of the given type resolves an eagerly fetched entity by its identifier
+	 */
+	private static boolean isBatchLoadable(Type returnType) {
+		if ( !( returnType instanceof ManyToOneType ) ) {
+			return false;
+		}
+		final ManyToOneType entityType = (ManyToOneType) returnType;
+		return entityType.isReferenceToPrimaryKey() && entityType.isEager( null );
+	}
+
 	private static void logCachedResultRowDetails(Type[] returnTypes, Object result) {
 		logCachedResultRowDetails(
 				returnTypes,
@@ -282,13 +402,147 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * The options of the multi-loads of the entities returned by cached results, which are
+	 * only meant to associate these entities with the session before the rows are assembled.
+	 */
+	private static final class AssemblyMultiLoadOptions implements MultiLoadOptions {
+		private static final AssemblyMultiLoadOptions INSTANCE = new AssemblyMultiLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
+	/**
+	 * Cached results whose rows are assembled on first access, by windows of
+	 * {@value #LAZY_ASSEMBLY_WINDOW} rows, so that the entities they return are loaded
+	 * as the results are iterated.  The rows must be accessed while the session is open.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_LAZY_RESULTS
+	 */
+	private static final class LazilyAssembledResults extends AbstractList<Object> implements RandomAccess, Serializable {
+		private final List cached;
+		private final boolean singleResult;
+		private final Type[] returnTypes;
+		private final transient SharedSessionContractImplementor session;
+		private final boolean readOnly;
+
+		private final Object[] results;
+		private final boolean[] assembledWindows;
+
+		private LazilyAssembledResults(
+				List cached,
+				boolean singleResult,
+				Type[] returnTypes,
+				SharedSessionContractImplementor session,
+				boolean readOnly) {
+			this.cached = cached;
+			this.singleResult = singleResult;
+			this.returnTypes = returnTypes;
+			this.session = session;
+			this.readOnly = readOnly;
+			this.results = new Object[cached.size()];
+			this.assembledWindows = new boolean[( cached.size() + LAZY_ASSEMBLY_WINDOW - 1 ) / LAZY_ASSEMBLY_WINDOW];
+		}
+
+		@Override
+		public Object get(int index) {
+			assembleWindow( index );
+			return results[index];
+		}
+
+		@Override
+		public Object set(int index, Object element) {
+			assembleWindow( index );
+			final Object previous = results[index];
+			results[index] = element;
+			return previous;
+		}
+
+		@Override
+		public int size() {
+			return results.length;
+		}
+
+		private void assembleWindow(int index) {
+			if ( index < 0 || index >= results.length ) {
+				throw new IndexOutOfBoundsException( "Index: " + index + ", Size: " + results.length );
+			}
+			final int window = index / LAZY_ASSEMBLY_WINDOW;
+			if ( assembledWindows[window] ) {
+				return;
+			}
+			if ( session.isClosed() ) {
+				throw new LazyInitializationException( "Could not assemble cached query results - the owning Session was closed" );
+			}
+
+			final int from = window * LAZY_ASSEMBLY_WINDOW;
+			final int to = Math.min( from + LAZY_ASSEMBLY_WINDOW, results.length );
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+			persistenceContext.setDefaultReadOnly( readOnly );
+			try {
+				beforeAssemble( cached, from, to, singleResult, returnTypes, session );
+				loadEntities( cached, from, to, singleResult, returnTypes, session );
+				for ( int i = from; i < to; i++ ) {
+					results[i] = singleResult
+							? returnTypes[0].assemble( (Serializable) cached.get( i ), session, null )
+							: TypeHelper.assemble( (Serializable[]) cached.get( i ), returnTypes, session, null );
+				}
+			}
+			finally {
+				persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+			}
+			assembledWindows[window] = true;
+		}
+
+		private Object writeReplace() {
+			return new ArrayList<>( this );
+		}
+	}
+
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
 		private final List results;
+		private final byte[] serializedResults;
 
 		CacheItem(long timestamp, List results) {
 			this.timestamp = timestamp;
 			this.results = results;
+			this.serializedResults = null;
+		}
+
+		CacheItem(long timestamp, byte[] serializedResults) {
+			this.timestamp = timestamp;
+			this.results = null;
+			this.serializedResults = serializedResults;
 		}
 	}
 }
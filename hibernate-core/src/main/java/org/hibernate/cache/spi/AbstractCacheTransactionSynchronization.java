@@ -6,18 +6,44 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
+import org.hibernate.cache.spi.access.SessionlessCompletionAccess;
+import org.hibernate.cache.spi.support.AsyncCacheUpdateQueue;
+
 /**
  * @author Steve Ebersole
  */
 public abstract class AbstractCacheTransactionSynchronization implements CacheTransactionSynchronization {
 	private long lastTransactionCompletionTimestamp;
 	private final RegionFactory regionFactory;
+	private final AsyncCacheUpdateQueue asyncUpdateQueue;
+
+	/**
+	 * The cache updates completing the current transaction, to be submitted to
+	 * the asynchronous update queue once the transaction completed
+	 */
+	private List<Runnable> pendingUpdates;
 
 	public AbstractCacheTransactionSynchronization(RegionFactory regionFactory) {
+		this( regionFactory, null );
+	}
+
+	/**
+	 * @param regionFactory The region factory
+	 * @param asyncUpdateQueue The queue applying the cache updates completing the transactions,
+	 * or {@code null} to apply them synchronously
+	 */
+	public AbstractCacheTransactionSynchronization(RegionFactory regionFactory, AsyncCacheUpdateQueue asyncUpdateQueue) {
 		// prime the timestamp for any non-transactional access - until (if) we
 		// 		later join a new txn
 		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
 		this.regionFactory = regionFactory;
+		this.asyncUpdateQueue = asyncUpdateQueue;
 	}
 
 	@Override
@@ -27,6 +53,8 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 
 	@Override
 	public final void transactionJoined() {
+		// updates registered outside of a transaction completion
+		submitPendingUpdates();
 		// reset the timestamp
 		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
 	}
@@ -37,9 +65,41 @@ public abstract class AbstractCacheTransactionSynchronization implements CacheTr
 
 	@Override
 	public void transactionCompleted(boolean successful) {
+		submitPendingUpdates();
 		// reset the timestamp for any non-transactional access after this
 		// 		point - until (if) we later join a new txn
 //		this.lastTransactionCompletionTimestamp = regionFactory.nextTimestamp();
 	}
 
+	@Override
+	public boolean isAppliedAfterCompletion(CachedDomainDataAccess cacheAccess) {
+		if ( asyncUpdateQueue == null || !( cacheAccess instanceof SessionlessCompletionAccess ) ) {
+			return false;
+		}
+		if ( cacheAccess instanceof EntityDataAccess && !( cacheAccess instanceof EntitySessionlessCompletionAccess ) ) {
+			return false;
+		}
+		return ( (SessionlessCompletionAccess) cacheAccess ).isSessionlessCompletionSupported();
+	}
+
+	@Override
+	public void applyAfterCompletion(CachedDomainDataAccess cacheAccess, Runnable cacheUpdate) {
+		if ( asyncUpdateQueue == null ) {
+			cacheUpdate.run();
+			return;
+		}
+		if ( pendingUpdates == null ) {
+			pendingUpdates = new ArrayList<>();
+		}
+		pendingUpdates.add( cacheUpdate );
+	}
+
+	private void submitPendingUpdates() {
+		if ( pendingUpdates != null ) {
+			final List<Runnable> updates = pendingUpdates;
+			pendingUpdates = null;
+			asyncUpdateQueue.submit( updates );
+		}
+	}
+
 }
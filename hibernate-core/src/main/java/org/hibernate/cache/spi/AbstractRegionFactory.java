@@ -142,7 +142,10 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	@Override
 	public CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
-		return new StandardCacheTransactionSynchronization( this );
+		return new StandardCacheTransactionSynchronization(
+				this,
+				session.getFactory().getCache().getAsyncCacheUpdateQueue()
+		);
 	}
 
 	@Override
@@ -7,8 +7,10 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
@@ -16,6 +18,7 @@ import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.support.AsyncCacheUpdateQueue;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
@@ -85,6 +88,36 @@ public interface CacheImplementor extends Service, Cache, org.hibernate.engine.s
 	 */
 	QueryResultsCache getDefaultQueryResultsCache();
 
+	/**
+	 * Access to the queue applying the cache updates which complete the transactions asynchronously.
+	 * Will return {@code null} if these updates are applied synchronously.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+	 *
+	 * @since 5.5
+	 */
+	default AsyncCacheUpdateQueue getAsyncCacheUpdateQueue() {
+		return null;
+	}
+
+	/**
+	 * Preload the regions of the given cached entities, along with their natural id regions and the
+	 * regions of the cached collections they own.  The entities are scanned in the background, by the
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}, or by the default
+	 * one of the SessionFactory when none is configured.
+	 *
+	 * @param entityNames The names of the entities to preload
+	 *
+	 * @return A future completed once the entities have been preloaded
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+	 *
+	 * @since 5.5
+	 */
+	default CompletableFuture<Void> preload(Collection<String> entityNames) {
+		return CompletableFuture.completedFuture( null );
+	}
+
 	/**
 	 * Get query cache by <tt>region name</tt> or create a new one if none exist.
 	 *
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+
 /**
  * Defines a context object that a {@link RegionFactory} is asked to create
  * ({@link RegionFactory#createTransactionContext}}) when a Hibernate Session
@@ -77,6 +79,43 @@ public interface CacheTransactionSynchronization {
 	 */
 	void transactionCompleted(boolean successful);
 
+	/**
+	 * Are the updates of the given cached data which complete the transaction to which the owning
+	 * Session was joined (the puts of the state of the inserted or updated entities, and the releases
+	 * of the soft locks) to be handed to {@link #applyAfterCompletion}, rather than applied by the
+	 * thread completing the transaction?  Only the accesses implementing
+	 * {@link org.hibernate.cache.spi.access.SessionlessCompletionAccess} may be.
+	 *
+	 * @param cacheAccess The access to the cached data being updated
+	 *
+	 * @implSpec The default implementation returns {@code false}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+	 */
+	default boolean isAppliedAfterCompletion(CachedDomainDataAccess cacheAccess) {
+		return false;
+	}
+
+	/**
+	 * Apply an update of the second-level cache which completes the transaction, possibly on another
+	 * thread once the transaction completed.  Only called when {@link #isAppliedAfterCompletion} is
+	 * {@code true}, while the transaction completes, before {@link #transactionCompleted}.
+	 * <p/>
+	 * The update must not refer to the Session: it applies immutable data through the methods of the
+	 * cache access which take no session, those of
+	 * {@link org.hibernate.cache.spi.access.SessionlessCompletionAccess}.
+	 *
+	 * @param cacheAccess The access to the cached data being updated
+	 * @param cacheUpdate The update
+	 *
+	 * @implSpec The default implementation applies the update immediately.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+	 */
+	default void applyAfterCompletion(CachedDomainDataAccess cacheAccess, Runnable cacheUpdate) {
+		cacheUpdate.run();
+	}
+
 	/**
 	 * Currently not used.  Here for future expansion
 	 *
@@ -7,8 +7,13 @@
 package org.hibernate.cache.spi;
 
 import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -24,15 +29,30 @@ import org.hibernate.type.Type;
 /**
  * A key that identifies a particular query with bound parameter values.  This is the object Hibernate uses
  * as its key into its query cache.
+ * <p/>
+ * The key references the {@link QueryIdentity} of the query, which is created once per query plan and
+ * carries the hash of its SQL, and holds the disassembled values of both the positional and the named
+ * parameters in flat arrays along with their hashes, so that keys are cheap to build, hash and compare.
  *
  * @author Gavin King
  * @author Steve Ebersole
  */
 public class QueryKey implements Serializable {
-	private final String sqlQueryString;
-	private final Type[] positionalParameterTypes;
-	private final Object[] positionalParameterValues;
-	private final Map namedParameters;
+	private static final String[] NO_PARAMETER_NAMES = new String[0];
+	@SuppressWarnings("unchecked")
+	private static final Map.Entry<String,TypedValue>[] NO_NAMED_PARAMETERS = new Map.Entry[0];
+
+	private static final Comparator<Map.Entry<String, TypedValue>> PARAMETER_NAME_ORDER = Map.Entry.comparingByKey();
+
+	private final QueryIdentity queryIdentity;
+	/**
+	 * The names of the parameters, {@code null} for the positional parameters, which precede
+	 * the named parameters ordered by name
+	 */
+	private final String[] parameterNames;
+	private final Type[] parameterTypes;
+	private final Object[] parameterValues;
+	private final transient int[] parameterHashes;
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String tenantIdentifier;
@@ -43,10 +63,10 @@ public class QueryKey implements Serializable {
 	private final CacheableResultTransformer customTransformer;
 
 	/**
-	 * For performance reasons, the hashCode is cached; however, it is marked transient so that it can be
-	 * recalculated as part of the serialization process which allows distributed query caches to work properly.
+	 * For performance reasons, the hashCode is cached; it is recalculated when the key is deserialized,
+	 * which allows distributed query caches to work properly.
 	 */
-	private transient int hashCode;
+	private final transient int hashCode;
 
 	/**
 	 * Generates a QueryKey.
@@ -65,35 +85,54 @@ public class QueryKey implements Serializable {
 			Set filterKeys,
 			SharedSessionContractImplementor session,
 			CacheableResultTransformer customTransformer) {
+		return generateQueryKey(
+				new QueryIdentity( queryString ),
+				queryParameters,
+				filterKeys,
+				session,
+				customTransformer
+		);
+	}
+
+	/**
+	 * Generates a QueryKey.
+	 *
+	 * @param queryIdentity The identity of the query, shared by all the executions of its plan.
+	 * @param queryParameters The query parameters
+	 * @param filterKeys The keys of any enabled filters.
+	 * @param session The current session.
+	 * @param customTransformer The result transformer; should be null if data is not transformed before being cached.
+	 *
+	 * @return The generate query cache key.
+	 */
+	public static QueryKey generateQueryKey(
+			QueryIdentity queryIdentity,
+			QueryParameters queryParameters,
+			Set filterKeys,
+			SharedSessionContractImplementor session,
+			CacheableResultTransformer customTransformer) {
+		final Type[] positionalParameterTypes = queryParameters.getPositionalParameterTypes();
+		final Object[] positionalParameterValues = queryParameters.getPositionalParameterValues();
+		final Map.Entry<String,TypedValue>[] namedParameterEntries = sortedEntries( queryParameters.getNamedParameters() );
+		final int positionalParameterCount = positionalParameterTypes.length;
+		final int parameterCount = positionalParameterCount + namedParameterEntries.length;
+
 		// disassemble positional parameters
-		final int positionalParameterCount = queryParameters.getPositionalParameterTypes().length;
-		final Type[] types = new Type[positionalParameterCount];
-		final Object[] values = new Object[positionalParameterCount];
+		final String[] names = parameterCount == positionalParameterCount ? NO_PARAMETER_NAMES : new String[parameterCount];
+		final Type[] types = new Type[parameterCount];
+		final Object[] values = new Object[parameterCount];
 		for ( int i = 0; i < positionalParameterCount; i++ ) {
-			types[i] = queryParameters.getPositionalParameterTypes()[i];
-			values[i] = types[i].disassemble( queryParameters.getPositionalParameterValues()[i], session, null );
+			types[i] = positionalParameterTypes[i];
+			values[i] = types[i].disassemble( positionalParameterValues[i], session, null );
 		}
 
 		// disassemble named parameters
-		final Map<String,TypedValue> namedParameters;
-		if ( queryParameters.getNamedParameters() == null ) {
-			namedParameters = null;
-		}
-		else {
-			namedParameters = CollectionHelper.mapOfSize( queryParameters.getNamedParameters().size() );
-			for ( Map.Entry<String,TypedValue> namedParameterEntry : queryParameters.getNamedParameters().entrySet() ) {
-				namedParameters.put(
-						namedParameterEntry.getKey(),
-						new TypedValue(
-								namedParameterEntry.getValue().getType(),
-								namedParameterEntry.getValue().getType().disassemble(
-										namedParameterEntry.getValue().getValue(),
-										session,
-										null
-								)
-						)
-				);
-			}
+		for ( int i = 0; i < namedParameterEntries.length; i++ ) {
+			final int position = positionalParameterCount + i;
+			final TypedValue typedValue = namedParameterEntries[i].getValue();
+			names[position] = namedParameterEntries[i].getKey();
+			types[position] = typedValue.getType();
+			values[position] = typedValue.getType().disassemble( typedValue.getValue(), session, null );
 		}
 
 		// decode row selection...
@@ -110,10 +149,10 @@ public class QueryKey implements Serializable {
 		}
 
 		return new QueryKey(
-				queryString,
+				queryIdentity,
+				names,
 				types,
 				values,
-				namedParameters,
 				firstRow,
 				maxRows,
 				filterKeys,
@@ -145,18 +184,74 @@ public class QueryKey implements Serializable {
 			Set filterKeys,
 			String tenantIdentifier,
 			CacheableResultTransformer customTransformer) {
-		this.sqlQueryString = sqlQueryString;
-		this.positionalParameterTypes = positionalParameterTypes;
-		this.positionalParameterValues = positionalParameterValues;
-		this.namedParameters = namedParameters;
+		final Map.Entry<String,TypedValue>[] namedParameterEntries = sortedEntries( namedParameters );
+		final int parameterCount = positionalParameterTypes.length + namedParameterEntries.length;
+		this.queryIdentity = new QueryIdentity( sqlQueryString );
+		this.parameterNames = namedParameterEntries.length == 0 ? NO_PARAMETER_NAMES : new String[parameterCount];
+		this.parameterTypes = Arrays.copyOf( positionalParameterTypes, parameterCount );
+		this.parameterValues = Arrays.copyOf( positionalParameterValues, parameterCount );
+		for ( int i = 0; i < namedParameterEntries.length; i++ ) {
+			final int position = positionalParameterTypes.length + i;
+			parameterNames[position] = namedParameterEntries[i].getKey();
+			parameterTypes[position] = namedParameterEntries[i].getValue().getType();
+			parameterValues[position] = namedParameterEntries[i].getValue().getValue();
+		}
+		this.firstRow = firstRow;
+		this.maxRows = maxRows;
+		this.tenantIdentifier = tenantIdentifier;
+		this.filterKeys = filterKeys;
+		this.customTransformer = customTransformer;
+		this.parameterHashes = generateParameterHashes( parameterTypes, parameterValues );
+		this.hashCode = generateHashCode();
+	}
+
+	private QueryKey(
+			QueryIdentity queryIdentity,
+			String[] parameterNames,
+			Type[] parameterTypes,
+			Object[] parameterValues,
+			Integer firstRow,
+			Integer maxRows,
+			Set filterKeys,
+			String tenantIdentifier,
+			CacheableResultTransformer customTransformer) {
+		this.queryIdentity = queryIdentity;
+		this.parameterNames = parameterNames;
+		this.parameterTypes = parameterTypes;
+		this.parameterValues = parameterValues;
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.tenantIdentifier = tenantIdentifier;
 		this.filterKeys = filterKeys;
 		this.customTransformer = customTransformer;
+		this.parameterHashes = generateParameterHashes( parameterTypes, parameterValues );
 		this.hashCode = generateHashCode();
 	}
 
+	/**
+	 * The entries of the named parameters, ordered by name so that the keys do not depend on
+	 * the iteration order of the map
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map.Entry<String,TypedValue>[] sortedEntries(Map<String,TypedValue> namedParameters) {
+		if ( namedParameters == null || namedParameters.isEmpty() ) {
+			return NO_NAMED_PARAMETERS;
+		}
+		final Map.Entry<String,TypedValue>[] entries = namedParameters.entrySet().toArray( new Map.Entry[0] );
+		if ( entries.length > 1 ) {
+			Arrays.sort( entries, PARAMETER_NAME_ORDER );
+		}
+		return entries;
+	}
+
+	private static int[] generateParameterHashes(Type[] parameterTypes, Object[] parameterValues) {
+		final int[] parameterHashes = new int[parameterValues.length];
+		for ( int i = 0; i < parameterValues.length; i++ ) {
+			parameterHashes[i] = parameterValues[i] == null ? 0 : parameterTypes[i].getHashCode( parameterValues[i] );
+		}
+		return parameterHashes;
+	}
+
 	/**
 	 * Provides access to the explicitly user-provided result transformer.
 	 *
@@ -171,47 +266,58 @@ public class QueryKey implements Serializable {
 	 *
 	 * @return The (unmodifiable) map of named parameters
 	 */
-	@SuppressWarnings("unchecked")
 	public Map getNamedParameters() {
+		if ( parameterNames.length == 0 ) {
+			return Collections.emptyMap();
+		}
+		final Map<String,TypedValue> namedParameters = CollectionHelper.mapOfSize( parameterNames.length );
+		for ( int i = 0; i < parameterNames.length; i++ ) {
+			if ( parameterNames[i] != null ) {
+				namedParameters.put( parameterNames[i], new TypedValue( parameterTypes[i], parameterValues[i] ) );
+			}
+		}
 		return Collections.unmodifiableMap( namedParameters );
 	}
 
 	/**
-	 * Deserialization hook used to re-init the cached hashcode which is needed for proper clustering support.
-	 *
-	 * @param in The object input stream.
+	 * Serialization hook replacing the key by its compact form, from which its hashes are recomputed
+	 * when deserialized.
 	 *
-	 * @throws IOException Thrown by normal deserialization
-	 * @throws ClassNotFoundException Thrown by normal deserialization
+	 * @return The serialized form of the key
 	 */
-	private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
-		in.defaultReadObject();
-		this.hashCode = generateHashCode();
+	private Object writeReplace() {
+		return new SerializedForm( this );
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException( "QueryKey is deserialized through its serialized form" );
 	}
 
 	private int generateHashCode() {
 		int result = 13;
 		result = 37 * result + ( firstRow==null ? 0 : firstRow.hashCode() );
 		result = 37 * result + ( maxRows==null ? 0 : maxRows.hashCode() );
-		for ( int i=0; i< positionalParameterValues.length; i++ ) {
-			result = 37 * result + ( positionalParameterValues[i]==null ? 0 : positionalParameterTypes[i].getHashCode( positionalParameterValues[i] ) );
+		for ( int i = 0; i < parameterHashes.length; i++ ) {
+			result = 37 * result + parameterHashes[i];
 		}
-		result = 37 * result + ( namedParameters==null ? 0 : namedParameters.hashCode() );
 		result = 37 * result + ( filterKeys ==null ? 0 : filterKeys.hashCode() );
 		result = 37 * result + ( customTransformer==null ? 0 : customTransformer.hashCode() );
 		result = 37 * result + ( tenantIdentifier==null ? 0 : tenantIdentifier.hashCode() );
-		result = 37 * result + sqlQueryString.hashCode();
+		result = 37 * result + queryIdentity.hashCode();
 		return result;
 	}
 
 	@Override
 	public boolean equals(Object other) {
+		if ( this == other ) {
+			return true;
+		}
 		if ( !( other instanceof QueryKey ) ) {
 			return false;
 		}
 
 		final QueryKey that = (QueryKey) other;
-		if ( !sqlQueryString.equals( that.sqlQueryString ) ) {
+		if ( hashCode != that.hashCode || !queryIdentity.equals( that.queryIdentity ) ) {
 			return false;
 		}
 		if ( !Objects.equals( firstRow, that.firstRow ) || !Objects.equals( maxRows, that.maxRows ) ) {
@@ -220,30 +326,21 @@ public class QueryKey implements Serializable {
 		if ( !Objects.equals( customTransformer, that.customTransformer ) ) {
 			return false;
 		}
-		if ( positionalParameterTypes == null ) {
-			if ( that.positionalParameterTypes != null ) {
-				return false;
-			}
+		if ( parameterValues.length != that.parameterValues.length
+				|| !Arrays.equals( parameterHashes, that.parameterHashes )
+				|| !Arrays.equals( parameterNames, that.parameterNames ) ) {
+			return false;
 		}
-		else {
-			if ( that.positionalParameterTypes == null ) {
+		for ( int i = 0; i < parameterTypes.length; i++ ) {
+			if ( parameterTypes[i].getReturnedClass() != that.parameterTypes[i].getReturnedClass() ) {
 				return false;
 			}
-			if ( positionalParameterTypes.length != that.positionalParameterTypes.length ) {
+			if ( !parameterTypes[i].isEqual( parameterValues[i], that.parameterValues[i] ) ) {
 				return false;
 			}
-			for ( int i = 0; i < positionalParameterTypes.length; i++ ) {
-				if ( positionalParameterTypes[i].getReturnedClass() != that.positionalParameterTypes[i].getReturnedClass() ) {
-					return false;
-				}
-				if ( !positionalParameterTypes[i].isEqual( positionalParameterValues[i], that.positionalParameterValues[i] ) ) {
-					return false;
-				}
-			}
 		}
 
 		return Objects.equals( filterKeys, that.filterKeys )
-				&& Objects.equals( namedParameters, that.namedParameters )
 				&& Objects.equals( tenantIdentifier, that.tenantIdentifier );
 	}
 
@@ -254,16 +351,16 @@ public class QueryKey implements Serializable {
 
 	@Override
 	public String toString() {
-		final StringBuilder buffer = new StringBuilder( "sql: " ).append( sqlQueryString );
-		if ( positionalParameterValues != null ) {
+		final StringBuilder buffer = new StringBuilder( "sql: " ).append( queryIdentity.getSqlQueryString() );
+		if ( parameterValues.length > 0 ) {
 			buffer.append( "; parameters: " );
-			for ( Object positionalParameterValue : positionalParameterValues ) {
-				buffer.append( positionalParameterValue ).append( ", " );
+			for ( int i = 0; i < parameterValues.length; i++ ) {
+				if ( parameterNames.length > 0 && parameterNames[i] != null ) {
+					buffer.append( parameterNames[i] ).append( '=' );
+				}
+				buffer.append( parameterValues[i] ).append( ", " );
 			}
 		}
-		if ( namedParameters != null ) {
-			buffer.append( "; named parameters: " ).append( namedParameters );
-		}
 		if ( filterKeys != null ) {
 			buffer.append( "; filterKeys: " ).append( filterKeys );
 		}
@@ -279,4 +376,141 @@ public class QueryKey implements Serializable {
 		return buffer.toString();
 	}
 
+	/**
+	 * The identity of a query, created once per query plan: its SQL, along with the hash of the SQL.
+	 * The keys of the executions of a same plan reference the same identity, and are compared without
+	 * comparing their SQL.
+	 */
+	public static final class QueryIdentity implements Serializable {
+		private final String sqlQueryString;
+		private final transient int hashCode;
+
+		public QueryIdentity(String sqlQueryString) {
+			this.sqlQueryString = sqlQueryString;
+			this.hashCode = sqlQueryString.hashCode();
+		}
+
+		public String getSqlQueryString() {
+			return sqlQueryString;
+		}
+
+		private Object readResolve() {
+			return new QueryIdentity( sqlQueryString );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			if ( !( other instanceof QueryIdentity ) ) {
+				return false;
+			}
+			final QueryIdentity that = (QueryIdentity) other;
+			return hashCode == that.hashCode && sqlQueryString.equals( that.sqlQueryString );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return sqlQueryString;
+		}
+	}
+
+	/**
+	 * The serialized form of a key, as written to the distributed query caches: the optional parts of the
+	 * key are flagged in a single byte, and the parameters are written as a flat sequence of names, types and
+	 * disassembled values; the hashes are not written, but recomputed on deserialization.
+	 */
+	private static final class SerializedForm implements Serializable {
+		private static final int FIRST_ROW = 1;
+		private static final int MAX_ROWS = 1 << 1;
+		private static final int TENANT_IDENTIFIER = 1 << 2;
+		private static final int FILTER_KEYS = 1 << 3;
+		private static final int CUSTOM_TRANSFORMER = 1 << 4;
+		private static final int PARAMETER_NAMES = 1 << 5;
+
+		private transient QueryKey key;
+
+		private SerializedForm(QueryKey key) {
+			this.key = key;
+		}
+
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			out.writeObject( key.queryIdentity.getSqlQueryString() );
+			int flags = 0;
+			flags |= key.firstRow == null ? 0 : FIRST_ROW;
+			flags |= key.maxRows == null ? 0 : MAX_ROWS;
+			flags |= key.tenantIdentifier == null ? 0 : TENANT_IDENTIFIER;
+			flags |= key.filterKeys == null ? 0 : FILTER_KEYS;
+			flags |= key.customTransformer == null ? 0 : CUSTOM_TRANSFORMER;
+			flags |= key.parameterNames.length == 0 ? 0 : PARAMETER_NAMES;
+			out.writeByte( flags );
+			if ( key.firstRow != null ) {
+				out.writeInt( key.firstRow );
+			}
+			if ( key.maxRows != null ) {
+				out.writeInt( key.maxRows );
+			}
+			if ( key.tenantIdentifier != null ) {
+				out.writeObject( key.tenantIdentifier );
+			}
+			if ( key.filterKeys != null ) {
+				out.writeObject( key.filterKeys );
+			}
+			if ( key.customTransformer != null ) {
+				out.writeObject( key.customTransformer );
+			}
+			out.writeInt( key.parameterValues.length );
+			for ( int i = 0; i < key.parameterValues.length; i++ ) {
+				if ( key.parameterNames.length > 0 ) {
+					out.writeObject( key.parameterNames[i] );
+				}
+				out.writeObject( key.parameterTypes[i] );
+				out.writeObject( key.parameterValues[i] );
+			}
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			final String sqlQueryString = (String) in.readObject();
+			final int flags = in.readByte();
+			final Integer firstRow = ( flags & FIRST_ROW ) == 0 ? null : in.readInt();
+			final Integer maxRows = ( flags & MAX_ROWS ) == 0 ? null : in.readInt();
+			final String tenantIdentifier = ( flags & TENANT_IDENTIFIER ) == 0 ? null : (String) in.readObject();
+			final Set filterKeys = ( flags & FILTER_KEYS ) == 0 ? null : (Set) in.readObject();
+			final CacheableResultTransformer customTransformer = ( flags & CUSTOM_TRANSFORMER ) == 0
+					? null
+					: (CacheableResultTransformer) in.readObject();
+			final int parameterCount = in.readInt();
+			final String[] names = ( flags & PARAMETER_NAMES ) == 0 ? NO_PARAMETER_NAMES : new String[parameterCount];
+			final Type[] types = new Type[parameterCount];
+			final Object[] values = new Object[parameterCount];
+			for ( int i = 0; i < parameterCount; i++ ) {
+				if ( names.length > 0 ) {
+					names[i] = (String) in.readObject();
+				}
+				types[i] = (Type) in.readObject();
+				values[i] = in.readObject();
+			}
+			this.key = new QueryKey(
+					new QueryIdentity( sqlQueryString ),
+					names,
+					types,
+					values,
+					firstRow,
+					maxRows,
+					filterKeys,
+					tenantIdentifier,
+					customTransformer
+			);
+		}
+
+		private Object readResolve() {
+			return key;
+		}
+	}
 }
@@ -11,6 +11,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
 /**
  * @author Steve Ebersole
  */
@@ -38,4 +41,66 @@ public class QuerySpacesHelper {
 		Collections.addAll( set, spacesArray );
 		return set;
 	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Row invalidation
+	//
+	// 		When the row invalidation of query results is enabled, the changes made
+	// 		to the rows of an entity also update the timestamps of derived "spaces",
+	// 		one per stripe of identifier and natural id values, while the changes
+	// 		which cannot be attributed to rows update the "unattributed" space.
+	// 		The results of queries restricted to some rows are checked against these
+	// 		spaces, rather than against the spaces of the tables.
+
+	/**
+	 * The number of stripes the rows of a space are spread across: a change to a
+	 * row invalidates the restricted query results of all the rows of its stripe.
+	 */
+	public static final int ROW_STRIPES = 1024;
+
+	/**
+	 * The space updated by the changes to the given space which cannot be attributed to rows
+	 */
+	public String unattributedSpace(String space) {
+		return space + "#*";
+	}
+
+	/**
+	 * The space updated by the changes to the rows of the given space having an identifier of the given hash
+	 */
+	public String identifierSpace(String space, int identifierHash) {
+		return space + "#id" + stripe( identifierHash );
+	}
+
+	/**
+	 * The space updated by the changes to the rows of the given space having a natural id of the given hash
+	 */
+	public String naturalIdentifierSpace(String space, int naturalIdentifierHash) {
+		return space + "#nid" + stripe( naturalIdentifierHash );
+	}
+
+	public int identifierHash(Object identifier, EntityPersister persister) {
+		return persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+	}
+
+	/**
+	 * @param naturalIdentifierValues The values of the natural id properties, in the order of
+	 * {@link EntityPersister#getNaturalIdentifierProperties()}
+	 */
+	public int naturalIdentifierHash(Object[] naturalIdentifierValues, EntityPersister persister) {
+		final int[] naturalIdentifierProperties = persister.getNaturalIdentifierProperties();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		int hash = 1;
+		for ( int i = 0; i < naturalIdentifierProperties.length; i++ ) {
+			final Object value = naturalIdentifierValues[i];
+			hash = 31 * hash + ( value == null
+					? 0
+					: propertyTypes[naturalIdentifierProperties[i]].getHashCode( value, persister.getFactory() ) );
+		}
+		return hash;
+	}
+
+	private static int stripe(int hash) {
+		return ( hash & Integer.MAX_VALUE ) % ROW_STRIPES;
+	}
 }
@@ -67,7 +67,10 @@ public interface RegionFactory extends Service, Stoppable {
 	String qualify(String regionName);
 
 	default CacheTransactionSynchronization createTransactionContext(SharedSessionContractImplementor session) {
-		return new StandardCacheTransactionSynchronization( this );
+		return new StandardCacheTransactionSynchronization(
+				this,
+				session.getFactory().getCache().getAsyncCacheUpdateQueue()
+		);
 	}
 
 	/**
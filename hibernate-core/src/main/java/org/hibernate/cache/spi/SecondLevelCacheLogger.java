@@ -11,6 +11,7 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -99,4 +100,40 @@ public interface SecondLevelCacheLogger extends BasicLogger {
 	)
 	void nonStandardSupportForAccessType(String key, String accessType, String regionName);
 
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to apply an asynchronous update of the second-level cache",
+			id = NAMESPACE + 9
+	)
+	void unableToApplyAsyncCacheUpdate(@Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Entity [%s] is not cached: it cannot be preloaded into the second-level cache",
+			id = NAMESPACE + 10
+	)
+	void unableToPreloadUncachedEntity(String entityName);
+
+	@LogMessage(level = INFO)
+	@Message(
+			value = "Preloaded %2$s instances of entity [%1$s] into the second-level cache in %3$s ms",
+			id = NAMESPACE + 11
+	)
+	void preloadedEntity(String entityName, long count, long milliseconds);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "Unable to preload entity [%s] into the second-level cache",
+			id = NAMESPACE + 12
+	)
+	void unableToPreloadEntity(String entityName, @Cause Throwable cause);
+
+	@LogMessage(level = WARN)
+	@Message(
+			value = "No near-cache is used for region [%s]: its read-write or transactional data requires " +
+					"a positive `hibernate.cache.near_cache.ttl` to bound how long a stale entry can be read",
+			id = NAMESPACE + 13
+	)
+	void nearCacheRequiresTimeToLive(String regionName);
+
 }
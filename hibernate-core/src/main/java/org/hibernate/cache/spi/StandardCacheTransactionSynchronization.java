@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.cache.spi.support.AsyncCacheUpdateQueue;
+
 /**
  * @author Steve Ebersole
  */
@@ -13,4 +15,8 @@ public class StandardCacheTransactionSynchronization extends AbstractCacheTransa
 	public StandardCacheTransactionSynchronization(RegionFactory regionFactory) {
 		super( regionFactory );
 	}
+
+	public StandardCacheTransactionSynchronization(RegionFactory regionFactory, AsyncCacheUpdateQueue asyncUpdateQueue) {
+		super( regionFactory, asyncUpdateQueue );
+	}
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -53,6 +57,30 @@ public interface EntityDataAccess extends CachedDomainDataAccess {
 	 */
 	Object getCacheKeyId(Object cacheKey);
 
+	/**
+	 * Attempt to retrieve several entities from the cache at once, as per {@link #get}.
+	 * Used when resolving the entities of a multi-load or of a batch-load from the
+	 * second level cache, so that a remote cache is accessed in a single round-trip.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data by key: the keys which are not found, or not readable,
+	 * are absent from the returned map
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = get( session, key );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
 	/**
 	 * Called afterQuery an item has been inserted (beforeQuery the transaction completes),
 	 * instead of calling evict().
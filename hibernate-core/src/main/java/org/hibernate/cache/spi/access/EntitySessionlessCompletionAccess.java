@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.access;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * The {@link SessionlessCompletionAccess} of the data of entities, applying the puts of the inserted
+ * and updated entities without a session.
+ *
+ * @see EntityDataAccess
+ *
+ * @since 5.5
+ */
+public interface EntitySessionlessCompletionAccess extends SessionlessCompletionAccess {
+	/**
+	 * The same as {@link EntityDataAccess#afterInsert}, without a session.
+	 *
+	 * @param key The item key
+	 * @param value The item
+	 * @param version The item's version value
+	 * @return Were the contents of the cache actually changed by this operation?
+	 * @throws CacheException Propagated from underlying cache provider
+	 */
+	boolean afterInsert(Object key, Object value, Object version);
+
+	/**
+	 * The same as {@link EntityDataAccess#afterUpdate}, without a session.
+	 *
+	 * @param key The item key
+	 * @param value The item
+	 * @param currentVersion The item's current version value
+	 * @param previousVersion The item's previous version value
+	 * @param lock The lock previously obtained from {@link EntityDataAccess#lockItem}
+	 * @return Were the contents of the cache actually changed by this operation?
+	 * @throws CacheException Propagated from underlying cache provider
+	 */
+	boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock);
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.access;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * Optional contract of a {@link CachedDomainDataAccess} able to apply the updates which complete a
+ * transaction without a session.  These updates may then be applied once the transaction completed,
+ * by another thread.
+ * <p/>
+ * The accesses to the data of entities implement {@link EntitySessionlessCompletionAccess}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+ *
+ * @since 5.5
+ */
+public interface SessionlessCompletionAccess {
+	/**
+	 * Can the updates be applied without a session?  This may depend on the configuration of the
+	 * access, such as its access type or the storage it uses.
+	 *
+	 * @return {@code true} if the methods of this contract may be called
+	 */
+	boolean isSessionlessCompletionSupported();
+
+	/**
+	 * The same as {@link CachedDomainDataAccess#unlockItem}, without a session.
+	 *
+	 * @param key The item key
+	 * @param lock The lock previously obtained from {@link CachedDomainDataAccess#lockItem}
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 */
+	void unlockItem(Object key, SoftLock lock);
+}
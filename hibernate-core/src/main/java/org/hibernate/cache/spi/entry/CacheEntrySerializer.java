@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Contract for turning the entries stored into the second-level cache into bytes, and back.
+ * <p/>
+ * When a serializer is configured, the cached values are {@code byte[]} rather than graphs of
+ * objects to be serialized by the cache provider: this reduces the size of the entries, and the
+ * cost of storing them, when the cache is out of process or stores its entries by value.
+ * <p/>
+ * The disassembled state being serialized is the one described by the persisters and by the
+ * {@link Type types}, which implementations may use to avoid writing anything that can be
+ * derived from the mapping.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_SERIALIZER
+ * @see CompactCacheEntrySerializer
+ */
+public interface CacheEntrySerializer {
+
+	/**
+	 * Serialize the cache entry of an entity.
+	 *
+	 * @param entry The cache entry
+	 * @param persister The persister of the entity
+	 *
+	 * @return The serialized form of the entry
+	 */
+	byte[] serializeEntity(CacheEntry entry, EntityPersister persister);
+
+	/**
+	 * Deserialize the cache entry of an entity.
+	 *
+	 * @param data The serialized form of the entry
+	 * @param persister The persister of the entity being loaded, possibly a super class of the cached entity
+	 * @param factory The session factory
+	 *
+	 * @return The cache entry
+	 */
+	CacheEntry deserializeEntity(byte[] data, EntityPersister persister, SessionFactoryImplementor factory);
+
+	/**
+	 * Serialize the cache entry of a collection.
+	 *
+	 * @param entry The cache entry
+	 * @param persister The persister of the collection
+	 *
+	 * @return The serialized form of the entry
+	 */
+	byte[] serializeCollection(CollectionCacheEntry entry, CollectionPersister persister);
+
+	/**
+	 * Deserialize the cache entry of a collection.
+	 *
+	 * @param data The serialized form of the entry
+	 * @param persister The persister of the collection
+	 *
+	 * @return The cache entry
+	 */
+	CollectionCacheEntry deserializeCollection(byte[] data, CollectionPersister persister);
+
+	/**
+	 * Serialize the identifier a natural id resolves to.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The serialized form of the identifier
+	 */
+	byte[] serializeNaturalIdResolution(Serializable id, EntityPersister persister);
+
+	/**
+	 * Deserialize the identifier a natural id resolves to.
+	 *
+	 * @param data The serialized form of the identifier
+	 * @param persister The persister of the entity
+	 *
+	 * @return The identifier of the entity
+	 */
+	Serializable deserializeNaturalIdResolution(byte[] data, EntityPersister persister);
+
+	/**
+	 * Serialize the disassembled rows of a cached query result.
+	 *
+	 * @param rows The disassembled rows: a {@link Serializable} for a single return type, else a {@code Serializable[]}
+	 * @param returnTypes The return types of the query
+	 *
+	 * @return The serialized form of the rows
+	 */
+	byte[] serializeQueryResults(List rows, Type[] returnTypes);
+
+	/**
+	 * Deserialize the disassembled rows of a cached query result.
+	 *
+	 * @param data The serialized form of the rows
+	 * @param returnTypes The return types of the query
+	 *
+	 * @return The disassembled rows
+	 */
+	List deserializeQueryResults(byte[] data, Type[] returnTypes);
+}
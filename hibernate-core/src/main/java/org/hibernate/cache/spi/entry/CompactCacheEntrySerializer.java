@@ -0,0 +1,396 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link CacheEntrySerializer} writing a compact binary format.
+ * <p/>
+ * Nothing which can be derived from the mapping is written: neither the property names nor the
+ * classes of the values.  The number of values of an entity is given by its persister, and each
+ * value is written as a one byte tag followed by its content, the tags covering the values the
+ * basic types disassemble to.  Other values fall back to Java serialization.
+ */
+public class CompactCacheEntrySerializer implements CacheEntrySerializer {
+	/**
+	 * The short name of this serializer, for use as the value of
+	 * {@link org.hibernate.cfg.AvailableSettings#CACHE_ENTRY_SERIALIZER}.
+	 */
+	public static final String SHORT_NAME = "compact";
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte LONG = 3;
+	private static final byte INTEGER = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte TRUE = 7;
+	private static final byte FALSE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte FLOAT = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte OBJECT_ARRAY = 14;
+	private static final byte SERIALIZABLE_ARRAY = 15;
+	private static final byte DATE = 16;
+	private static final byte TIMESTAMP = 17;
+	private static final byte SQL_DATE = 18;
+	private static final byte SQL_TIME = 19;
+	private static final byte BIG_DECIMAL = 20;
+	private static final byte BIG_INTEGER = 21;
+	private static final byte UUID_VALUE = 22;
+	private static final byte SERIALIZED = 23;
+
+	@Override
+	public byte[] serializeEntity(CacheEntry entry, EntityPersister persister) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			writeString( out, entry.getSubclass() );
+			writeValue( out, (Serializable) entry.getVersion() );
+			final Serializable[] state = entry.getDisassembledState();
+			writeLength( out, state.length );
+			for ( Serializable value : state ) {
+				writeValue( out, value );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not serialize cache entry of entity " + persister.getEntityName(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public CacheEntry deserializeEntity(byte[] data, EntityPersister persister, SessionFactoryImplementor factory) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( data ) ) ) {
+			final String subclass = readString( in );
+			final Object version = readValue( in );
+			final int length = readLength( in );
+			final EntityPersister subclassPersister = factory.getMetamodel().entityPersister( subclass );
+			if ( length != subclassPersister.getPropertyTypes().length ) {
+				throw new CacheException(
+						"Cache entry of entity " + subclass + " does not match its mapping: " + length
+								+ " values cached for " + subclassPersister.getPropertyTypes().length + " properties"
+				);
+			}
+			final Serializable[] state = new Serializable[length];
+			for ( int i = 0; i < length; i++ ) {
+				state[i] = readValue( in );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not deserialize cache entry of entity " + persister.getEntityName(), e );
+		}
+	}
+
+	@Override
+	public byte[] serializeCollection(CollectionCacheEntry entry, CollectionPersister persister) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			writeValue( out, entry.getState() );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not serialize cache entry of collection " + persister.getRole(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public CollectionCacheEntry deserializeCollection(byte[] data, CollectionPersister persister) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( data ) ) ) {
+			return new CollectionCacheEntry( readValue( in ) );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not deserialize cache entry of collection " + persister.getRole(), e );
+		}
+	}
+
+	@Override
+	public byte[] serializeNaturalIdResolution(Serializable id, EntityPersister persister) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			writeValue( out, id );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not serialize natural id resolution of entity " + persister.getEntityName(), e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public Serializable deserializeNaturalIdResolution(byte[] data, EntityPersister persister) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( data ) ) ) {
+			return readValue( in );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not deserialize natural id resolution of entity " + persister.getEntityName(), e );
+		}
+	}
+
+	@Override
+	public byte[] serializeQueryResults(List rows, Type[] returnTypes) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			writeLength( out, rows.size() );
+			for ( Object row : rows ) {
+				writeValue( out, (Serializable) row );
+			}
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not serialize query results", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public List deserializeQueryResults(byte[] data, Type[] returnTypes) {
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( data ) ) ) {
+			final int size = readLength( in );
+			final List<Serializable> rows = new ArrayList<>( size );
+			for ( int i = 0; i < size; i++ ) {
+				rows.add( readValue( in ) );
+			}
+			return rows;
+		}
+		catch (IOException e) {
+			throw new CacheException( "Could not deserialize query results", e );
+		}
+	}
+
+	private static void writeValue(DataOutputStream out, Serializable value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( UNKNOWN );
+		}
+		else {
+			final Class<?> valueClass = value.getClass();
+			if ( valueClass == Long.class ) {
+				out.writeByte( LONG );
+				out.writeLong( (Long) value );
+			}
+			else if ( valueClass == Integer.class ) {
+				out.writeByte( INTEGER );
+				out.writeInt( (Integer) value );
+			}
+			else if ( valueClass == String.class ) {
+				out.writeByte( STRING );
+				writeString( out, (String) value );
+			}
+			else if ( valueClass == Boolean.class ) {
+				out.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				out.writeByte( SHORT );
+				out.writeShort( (Short) value );
+			}
+			else if ( valueClass == Byte.class ) {
+				out.writeByte( BYTE );
+				out.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Character.class ) {
+				out.writeByte( CHARACTER );
+				out.writeChar( (Character) value );
+			}
+			else if ( valueClass == Double.class ) {
+				out.writeByte( DOUBLE );
+				out.writeDouble( (Double) value );
+			}
+			else if ( valueClass == Float.class ) {
+				out.writeByte( FLOAT );
+				out.writeFloat( (Float) value );
+			}
+			else if ( valueClass == byte[].class ) {
+				out.writeByte( BYTES );
+				writeBytes( out, (byte[]) value );
+			}
+			else if ( valueClass == Object[].class || valueClass == Serializable[].class ) {
+				// the disassembled state of components and collections
+				out.writeByte( valueClass == Object[].class ? OBJECT_ARRAY : SERIALIZABLE_ARRAY );
+				final Object[] values = (Object[]) value;
+				writeLength( out, values.length );
+				for ( Object element : values ) {
+					writeValue( out, (Serializable) element );
+				}
+			}
+			else if ( valueClass == Date.class ) {
+				out.writeByte( DATE );
+				out.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				out.writeByte( TIMESTAMP );
+				out.writeLong( ( (Timestamp) value ).getTime() );
+				out.writeInt( ( (Timestamp) value ).getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				out.writeByte( SQL_DATE );
+				out.writeLong( ( (java.sql.Date) value ).getTime() );
+			}
+			else if ( valueClass == Time.class ) {
+				out.writeByte( SQL_TIME );
+				out.writeLong( ( (Time) value ).getTime() );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				out.writeByte( BIG_DECIMAL );
+				out.writeInt( ( (BigDecimal) value ).scale() );
+				writeBytes( out, ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				out.writeByte( BIG_INTEGER );
+				writeBytes( out, ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == UUID.class ) {
+				out.writeByte( UUID_VALUE );
+				out.writeLong( ( (UUID) value ).getMostSignificantBits() );
+				out.writeLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+			else {
+				out.writeByte( SERIALIZED );
+				writeBytes( out, SerializationHelper.serialize( value ) );
+			}
+		}
+	}
+
+	private static Serializable readValue(DataInputStream in) throws IOException {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case LONG:
+				return in.readLong();
+			case INTEGER:
+				return in.readInt();
+			case SHORT:
+				return in.readShort();
+			case BYTE:
+				return in.readByte();
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case CHARACTER:
+				return in.readChar();
+			case DOUBLE:
+				return in.readDouble();
+			case FLOAT:
+				return in.readFloat();
+			case STRING:
+				return readString( in );
+			case BYTES:
+				return readBytes( in );
+			case OBJECT_ARRAY:
+			case SERIALIZABLE_ARRAY: {
+				final int length = readLength( in );
+				final Object[] values = tag == OBJECT_ARRAY ? new Object[length] : new Serializable[length];
+				for ( int i = 0; i < length; i++ ) {
+					values[i] = readValue( in );
+				}
+				return values;
+			}
+			case DATE:
+				return new Date( in.readLong() );
+			case TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( in.readLong() );
+				timestamp.setNanos( in.readInt() );
+				return timestamp;
+			}
+			case SQL_DATE:
+				return new java.sql.Date( in.readLong() );
+			case SQL_TIME:
+				return new Time( in.readLong() );
+			case BIG_DECIMAL: {
+				final int scale = in.readInt();
+				return new BigDecimal( new BigInteger( readBytes( in ) ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( in ) );
+			case UUID_VALUE:
+				return new UUID( in.readLong(), in.readLong() );
+			case SERIALIZED:
+				return (Serializable) SerializationHelper.deserialize( readBytes( in ) );
+			default:
+				throw new CacheException( "Unexpected value tag in serialized cache entry: " + tag );
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		writeBytes( out, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return new String( readBytes( in ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+		writeLength( out, value.length );
+		out.write( value );
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		final byte[] value = new byte[readLength( in )];
+		in.readFully( value );
+		return value;
+	}
+
+	/**
+	 * Lengths are written as variable-length integers, 7 bits per byte, as most are small.
+	 */
+	private static void writeLength(DataOutputStream out, int length) throws IOException {
+		int remaining = length;
+		while ( ( remaining & ~0x7F ) != 0 ) {
+			out.writeByte( ( remaining & 0x7F ) | 0x80 );
+			remaining >>>= 7;
+		}
+		out.writeByte( remaining );
+	}
+
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			length |= ( b & 0x7F ) << shift;
+			shift += 7;
+		} while ( ( b & 0x80 ) != 0 );
+		return length;
+	}
+}
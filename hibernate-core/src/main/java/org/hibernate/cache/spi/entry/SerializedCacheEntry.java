@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Serialized CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * as the {@code byte[]} produced by the configured {@link CacheEntrySerializer}.
+ */
+public class SerializedCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+	private final CacheEntrySerializer serializer;
+
+	/**
+	 * Constructs a SerializedCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be serialized.
+	 * @param serializer The serializer
+	 */
+	public SerializedCacheEntry(EntityPersister persister, CacheEntrySerializer serializer) {
+		this.persister = persister;
+		this.serializer = serializer;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		return serializer.serializeEntity( (CacheEntry) item, persister );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		return serializer.deserializeEntity( (byte[]) structured, persister, factory );
+	}
+}
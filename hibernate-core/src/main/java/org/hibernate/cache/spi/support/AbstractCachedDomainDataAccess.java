@@ -6,27 +6,48 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cache.spi.access.SessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
 
 import org.jboss.logging.Logger;
 
 /**
  * @author Steve Ebersole
  */
-public abstract class AbstractCachedDomainDataAccess implements CachedDomainDataAccess, AbstractDomainDataRegion.Destructible {
+public abstract class AbstractCachedDomainDataAccess
+		implements CachedDomainDataAccess, SessionlessCompletionAccess, AbstractDomainDataRegion.Destructible {
 	private static final Logger log = Logger.getLogger( AbstractCachedDomainDataAccess.class );
 
 	private final DomainDataRegion region;
 	private final DomainDataStorageAccess storageAccess;
+	private final TimedStorageAccess timedStorageAccess;
 
 	protected AbstractCachedDomainDataAccess(
 			DomainDataRegion region,
 			DomainDataStorageAccess storageAccess) {
 		this.region = region;
-		this.storageAccess = storageAccess;
+		if ( region instanceof AbstractDomainDataRegion ) {
+			// relies on the access type being a constant of the implementation
+			this.timedStorageAccess = new TimedStorageAccess(
+					storageAccess,
+					( (AbstractDomainDataRegion) region ).getSessionFactory(),
+					region.getName(),
+					getAccessType()
+			);
+			this.storageAccess = timedStorageAccess;
+		}
+		else {
+			this.timedStorageAccess = null;
+			this.storageAccess = storageAccess;
+		}
 	}
 
 	@Override
@@ -38,6 +59,31 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return storageAccess;
 	}
 
+	/**
+	 * The access to the storage used to apply the updates completing a transaction without a session
+	 *
+	 * @return The session-less access, or {@code null} when the storage does not support it
+	 */
+	protected SessionlessStorageAccess getSessionlessStorageAccess() {
+		return storageAccess.getSessionlessAccess();
+	}
+
+	/**
+	 * Start timing an operation of the access strategy, whose duration is recorded
+	 * into the statistics of the region when they are enabled.
+	 *
+	 * @return The start of the operation, to be passed to {@link #operationCompleted}
+	 */
+	protected long startOperation() {
+		return timedStorageAccess == null ? TimedStorageAccess.NOT_TIMED : timedStorageAccess.start();
+	}
+
+	protected void operationCompleted(CacheRegionStatistics.Operation operation, long start) {
+		if ( timedStorageAccess != null ) {
+			timedStorageAccess.completed( operation, start );
+		}
+	}
+
 	protected void clearCache() {
 		log.debugf( "Clearing cache data map [region=`%s`]", region.getName() );
 		getStorageAccess().evictData();
@@ -53,6 +99,15 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	/**
+	 * Attempt to retrieve several items from the cache at once, as per {@link #get}.
+	 *
+	 * @see org.hibernate.cache.spi.access.EntityDataAccess#getAll
+	 */
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -91,6 +146,12 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		getStorageAccess().removeFromCache( key, session );
 	}
 
+	@Override
+	public boolean isSessionlessCompletionSupported() {
+		// the transactional access relies on the transaction not being completed yet
+		return getAccessType() != AccessType.TRANSACTIONAL && getSessionlessStorageAccess() != null;
+	}
+
 	@Override
 	public void removeAll(SharedSessionContractImplementor session) {
 		getStorageAccess().clearCache( session );
@@ -53,6 +53,11 @@ public abstract class AbstractCollectionDataAccess
 
 	}
 
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+
+	}
+
 	@Override
 	public SoftLock lockRegion() {
 		return null;
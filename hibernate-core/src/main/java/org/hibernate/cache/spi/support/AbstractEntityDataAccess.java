@@ -73,4 +73,8 @@ public abstract class AbstractEntityDataAccess
 			Object key,
 			SoftLock lock) {
 	}
+
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+	}
 }
@@ -88,4 +88,8 @@ public abstract class AbstractNaturalIdDataAccess extends AbstractCachedDomainDa
 			Object key,
 			SoftLock lock) {
 	}
+
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+	}
 }
@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -18,6 +21,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
 
 import org.jboss.logging.Logger;
 
@@ -88,6 +92,32 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns the readable items only, as per {@link #get}.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting %s cached data from region [`%s` (%s)]", keys.size(), getRegion().getName(), getAccessType() );
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final Map<Object, Object> values = new HashMap<>( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item.isReadable( session.getTransactionStartTimestamp() ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+				else {
+					log.debugf( "Cache hit, but item is unreadable/invalid : region = `%s`, key = `%s`", getRegion().getName(), entry.getKey() );
+				}
+			}
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -138,6 +168,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final long start = startOperation();
 		try {
 			writeLock.lock();
 
@@ -153,11 +184,13 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 		finally {
 			writeLock.unlock();
+			operationCompleted( CacheRegionStatistics.Operation.LOCK, start );
 		}
 	}
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		final long start = startOperation();
 		try {
 			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
 			writeLock.lock();
@@ -172,17 +205,63 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 		finally {
 			writeLock.unlock();
+			operationCompleted( CacheRegionStatistics.Operation.LOCK, start );
+		}
+	}
+
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		final long start = startOperation();
+		try {
+			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
+			writeLock.lock();
+			Lockable item = (Lockable) getSessionlessStorageAccess().getFromCache( key );
+
+			if ( ( item != null ) && item.isUnlockable( lock ) ) {
+				decrementLock( key, (SoftLockImpl) item );
+			}
+			else {
+				handleLockExpiry( key, item );
+			}
+		}
+		finally {
+			writeLock.unlock();
+			operationCompleted( CacheRegionStatistics.Operation.LOCK, start );
 		}
 	}
 
 	@SuppressWarnings("WeakerAccess")
 	protected void decrementLock(SharedSessionContractImplementor session, Object key, SoftLockImpl lock) {
+		getStorageAccess().putIntoCache( key, decremented( lock ), session );
+	}
+
+	/**
+	 * The same as {@link #decrementLock(SharedSessionContractImplementor, Object, SoftLockImpl)}, without a session
+	 */
+	@SuppressWarnings("WeakerAccess")
+	protected void decrementLock(Object key, SoftLockImpl lock) {
+		getSessionlessStorageAccess().putIntoCache( key, decremented( lock ) );
+	}
+
+	private SoftLockImpl decremented(SoftLockImpl lock) {
 		lock.unlock( getRegion().getRegionFactory().nextTimestamp() );
-		getStorageAccess().putIntoCache( key, lock, session );
+		return lock;
 	}
 
 	@SuppressWarnings("WeakerAccess")
 	protected void handleLockExpiry(SharedSessionContractImplementor session, Object key, Lockable lock) {
+		getStorageAccess().putIntoCache( key, expired( key ), session );
+	}
+
+	/**
+	 * The same as {@link #handleLockExpiry(SharedSessionContractImplementor, Object, Lockable)}, without a session
+	 */
+	@SuppressWarnings("WeakerAccess")
+	protected void handleLockExpiry(Object key, Lockable lock) {
+		getSessionlessStorageAccess().putIntoCache( key, expired( key ) );
+	}
+
+	private SoftLockImpl expired(Object key) {
 		SecondLevelCacheLogger.INSTANCE.softLockedCacheExpired( getRegion().getName(), key );
 		log.info( "Cached entry expired : " + key );
 
@@ -191,7 +270,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		SoftLockImpl newLock = new SoftLockImpl( ts, uuid, nextLockId.getAndIncrement(), null );
 		//newLock.unlock( ts );
 		newLock.unlock( ts - getRegion().getRegionFactory().getTimeout() );
-		getStorageAccess().putIntoCache( key, newLock, session );
+		return newLock;
 	}
 
 	@Override
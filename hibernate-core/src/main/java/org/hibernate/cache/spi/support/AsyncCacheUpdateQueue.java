@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
+
+/**
+ * Applies the updates of the second-level cache completing the transactions, such as the puts
+ * of the state of the inserted and updated entities and the release of the soft locks, on a
+ * background executor rather than on the thread completing the transaction.
+ * <p/>
+ * The updates of each transaction are submitted as a batch, and the batches are applied one at a
+ * time, in the order they were submitted, by a single task of the executor draining the queue.
+ * The queue is bounded: when it is full, the batch is applied by the submitting thread instead.
+ * Both orders are safe with the read-write access strategies, whose soft locks are only released
+ * once all the transactions which locked an entry have completed, and whose entries are only
+ * replaced by the completion of the transaction holding the lock.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+ */
+public class AsyncCacheUpdateQueue {
+	/**
+	 * The maximum number of batches applied by a task of the executor before it is resubmitted,
+	 * so that a busy queue does not monopolize a thread of a shared executor
+	 */
+	private static final int BATCHES_PER_TASK = 64;
+
+	private final Executor executor;
+	private final BlockingQueue<List<Runnable>> batches;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed;
+
+	/**
+	 * @param executor The executor applying the updates
+	 * @param capacity The maximum number of batches waiting to be applied
+	 */
+	public AsyncCacheUpdateQueue(Executor executor, int capacity) {
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "The capacity of the asynchronous cache update queue must be positive" );
+		}
+		this.executor = executor;
+		this.batches = new ArrayBlockingQueue<>( capacity );
+	}
+
+	/**
+	 * Submit the cache updates of a completed transaction.
+	 *
+	 * @param updates The updates, applied in order
+	 */
+	public void submit(List<Runnable> updates) {
+		if ( closed || !batches.offer( updates ) ) {
+			apply( updates );
+		}
+		else {
+			scheduleDrain();
+		}
+	}
+
+	/**
+	 * The number of batches waiting to be applied.
+	 */
+	public int getPendingCount() {
+		return batches.size();
+	}
+
+	/**
+	 * Stop accepting updates and apply those still pending, on the calling thread.
+	 */
+	public void close() {
+		closed = true;
+		List<Runnable> batch;
+		while ( ( batch = batches.poll() ) != null ) {
+			apply( batch );
+		}
+	}
+
+	private void scheduleDrain() {
+		if ( draining.compareAndSet( false, true ) ) {
+			try {
+				executor.execute( this::drain );
+			}
+			catch (RejectedExecutionException e) {
+				draining.set( false );
+				close();
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			List<Runnable> batch;
+			int applied = 0;
+			while ( applied++ < BATCHES_PER_TASK && ( batch = batches.poll() ) != null ) {
+				apply( batch );
+			}
+		}
+		finally {
+			draining.set( false );
+			// batches submitted while the draining was ending found it in progress
+			if ( !batches.isEmpty() ) {
+				scheduleDrain();
+			}
+		}
+	}
+
+	private static void apply(List<Runnable> updates) {
+		for ( Runnable update : updates ) {
+			try {
+				update.run();
+			}
+			catch (RuntimeException e) {
+				SecondLevelCacheLogger.INSTANCE.unableToApplyAsyncCacheUpdate( e );
+			}
+		}
+	}
+}
@@ -37,4 +37,9 @@ public class CollectionNonStrictReadWriteAccess extends AbstractCollectionDataAc
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		getStorageAccess().removeFromCache( key, session );
 	}
+
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		getSessionlessStorageAccess().removeFromCache( key );
+	}
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +28,37 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get several items from the cache at once, ideally in a single round-trip
+	 * to the underlying cache.
+	 *
+	 * @return The items found in the cache, by key: the keys which are not
+	 * found in the cache are absent from the returned map
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * The access to this storage without a session, which lets the updates completing a transaction
+	 * be applied once it completed, by another thread.
+	 *
+	 * @return The session-less access, or {@code null} (the default) when this storage needs the session
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ASYNC_UPDATES
+	 * @since 5.5
+	 */
+	default SessionlessStorageAccess getSessionlessAccess() {
+		return null;
+	}
 }
@@ -11,6 +11,7 @@ import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -20,7 +21,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  *
  * @author Steve Ebersole
  */
-public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
+public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess implements EntitySessionlessCompletionAccess {
 	public EntityNonStrictReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			CacheKeysFactory keysFactory,
@@ -48,6 +49,11 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 		return false;
 	}
 
+	@Override
+	public boolean afterInsert(Object key, Object value, Object version) {
+		return false;
+	}
+
 	@Override
 	public boolean update(
 			SharedSessionContractImplementor session,
@@ -71,6 +77,12 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 		return false;
 	}
 
+	@Override
+	public boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock) {
+		unlockItem( key, lock );
+		return false;
+	}
+
 	/**
 	 * Since this is a non-strict read/write strategy item locking is not used.
 	 */
@@ -79,6 +91,11 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 		getStorageAccess().removeFromCache( key, session );
 	}
 
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		getSessionlessStorageAccess().removeFromCache( key );
+	}
+
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) {
 		getStorageAccess().removeFromCache( key, session );
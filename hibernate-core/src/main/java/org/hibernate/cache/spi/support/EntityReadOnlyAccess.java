@@ -11,6 +11,7 @@ import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -22,7 +23,7 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class EntityReadOnlyAccess extends AbstractEntityDataAccess {
+public class EntityReadOnlyAccess extends AbstractEntityDataAccess implements EntitySessionlessCompletionAccess {
 	private static final Logger log = Logger.getLogger( EntityReadOnlyAccess.class );
 
 	public EntityReadOnlyAccess(
@@ -53,11 +54,22 @@ public class EntityReadOnlyAccess extends AbstractEntityDataAccess {
 		return true;
 	}
 
+	@Override
+	public boolean afterInsert(Object key, Object value, Object version) {
+		getSessionlessStorageAccess().putIntoCache( key, value );
+		return true;
+	}
+
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		evict( key );
 	}
 
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		evict( key );
+	}
+
 	@Override
 	public boolean update(
 			SharedSessionContractImplementor session,
@@ -80,4 +92,10 @@ public class EntityReadOnlyAccess extends AbstractEntityDataAccess {
 		log.debugf( "Illegal attempt to update item cached as read-only [%s]", key );
 		throw new UnsupportedOperationException( "Can't write to a readonly object" );
 	}
+
+	@Override
+	public boolean afterUpdate(Object key, Object value, Object currentVersion, Object previousVersion, SoftLock lock) {
+		log.debugf( "Illegal attempt to update item cached as read-only [%s]", key );
+		throw new UnsupportedOperationException( "Can't write to a readonly object" );
+	}
 }
@@ -13,6 +13,7 @@ import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.EntitySessionlessCompletionAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -24,7 +25,8 @@ import org.hibernate.persister.entity.EntityPersister;
  *
  * @author Steve Ebersole
  */
-public class EntityReadWriteAccess extends AbstractReadWriteAccess implements EntityDataAccess {
+public class EntityReadWriteAccess extends AbstractReadWriteAccess
+		implements EntityDataAccess, EntitySessionlessCompletionAccess {
 	private final CacheKeysFactory keysFactory;
 	private final Comparator versionComparator;
 
@@ -147,6 +149,62 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 		}
 	}
 
+	@Override
+	public boolean afterInsert(Object key, Object value, Object version) {
+		try {
+			writeLock().lock();
+			Lockable item = (Lockable) getSessionlessStorageAccess().getFromCache( key );
+			if ( item == null ) {
+				getSessionlessStorageAccess().putIntoCache(
+						key,
+						new Item( value, version, getRegion().getRegionFactory().nextTimestamp() )
+				);
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+		finally {
+			writeLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean afterUpdate(
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) {
+		try {
+			writeLock().lock();
+			Lockable item = (Lockable) getSessionlessStorageAccess().getFromCache( key );
+
+			if ( item != null && item.isUnlockable( lock ) ) {
+				SoftLockImpl lockItem = (SoftLockImpl) item;
+				if ( lockItem.wasLockedConcurrently() ) {
+					decrementLock( key, lockItem );
+					return false;
+				}
+				else {
+					getSessionlessStorageAccess().putIntoCache(
+							key,
+							new Item( value, currentVersion, getRegion().getRegionFactory().nextTimestamp() )
+					);
+					return true;
+				}
+			}
+			else {
+				handleLockExpiry( key, item );
+				return false;
+			}
+		}
+		finally {
+			writeLock().unlock();
+		}
+	}
+
 	@Override
 	public SoftLock lockRegion() {
 		return null;
@@ -38,6 +38,11 @@ public class NaturalIdNonStrictReadWriteAccess extends AbstractNaturalIdDataAcce
 		getStorageAccess().removeFromCache( key, session );
 	}
 
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		getSessionlessStorageAccess().removeFromCache( key );
+	}
+
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) {
 		getStorageAccess().removeFromCache( key, session );
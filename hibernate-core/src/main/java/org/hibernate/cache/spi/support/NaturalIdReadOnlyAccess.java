@@ -44,4 +44,9 @@ public class NaturalIdReadOnlyAccess extends AbstractNaturalIdDataAccess {
 			SoftLock lock) {
 		evict( key );
 	}
+
+	@Override
+	public void unlockItem(Object key, SoftLock lock) {
+		evict( key );
+	}
 }
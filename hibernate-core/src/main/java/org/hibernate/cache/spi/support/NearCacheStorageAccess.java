@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * A bounded, on-heap tier in front of the {@link DomainDataStorageAccess} of a
+ * remote (or otherwise expensive to reach) cache, saving a round-trip for the
+ * entries read repeatedly from this node.
+ * <p/>
+ * Entries are evicted from the near-cache in LRU order once it holds its maximum
+ * number of entries, and expire after a time-to-live, which bounds how stale an entry
+ * can be with respect to the changes made to the remote cache by other nodes.
+ * <p/>
+ * All the writes go through to the delegate: the puts, including the lock and unlock of
+ * the entries by the read-write access strategies, replace the local entry, while the
+ * removals and evictions, including those of bulk and timestamp invalidations,
+ * invalidate it.  A value read from the delegate is only kept if no write happened
+ * on this node while it was being read.
+ *
+ * @see RegionFactoryTemplate#applyNearCache
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess, SessionlessStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final long timeToLiveNanos;
+	private final BoundedConcurrentHashMap<Object, NearCacheEntry> entries;
+
+	/**
+	 * Incremented on each write, so that a value read from the delegate concurrently
+	 * to a write is not stored into the near-cache
+	 */
+	private final AtomicLong writes = new AtomicLong();
+
+	/**
+	 * Incremented when the whole near-cache is invalidated, making all the entries
+	 * created before stale
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * @param delegate The storage access of the remote cache
+	 * @param maxEntries The maximum number of entries held by the near-cache
+	 * @param timeToLive The time to live of the entries, in milliseconds; {@code 0} or less means no expiration
+	 */
+	public NearCacheStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLive) {
+		if ( maxEntries <= 0 ) {
+			throw new IllegalArgumentException( "The maximum number of entries of a near-cache must be positive" );
+		}
+		this.delegate = delegate;
+		this.timeToLiveNanos = timeToLive > 0 ? TimeUnit.MILLISECONDS.toNanos( timeToLive ) : 0;
+		this.entries = new BoundedConcurrentHashMap<>(
+				maxEntries,
+				maxEntries < 256 ? 1 : 16,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+	}
+
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return read( key, () -> delegate.getFromCache( key, session ) );
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
+		return read( key, () -> delegate.getSessionlessAccess().getFromCache( key ) );
+	}
+
+	private Object read(Object key, Supplier<Object> delegateRead) {
+		final NearCacheEntry entry = entries.get( key );
+		if ( entry != null ) {
+			if ( isValid( entry ) ) {
+				return entry.value;
+			}
+			entries.remove( key, entry );
+		}
+
+		final long writesBefore = writes.get();
+		final long generationBefore = generation.get();
+		final Object value = delegateRead.get();
+		if ( value != null ) {
+			storeRead( key, value, writesBefore, generationBefore );
+		}
+		return value;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = new HashMap<>();
+		List<Object> missing = null;
+		for ( Object key : keys ) {
+			final NearCacheEntry entry = entries.get( key );
+			if ( entry != null && isValid( entry ) ) {
+				items.put( key, entry.value );
+			}
+			else {
+				if ( missing == null ) {
+					missing = new ArrayList<>();
+				}
+				missing.add( key );
+			}
+		}
+
+		if ( missing != null ) {
+			final long writesBefore = writes.get();
+			final long generationBefore = generation.get();
+			final Map<Object, Object> remoteItems = delegate.getAllFromCache( missing, session );
+			for ( Map.Entry<Object, Object> remoteItem : remoteItems.entrySet() ) {
+				storeRead( remoteItem.getKey(), remoteItem.getValue(), writesBefore, generationBefore );
+			}
+			items.putAll( remoteItems );
+		}
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		writes.incrementAndGet();
+		delegate.putIntoCache( key, value, session );
+		store( key, value );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value) {
+		writes.incrementAndGet();
+		delegate.getSessionlessAccess().putIntoCache( key, value );
+		store( key, value );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		writes.incrementAndGet();
+		delegate.putFromLoad( key, value, session );
+		store( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		writes.incrementAndGet();
+		entries.remove( key );
+		delegate.removeFromCache( key, session );
+	}
+
+	@Override
+	public void removeFromCache(Object key) {
+		writes.incrementAndGet();
+		entries.remove( key );
+		delegate.getSessionlessAccess().removeFromCache( key );
+	}
+
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return delegate.getSessionlessAccess() == null ? null : this;
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		invalidate();
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final NearCacheEntry entry = entries.get( key );
+		return entry != null && isValid( entry ) || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		invalidate();
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		writes.incrementAndGet();
+		entries.remove( key );
+		delegate.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		invalidate();
+		delegate.release();
+	}
+
+	private void store(Object key, Object value) {
+		if ( value == null ) {
+			entries.remove( key );
+		}
+		else {
+			entries.put( key, new NearCacheEntry( value, generation.get(), expiration() ) );
+		}
+	}
+
+	private void storeRead(Object key, Object value, long writesBefore, long generationBefore) {
+		if ( writes.get() == writesBefore ) {
+			// the generation captured before the read makes the entry stale if the
+			// near-cache was invalidated in the meantime
+			entries.putIfAbsent( key, new NearCacheEntry( value, generationBefore, expiration() ) );
+		}
+	}
+
+	private void invalidate() {
+		writes.incrementAndGet();
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	private long expiration() {
+		return timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos;
+	}
+
+	private boolean isValid(NearCacheEntry entry) {
+		return entry.generation == generation.get()
+				&& ( entry.expiration == 0 || entry.expiration - System.nanoTime() > 0 );
+	}
+
+	private static final class NearCacheEntry {
+		private final Object value;
+		private final long generation;
+		private final long expiration;
+
+		private NearCacheEntry(Object value, long generation, long expiration) {
+			this.value = value;
+			this.generation = generation;
+			this.expiration = expiration;
+		}
+	}
+}
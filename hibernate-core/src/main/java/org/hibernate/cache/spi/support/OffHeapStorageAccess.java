@@ -0,0 +1,339 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the cached values outside of the Java heap, in
+ * direct buffers, so that large and long-lived cached datasets put no pressure on the
+ * garbage collector.
+ * <p/>
+ * The {@code byte[]} values, as handed over when a {@link org.hibernate.cache.spi.entry.CacheEntrySerializer}
+ * is configured, are stored as they are; any other value is stored in its Java serialized form.
+ * Only the keys, and the location of their value, are kept on-heap.
+ * <p/>
+ * The memory is split into segments, each filled in turn by appending the values written.
+ * Once they are all full, the next segment in turn is reclaimed, following the clock algorithm:
+ * the values read since the segment was last reclaimed are given a second chance and compacted
+ * at the start of the segment, while the other ones are evicted.
+ * <p/>
+ * The values are read concurrently, while the writes are serialized: this suits the read-mostly
+ * regions, such as those of reference data, which benefit the most from being kept off-heap.
+ *
+ * @see org.hibernate.cache.internal.OffHeapRegionFactory
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, SessionlessStorageAccess {
+	/**
+	 * The maximum size of a segment, direct buffers being indexed by {@code int}
+	 */
+	public static final int MAX_SEGMENT_SIZE = 1 << 30;
+
+	private static final int MIN_SEGMENTS = 16;
+
+	private static final byte BYTES = 0;
+	private static final byte SERIALIZED = 1;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Object, Slot> slots = new HashMap<>();
+	private final Segment[] segments;
+
+	private int current;
+
+	/**
+	 * @param maxSize The maximum size of the stored values, in bytes
+	 */
+	public OffHeapStorageAccess(long maxSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "The maximum size of an off-heap storage must be positive" );
+		}
+		final int count = (int) Math.max(
+				Math.min( MIN_SEGMENTS, maxSize ),
+				( maxSize + MAX_SEGMENT_SIZE - 1 ) / MAX_SEGMENT_SIZE
+		);
+		this.segments = new Segment[count];
+		long remaining = maxSize;
+		for ( int i = 0; i < count; i++ ) {
+			final int size = (int) ( remaining / ( count - i ) );
+			segments[i] = new Segment( size );
+			remaining -= size;
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return getFromCache( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
+		final Lock readLock = lock.readLock();
+		final byte tag;
+		final byte[] data;
+		readLock.lock();
+		try {
+			final Slot slot = slots.get( key );
+			if ( slot == null ) {
+				return null;
+			}
+			slot.referenced = true;
+			tag = segments[slot.segment].buffer.get( slot.offset );
+			data = read( slot.segment, slot.offset + 1, slot.length - 1 );
+		}
+		finally {
+			readLock.unlock();
+		}
+		return tag == BYTES ? data : SerializationHelper.deserialize( data );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		putIntoCache( key, value );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value) {
+		final byte tag;
+		final byte[] data;
+		if ( value instanceof byte[] ) {
+			tag = BYTES;
+			data = (byte[]) value;
+		}
+		else {
+			tag = SERIALIZED;
+			data = SerializationHelper.serialize( (Serializable) value );
+		}
+		final int length = data.length + 1;
+
+		final Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			slots.remove( key );
+			if ( length > segments[0].buffer.capacity() ) {
+				// too large to ever fit into a segment
+				return;
+			}
+			final Segment segment = allocate( length );
+			final int offset = segment.used;
+			segment.buffer.put( offset, tag );
+			write( segment, offset + 1, data );
+			segment.used += length;
+			final Slot slot = new Slot( key, current, offset, length );
+			segment.slots.add( slot );
+			slots.put( key, slot );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		evictData( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key) {
+		evictData( key );
+	}
+
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return this;
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		evictData();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return slots.containsKey( key );
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		final Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			slots.clear();
+			for ( Segment segment : segments ) {
+				segment.clear();
+			}
+			current = 0;
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final Lock writeLock = lock.writeLock();
+		writeLock.lock();
+		try {
+			// the space of the value is reclaimed along with its segment
+			slots.remove( key );
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void release() {
+		// direct buffers are freed once garbage collected
+		evictData();
+	}
+
+	/**
+	 * The number of values currently stored
+	 */
+	public int getElementCount() {
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return slots.size();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * The size, in bytes, of the values currently stored
+	 */
+	public long getSize() {
+		final Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			long size = 0;
+			for ( Slot slot : slots.values() ) {
+				size += slot.length;
+			}
+			return size;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Find room for a value of the given length, reclaiming segments as needed.
+	 * Called with the write lock held.
+	 */
+	private Segment allocate(int length) {
+		Segment segment = segments[current];
+		// after a full turn the reference bits of all the values have been cleared,
+		// so a value is always found room for within two turns
+		while ( segment.free() < length ) {
+			current = ( current + 1 ) % segments.length;
+			segment = segments[current];
+			reclaim( current, segment );
+		}
+		return segment;
+	}
+
+	/**
+	 * Evict the values of the segment not read since it was last reclaimed, and compact the
+	 * other ones at its start.
+	 */
+	private void reclaim(int index, Segment segment) {
+		final List<Slot> written = segment.slots;
+		segment.slots = new ArrayList<>();
+		segment.used = 0;
+		for ( Slot slot : written ) {
+			if ( slots.get( slot.key ) != slot ) {
+				// removed or overwritten since
+				continue;
+			}
+			if ( !slot.referenced ) {
+				slots.remove( slot.key );
+				continue;
+			}
+			// values are compacted in the order they were written, so only towards the start
+			if ( slot.offset != segment.used ) {
+				write( segment, segment.used, read( index, slot.offset, slot.length ) );
+			}
+			final Slot compacted = new Slot( slot.key, index, segment.used, slot.length );
+			slots.put( slot.key, compacted );
+			segment.slots.add( compacted );
+			segment.used += slot.length;
+		}
+	}
+
+	private byte[] read(int segment, int offset, int length) {
+		final byte[] data = new byte[length];
+		final ByteBuffer view = segments[segment].buffer.duplicate();
+		view.position( offset );
+		view.get( data );
+		return data;
+	}
+
+	private static void write(Segment segment, int offset, byte[] data) {
+		final ByteBuffer view = segment.buffer.duplicate();
+		view.position( offset );
+		view.put( data );
+	}
+
+	private static final class Segment {
+		private final ByteBuffer buffer;
+		private int used;
+		private List<Slot> slots = new ArrayList<>();
+
+		private Segment(int size) {
+			this.buffer = ByteBuffer.allocateDirect( size );
+		}
+
+		private int free() {
+			return buffer.capacity() - used;
+		}
+
+		private void clear() {
+			used = 0;
+			slots = new ArrayList<>();
+		}
+	}
+
+	private static final class Slot {
+		private final Object key;
+		private final int segment;
+		private final int offset;
+		private final int length;
+
+		/**
+		 * Set when read, cleared when the segment is reclaimed: the reads only hold the read lock
+		 */
+		private volatile boolean referenced;
+
+		private Slot(Object key, int segment, int offset, int length) {
+			this.key = key;
+			this.segment = segment;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+}
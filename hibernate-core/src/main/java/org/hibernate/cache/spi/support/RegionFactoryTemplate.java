@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
@@ -13,8 +17,12 @@ import org.hibernate.cache.spi.AbstractRegionFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 /**
  * @author Steve Ebersole
@@ -28,7 +36,11 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyNearCache(
+						createDomainDataStorageAccess( regionConfig, buildingContext ),
+						regionConfig,
+						buildingContext
+				),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
@@ -44,6 +56,64 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		throw new UnsupportedOperationException( "Not implemented by caching provider" );
 	}
 
+	/**
+	 * Wraps the storage access of a domain data region into a {@link NearCacheStorageAccess}
+	 * when a near-cache is configured for the region through
+	 * {@link AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES} and
+	 * {@link AvailableSettings#CACHE_NEAR_CACHE_TTL}.
+	 * <p/>
+	 * As the near-cache does not see the changes made by other nodes, it is only applied without a time to live
+	 * to the regions whose data is cached {@link AccessType#READ_ONLY read-only} or
+	 * {@link AccessType#NONSTRICT_READ_WRITE nonstrict-read-write}: the stricter access types only get a
+	 * near-cache when a positive time to live bounds how long a stale entry can be read.
+	 *
+	 * @return The storage access to use for the region
+	 */
+	protected DomainDataStorageAccess applyNearCache(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final Map properties = buildingContext.getSessionFactory().getProperties();
+		final String regionName = regionConfig.getRegionName();
+		final int maxEntries = ConfigurationHelper.getInt(
+				AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES + '.' + regionName,
+				properties,
+				ConfigurationHelper.getInt( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, properties, 0 )
+		);
+		if ( maxEntries <= 0 ) {
+			return storageAccess;
+		}
+		final String regionTimeToLiveName = AvailableSettings.CACHE_NEAR_CACHE_TTL + '.' + regionName;
+		final long timeToLive = ConfigurationHelper.getLong(
+				properties.containsKey( regionTimeToLiveName )
+						? regionTimeToLiveName
+						: AvailableSettings.CACHE_NEAR_CACHE_TTL,
+				properties,
+				0
+		);
+		if ( timeToLive <= 0 && !isStalenessTolerated( regionConfig ) ) {
+			SecondLevelCacheLogger.INSTANCE.nearCacheRequiresTimeToLive( regionName );
+			return storageAccess;
+		}
+		return new NearCacheStorageAccess( storageAccess, maxEntries, timeToLive );
+	}
+
+	private static boolean isStalenessTolerated(DomainDataRegionConfig regionConfig) {
+		return isStalenessTolerated( regionConfig.getEntityCaching() )
+				&& isStalenessTolerated( regionConfig.getNaturalIdCaching() )
+				&& isStalenessTolerated( regionConfig.getCollectionCaching() );
+	}
+
+	private static boolean isStalenessTolerated(List<? extends DomainDataCachingConfig> cachingConfigs) {
+		for ( DomainDataCachingConfig cachingConfig : cachingConfigs ) {
+			final AccessType accessType = cachingConfig.getAccessType();
+			if ( accessType != AccessType.READ_ONLY && accessType != AccessType.NONSTRICT_READ_WRITE ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public QueryResultsRegion buildQueryResultsRegion(
 			String regionName,
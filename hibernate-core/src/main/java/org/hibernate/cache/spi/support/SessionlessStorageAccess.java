@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+/**
+ * The operations of a {@link DomainDataStorageAccess} which do not need a session, used to apply the
+ * updates completing a transaction once it completed.
+ *
+ * @see DomainDataStorageAccess#getSessionlessAccess()
+ *
+ * @since 5.5
+ */
+public interface SessionlessStorageAccess {
+	/**
+	 * Get an item from the cache.
+	 */
+	Object getFromCache(Object key);
+
+	/**
+	 * Put an item into the cache
+	 */
+	void putIntoCache(Object key, Object value);
+
+	/**
+	 * Remove an item from the cache by key
+	 */
+	void removeFromCache(Object key);
+}
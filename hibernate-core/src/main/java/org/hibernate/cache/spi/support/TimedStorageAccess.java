@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics.Operation;
+
+/**
+ * Records the durations of the operations against the {@link DomainDataStorageAccess} of a
+ * region, on behalf of the data of an access type, into the {@link org.hibernate.stat.Statistics}
+ * when they are enabled.
+ *
+ * @see org.hibernate.stat.CacheRegionStatistics#getLatencyStatistics
+ */
+class TimedStorageAccess implements DomainDataStorageAccess, SessionlessStorageAccess {
+	/**
+	 * The start of the operations whose duration is not recorded
+	 */
+	static final long NOT_TIMED = Long.MIN_VALUE;
+
+	private final DomainDataStorageAccess delegate;
+	private final SessionFactoryImplementor sessionFactory;
+	private final String regionName;
+	private final AccessType accessType;
+
+	TimedStorageAccess(
+			DomainDataStorageAccess delegate,
+			SessionFactoryImplementor sessionFactory,
+			String regionName,
+			AccessType accessType) {
+		this.delegate = delegate;
+		this.sessionFactory = sessionFactory;
+		this.regionName = regionName;
+		this.accessType = accessType;
+	}
+
+	long start() {
+		return sessionFactory.getStatistics().isStatisticsEnabled() ? System.nanoTime() : NOT_TIMED;
+	}
+
+	void completed(Operation operation, long start) {
+		if ( start != NOT_TIMED ) {
+			sessionFactory.getStatistics().cacheOperationCompleted(
+					regionName,
+					accessType,
+					operation,
+					System.nanoTime() - start
+			);
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			return delegate.getFromCache( key, session );
+		}
+		finally {
+			completed( Operation.GET, start );
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			return delegate.getAllFromCache( keys, session );
+		}
+		finally {
+			completed( Operation.GET, start );
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			delegate.putIntoCache( key, value, session );
+		}
+		finally {
+			completed( Operation.PUT, start );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			delegate.putFromLoad( key, value, session );
+		}
+		finally {
+			completed( Operation.PUT, start );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			delegate.removeFromCache( key, session );
+		}
+		finally {
+			completed( Operation.EVICT, start );
+		}
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		final long start = start();
+		try {
+			delegate.clearCache( session );
+		}
+		finally {
+			completed( Operation.EVICT, start );
+		}
+	}
+
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return delegate.getSessionlessAccess() == null ? null : this;
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
+		final long start = start();
+		try {
+			return delegate.getSessionlessAccess().getFromCache( key );
+		}
+		finally {
+			completed( Operation.GET, start );
+		}
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value) {
+		final long start = start();
+		try {
+			delegate.getSessionlessAccess().putIntoCache( key, value );
+		}
+		finally {
+			completed( Operation.PUT, start );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key) {
+		final long start = start();
+		try {
+			delegate.getSessionlessAccess().removeFromCache( key );
+		}
+		finally {
+			completed( Operation.EVICT, start );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		final long start = start();
+		try {
+			delegate.evictData();
+		}
+		finally {
+			completed( Operation.EVICT, start );
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final long start = start();
+		try {
+			delegate.evictData( key );
+		}
+		finally {
+			completed( Operation.EVICT, start );
+		}
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+}
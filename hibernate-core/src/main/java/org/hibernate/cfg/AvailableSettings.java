@@ -762,6 +762,46 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Enables the adaptive sizing of batch fetching: instead of always batching up to the configured size
+	 * ({@link #DEFAULT_BATCH_FETCH_SIZE} or {@link org.hibernate.annotations.BatchSize}), which becomes the
+	 * upper bound, the size used for each entity and collection role is adjusted at runtime from the way
+	 * the sessions initialize the keys queued for batch fetching.
+	 * <p/>
+	 * The default is {@code false}.
+	 *
+	 * @see #BATCH_FETCH_ADAPTIVE_MIN_SIZE
+	 * @since 5.5
+	 */
+	String BATCH_FETCH_ADAPTIVE = "hibernate.batch_fetch.adaptive";
+
+	/**
+	 * The lower bound of the batch sizes chosen by the adaptive batch fetching, which is also the size
+	 * used before anything was observed for a role.
+	 * <p/>
+	 * The default is {@code 2}.
+	 *
+	 * @see #BATCH_FETCH_ADAPTIVE
+	 * @since 5.5
+	 */
+	String BATCH_FETCH_ADAPTIVE_MIN_SIZE = "hibernate.batch_fetch.adaptive.min_size";
+
+	/**
+	 * Enables binding the keys of a batch fetch, whether of entities, collections or
+	 * {@link org.hibernate.Session#byMultipleIds multi-loads}, as a single array parameter
+	 * ({@code ... where id = any(?)}), so that a single SQL statement serves every batch size,
+	 * instead of as many parameters as keys ({@code ... where id in (?, ?, ?)}).
+	 * <p/>
+	 * Only applies if the Dialect {@link org.hibernate.dialect.Dialect#supportsArrayParameterKeyRestriction() supports}
+	 * it, and to single column keys of integral or character types: other keys are batch fetched according to
+	 * {@link #BATCH_FETCH_STYLE}.
+	 * <p/>
+	 * The default is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_FETCH_ARRAY_PARAMETER = "hibernate.batch_fetch.array_parameter";
+
 	/**
 	 * Use <tt>java.io</tt> streams to read / write binary data from / to JDBC
 	 */
@@ -800,6 +840,36 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should JDBC batches of different entity inserts be kept open side by side during a flush?
+	 * <p/>
+	 * By default a batch is executed as soon as a statement for a different entity (or operation) is added,
+	 * so interleaved inserts of parents and children end up in batches of size 1 unless {@link #ORDER_INSERTS}
+	 * manages to group them. When enabled, inserts keep one open {@link java.sql.PreparedStatement} per
+	 * entity and the batches are executed in an order honouring the foreign keys between their tables.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.stat.Statistics#getJdbcBatchRowCount
+	 */
+	String BATCH_STATEMENT_GROUPING = "hibernate.jdbc.batch_statement_grouping";
+
+	/**
+	 * The maximum number of {@link java.sql.PreparedStatement}s a Session keeps open for reuse
+	 * on its JDBC Connection, least recently used first out, once released. Statements are
+	 * reused for the same SQL and result set type, and closed as the Connection gets released.
+	 * <p/>
+	 * Meant for Connection pools and drivers not caching statements themselves. A positive
+	 * value enables the cache.
+	 * <p/>
+	 * The default is {@code 0}, which disables the cache.
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount
+	 */
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -863,6 +933,32 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should the dirty checking of entities which are not enhanced be performed by classes generated by the
+	 * {@link org.hibernate.bytecode.spi.BytecodeProvider}, one per entity?  Such a class compares the properties
+	 * of the most common basic types on their primitive value, and only goes through
+	 * {@link org.hibernate.type.Type#isDirty} for the other properties.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.bytecode.spi.DirtyCheckOptimizer
+	 */
+	String DIRTY_CHECK_OPTIMIZER = "hibernate.bytecode.dirty_check_optimizer";
+
+	/**
+	 * Should the state of entities which are not enhanced be read from JDBC results by classes generated by the
+	 * {@link org.hibernate.bytecode.spi.BytecodeProvider}, one per entity?  Such a class reads the properties of
+	 * the most common basic types by column index, through the getter of the primitive type, and the other
+	 * properties are still read through {@link org.hibernate.type.Type#hydrate}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.bytecode.spi.HydrationOptimizer
+	 */
+	String HYDRATION_OPTIMIZER = "hibernate.bytecode.hydration_optimizer";
+
 	/**
 	 * Configure the global BytecodeProvider implementation to generate class names matching the
 	 * existing naming patterns.
@@ -961,6 +1057,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable ordering of the entity insert, update and delete statements of a flush by the dependency graph
+	 * of the entities, for the purpose of more efficient JDBC batching.
+	 * <p/>
+	 * The actions against each entity are grouped in a single run, and the runs are ordered so that
+	 * referenced entities are inserted and updated first, and deleted last.  Entities involved in a cycle
+	 * keep their original order, without preventing the ordering of the rest of the graph.  This supersedes
+	 * the ordering of {@link #ORDER_INSERTS}; when {@link #ORDER_UPDATES} is also enabled, the updates of each
+	 * entity are additionally ordered by primary key.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String ORDER_BY_DEPENDENCY_GRAPH = "hibernate.order_by_dependency_graph";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1130,6 +1242,82 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * Enables the invalidation of cached query results at the granularity of the rows they are restricted to.
+	 * <p/>
+	 * By default, any change to a table makes all the cached results of the queries using this table stale.
+	 * When enabled, the results of a query restricted to some rows of a single entity by a primary key
+	 * ({@code = :id} or {@code in (:ids)}) or natural id ({@code = :value}) predicate of its where clause
+	 * are only made stale by the changes made to those rows, or by the changes which cannot be attributed
+	 * to rows, such as bulk updates.  The other queries are still invalidated per table.
+	 * <p/>
+	 * Must be set consistently on all the nodes sharing the timestamps region. Disabled by default.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_CACHE_ROW_INVALIDATION = "hibernate.cache.query_cache_row_invalidation";
+
+	/**
+	 * Enables the lazy assembly of the cached results of queries.
+	 * <p/>
+	 * By default, all the rows of cached results are assembled when the query is executed.  When enabled,
+	 * the rows of large results are assembled as they are accessed, and the entities they return are
+	 * loaded by windows of rows.  The results must then be accessed before the session is closed.
+	 * Disabled by default.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_CACHE_LAZY_RESULTS = "hibernate.cache.query_cache_lazy_results";
+
+	/**
+	 * Enables the asynchronous application of the second-level cache updates which complete the transactions:
+	 * the puts of the state of the inserted and updated entities, and the release of the soft locks of the
+	 * updated and deleted entities and collections.
+	 * <p/>
+	 * By default, these updates are applied by the thread completing the transaction, which makes the latency
+	 * of the commits depend on the latency of the cache.  When enabled, they are queued, and applied in order
+	 * by the {@link #ASYNC_EXECUTOR asynchronous executor}; meanwhile, the soft-locked entries are not read from
+	 * the cache.  Does not apply to the
+	 * {@link org.hibernate.cache.spi.access.AccessType#TRANSACTIONAL transactional} access type, nor to the cache
+	 * accesses not supporting {@link org.hibernate.cache.spi.access.SessionlessCompletionAccess updates without a session}.
+	 * Disabled by default.
+	 *
+	 * @see #CACHE_ASYNC_UPDATES_QUEUE_SIZE
+	 * @since 5.5
+	 */
+	String CACHE_ASYNC_UPDATES = "hibernate.cache.async_updates";
+
+	/**
+	 * The maximum number of transactions whose cache updates wait to be applied asynchronously; once
+	 * reached, the updates are applied by the thread completing the transaction. 1024 by default.
+	 *
+	 * @see #CACHE_ASYNC_UPDATES
+	 * @since 5.5
+	 */
+	String CACHE_ASYNC_UPDATES_QUEUE_SIZE = "hibernate.cache.async_updates.queue_size";
+
+	/**
+	 * A comma-separated list of the names of the cached entities whose second-level cache regions are
+	 * preloaded once the {@link org.hibernate.SessionFactory} is built.  The entities are scanned in the
+	 * background by the {@link #ASYNC_EXECUTOR asynchronous executor}, along with the cached collections they own, and
+	 * their natural ids are cached as well.  The progress of the preloading is reported through the
+	 * {@link org.hibernate.stat.Statistics}.  Nothing is preloaded by default.
+	 *
+	 * @see #CACHE_PRELOAD_BATCH_SIZE
+	 * @see org.hibernate.cache.spi.CacheImplementor#preload
+	 * @since 5.5
+	 */
+	String CACHE_PRELOAD = "hibernate.cache.preload";
+
+	/**
+	 * The number of entities read, and put into the cache, before the scanning session is cleared.
+	 * Also used as the JDBC fetch size of the scans.  100 by default.
+	 *
+	 * @see #CACHE_PRELOAD
+	 * @since 5.5
+	 */
+	String CACHE_PRELOAD_BATCH_SIZE = "hibernate.cache.preload.batch_size";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1145,6 +1333,64 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Names the {@link org.hibernate.cache.spi.entry.CacheEntrySerializer} used to store the entity, collection,
+	 * natural id and query result entries into the second-level cache as {@code byte[]}.  Can reference<ul>
+	 *     <li>CacheEntrySerializer instance</li>
+	 *     <li>CacheEntrySerializer implementation {@link Class} reference</li>
+	 *     <li>CacheEntrySerializer implementation class name (FQN)</li>
+	 *     <li>{@code compact}, for the {@link org.hibernate.cache.spi.entry.CompactCacheEntrySerializer}</li>
+	 * </ul>
+	 * <p/>
+	 * Takes precedence over {@link #USE_STRUCTURED_CACHE}.  By default, no serializer is used: the entries
+	 * are handed to the cache provider as they are.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_ENTRY_SERIALIZER = "hibernate.cache.entry_serializer";
+
+	/**
+	 * The maximum number of entries kept by the near-cache, a bounded local tier held in front of the storage
+	 * of each domain data (entity, collection and natural id) region, saving the round-trips to a remote cache.
+	 * Can be set for a single region by appending the name of the region, for example
+	 * {@code hibernate.cache.near_cache.max_entries.com.acme.Customer}.
+	 * <p/>
+	 * Only applies to the caching providers built on {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 * The default is {@code 0}, meaning that no near-cache is used.
+	 * <p/>
+	 * The near-cache does not see the changes made by other nodes: until an entry is evicted or expires, this node
+	 * may read its stale value.  Hence the regions holding read-write or transactional data only get a near-cache
+	 * when {@link #CACHE_NEAR_CACHE_TTL} is positive; read-only and nonstrict-read-write data always can.
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 * @since 5.5
+	 */
+	String CACHE_NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, after which an entry of the near-cache expires, bounding how long this node can
+	 * read an entry changed by another node.  Can be set for a single region by appending the name of the region,
+	 * as for {@link #CACHE_NEAR_CACHE_MAX_ENTRIES}.
+	 * <p/>
+	 * The default is {@code 0}, meaning that the entries only leave the near-cache when evicted or invalidated,
+	 * which is only allowed for the regions holding read-only or nonstrict-read-write data.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_NEAR_CACHE_TTL = "hibernate.cache.near_cache.ttl";
+
+	/**
+	 * The maximum size, in bytes, of the values of each region held off-heap by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}.  Can be set for a single region by
+	 * appending the name of the region, as for {@link #CACHE_NEAR_CACHE_MAX_ENTRIES}.
+	 * <p/>
+	 * The default is {@code 67108864} (64 MB).
+	 *
+	 * @see org.hibernate.cache.spi.support.OffHeapStorageAccess
+	 * @since 5.5
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1250,6 +1496,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The {@link org.hibernate.engine.query.spi.QueryPlanCacheStorageFactory} building the storage of the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}. Accepts an instance, a class or class name,
+	 * or one of the short names:
+	 * <ul>
+	 *     <li>{@code tinylfu} (default): a W-TinyLFU cache whose hits never take a lock</li>
+	 *     <li>{@code lirs}: a segmented {@link org.hibernate.internal.util.collections.BoundedConcurrentHashMap}
+	 *     with LIRS eviction, as used before 5.5</li>
+	 * </ul>
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_PLAN_CACHE_STORAGE = "hibernate.query.plan_cache_storage";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1653,6 +1913,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String STATEMENT_INSPECTOR = "hibernate.session_factory.statement_inspector";
 
+	/**
+	 * Names the {@link java.util.concurrent.Executor} on which the asynchronous operations, such as
+	 * {@link org.hibernate.query.Query#listAsync()}, are executed.  Can reference<ul>
+	 *     <li>Executor instance</li>
+	 *     <li>Executor implementation {@link Class} reference</li>
+	 *     <li>Executor implementation class name (FQN)</li>
+	 * </ul>
+	 * <p/>
+	 * By default, the operations are executed on virtual threads when the JVM supports them, and otherwise
+	 * on a dedicated pool of daemon threads, as many as the available processors, shut down with the
+	 * {@link org.hibernate.SessionFactory}.
+	 *
+	 * @since 5.5
+	 */
+	String ASYNC_EXECUTOR = "hibernate.session_factory.async_executor";
+
 	String ENABLE_LAZY_LOAD_NO_TRANS = "hibernate.enable_lazy_load_no_trans";
 
 	String HQL_BULK_ID_STRATEGY = "hibernate.hql.bulk_id_strategy";
@@ -1911,6 +2187,24 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String CRITERIA_LITERAL_HANDLING_MODE = "hibernate.criteria.literal_handling_mode";
 
+	/**
+	 * Setting to render Criteria queries of the same structure to the same JPQL, so that they share a
+	 * single entry in the query plan cache and are parsed only once, regardless of the literal values
+	 * and parameter names they use.
+	 * <p/>
+	 * When enabled, numeric literals which the {@link org.hibernate.query.criteria.LiteralHandlingMode#AUTO}
+	 * mode would inline are bound as parameters instead, and the named parameters of select queries are rendered under generated
+	 * names; they are still bound and looked up by the name they were given in the criteria.
+	 * Literals in the select and group by clauses are rendered as before, and the
+	 * {@link org.hibernate.query.criteria.LiteralHandlingMode#INLINE} mode is not affected.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 * @see #CRITERIA_LITERAL_HANDLING_MODE
+	 */
+	String CRITERIA_PLAN_CACHE_NORMALIZATION = "hibernate.criteria.plan_cache_normalization";
+
 	/**
 	 * True/false setting indicating whether the value specified for {@link GeneratedValue#generator()}
 	 * should be used as the sequence/table name when no matching {@link javax.persistence.SequenceGenerator}
@@ -2102,4 +2396,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String OMIT_JOIN_OF_SUPERCLASS_TABLES = "hibernate.query.omit_join_of_superclass_tables";
 
+	/**
+	 * Setting to store the entity instances of the persistence context in a compact, open-addressing
+	 * map rather than in a {@link java.util.HashMap}. The compact map allocates no node object per
+	 * managed entity and compares {@code Long} and {@code Integer} identifiers without going through
+	 * the identifier {@link org.hibernate.type.Type}; it is meant for sessions managing a very large
+	 * number of entities, such as batch jobs.  The entries of the managed collections are likewise
+	 * kept in a compact map instead of an {@link org.hibernate.internal.util.collections.IdentityMap}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP = "hibernate.persistence_context.compact_entity_map";
+
 }
@@ -2942,6 +2942,54 @@ public abstract class Dialect implements ConversionContext {
 		return STANDARD_DEFAULT_BATCH_LOAD_SIZING_STRATEGY;
 	}
 
+	/**
+	 * Does this dialect support restricting a key column to the elements of an array
+	 * bound as a single parameter, as in {@code ... where id = any(?)}?
+	 * <p/>
+	 * If so, batch fetching can bind all the keys of a batch at once, using the same SQL
+	 * whatever the number of keys.
+	 *
+	 * @return {@code true} if array parameters are supported in key restrictions
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+	 * @since 5.5
+	 */
+	public boolean supportsArrayParameterKeyRestriction() {
+		return false;
+	}
+
+	/**
+	 * Render the restriction of a key column to the elements of an array parameter.
+	 *
+	 * @param columnName The (qualified) key column name
+	 *
+	 * @return The restriction fragment
+	 *
+	 * @see #supportsArrayParameterKeyRestriction()
+	 * @since 5.5
+	 */
+	public String getArrayParameterKeyRestriction(String columnName) {
+		return columnName + " = any(?)";
+	}
+
+	/**
+	 * Get the name of the element type of the array parameters holding keys of the given
+	 * {@link Types} typecode, as passed to {@link java.sql.Connection#createArrayOf}.
+	 *
+	 * @param code The {@link Types} typecode of the key column
+	 *
+	 * @return The element type name
+	 *
+	 * @see #supportsArrayParameterKeyRestriction()
+	 * @since 5.5
+	 */
+	public String getArrayParameterElementTypeName(int code) {
+		// the array element type does not take a length
+		final String typeName = getTypeName( code );
+		final int parenthesis = typeName.indexOf( '(' );
+		return parenthesis < 0 ? typeName : typeName.substring( 0, parenthesis ).trim();
+	}
+
 	/**
 	 * Does the fetching JDBC statement warning for logging is enabled by default
 	 *
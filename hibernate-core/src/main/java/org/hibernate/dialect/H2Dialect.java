@@ -476,4 +476,9 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayParameterKeyRestriction() {
+		return true;
+	}
+
 }
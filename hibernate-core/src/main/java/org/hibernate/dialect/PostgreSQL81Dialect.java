@@ -648,4 +648,9 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsSelectAliasInGroupByClause() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsArrayParameterKeyRestriction() {
+		return true;
+	}
 }
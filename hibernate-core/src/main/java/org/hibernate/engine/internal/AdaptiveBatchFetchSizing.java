@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Chooses, for each entity name and collection role, the number of keys to batch fetch, among the batch
+ * sizes the loaders are built for (see {@link ArrayHelper#getBatchSizes}), from what the sessions did
+ * with the keys queued by their {@link org.hibernate.engine.spi.BatchFetchQueue}:
+ * <ul>
+ *     <li>a batch filled up to the current size, followed by another batch fetch of the same role in
+ *     the same session, means more round-trips were needed: the next bigger size is used right away;</li>
+ *     <li>once a session is cleared or closed, the next smaller size is used if its largest batch did not
+ *     fill half of the current size, or if less than half of the entities it fetched ahead of need ended up
+ *     being accessed.</li>
+ * </ul>
+ * Every role starts at the smallest size not below {@link org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE_MIN_SIZE},
+ * and never exceeds its configured batch size.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+ */
+public class AdaptiveBatchFetchSizing {
+	private final SessionFactoryImplementor sessionFactory;
+	private final int minSize;
+	private final ConcurrentMap<String, Sizes> entitySizes = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Sizes> collectionSizes = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchFetchSizing(SessionFactoryImplementor sessionFactory, int minSize) {
+		this.sessionFactory = sessionFactory;
+		this.minSize = minSize;
+	}
+
+	/**
+	 * The number of keys to fetch in the next batch of the given entity.
+	 *
+	 * @param entityName The name of the entity
+	 * @param maxBatchSize The configured batch size of the entity
+	 * @param grow Whether the previous batch of the session was full
+	 */
+	public int getEntityBatchSize(String entityName, int maxBatchSize, boolean grow) {
+		final Sizes sizes = sizes( entitySizes, entityName, maxBatchSize );
+		if ( grow && sizes.grow() ) {
+			entityBatchSizeChanged( entityName, sizes );
+		}
+		return sizes.current();
+	}
+
+	/**
+	 * The number of keys to fetch in the next batch of the given collection role.
+	 *
+	 * @param role The collection role
+	 * @param maxBatchSize The configured batch size of the collection
+	 * @param grow Whether the previous batch of the session was full
+	 */
+	public int getCollectionBatchSize(String role, int maxBatchSize, boolean grow) {
+		final Sizes sizes = sizes( collectionSizes, role, maxBatchSize );
+		if ( grow && sizes.grow() ) {
+			collectionBatchSizeChanged( role, sizes );
+		}
+		return sizes.current();
+	}
+
+	/**
+	 * Called when a session is cleared or closed, for each entity it batch fetched.
+	 *
+	 * @param entityName The name of the entity
+	 * @param maxBatchSize The configured batch size of the entity
+	 * @param largestBatch The largest number of keys fetched in a single batch
+	 * @param prefetched The number of entities fetched ahead of being needed
+	 * @param accessed The number of these entities which were accessed afterwards
+	 */
+	public void entityBatchesCompleted(
+			String entityName,
+			int maxBatchSize,
+			int largestBatch,
+			int prefetched,
+			int accessed) {
+		final Sizes sizes = sizes( entitySizes, entityName, maxBatchSize );
+		if ( ( largestBatch * 2 < sizes.current() || accessed * 2 < prefetched ) && sizes.shrink() ) {
+			entityBatchSizeChanged( entityName, sizes );
+		}
+	}
+
+	/**
+	 * Called when a session is cleared or closed, for each collection role it batch fetched.
+	 *
+	 * @param role The collection role
+	 * @param maxBatchSize The configured batch size of the collection
+	 * @param largestBatch The largest number of keys fetched in a single batch
+	 */
+	public void collectionBatchesCompleted(String role, int maxBatchSize, int largestBatch) {
+		final Sizes sizes = sizes( collectionSizes, role, maxBatchSize );
+		if ( largestBatch * 2 < sizes.current() && sizes.shrink() ) {
+			collectionBatchSizeChanged( role, sizes );
+		}
+	}
+
+	private Sizes sizes(ConcurrentMap<String, Sizes> sizesByRole, String role, int maxBatchSize) {
+		return sizesByRole.computeIfAbsent( role, r -> new Sizes( maxBatchSize, minSize ) );
+	}
+
+	private void entityBatchSizeChanged(String entityName, Sizes sizes) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.entityBatchFetchSizeChanged( entityName, sizes.current() );
+		}
+	}
+
+	private void collectionBatchSizeChanged(String role, Sizes sizes) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.collectionBatchFetchSizeChanged( role, sizes.current() );
+		}
+	}
+
+	private static final class Sizes {
+		/**
+		 * The candidate sizes, in decreasing order
+		 */
+		private final int[] batchSizes;
+		private final int smallest;
+		private final AtomicInteger index;
+
+		private Sizes(int maxBatchSize, int minSize) {
+			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
+			int smallest = 0;
+			while ( smallest < batchSizes.length - 1 && batchSizes[smallest + 1] >= minSize ) {
+				smallest++;
+			}
+			this.smallest = smallest;
+			this.index = new AtomicInteger( smallest );
+		}
+
+		private int current() {
+			return batchSizes[index.get()];
+		}
+
+		private boolean grow() {
+			final int current = index.get();
+			return current > 0 && index.compareAndSet( current, current - 1 );
+		}
+
+		private boolean shrink() {
+			final int current = index.get();
+			return current < smallest && index.compareAndSet( current, current + 1 );
+		}
+	}
+}
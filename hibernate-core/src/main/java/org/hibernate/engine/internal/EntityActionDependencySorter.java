@@ -0,0 +1,344 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.action.internal.EntityAction;
+import org.hibernate.action.internal.EntityDeleteAction;
+import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.engine.spi.ExecutableList;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.OneToOneType;
+import org.hibernate.type.Type;
+
+/**
+ * Orders the entity actions of a flush so that the actions against the same entity form a single run,
+ * which can be sent as one JDBC batch, without violating the foreign keys between the entity tables.
+ * <p/>
+ * The actions are grouped by entity name, and a dependency graph is built between these groups from
+ * the associations held by the state of the actions: a group references another one when any of its
+ * actions references an entity of the other group through a many-to-one, a (foreign key holding)
+ * one-to-one or a component, and it is referenced by the entities of a one-to-many collection.
+ * The strongly connected components of this graph are computed with Tarjan's algorithm, which
+ * produces them in topological order:
+ * <ul>
+ *     <li>insert and update runs are executed with the referenced entities first;</li>
+ *     <li>delete runs are executed with the referencing entities first;</li>
+ *     <li>the actions of entities involved in a cycle are kept in the original (cascade) order,
+ *     which is known to be valid, while the rest of the graph is still ordered around them.</li>
+ * </ul>
+ * The computed plan is logged at {@code DEBUG} level.
+ * <p/>
+ * NOTE: this class is not thread-safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ORDER_BY_DEPENDENCY_GRAPH
+ */
+public final class EntityActionDependencySorter<T extends EntityAction> implements ExecutableList.Sorter<T> {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( EntityActionDependencySorter.class );
+
+	private final String actionKind;
+	private final boolean referencedFirst;
+	private final boolean sortRuns;
+	private final Function<T, Object[]> stateAccess;
+
+	private EntityActionDependencySorter(
+			String actionKind,
+			boolean referencedFirst,
+			boolean sortRuns,
+			Function<T, Object[]> stateAccess) {
+		this.actionKind = actionKind;
+		this.referencedFirst = referencedFirst;
+		this.sortRuns = sortRuns;
+		this.stateAccess = stateAccess;
+	}
+
+	/**
+	 * A sorter for the insert actions: the inserts of referenced entities come first.
+	 */
+	public static EntityActionDependencySorter<AbstractEntityInsertAction> forInsertions() {
+		return new EntityActionDependencySorter<>( "insert", true, false, AbstractEntityInsertAction::getState );
+	}
+
+	/**
+	 * A sorter for the update actions: the updates of referenced entities come first.
+	 *
+	 * @param sortRuns Whether the updates of each entity should also be ordered by primary key,
+	 * as per {@link org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}
+	 */
+	public static EntityActionDependencySorter<EntityUpdateAction> forUpdates(boolean sortRuns) {
+		return new EntityActionDependencySorter<>( "update", true, sortRuns, EntityUpdateAction::getState );
+	}
+
+	/**
+	 * A sorter for the delete actions: the deletes of referencing entities come first.
+	 */
+	public static EntityActionDependencySorter<EntityDeleteAction> forDeletions() {
+		return new EntityActionDependencySorter<>( "delete", false, false, EntityDeleteAction::getState );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void sort(List<T> actions) {
+		if ( actions.size() < 2 ) {
+			return;
+		}
+
+		final SharedSessionContractImplementor session = actions.get( 0 ).getSession();
+		final SessionFactoryImplementor factory = session.getFactory();
+
+		// group the actions by entity name, in order of first appearance
+		final Map<String, Group<T>> groups = new LinkedHashMap<>();
+		for ( T action : actions ) {
+			Group<T> group = groups.get( action.getEntityName() );
+			if ( group == null ) {
+				group = new Group<>( action.getPersister() );
+				groups.put( action.getEntityName(), group );
+			}
+			group.actions.add( action );
+			group.collectReferences( stateAccess.apply( action ), session );
+		}
+
+		if ( groups.size() == 1 && !sortRuns ) {
+			return;
+		}
+
+		// a group can be referenced through its own entity name or the name of any of its super-entities
+		final Map<String, List<Group<T>>> groupsByReferenceableName = new LinkedHashMap<>();
+		for ( Group<T> group : groups.values() ) {
+			String entityName = group.persister.getEntityName();
+			while ( entityName != null ) {
+				groupsByReferenceableName.computeIfAbsent( entityName, k -> new ArrayList<>() ).add( group );
+				entityName = factory.getMetamodel().entityPersister( entityName ).getEntityMetamodel().getSuperclass();
+			}
+		}
+
+		for ( Group<T> group : groups.values() ) {
+			for ( String referencedName : group.referencedEntityNames ) {
+				final List<Group<T>> referenced = groupsByReferenceableName.get( referencedName );
+				if ( referenced != null ) {
+					for ( Group<T> target : referenced ) {
+						group.addDependency( target );
+					}
+				}
+			}
+			for ( String referencingName : group.referencingEntityNames ) {
+				final List<Group<T>> referencing = groupsByReferenceableName.get( referencingName );
+				if ( referencing != null ) {
+					for ( Group<T> source : referencing ) {
+						source.addDependency( group );
+					}
+				}
+			}
+		}
+
+		// Tarjan's algorithm completes the components of the referenced groups before the ones of the
+		// groups referencing them
+		final List<List<Group<T>>> components = new Tarjan<T>().components( groups.values() );
+		if ( !referencedFirst ) {
+			Collections.reverse( components );
+		}
+
+		final List<List<T>> runs = new ArrayList<>( components.size() );
+		for ( int i = 0; i < components.size(); i++ ) {
+			for ( Group<T> group : components.get( i ) ) {
+				group.run = i;
+			}
+			runs.add( new ArrayList<>() );
+		}
+		// filling the runs from the original list keeps the original order within each of them,
+		// which is what the actions of a cycle need
+		for ( T action : actions ) {
+			runs.get( groups.get( action.getEntityName() ).run ).add( action );
+		}
+
+		actions.clear();
+		for ( List<T> run : runs ) {
+			if ( sortRuns ) {
+				Collections.sort( (List) run );
+			}
+			actions.addAll( run );
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf( "Ordered %s %s actions by dependency graph: %s", actions.size(), actionKind, plan( components ) );
+		}
+	}
+
+	private static <T extends EntityAction> String plan(List<List<Group<T>>> components) {
+		final StringBuilder plan = new StringBuilder();
+		for ( List<Group<T>> component : components ) {
+			if ( plan.length() > 0 ) {
+				plan.append( " -> " );
+			}
+			if ( component.size() > 1 ) {
+				// a cycle, executed in the original order
+				plan.append( "cycle" );
+			}
+			plan.append( '[' );
+			for ( int i = 0; i < component.size(); i++ ) {
+				final Group<T> group = component.get( i );
+				if ( i > 0 ) {
+					plan.append( ", " );
+				}
+				plan.append( group.persister.getEntityName() ).append( " x" ).append( group.actions.size() );
+			}
+			plan.append( ']' );
+		}
+		return plan.toString();
+	}
+
+	/**
+	 * The actions against one entity, and the entity names their state refers to.
+	 */
+	private static final class Group<T extends EntityAction> {
+		private final EntityPersister persister;
+		private final List<T> actions = new ArrayList<>();
+
+		// entities the rows of this group hold a foreign key to
+		private final Set<String> referencedEntityNames = new LinkedHashSet<>();
+		// entities holding a foreign key to the rows of this group
+		private final Set<String> referencingEntityNames = new LinkedHashSet<>();
+
+		private final Set<Group<T>> dependencies = new LinkedHashSet<>();
+
+		// Tarjan bookkeeping
+		private int index = -1;
+		private int lowLink;
+		private boolean onStack;
+
+		private int run;
+
+		private Group(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		private void addDependency(Group<T> target) {
+			if ( target != this ) {
+				dependencies.add( target );
+			}
+		}
+
+		private void collectReferences(Object[] state, SharedSessionContractImplementor session) {
+			if ( state == null ) {
+				return;
+			}
+			final Type[] propertyTypes = persister.getPropertyTypes();
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] != null ) {
+					collectReferences( propertyTypes[i], state[i], session );
+				}
+			}
+
+			final Type identifierType = persister.getIdentifierType();
+			if ( identifierType.isComponentType() ) {
+				for ( Type subtype : ( (CompositeType) identifierType ).getSubtypes() ) {
+					if ( subtype.isEntityType() ) {
+						referencedEntityNames.add( ( (EntityType) subtype ).getAssociatedEntityName() );
+					}
+				}
+			}
+		}
+
+		private void collectReferences(Type type, Object value, SharedSessionContractImplementor session) {
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				if ( entityType.isOneToOne()
+						&& ( (OneToOneType) entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
+					// the foreign key is held by the other side
+					referencingEntityNames.add( entityType.getAssociatedEntityName() );
+				}
+				else {
+					referencedEntityNames.add( session.bestGuessEntityName( value ) );
+				}
+			}
+			else if ( type.isCollectionType() ) {
+				final CollectionType collectionType = (CollectionType) type;
+				final SessionFactoryImplementor factory = session.getFactory();
+				if ( collectionType.getElementType( factory ).isEntityType()
+						&& !factory.getMetamodel().collectionPersister( collectionType.getRole() ).isManyToMany() ) {
+					referencingEntityNames.add( collectionType.getAssociatedEntityName( factory ) );
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType compositeType = (CompositeType) type;
+				final Type[] subtypes = compositeType.getSubtypes();
+				final Object[] values = compositeType.getPropertyValues( value, session );
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( values[i] != null ) {
+						collectReferences( subtypes[i], values[i], session );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tarjan's strongly connected components algorithm, visiting the groups and their dependencies in
+	 * order of first appearance so that independent groups keep their original order.
+	 */
+	private static final class Tarjan<T extends EntityAction> {
+		private final List<List<Group<T>>> components = new ArrayList<>();
+		private final List<Group<T>> stack = new ArrayList<>();
+		private int index;
+
+		private List<List<Group<T>>> components(Iterable<Group<T>> groups) {
+			for ( Group<T> group : groups ) {
+				if ( group.index < 0 ) {
+					visit( group );
+				}
+			}
+			return components;
+		}
+
+		private void visit(Group<T> group) {
+			group.index = index;
+			group.lowLink = index;
+			index++;
+			stack.add( group );
+			group.onStack = true;
+
+			for ( Group<T> dependency : group.dependencies ) {
+				if ( dependency.index < 0 ) {
+					visit( dependency );
+					group.lowLink = Math.min( group.lowLink, dependency.lowLink );
+				}
+				else if ( dependency.onStack ) {
+					group.lowLink = Math.min( group.lowLink, dependency.index );
+				}
+			}
+
+			if ( group.lowLink == group.index ) {
+				final List<Group<T>> component = new ArrayList<>();
+				Group<T> member;
+				do {
+					member = stack.remove( stack.size() - 1 );
+					member.onStack = false;
+					component.add( 0, member );
+				}
+				while ( member != group );
+				components.add( component );
+			}
+		}
+	}
+}
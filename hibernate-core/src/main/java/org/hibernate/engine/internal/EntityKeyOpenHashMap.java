@@ -0,0 +1,354 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.Type;
+
+/**
+ * A Map of managed entity instances by {@link EntityKey}, specialized for the needs
+ * of {@link StatefulPersistenceContext} when it holds a very large number of entities.
+ * <p/>
+ * Compared to a {@link java.util.HashMap} this uses open addressing with linear probing over
+ * flat arrays, so that no node object is allocated per entry: each mapping costs three array
+ * slots and nothing else. The (cached) hash code of each key is kept in a primitive array so
+ * that probing rarely needs to dereference the keys; when two keys of the same persister have
+ * a {@code Long} or {@code Integer} identifier they are compared on the primitive value
+ * rather than through {@link Type#isEqual}.
+ * <p/>
+ * Removals use backward-shift deletion, so no tombstones accumulate when entities are
+ * evicted. The Map views are provided to honour the (deprecated) {@code getEntitiesByKey()}
+ * contract; they are read-only and allocate an entry object per iterated mapping, so internal
+ * code should rather use {@link #valuesIterator()}.
+ * <p/>
+ * Not thread safe, as for the rest of the persistence context.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP
+ */
+final class EntityKeyOpenHashMap extends AbstractMap<EntityKey, Object> {
+
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private EntityKey[] keys;
+	private Object[] values;
+	private int[] hashes;
+
+	private int size;
+	private int mask;
+	private int resizeThreshold;
+	private int modCount;
+
+	EntityKeyOpenHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 0.75
+		final long required = Math.max( MINIMUM_CAPACITY, (long) expectedSize + ( expectedSize / 3 ) + 1 );
+		if ( required >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) required - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		keys = new EntityKey[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity - ( capacity >>> 2 );
+	}
+
+	/**
+	 * Spreads the bits of the key hash code: entity identifiers are frequently sequential,
+	 * which would otherwise build long clusters in a linear probing table.
+	 */
+	private static int mix(int hashCode) {
+		final int h = hashCode * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private static boolean sameKey(EntityKey stored, EntityKey probe) {
+		if ( stored == probe ) {
+			return true;
+		}
+		final EntityPersister persister = stored.getPersister();
+		if ( persister == probe.getPersister() ) {
+			final Type identifierType = persister.getIdentifierType();
+			final Object storedId = stored.getIdentifier();
+			final Object probeId = probe.getIdentifier();
+			if ( identifierType == LongType.INSTANCE
+					&& storedId instanceof Long
+					&& probeId instanceof Long ) {
+				return ( (Long) storedId ).longValue() == ( (Long) probeId ).longValue();
+			}
+			if ( identifierType == IntegerType.INSTANCE
+					&& storedId instanceof Integer
+					&& probeId instanceof Integer ) {
+				return ( (Integer) storedId ).intValue() == ( (Integer) probeId ).intValue();
+			}
+		}
+		return stored.equals( probe );
+	}
+
+	private int indexOf(EntityKey key) {
+		final int hash = key.hashCode();
+		final EntityKey[] keys = this.keys;
+		final int[] hashes = this.hashes;
+		int index = mix( hash ) & mask;
+		EntityKey candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && sameKey( candidate, key ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final int index = indexOf( (EntityKey) key );
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof EntityKey && indexOf( (EntityKey) key ) >= 0;
+	}
+
+	@Override
+	public Object put(EntityKey key, Object value) {
+		final int hash = key.hashCode();
+		int index = mix( hash ) & mask;
+		EntityKey candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && sameKey( candidate, key ) ) {
+				final Object previous = values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			rehash( keys.length << 1 );
+		}
+		return null;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final int index = indexOf( (EntityKey) key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final Object previous = values[index];
+		removeAt( index );
+		return previous;
+	}
+
+	/**
+	 * Backward-shift deletion: move any following entry of the same cluster which is not
+	 * at its ideal slot into the hole, so that lookups never need tombstones.
+	 */
+	private void removeAt(int index) {
+		int hole = index;
+		int next = ( hole + 1 ) & mask;
+		while ( keys[next] != null ) {
+			final int ideal = mix( hashes[next] ) & mask;
+			// the entry at 'next' can fill the hole unless its ideal slot is cyclically within (hole, next]
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - hole ) & mask ) ) {
+				keys[hole] = keys[next];
+				values[hole] = values[next];
+				hashes[hole] = hashes[next];
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		keys[hole] = null;
+		values[hole] = null;
+		hashes[hole] = 0;
+		size--;
+		modCount++;
+	}
+
+	private void rehash(int newCapacity) {
+		if ( newCapacity > MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Too many managed entities: " + size );
+		}
+		final EntityKey[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( newCapacity );
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final EntityKey key = oldKeys[i];
+			if ( key != null ) {
+				int index = mix( oldHashes[i] ) & mask;
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	/**
+	 * An iterator over the managed entity instances which doesn't allocate per element.
+	 */
+	Iterator<Object> valuesIterator() {
+		return new SlotIterator<Object>() {
+			@Override
+			Object element(int index) {
+				return values[index];
+			}
+		};
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return new AbstractCollection<Object>() {
+			@Override
+			public Iterator<Object> iterator() {
+				return valuesIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<EntityKey> keySet() {
+		return new AbstractSet<EntityKey>() {
+			@Override
+			public Iterator<EntityKey> iterator() {
+				return new SlotIterator<EntityKey>() {
+					@Override
+					EntityKey element(int index) {
+						return keys[index];
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<EntityKey, Object>> entrySet() {
+		return new AbstractSet<Entry<EntityKey, Object>>() {
+			@Override
+			public Iterator<Entry<EntityKey, Object>> iterator() {
+				return new SlotIterator<Entry<EntityKey, Object>>() {
+					@Override
+					Entry<EntityKey, Object> element(int index) {
+						return new SimpleImmutableEntry<>( keys[index], values[index] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final int expectedModCount = modCount;
+		private int nextIndex = -1;
+
+		SlotIterator() {
+			advance();
+		}
+
+		private void advance() {
+			final EntityKey[] keys = EntityKeyOpenHashMap.this.keys;
+			do {
+				nextIndex++;
+			}
+			while ( nextIndex < keys.length && keys[nextIndex] == null );
+		}
+
+		abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < keys.length;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( nextIndex >= keys.length ) {
+				throw new NoSuchElementException();
+			}
+			final E element = element( nextIndex );
+			advance();
+			return element;
+		}
+	}
+}
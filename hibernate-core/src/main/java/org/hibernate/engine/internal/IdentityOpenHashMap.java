@@ -0,0 +1,372 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A Map comparing its keys by identity and iterating in insertion order, used in place of
+ * {@link org.hibernate.internal.util.collections.IdentityMap} for the collection entries of
+ * {@link StatefulPersistenceContext} when the compact maps are enabled.
+ * <p/>
+ * The IdentityMap wraps each key into an identity key held by a {@link java.util.LinkedHashMap}
+ * node, so that it allocates two objects per entry. Instead, the mappings are appended to flat
+ * key/value/hash arrays, which keep the insertion order, and located through an open-addressing
+ * index table with linear probing. A removed mapping leaves a hole in the flat arrays, which is
+ * only reclaimed when they are full; the index table uses backward-shift deletion, so that no
+ * tombstones accumulate there.
+ * <p/>
+ * As for the IdentityMap, the Map views are read-only, and {@link #entryArray()} returns a snapshot
+ * of the mappings which is safe from the modifications made while iterating it.
+ * <p/>
+ * Not thread safe, as for the rest of the persistence context.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP
+ */
+final class IdentityOpenHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	// the mappings, in insertion order: a null key marks a removed mapping
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+	private int end;
+
+	// index + 1 of the mappings in the arrays above, 0 marking a free slot
+	private int[] table;
+	private int mask;
+
+	private int size;
+	private int modCount;
+	private Map.Entry<K, V>[] entryArray;
+
+	IdentityOpenHashMap(int expectedSize) {
+		allocate( Math.max( MINIMUM_CAPACITY, Math.min( expectedSize, MAXIMUM_CAPACITY ) ) );
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		end = 0;
+		// keep the load factor of the index table at or below 0.75
+		final int tableSize = Integer.highestOneBit( capacity + ( capacity / 3 ) ) << 1;
+		table = new int[tableSize];
+		mask = tableSize - 1;
+	}
+
+	/**
+	 * Spreads the bits of the identity hash code, as done by {@link java.util.IdentityHashMap}.
+	 */
+	private static int mix(int hashCode) {
+		final int h = hashCode * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	private int slotOf(Object key) {
+		final Object[] keys = this.keys;
+		final int[] table = this.table;
+		int slot = mix( System.identityHashCode( key ) ) & mask;
+		int entry;
+		while ( ( entry = table[slot] ) != 0 ) {
+			if ( keys[entry - 1] == key ) {
+				return slot;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final int slot = slotOf( key );
+		return slot < 0 ? null : (V) values[table[slot] - 1];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return slotOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		throw new UnsupportedOperationException( "Avoid this operation: does not perform well" );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Null keys are not supported" );
+		}
+		final int hash = System.identityHashCode( key );
+		int slot = mix( hash ) & mask;
+		int entry;
+		while ( ( entry = table[slot] ) != 0 ) {
+			if ( keys[entry - 1] == key ) {
+				final V previous = (V) values[entry - 1];
+				values[entry - 1] = value;
+				entryArray = null;
+				return previous;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		if ( end == keys.length ) {
+			// reclaim the holes left by the removals, and grow if they are not enough
+			rehash( size >= ( keys.length >>> 1 ) ? keys.length << 1 : keys.length );
+			slot = mix( hash ) & mask;
+			while ( table[slot] != 0 ) {
+				slot = ( slot + 1 ) & mask;
+			}
+		}
+		keys[end] = key;
+		values[end] = value;
+		hashes[end] = hash;
+		table[slot] = ++end;
+		size++;
+		modCount++;
+		entryArray = null;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final int slot = slotOf( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final int index = table[slot] - 1;
+		final V previous = (V) values[index];
+		keys[index] = null;
+		values[index] = null;
+		removeSlot( slot );
+		size--;
+		modCount++;
+		entryArray = null;
+		return previous;
+	}
+
+	/**
+	 * Backward-shift deletion: move any following slot of the same cluster which is not
+	 * at its ideal position into the hole, so that lookups never need tombstones.
+	 */
+	private void removeSlot(int slot) {
+		int hole = slot;
+		int next = ( hole + 1 ) & mask;
+		int entry;
+		while ( ( entry = table[next] ) != 0 ) {
+			final int ideal = mix( hashes[entry - 1] ) & mask;
+			// the slot 'next' can fill the hole unless its ideal position is cyclically within (hole, next]
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - hole ) & mask ) ) {
+				table[hole] = entry;
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		table[hole] = 0;
+	}
+
+	private void rehash(int newCapacity) {
+		if ( newCapacity > MAXIMUM_CAPACITY ) {
+			throw new IllegalStateException( "Too many entries: " + size );
+		}
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+		final int oldEnd = end;
+		allocate( newCapacity );
+		for ( int i = 0; i < oldEnd; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null ) {
+				keys[end] = key;
+				values[end] = oldValues[i];
+				hashes[end] = oldHashes[i];
+				int slot = mix( oldHashes[i] ) & mask;
+				while ( table[slot] != 0 ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				table[slot] = ++end;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		if ( end > 0 ) {
+			Arrays.fill( keys, 0, end, null );
+			Arrays.fill( values, 0, end, null );
+			Arrays.fill( table, 0 );
+			end = 0;
+			size = 0;
+			modCount++;
+			entryArray = null;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < end; i++ ) {
+			final Object key = keys[i];
+			if ( key != null ) {
+				action.accept( (K) key, (V) values[i] );
+				if ( modCount != expectedModCount ) {
+					throw new ConcurrentModificationException();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the mappings as an array which is safe from concurrent modification: the map
+	 * may be modified while iterating it.  The array is reused until the map is modified.
+	 */
+	@SuppressWarnings("unchecked")
+	Map.Entry<K, V>[] entryArray() {
+		if ( entryArray == null ) {
+			final Map.Entry<K, V>[] entries = new Map.Entry[size];
+			int i = 0;
+			for ( int index = 0; index < end; index++ ) {
+				final Object key = keys[index];
+				if ( key != null ) {
+					entries[i++] = new SimpleImmutableEntry<>( (K) key, (V) values[index] );
+				}
+			}
+			entryArray = entries;
+		}
+		return entryArray;
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new MappingIterator<V>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(int index) {
+						return (V) values[index];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<K>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new MappingIterator<K>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(int index) {
+						return (K) keys[index];
+					}
+				};
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new MappingIterator<Entry<K, V>>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					Entry<K, V> element(int index) {
+						return new SimpleImmutableEntry<>( (K) keys[index], (V) values[index] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private abstract class MappingIterator<E> implements Iterator<E> {
+		private final int expectedModCount = modCount;
+		private int nextIndex = -1;
+
+		MappingIterator() {
+			advance();
+		}
+
+		private void advance() {
+			do {
+				nextIndex++;
+			}
+			while ( nextIndex < end && keys[nextIndex] == null );
+		}
+
+		abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < end;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( nextIndex >= end ) {
+				throw new NoSuchElementException();
+			}
+			final E element = element( nextIndex );
+			advance();
+			return element;
+		}
+	}
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -250,6 +251,10 @@ public class NaturalIdXrefDelegate {
 
 		// Found in second-level cache, store in session cache
 		final SessionFactoryImplementor factory = session.getFactory();
+		final CacheEntrySerializer serializer = factory.getSessionFactoryOptions().getCacheEntrySerializer();
+		if ( pk != null && serializer != null ) {
+			pk = serializer.deserializeNaturalIdResolution( (byte[]) pk, persister );
+		}
 		final StatisticsImplementor statistics = factory.getStatistics();
 		final boolean statisticsEnabled = statistics.isStatisticsEnabled();
 		if ( pk != null ) {
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import org.hibernate.SessionEventListener;
+import org.hibernate.StatementTracingSessionEventListener;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 
 /**
@@ -19,10 +20,14 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
 public class SessionEventListenerManagerImpl implements SessionEventListenerManager, Serializable {
 
 	private SessionEventListener[] listeners;
+	private StatementTracingSessionEventListener[] tracingListeners;
 
 	public SessionEventListenerManagerImpl(SessionEventListener... initialListener) {
 		//no need for defensive copies until the array is mutated:
 		this.listeners = initialListener;
+		if ( initialListener != null ) {
+			addTracingListeners( initialListener );
+		}
 	}
 
 	@Override
@@ -40,6 +45,30 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 			System.arraycopy( additionalListeners, 0, newlist, existing.length, additionalListeners.length );
 			this.listeners = newlist;
 		}
+		addTracingListeners( additionalListeners );
+	}
+
+	private void addTracingListeners(SessionEventListener[] additionalListeners) {
+		for ( SessionEventListener listener : additionalListeners ) {
+			if ( listener instanceof StatementTracingSessionEventListener ) {
+				final StatementTracingSessionEventListener[] existing = this.tracingListeners;
+				if ( existing == null ) {
+					this.tracingListeners = new StatementTracingSessionEventListener[] {
+							(StatementTracingSessionEventListener) listener
+					};
+				}
+				else {
+					final StatementTracingSessionEventListener[] newlist = Arrays.copyOf( existing, existing.length + 1 );
+					newlist[existing.length] = (StatementTracingSessionEventListener) listener;
+					this.tracingListeners = newlist;
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isStatementTracingEnabled() {
+		return tracingListeners != null;
 	}
 
 	@Override
@@ -163,6 +192,45 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void jdbcStatementExecuted(String sql, long startNanos, long durationNanos, int rowCount) {
+		if ( tracingListeners == null ) {
+			return;
+		}
+
+		for ( StatementTracingSessionEventListener listener : tracingListeners ) {
+			listener.jdbcStatementExecuted( sql, startNanos, durationNanos, rowCount );
+		}
+	}
+
+	@Override
+	public void jdbcBatchExecuted(
+			String sql,
+			String origin,
+			int batchSize,
+			long startNanos,
+			long durationNanos,
+			long rowCount) {
+		if ( tracingListeners == null ) {
+			return;
+		}
+
+		for ( StatementTracingSessionEventListener listener : tracingListeners ) {
+			listener.jdbcBatchExecuted( sql, origin, batchSize, startNanos, durationNanos, rowCount );
+		}
+	}
+
+	@Override
+	public void jdbcRowsFetched(String sql, String origin, int rowCount) {
+		if ( tracingListeners == null ) {
+			return;
+		}
+
+		for ( StatementTracingSessionEventListener listener : tracingListeners ) {
+			listener.jdbcRowsFetched( sql, origin, rowCount );
+		}
+	}
+
 	@Override
 	public void cachePutStart() {
 		if ( listeners == null ) {
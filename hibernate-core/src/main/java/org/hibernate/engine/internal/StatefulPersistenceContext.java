@@ -39,6 +39,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.loading.internal.LoadContexts;
 import org.hibernate.engine.spi.AssociationKey;
@@ -108,7 +109,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	// (either a HashMap or an EntityKeyOpenHashMap, see #createEntitiesByKeyMap)
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -124,7 +126,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
 
 	// Identity map of CollectionEntry instances, by the collection wrapper
-	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
+	// (either an IdentityMap or an IdentityOpenHashMap, see #getOrInitializeCollectionEntries)
+	private Map<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
 	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
@@ -168,6 +171,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.entityEntryContext = new EntityEntryContext( this );
 	}
 
+	private Map<EntityKey, Object> createEntitiesByKeyMap(int expectedSize) {
+		if ( session.getFactory().getSessionFactoryOptions().isCompactEntityMapEnabled() ) {
+			return new EntityKeyOpenHashMap( expectedSize );
+		}
+		return new HashMap<>( expectedSize );
+	}
+
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
 		if ( proxiesByKey == null ) {
 			//noinspection unchecked
@@ -243,7 +253,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		final SharedSessionContractImplementor session = getSession();
 		if ( collectionEntries != null ) {
-			IdentityMap.onEachKey( collectionEntries, k -> k.unsetSession( session ) );
+			collectionEntries.forEach( (k, v) -> k.unsetSession( session ) );
 		}
 
 		arrayHolders = null;
@@ -259,6 +269,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		proxiesByKey = null;
 		nullifiableEntityKeys = null;
 		if ( batchFetchQueue != null ) {
+			batchFetchQueue.batchFetchesCompleted();
 			batchFetchQueue.clear();
 		}
 		// defaultReadOnly is unaffected by clear()
@@ -392,7 +403,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = createEntitiesByKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -775,7 +786,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = createEntitiesByKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -929,9 +940,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 	}
 
-	private IdentityMap<PersistentCollection, CollectionEntry> getOrInitializeCollectionEntries() {
+	private Map<PersistentCollection, CollectionEntry> getOrInitializeCollectionEntries() {
 		if ( this.collectionEntries == null ) {
-			this.collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+			if ( session.getFactory().getSessionFactoryOptions().isCompactEntityMapEnabled() ) {
+				this.collectionEntries = new IdentityOpenHashMap<>( INIT_COLL_SIZE );
+			}
+			else {
+				this.collectionEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+			}
 		}
 		return this.collectionEntries;
 	}
@@ -1044,7 +1060,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( coll == null && collectionEntries != null ) {
 				//it might be an unwrapped collection reference!
 				//try to find a wrapper (slowish)
-				final Iterator<PersistentCollection> wrappers = collectionEntries.keyIterator();
+				final Iterator<PersistentCollection> wrappers = collectionEntries instanceof IdentityMap
+						? ( (IdentityMap<PersistentCollection, CollectionEntry>) collectionEntries ).keyIterator()
+						: collectionEntries.keySet().iterator();
 				while ( wrappers.hasNext() ) {
 					final PersistentCollection pc = wrappers.next();
 					if ( pc.isWrapper( collection ) ) {
@@ -1132,7 +1150,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void forEachCollectionEntry(BiConsumer<PersistentCollection, CollectionEntry> action, boolean concurrent) {
 		if ( collectionEntries != null ) {
 			if ( concurrent ) {
-				for ( Map.Entry<PersistentCollection,CollectionEntry> entry : IdentityMap.concurrentEntries( collectionEntries ) ) {
+				final Map.Entry<PersistentCollection,CollectionEntry>[] entries = collectionEntries instanceof IdentityMap
+						? IdentityMap.concurrentEntries( collectionEntries )
+						: ( (IdentityOpenHashMap<PersistentCollection,CollectionEntry>) collectionEntries ).entryArray();
+				for ( Map.Entry<PersistentCollection,CollectionEntry> entry : entries ) {
 					action.accept( entry.getKey(), entry.getValue() );
 				}
 			}
@@ -1719,7 +1740,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = rtn.createEntitiesByKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -2021,6 +2042,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			final Object naturalIdCacheKey = naturalIdCacheAccessStrategy.generateCacheKey( naturalIdValues, persister, session );
 
 			final SessionFactoryImplementor factory = session.getFactory();
+			final CacheEntrySerializer serializer = factory.getSessionFactoryOptions().getCacheEntrySerializer();
+			final Object cachedId = serializer == null ? id : serializer.serializeNaturalIdResolution( id, persister );
 			final StatisticsImplementor statistics = factory.getStatistics();
 
 			switch ( source ) {
@@ -2032,7 +2055,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					final boolean put = naturalIdCacheAccessStrategy.putFromLoad(
 							session,
 							naturalIdCacheKey,
-							id,
+							cachedId,
 							null
 					);
 
@@ -2046,7 +2069,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					break;
 				}
 				case INSERT: {
-					final boolean put = naturalIdCacheAccessStrategy.insert( session, naturalIdCacheKey, id );
+					final boolean put = naturalIdCacheAccessStrategy.insert( session, naturalIdCacheKey, cachedId );
 					if ( put && statistics.isStatisticsEnabled() ) {
 						statistics.naturalIdCachePut(
 								StatsHelper.INSTANCE.getRootEntityRole( persister ),
@@ -2059,7 +2082,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 								@Override
 								public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
 									if ( success ) {
-										final boolean put = naturalIdCacheAccessStrategy.afterInsert( session, naturalIdCacheKey, id );
+										final boolean put = naturalIdCacheAccessStrategy.afterInsert( session, naturalIdCacheKey, cachedId );
 										if ( put && statistics.isStatisticsEnabled() ) {
 											statistics.naturalIdCachePut(
 													StatsHelper.INSTANCE.getRootEntityRole( persister ),
@@ -2086,7 +2109,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 					naturalIdCacheAccessStrategy.remove( session, previousCacheKey);
 
 					final SoftLock lock = naturalIdCacheAccessStrategy.lockItem( session, naturalIdCacheKey, null );
-					final boolean put = naturalIdCacheAccessStrategy.update( session, naturalIdCacheKey, id );
+					final boolean put = naturalIdCacheAccessStrategy.update( session, naturalIdCacheKey, cachedId );
 					if ( put && statistics.isStatisticsEnabled() ) {
 						statistics.naturalIdCachePut(
 								StatsHelper.INSTANCE.getRootEntityRole( persister ),
@@ -2103,7 +2126,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 										final boolean put = naturalIdCacheAccessStrategy.afterUpdate(
 												session,
 												naturalIdCacheKey,
-												id,
+												cachedId,
 												lock
 										);
 
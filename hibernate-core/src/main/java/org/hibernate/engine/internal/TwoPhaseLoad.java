@@ -364,6 +364,11 @@ public final class TwoPhaseLoad {
 			//mutable property values
 			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
 		}
+		else if ( !session.isEventSource() ) {
+			//no need to take a snapshot either - a stateless
+			//session never dirty checks the entities it loads
+			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
+		}
 		else {
 			//take a snapshot
 			TypeHelper.deepCopy(
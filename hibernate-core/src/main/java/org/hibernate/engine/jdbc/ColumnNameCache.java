@@ -20,6 +20,14 @@ public final class ColumnNameCache {
 
 	private final ConcurrentHashMap<String, Integer> columnNameToIndexCache;
 
+	/**
+	 * Constructs a ColumnNameCache for a number of columns not known yet, e.g. to be shared by
+	 * all the executions of a native query.
+	 */
+	public ColumnNameCache() {
+		this.columnNameToIndexCache = new ConcurrentHashMap<String, Integer>();
+	}
+
 	/**
 	 * Constructs a ColumnNameCache
 	 *
@@ -13,7 +13,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,18 +34,20 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 
 	private static final SqlExceptionHelper SQL_EXCEPTION_HELPER = new SqlExceptionHelper( false );
 
-	private static final Map<ResultSetMethodKey, Method> NAME_TO_INDEX_METHOD_MAPPING;
+	// Keyed by the ResultSet methods themselves, which are the ones handed to the proxy,
+	// to avoid allocating a key per invocation
+	private static final Map<Method, Method> NAME_TO_INDEX_METHOD_MAPPING;
 
 	private final ResultSet rs;
 	private final ColumnNameCache columnNameCache;
 
 	static {
-		Map<ResultSetMethodKey, Method> nameToIndexMethodMapping = new HashMap<>();
+		Map<Method, Method> nameToIndexMethodMapping = new HashMap<>();
 		for ( Method method : ResultSet.class.getDeclaredMethods() ) {
 			if ( isFirstArgColumnLabel( method ) ) {
 				try {
 					nameToIndexMethodMapping.put(
-							new ResultSetMethodKey( method.getName(), method.getParameterTypes() ),
+							method,
 							locateCorrespondingColumnIndexMethod( method )
 					);
 				}
@@ -84,25 +85,27 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		if ( "findColumn".equals( method.getName() ) ) {
-			return findColumn( (String) args[0] );
-		}
-
-		if ( isFirstArgColumnLabel( method ) ) {
-			Method columnIndexMethod = NAME_TO_INDEX_METHOD_MAPPING.get( new ResultSetMethodKey( method.getName(), method.getParameterTypes() ) );
-			if ( columnIndexMethod != null ) {
-				try {
-					final Integer columnIndex = findColumn( (String) args[0] );
-
-					return invokeMethod( columnIndexMethod, buildColumnIndexMethodArgs( args, columnIndex ) );
-				}
-				catch ( SQLException ex ) {
-					final String msg = "Exception getting column index for column: [" + args[0] +
-							"].\nReverting to using: [" + args[0] +
-							"] as first argument for method: [" + method + "]";
-					SQL_EXCEPTION_HELPER.logExceptions( ex, msg );
-				}
+		final Method columnIndexMethod = NAME_TO_INDEX_METHOD_MAPPING.get( method );
+		if ( columnIndexMethod != null ) {
+			final String columnName = (String) args[0];
+			try {
+				final Integer columnIndex = findColumn( columnName );
+
+				// the arguments are allocated by the proxy for this invocation only, so can be reused
+				args[0] = columnIndex;
+				return invokeMethod( columnIndexMethod, args );
 			}
+			catch ( SQLException ex ) {
+				final String msg = "Exception getting column index for column: [" + columnName +
+						"].\nReverting to using: [" + columnName +
+						"] as first argument for method: [" + method + "]";
+				SQL_EXCEPTION_HELPER.logExceptions( ex, msg );
+				// fall back on the column label
+				args[0] = columnName;
+			}
+		}
+		else if ( "findColumn".equals( method.getName() ) ) {
+			return findColumn( (String) args[0] );
 		}
 
 		return invokeMethod( method, args );
@@ -159,13 +162,6 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 		return columnNameMethod.getDeclaringClass().getMethod( columnNameMethod.getName(), actualParameterTypes );
 	}
 
-	private Object[] buildColumnIndexMethodArgs(Object[] incomingArgs, Integer columnIndex) {
-		final Object[] actualArgs = new Object[incomingArgs.length];
-		actualArgs[0] = columnIndex;
-		System.arraycopy( incomingArgs, 1, actualArgs, 1, incomingArgs.length - 1 );
-		return actualArgs;
-	}
-
 	private Object invokeMethod(Method method, Object[] args) throws Throwable {
 		try {
 			return method.invoke( rs, args );
@@ -174,47 +170,4 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 			throw e.getTargetException();
 		}
 	}
-
-	private static class ResultSetMethodKey {
-
-		private String methodName;
-
-		private Class<?>[] parameterTypes;
-
-		public ResultSetMethodKey(String methodName, Class<?>[] parameterTypes) {
-			this.methodName = methodName;
-			this.parameterTypes = parameterTypes;
-		}
-
-		@Override
-		public int hashCode() {
-			final int prime = 31;
-			int result = 1;
-			result = prime * result + methodName.hashCode();
-			result = prime * result + Arrays.hashCode( parameterTypes );
-			return result;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if ( this == obj ) {
-				return true;
-			}
-			if ( obj == null ) {
-				return false;
-			}
-			if ( getClass() != obj.getClass() ) {
-				return false;
-			}
-
-			ResultSetMethodKey other = (ResultSetMethodKey) obj;
-			if ( !methodName.equals( other.methodName ) ) {
-				return false;
-			}
-			if ( !Arrays.equals( parameterTypes, other.parameterTypes ) ) {
-				return false;
-			}
-			return true;
-		}
-	}
 }
@@ -11,11 +11,13 @@ import java.sql.SQLException;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
+import org.hibernate.StatementTracingSessionEventListener;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreMessageLogger;
 
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
 
 /**
@@ -110,18 +112,30 @@ public class BatchingBatch extends AbstractBatchImpl {
 	private void performExecution() {
 		LOG.debugf( "Executing batch size: %s", batchPosition );
 		final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final StatisticsImplementor statistics = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getStatistics();
+		final StatementTracingSessionEventListener tracer = observer.getStatementTracer();
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				final String sql = entry.getKey();
 				try {
 					final PreparedStatement statement = entry.getValue();
-					final int[] rowCounts;
+					final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
+					int[] rowCounts = null;
 					try {
 						observer.jdbcExecuteBatchStart();
 						rowCounts = statement.executeBatch();
 					}
 					finally {
 						observer.jdbcExecuteBatchEnd();
+						if ( tracer != null ) {
+							traceExecution( tracer, sql, rowCounts, traceStartNanos );
+						}
+					}
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.jdbcBatchExecuted( rowCounts.length );
 					}
 					checkRowCounts( rowCounts, statement, sql );
 				}
@@ -142,6 +156,33 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	private void traceExecution(
+			StatementTracingSessionEventListener tracer,
+			String sql,
+			int[] rowCounts,
+			long startNanos) {
+		final long durationNanos = System.nanoTime() - startNanos;
+		final int batchSize;
+		long rowCount = -1;
+		if ( rowCounts == null ) {
+			// the execution failed: every statement of the batch was added once per batch position
+			batchSize = batchPosition;
+		}
+		else {
+			batchSize = rowCounts.length;
+			rowCount = 0;
+			for ( int count : rowCounts ) {
+				if ( count < 0 ) {
+					// Statement.SUCCESS_NO_INFO
+					rowCount = -1;
+					break;
+				}
+				rowCount += count;
+			}
+		}
+		tracer.jdbcBatchExecuted( sql, getKey().toString(), batchSize, startNanos, durationNanos, rowCount );
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps, String statementSQL) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
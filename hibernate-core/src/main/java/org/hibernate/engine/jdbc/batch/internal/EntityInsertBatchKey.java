@@ -0,0 +1,58 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Set;
+
+import org.hibernate.jdbc.Expectation;
+
+/**
+ * The BatchKey of the inserts of an entity, which knows the tables the rows are inserted into and the tables
+ * they may reference through foreign keys.  This is what allows the batches of different entities to stay open
+ * side by side, as long as they are executed in an order honouring those references.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_STATEMENT_GROUPING
+ */
+public class EntityInsertBatchKey extends BasicBatchKey {
+	private final Set<String> tableNames;
+	private final Set<String> referencedTableNames;
+
+	/**
+	 * Constructs an EntityInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param tableNames The tables the entity rows are inserted into
+	 * @param referencedTableNames The tables the inserted rows may hold a foreign key to
+	 */
+	public EntityInsertBatchKey(
+			String comparison,
+			Expectation expectation,
+			Set<String> tableNames,
+			Set<String> referencedTableNames) {
+		super( comparison, expectation );
+		this.tableNames = tableNames;
+		this.referencedTableNames = referencedTableNames;
+	}
+
+	/**
+	 * Could the rows inserted through this batch reference rows inserted through the other one?  If so, the
+	 * statements of the other batch must be executed first.
+	 *
+	 * @param other The key of the other batch
+	 *
+	 * @return {@code true} if this batch must be executed after the other one
+	 */
+	public boolean dependsOn(EntityInsertBatchKey other) {
+		for ( String tableName : other.tableNames ) {
+			if ( referencedTableNames.contains( tableName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
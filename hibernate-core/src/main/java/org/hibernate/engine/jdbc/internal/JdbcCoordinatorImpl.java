@@ -13,18 +13,24 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
+import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.InvalidatableWrapper;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -65,6 +71,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * The batches kept open side by side when {@link org.hibernate.cfg.AvailableSettings#BATCH_STATEMENT_GROUPING}
+	 * is enabled, in the order they have to be executed
+	 */
+	private transient LinkedHashMap<BatchKey, Batch> groupedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -87,7 +99,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				determineStatementCacheSize( owner )
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -104,6 +117,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.jdbcServices = jdbcServices;
 	}
 
+	private static int determineStatementCacheSize(JdbcSessionOwner owner) {
+		final SessionFactoryImplementor sessionFactory = owner.getJdbcSessionContext().getSessionFactory();
+		return sessionFactory == null ? 0 : sessionFactory.getSessionFactoryOptions().getPreparedStatementCacheSize();
+	}
+
 	private JdbcCoordinatorImpl(
 			LogicalConnectionImplementor logicalConnection,
 			boolean isUserSuppliedConnection,
@@ -170,6 +188,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( groupedBatches != null && !groupedBatches.isEmpty() ) {
+				LOG.closingUnreleasedBatch();
+				releaseGroupedBatches();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -179,6 +201,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
+		if ( sessionFactory().getSessionFactoryOptions().isJdbcBatchStatementGroupingEnabled() ) {
+			return getGroupedBatch( key );
+		}
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -192,6 +217,115 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return currentBatch;
 	}
 
+	private Batch getGroupedBatch(BatchKey key) {
+		if ( groupedBatches == null ) {
+			groupedBatches = new LinkedHashMap<>();
+		}
+
+		final Batch batch = groupedBatches.get( key );
+		if ( batch != null && canAddToGroupedBatch( key ) ) {
+			return batch;
+		}
+		if ( batch != null || !canOpenGroupedBatch( key ) ) {
+			executeGroupedBatches();
+		}
+
+		final Batch newBatch = batchBuilder().buildBatch( key, this );
+		newBatch.addObserver(
+				new BatchObserver() {
+					@Override
+					public void batchExplicitlyExecuted() {
+					}
+
+					@Override
+					public void batchImplicitlyExecuted() {
+						// the rows of this batch may reference those of the batches opened before it
+						executeGroupedBatchesBefore( key );
+					}
+				}
+		);
+		groupedBatches.put( key, newBatch );
+		return newBatch;
+	}
+
+	/**
+	 * Statements added to an open batch will be executed before those of all the batches opened after it, which
+	 * is only safe when none of the rows it inserts can reference a row inserted by these later batches.
+	 */
+	private boolean canAddToGroupedBatch(BatchKey key) {
+		boolean after = false;
+		for ( BatchKey openKey : groupedBatches.keySet() ) {
+			if ( after ) {
+				if ( !( key instanceof EntityInsertBatchKey )
+						|| !( openKey instanceof EntityInsertBatchKey )
+						|| ( (EntityInsertBatchKey) key ).dependsOn( (EntityInsertBatchKey) openKey ) ) {
+					return false;
+				}
+			}
+			else if ( openKey.equals( key ) ) {
+				after = true;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Only entity inserts are kept open side by side; any other kind of batch is executed on its own, as when
+	 * batches are not grouped.
+	 */
+	private boolean canOpenGroupedBatch(BatchKey key) {
+		if ( !( key instanceof EntityInsertBatchKey ) ) {
+			return groupedBatches.isEmpty();
+		}
+		for ( BatchKey openKey : groupedBatches.keySet() ) {
+			if ( !( openKey instanceof EntityInsertBatchKey ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void executeGroupedBatches() {
+		final List<Batch> batches = new ArrayList<>( groupedBatches.values() );
+		groupedBatches.clear();
+		executeBatches( batches );
+	}
+
+	private void executeGroupedBatchesBefore(BatchKey key) {
+		final List<Batch> preceding = new ArrayList<>();
+		final Iterator<Map.Entry<BatchKey, Batch>> entries = groupedBatches.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			final Map.Entry<BatchKey, Batch> entry = entries.next();
+			if ( entry.getKey().equals( key ) ) {
+				break;
+			}
+			preceding.add( entry.getValue() );
+			entries.remove();
+		}
+		executeBatches( preceding );
+	}
+
+	private void executeBatches(List<Batch> batches) {
+		try {
+			for ( Batch batch : batches ) {
+				batch.execute();
+			}
+		}
+		finally {
+			for ( Batch batch : batches ) {
+				batch.release();
+			}
+		}
+	}
+
+	private void releaseGroupedBatches() {
+		final List<Batch> batches = new ArrayList<>( groupedBatches.values() );
+		groupedBatches.clear();
+		for ( Batch batch : batches ) {
+			batch.release();
+		}
+	}
+
 	@Override
 	public void executeBatch() {
 		if ( currentBatch != null ) {
@@ -199,6 +333,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			// needed?
 			currentBatch.release();
 		}
+		if ( groupedBatches != null && !groupedBatches.isEmpty() ) {
+			executeGroupedBatches();
+		}
 	}
 
 	@Override
@@ -206,6 +343,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
+		if ( groupedBatches != null && !groupedBatches.isEmpty() ) {
+			releaseGroupedBatches();
+		}
 	}
 
 	private transient StatementPreparer statementPreparer;
@@ -12,6 +12,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import org.hibernate.StatementTracingSessionEventListener;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -50,6 +51,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
 		try {
 			final ResultSet rs;
 			try {
@@ -59,6 +62,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( tracer != null ) {
+					traceExecution( tracer, statement, null, traceStartNanos, -1 );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -83,6 +89,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
 		try {
 			final ResultSet rs;
 			try {
@@ -92,6 +100,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				if ( tracer != null ) {
+					traceExecution( tracer, callableStatement, null, traceStartNanos, -1 );
+				}
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -108,6 +119,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
 		try {
 			final ResultSet rs;
 			try {
@@ -117,6 +130,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				if ( tracer != null ) {
+					traceExecution( tracer, statement, sql, traceStartNanos, -1 );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -133,6 +149,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
 		try {
 			final ResultSet rs;
 			try {
@@ -147,6 +165,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( tracer != null ) {
+					traceExecution( tracer, statement, null, traceStartNanos, -1 );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -163,6 +184,8 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
 		try {
 			final ResultSet rs;
 			try {
@@ -177,6 +200,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				if ( tracer != null ) {
+					traceExecution( tracer, statement, sql, traceStartNanos, -1 );
+				}
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -192,9 +218,13 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
@@ -202,6 +232,9 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			if ( tracer != null ) {
+				traceExecution( tracer, statement, null, traceStartNanos, rowCount );
+			}
 		}
 	}
 
@@ -212,9 +245,13 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final StatementTracingSessionEventListener tracer = statementTracer();
+		final long traceStartNanos = tracer == null ? 0 : System.nanoTime();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
@@ -222,9 +259,30 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			if ( tracer != null ) {
+				traceExecution( tracer, statement, sql, traceStartNanos, rowCount );
+			}
 		}
 	}
 
+	private StatementTracingSessionEventListener statementTracer() {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().getStatementTracer();
+	}
+
+	private void traceExecution(
+			StatementTracingSessionEventListener tracer,
+			Statement statement,
+			String sql,
+			long startNanos,
+			int rowCount) {
+		tracer.jdbcStatementExecuted(
+				sql == null ? jdbcCoordinator.getLogicalConnection().getResourceRegistry().getSql( statement ) : sql,
+				startNanos,
+				System.nanoTime() - startNanos,
+				rowCount
+		);
+	}
+
 	private void postExtract(ResultSet rs, Statement st) {
 		if ( rs != null ) {
 			jdbcCoordinator.getResourceRegistry().register( rs, st );
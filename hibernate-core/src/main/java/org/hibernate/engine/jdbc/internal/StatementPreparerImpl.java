@@ -20,6 +20,7 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of StatementPreparer
@@ -81,8 +82,17 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
+	@Override
+	public PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		if ( !settings().isJdbcBatchStatementGroupingEnabled() ) {
+			jdbcCoordinator.executeBatch();
+		}
+		// otherwise the JdbcCoordinator takes care of executing the open batches in order
+		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
+	}
+
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -131,7 +141,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable, scrollMode.toResultSetType() ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -142,7 +152,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, isCallable, ResultSet.TYPE_FORWARD_ONLY ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -156,28 +166,54 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean cacheable;
+		private final boolean isCallable;
+		private final int resultSetType;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false, false, ResultSet.TYPE_FORWARD_ONLY );
+		}
+
+		/**
+		 * Constructor for the statements which may be reused from the statement cache, all read-only
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean isCallable, int resultSetType) {
+			this( incomingSql, settings().getPreparedStatementCacheSize() > 0, isCallable, resultSetType );
+		}
+
+		private StatementPreparationTemplate(String incomingSql, boolean cacheable, boolean isCallable, int resultSetType) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.cacheable = cacheable;
+			this.isCallable = isCallable;
+			this.resultSetType = resultSetType;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
-				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
+				PreparedStatement preparedStatement = cacheable ? getCachedStatement() : null;
+				if ( preparedStatement != null ) {
 					setStatementTimeout( preparedStatement );
 				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				else {
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						setStatementTimeout( preparedStatement );
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
+					register( preparedStatement );
+				}
+				if ( observer.getStatementTracer() != null ) {
+					jdbcCoordinator.getResourceRegistry().registerSql( preparedStatement, sql );
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -189,8 +225,37 @@ class StatementPreparerImpl implements StatementPreparer {
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		private PreparedStatement getCachedStatement() {
+			final PreparedStatement cachedStatement = jdbcCoordinator.getResourceRegistry()
+					.getCachedStatement( sql, isCallable, resultSetType, ResultSet.CONCUR_READ_ONLY );
+			final StatisticsImplementor statistics = jdbcCoordinator.sessionFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( cachedStatement != null ) {
+					statistics.preparedStatementCacheHit();
+				}
+				else {
+					statistics.preparedStatementCacheMiss();
+				}
+			}
+			return cachedStatement;
+		}
+
+		private void register(PreparedStatement preparedStatement) {
+			if ( cacheable ) {
+				jdbcCoordinator.getResourceRegistry().registerCacheable(
+						preparedStatement,
+						sql,
+						isCallable,
+						resultSetType,
+						ResultSet.CONCUR_READ_ONLY
+				);
+			}
+			else {
+				jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
+			}
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
@@ -203,8 +268,8 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, boolean isCallable, int resultSetType) {
+			super( sql, isCallable, resultSetType );
 		}
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
@@ -44,6 +44,23 @@ public interface StatementPreparer {
 	 */
 	public PreparedStatement prepareStatement(String sql, boolean isCallable);
 
+	/**
+	 * Prepare a statement which is to be added to a JDBC {@link org.hibernate.engine.jdbc.batch.spi.Batch}.
+	 * <p/>
+	 * Unlike {@link #prepareStatement(String, boolean)}, implementations may leave the pending batches unexecuted
+	 * when batches are kept open side by side; by default this is the same as {@link #prepareStatement(String, boolean)}.
+	 *
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 *
+	 * @return the prepared statement
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_STATEMENT_GROUPING
+	 */
+	default PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		return prepareStatement( sql, isCallable );
+	}
+
 	/**
 	 * Prepare an INSERT statement, specifying how auto-generated (by the database) keys should be handled.  Really this
 	 * is a boolean, but JDBC opted to define it instead using 2 int constants:<ul>
@@ -8,7 +8,10 @@ package org.hibernate.engine.loading.internal;
 
 import java.sql.ResultSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.internal.CoreMessageLogger;
 
@@ -26,6 +29,7 @@ public class EntityLoadContext {
 	private final ResultSet resultSet;
 	// todo : need map? the prob is a proper key, right?
 	private final List hydratingEntities = new ArrayList( 20 );
+	private Map<String[][], int[]> hydrationColumnIndexes;
 
 	public EntityLoadContext(LoadContexts loadContexts, ResultSet resultSet) {
 		this.loadContexts = loadContexts;
@@ -37,6 +41,45 @@ public class EntityLoadContext {
 			LOG.hydratingEntitiesCount( hydratingEntities.size() );
 		}
 		hydratingEntities.clear();
+		hydrationColumnIndexes = null;
+	}
+
+	/**
+	 * Get the indexes of the columns read by the hydration optimizer of an entity persister, as resolved against
+	 * this result set by {@link #registerHydrationColumnIndexes}.
+	 *
+	 * @param suffixedPropertyColumns The aliases of the columns of the entity properties
+	 *
+	 * @return The column indexes, or {@code null} if they were not resolved yet
+	 */
+	public int[] getHydrationColumnIndexes(String[][] suffixedPropertyColumns) {
+		if ( hydrationColumnIndexes == null ) {
+			return null;
+		}
+		final int[] columnIndexes = hydrationColumnIndexes.get( suffixedPropertyColumns );
+		if ( columnIndexes != null ) {
+			return columnIndexes;
+		}
+		// the aliases of subclass properties are built anew for each row
+		for ( Map.Entry<String[][], int[]> entry : hydrationColumnIndexes.entrySet() ) {
+			if ( Arrays.deepEquals( entry.getKey(), suffixedPropertyColumns ) ) {
+				return entry.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Register the indexes of the columns read by the hydration optimizer of an entity persister.
+	 *
+	 * @param suffixedPropertyColumns The aliases of the columns of the entity properties
+	 * @param columnIndexes The indexes of these columns in this result set
+	 */
+	public void registerHydrationColumnIndexes(String[][] suffixedPropertyColumns, int[] columnIndexes) {
+		if ( hydrationColumnIndexes == null ) {
+			hydrationColumnIndexes = new IdentityHashMap<>( 8 );
+		}
+		hydrationColumnIndexes.put( suffixedPropertyColumns, columnIndexes );
 	}
 
 
@@ -78,11 +78,24 @@ public class LoadContexts {
 	public void cleanup(ResultSet resultSet) {
 		if ( collectionLoadContexts != null ) {
 			final CollectionLoadContext collectionLoadContext = collectionLoadContexts.remove( resultSet );
-			collectionLoadContext.cleanup();
+			if ( collectionLoadContext != null ) {
+				collectionLoadContext.cleanup();
+			}
 		}
+		cleanupEntityLoadContext( resultSet );
+	}
+
+	/**
+	 * Release the entity load context of the given result set, once the entities it contains have been read.
+	 *
+	 * @param resultSet The result set for which it is ok to release the entity load context.
+	 */
+	public void cleanupEntityLoadContext(ResultSet resultSet) {
 		if ( entityLoadContexts != null ) {
 			final EntityLoadContext entityLoadContext = entityLoadContexts.remove( resultSet );
-			entityLoadContext.cleanup();
+			if ( entityLoadContext != null ) {
+				entityLoadContext.cleanup();
+			}
 		}
 	}
 
@@ -268,13 +281,13 @@ public class LoadContexts {
 	// 	* currently, not yet used...
 
 	/**
-	 * Currently unused
+	 * Get the {@link EntityLoadContext} associated with the given
+	 * {@link ResultSet}, creating one if needed.
 	 *
 	 * @param resultSet The result set
 	 *
 	 * @return The entity load context
 	 */
-	@SuppressWarnings( {"UnusedDeclaration"})
 	public EntityLoadContext getEntityLoadContext(ResultSet resultSet) {
 		EntityLoadContext context = null;
 		if ( entityLoadContexts == null ) {
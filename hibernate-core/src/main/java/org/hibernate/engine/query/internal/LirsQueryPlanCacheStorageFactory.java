@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.query.spi.QueryPlanCacheStorage;
+import org.hibernate.engine.query.spi.QueryPlanCacheStorageFactory;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * A {@link QueryPlanCacheStorageFactory} building storages on {@link BoundedConcurrentHashMap}
+ * with the LIRS eviction policy, which was the only option before 5.5.
+ */
+public class LirsQueryPlanCacheStorageFactory implements QueryPlanCacheStorageFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final LirsQueryPlanCacheStorageFactory INSTANCE = new LirsQueryPlanCacheStorageFactory();
+
+	public static final String SHORT_NAME = "lirs";
+
+	@Override
+	public <K, V> QueryPlanCacheStorage<K, V> buildStorage(int maxSize, EvictionListener evictionListener) {
+		final BoundedConcurrentHashMap<K, V> map = new BoundedConcurrentHashMap<>(
+				maxSize,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				new BoundedConcurrentHashMap.EvictionListener<K, V>() {
+					@Override
+					public void onEntryEviction(Map<K, V> evicted) {
+						evictionListener.onEviction( evicted.size() );
+					}
+
+					@Override
+					public void onEntryChosenForEviction(V internalCacheEntry) {
+					}
+				}
+		);
+		return new Storage<>( map );
+	}
+
+	private static class Storage<K, V> implements QueryPlanCacheStorage<K, V> {
+		private final BoundedConcurrentHashMap<K, V> map;
+
+		Storage(BoundedConcurrentHashMap<K, V> map) {
+			this.map = map;
+		}
+
+		@Override
+		public V get(K key) {
+			return map.get( key );
+		}
+
+		@Override
+		public V putIfAbsent(K key, V value) {
+			return map.putIfAbsent( key, value );
+		}
+
+		@Override
+		public int size() {
+			return map.size();
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+	}
+}
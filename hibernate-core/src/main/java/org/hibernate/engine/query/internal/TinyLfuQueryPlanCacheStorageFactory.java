@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.internal;
+
+import java.util.function.Function;
+
+import org.hibernate.engine.query.spi.QueryPlanCacheStorage;
+import org.hibernate.engine.query.spi.QueryPlanCacheStorageFactory;
+import org.hibernate.internal.util.collections.ConcurrentTinyLfuCache;
+
+/**
+ * The default {@link QueryPlanCacheStorageFactory}, building storages on {@link ConcurrentTinyLfuCache}:
+ * cache hits never take a lock, and the W-TinyLFU policy keeps frequently used plans in the cache
+ * even when scanned by a burst of one-off queries.
+ */
+public class TinyLfuQueryPlanCacheStorageFactory implements QueryPlanCacheStorageFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final TinyLfuQueryPlanCacheStorageFactory INSTANCE = new TinyLfuQueryPlanCacheStorageFactory();
+
+	public static final String SHORT_NAME = "tinylfu";
+
+	@Override
+	public <K, V> QueryPlanCacheStorage<K, V> buildStorage(int maxSize, EvictionListener evictionListener) {
+		return new Storage<>( new ConcurrentTinyLfuCache<>( maxSize, (k, v) -> evictionListener.onEviction( 1 ) ) );
+	}
+
+	private static class Storage<K, V> implements QueryPlanCacheStorage<K, V> {
+		private final ConcurrentTinyLfuCache<K, V> cache;
+
+		Storage(ConcurrentTinyLfuCache<K, V> cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public V get(K key) {
+			return cache.get( key );
+		}
+
+		@Override
+		public V putIfAbsent(K key, V value) {
+			return cache.putIfAbsent( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return cache.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public int size() {
+			return cache.size();
+		}
+
+		@Override
+		public void clear() {
+			cache.clear();
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.query.spi;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,13 +20,15 @@ import java.util.concurrent.TimeUnit;
 import org.hibernate.Filter;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.engine.query.internal.TinyLfuQueryPlanCacheStorageFactory;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.ParameterMetadata;
@@ -36,6 +40,7 @@ import org.hibernate.stat.spi.StatisticsImplementor;
  *
  * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_STORAGE
  *
  * @author Steve Ebersole
  */
@@ -59,10 +64,15 @@ public class QueryPlanCache implements Serializable {
 	private final SessionFactoryImplementor factory;
 	private QueryPlanCreator queryPlanCreator;
 
+	private final int maxQueryPlanCount;
+	private final int maxParameterMetadataCount;
+
 	/**
 	 * the cache of the actual plans...
+	 * <p/>
+	 * Neither storage is serializable: they are rebuilt empty on deserialization.
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
+	private transient QueryPlanCacheStorage<Object, Object> queryPlanCache;
 
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
@@ -72,7 +82,7 @@ public class QueryPlanCache implements Serializable {
 	 * Used solely for caching param metadata for native-sql queries, see {@link #getSQLParameterMetadata} for a
 	 * discussion as to why...
 	 */
-	private final BoundedConcurrentHashMap<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
+	private transient QueryPlanCacheStorage<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
 
 
 	private NativeQueryInterpreter nativeQueryInterpreter;
@@ -109,17 +119,40 @@ public class QueryPlanCache implements Serializable {
 					DEFAULT_QUERY_PLAN_MAX_COUNT
 			);
 		}
+		this.maxQueryPlanCount = maxQueryPlanCount;
+		this.maxParameterMetadataCount = maxParameterMetadataCount;
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		parameterMetadataCache = new BoundedConcurrentHashMap<>(
-				maxParameterMetadataCount,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
-		);
+		buildStorage();
 
 		nativeQueryInterpreter = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 	}
 
+	private void buildStorage() {
+		final QueryPlanCacheStorageFactory storageFactory = factory.getServiceRegistry()
+				.getService( StrategySelector.class )
+				.resolveDefaultableStrategy(
+						QueryPlanCacheStorageFactory.class,
+						factory.getProperties().get( AvailableSettings.QUERY_PLAN_CACHE_STORAGE ),
+						TinyLfuQueryPlanCacheStorageFactory.INSTANCE
+				);
+		LOG.debugf( "Using query plan cache storage [%s]", storageFactory );
+
+		queryPlanCache = storageFactory.buildStorage( maxQueryPlanCount, this::queryPlansEvicted );
+		parameterMetadataCache = storageFactory.buildStorage( maxParameterMetadataCount, count -> {} );
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		buildStorage();
+	}
+
+	private void queryPlansEvicted(int count) {
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( count );
+		}
+	}
+
 	/**
 	 * Obtain the parameter metadata for given native-sql query.
 	 * <p/>
@@ -242,7 +275,7 @@ public class QueryPlanCache implements Serializable {
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
 	 * <p>
-	 * Note that depending on the cache strategy implementation chosen, clearing the cache might not reclaim all the
+	 * Note that depending on the cache storage implementation chosen, clearing the cache might not reclaim all the
 	 * memory.
 	 * <p>
 	 * Typically, when using LIRS, clearing the cache only invalidates the entries but the outdated entries are kept in
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.spi;
+
+import java.util.function.Function;
+
+/**
+ * The bounded, concurrent storage backing the {@link QueryPlanCache} (both the query plans
+ * and the native query parameter metadata).
+ * <p/>
+ * Implementations must be safe for concurrent use; hits are expected to vastly outnumber
+ * misses, so reads should be as cheap as possible.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ *
+ * @see QueryPlanCacheStorageFactory
+ */
+public interface QueryPlanCacheStorage<K, V> {
+	/**
+	 * Returns the cached value for the given key, or {@code null} if there is none.
+	 */
+	V get(K key);
+
+	/**
+	 * Caches the value unless a value is already cached for the key.
+	 *
+	 * @return the value already cached, or {@code null} if the given value was stored
+	 */
+	V putIfAbsent(K key, V value);
+
+	/**
+	 * Returns the cached value for the given key, computing and caching it if there is none.
+	 * The mapping function might be invoked concurrently for the same key.
+	 */
+	default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final V computed = mappingFunction.apply( key );
+		final V existing = putIfAbsent( key, computed );
+		return existing == null ? computed : existing;
+	}
+
+	/**
+	 * The number of entries currently cached.
+	 */
+	int size();
+
+	/**
+	 * Removes all entries.
+	 */
+	void clear();
+}
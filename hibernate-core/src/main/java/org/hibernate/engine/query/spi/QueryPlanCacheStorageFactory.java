@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.spi;
+
+/**
+ * Builds the {@link QueryPlanCacheStorage} instances used by the {@link QueryPlanCache}.
+ * <p/>
+ * Selected through the {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_STORAGE} setting,
+ * using either a short name ({@code tinylfu}, the default, or {@code lirs}), the name of an
+ * implementation class or an instance.
+ */
+public interface QueryPlanCacheStorageFactory {
+	/**
+	 * Build a new storage.
+	 *
+	 * @param maxSize The maximum number of entries to keep
+	 * @param evictionListener To be notified of every entry evicted to honour the maximum size
+	 *
+	 * @return The storage
+	 */
+	<K, V> QueryPlanCacheStorage<K, V> buildStorage(int maxSize, EvictionListener evictionListener);
+
+	/**
+	 * Callback for entries being evicted from a storage.
+	 */
+	@FunctionalInterface
+	interface EvictionListener {
+		void onEviction(int count);
+	}
+}
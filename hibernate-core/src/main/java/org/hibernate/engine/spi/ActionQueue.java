@@ -11,6 +11,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -30,6 +31,8 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.DelayedPostInsertIdentifier;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,10 +45,13 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QuerySpacesHelper;
+import org.hibernate.engine.internal.EntityActionDependencySorter;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -126,7 +132,12 @@ public class ActionQueue {
 						return instance.insertions;
 					}
 					ExecutableList<AbstractEntityInsertAction> init(ActionQueue instance) {
-						if ( instance.isOrderInsertsEnabled() ) {
+						if ( instance.isOrderByDependencyGraphEnabled() ) {
+							return instance.insertions = new ExecutableList<AbstractEntityInsertAction>(
+									EntityActionDependencySorter.forInsertions()
+							);
+						}
+						else if ( instance.isOrderInsertsEnabled() ) {
 							return instance.insertions = new ExecutableList<AbstractEntityInsertAction>(
 									new InsertActionSorter()
 							);
@@ -146,6 +157,11 @@ public class ActionQueue {
 						return instance.updates;
 					}
 					ExecutableList<EntityUpdateAction> init(ActionQueue instance) {
+						if ( instance.isOrderByDependencyGraphEnabled() ) {
+							return instance.updates = new ExecutableList<EntityUpdateAction>(
+									EntityActionDependencySorter.forUpdates( instance.isOrderUpdatesEnabled() )
+							);
+						}
 						return instance.updates = new ExecutableList<EntityUpdateAction>(
 								instance.isOrderUpdatesEnabled()
 						);
@@ -211,7 +227,12 @@ public class ActionQueue {
 						return instance.deletions;
 					}
 					ExecutableList<EntityDeleteAction> init(ActionQueue instance) {
-						// EntityDeleteAction executables never require sorting.
+						if ( instance.isOrderByDependencyGraphEnabled() ) {
+							return instance.deletions = new ExecutableList<EntityDeleteAction>(
+									EntityActionDependencySorter.forDeletions()
+							);
+						}
+						// Unless ordered by dependency graph, EntityDeleteAction executables never require sorting.
 						return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
 					}
 				}
@@ -397,7 +418,14 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheRowInvalidationEnabled() ) {
+				final Set<String> timestampSpaces = new HashSet<>();
+				addRowTimestampSpaces( executable, timestampSpaces );
+				invalidateSpaces( timestampSpaces.toArray( new String[timestampSpaces.size()] ) );
+			}
+			else {
+				invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -624,8 +652,17 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				if ( session.getFactory().getSessionFactoryOptions().isQueryCacheRowInvalidationEnabled() ) {
+					final Set<String> timestampSpaces = new HashSet<>();
+					for ( E e : list ) {
+						addRowTimestampSpaces( e, timestampSpaces );
+					}
+					invalidateSpaces( convertTimestampSpaces( timestampSpaces ) );
+				}
+				else {
+					Set propertySpaces = list.getQuerySpaces();
+					invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				}
 			}
 		}
 
@@ -637,6 +674,88 @@ public class ActionQueue {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
 
+	/**
+	 * Collects the timestamp spaces to invalidate for an executable when the row invalidation of the
+	 * query cache is enabled: its property spaces, along with the spaces of the identifier and natural id
+	 * of the row changed by an entity action, or else the unattributed spaces.
+	 *
+	 * @see QuerySpacesHelper#ROW_STRIPES
+	 */
+	private static void addRowTimestampSpaces(Executable executable, Set<String> timestampSpaces) {
+		final String[] spaces = convertTimestampSpaces( executable.getPropertySpaces() );
+		Collections.addAll( timestampSpaces, spaces );
+
+		final QuerySpacesHelper helper = QuerySpacesHelper.INSTANCE;
+		if ( executable instanceof EntityAction ) {
+			final EntityAction action = (EntityAction) executable;
+			final EntityPersister persister = action.getPersister();
+			final Serializable id = action.getId();
+			final List<Object[]> naturalIdValues = getNaturalIdentifierValues( action );
+			if ( id != null && !( id instanceof DelayedPostInsertIdentifier ) && naturalIdValues != null ) {
+				final int identifierHash = helper.identifierHash( id, persister );
+				for ( String space : spaces ) {
+					timestampSpaces.add( helper.identifierSpace( space, identifierHash ) );
+					for ( Object[] values : naturalIdValues ) {
+						timestampSpaces.add(
+								helper.naturalIdentifierSpace( space, helper.naturalIdentifierHash( values, persister ) )
+						);
+					}
+				}
+				return;
+			}
+		}
+
+		for ( String space : spaces ) {
+			timestampSpaces.add( helper.unattributedSpace( space ) );
+		}
+	}
+
+	/**
+	 * The natural id values of the row changed by an entity action, both before and after an update
+	 * changing them, or {@code null} if they are not known.
+	 */
+	private static List<Object[]> getNaturalIdentifierValues(EntityAction action) {
+		final EntityPersister persister = action.getPersister();
+		if ( !persister.hasNaturalIdentifier() ) {
+			return Collections.emptyList();
+		}
+
+		final Object[] state;
+		Object[] previousState = null;
+		if ( action instanceof AbstractEntityInsertAction ) {
+			state = ( (AbstractEntityInsertAction) action ).getState();
+		}
+		else if ( action instanceof EntityUpdateAction ) {
+			state = ( (EntityUpdateAction) action ).getState();
+			if ( !persister.getEntityMetamodel().hasImmutableNaturalId() ) {
+				previousState = ( (EntityUpdateAction) action ).getPreviousState();
+				if ( previousState == null ) {
+					return null;
+				}
+			}
+		}
+		else if ( action instanceof EntityDeleteAction ) {
+			state = ( (EntityDeleteAction) action ).getState();
+		}
+		else {
+			return null;
+		}
+		if ( state == null ) {
+			return null;
+		}
+
+		final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		final List<Object[]> naturalIdValues = new ArrayList<>( 2 );
+		for ( Object[] aState : previousState == null ? new Object[][] { state } : new Object[][] { state, previousState } ) {
+			final Object[] values = new Object[naturalIdProperties.length];
+			for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+				values[i] = aState[naturalIdProperties[i]];
+			}
+			naturalIdValues.add( values );
+		}
+		return naturalIdValues;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -774,13 +893,17 @@ public class ActionQueue {
 	}
 
 	public void sortActions() {
-		if ( isOrderUpdatesEnabled() && updates != null ) {
-			// sort the updates by pk
+		final boolean orderByDependencyGraph = isOrderByDependencyGraphEnabled();
+		if ( ( orderByDependencyGraph || isOrderUpdatesEnabled() ) && updates != null ) {
+			// sort the updates by pk, or by dependency graph
 			updates.sort();
 		}
-		if ( isOrderInsertsEnabled() && insertions != null ) {
+		if ( ( orderByDependencyGraph || isOrderInsertsEnabled() ) && insertions != null ) {
 			insertions.sort();
 		}
+		if ( orderByDependencyGraph && deletions != null ) {
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -791,6 +914,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isOrderByDependencyGraphEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isOrderByDependencyGraphEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -7,18 +7,26 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.EntityMode;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.AdaptiveBatchFetchSizing;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
@@ -59,6 +67,18 @@ public class BatchFetchQueue {
 	 */
 	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections;
 
+	/**
+	 * Chooses the batch sizes, when they are adaptive.
+	 */
+	private final AdaptiveBatchFetchSizing adaptiveSizing;
+
+	/**
+	 * The batch fetches of each entity and collection role since the context was last cleared, when the batch
+	 * sizes are adaptive.  Unlike the keys, they are kept after a flush.
+	 */
+	private Map<String, BatchFetches> entityBatchFetches;
+	private Map<String, BatchFetches> collectionBatchFetches;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -66,6 +86,7 @@ public class BatchFetchQueue {
 	 */
 	public BatchFetchQueue(PersistenceContext context) {
 		this.context = context;
+		this.adaptiveSizing = context.getSession().getFactory().getFastSessionServices().adaptiveBatchFetchSizing;
 	}
 
 	/**
@@ -79,6 +100,34 @@ public class BatchFetchQueue {
 		subselectsByEntityKey = null;
 	}
 
+	/**
+	 * Reports the batch fetches done since the context was last cleared to the adaptive batch sizing, if any.
+	 * <p/>
+	 * Called when clearing the session, including on close.
+	 */
+	public void batchFetchesCompleted() {
+		if ( entityBatchFetches != null ) {
+			for ( Entry<String, BatchFetches> entry : entityBatchFetches.entrySet() ) {
+				final BatchFetches fetches = entry.getValue();
+				adaptiveSizing.entityBatchesCompleted(
+						entry.getKey(),
+						fetches.maxBatchSize,
+						fetches.largestBatch,
+						fetches.prefetched,
+						fetches.accessed
+				);
+			}
+			entityBatchFetches = null;
+		}
+		if ( collectionBatchFetches != null ) {
+			for ( Entry<String, BatchFetches> entry : collectionBatchFetches.entrySet() ) {
+				final BatchFetches fetches = entry.getValue();
+				adaptiveSizing.collectionBatchesCompleted( entry.getKey(), fetches.maxBatchSize, fetches.largestBatch );
+			}
+			collectionBatchFetches = null;
+		}
+	}
+
 
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -194,8 +243,35 @@ public class BatchFetchQueue {
 		final Serializable[] ids = new Serializable[batchSize];
 		ids[0] = id; //first element of array is reserved for the actual instance we are loading!
 
+		if ( adaptiveSizing == null ) {
+			fillEntityBatch( ids, persister, id, batchSize );
+		}
+		else {
+			if ( entityBatchFetches == null ) {
+				entityBatchFetches = new HashMap<>( 12 );
+			}
+			final BatchFetches fetches = entityBatchFetches.computeIfAbsent(
+					persister.getEntityName(),
+					k -> new BatchFetches( batchSize )
+			);
+			final int size = adaptiveSizing.getEntityBatchSize( persister.getEntityName(), batchSize, fetches.lastFull );
+			fillEntityBatch( ids, persister, id, size );
+			fetches.fetched( ArrayHelper.countNonNull( ids ), size );
+			fetches.entityFetched( context.getSession().generateEntityKey( id, persister ) );
+			for ( int i = 1; i < size && ids[i] != null; i++ ) {
+				fetches.entityPrefetched( context.getSession().generateEntityKey( ids[i], persister ) );
+			}
+		}
+		return ids;
+	}
+
+	private void fillEntityBatch(
+			final Serializable[] ids,
+			final EntityPersister persister,
+			final Serializable id,
+			final int batchSize) {
 		if ( batchLoadableEntityKeys == null ) {
-			return ids;
+			return;
 		}
 
 		int i = 1;
@@ -206,43 +282,90 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					//the first id found after the given id
-					return ids;
+			// the keys are checked against the second-level cache a window at a time
+			final List<EntityKey> window = new ArrayList<>( batchSize );
+			final Iterator<EntityKey> keys = set.iterator();
+			while ( keys.hasNext() ) {
+				window.clear();
+				while ( keys.hasNext() && window.size() < batchSize ) {
+					window.add( keys.next() );
 				}
-				if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, persister ) ) {
-						ids[i++] = key.getIdentifier();
+				final Set<EntityKey> cachedKeys = getCachedKeys( window, id, persister );
+				for ( EntityKey key : window ) {
+					if ( checkForEnd && i == end ) {
+						//the first id found after the given id
+						return;
 					}
-				}
-				if ( i == batchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
+					if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
+						end = i;
+					}
+					else {
+						if ( !cachedKeys.contains( key ) ) {
+							ids[i++] = key.getIdentifier();
+						}
+					}
+					if ( i == batchSize ) {
+						i = 1; // end of array, start filling again from start
+						if ( end != -1 ) {
+							checkForEnd = true;
+						}
 					}
 				}
 			}
 		}
-		return ids; //we ran out of ids to try
+		//we ran out of ids to try
+	}
+
+	/**
+	 * Called when a load finds the entity in the context: if the entity was fetched by a batch ahead of need, the
+	 * batch was (at least partly) worth it.
+	 */
+	public void entityAccessed(EntityKey key) {
+		if ( entityBatchFetches != null ) {
+			final BatchFetches fetches = entityBatchFetches.get( key.getEntityName() );
+			if ( fetches != null ) {
+				fetches.entityAccessed( key );
+			}
+		}
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	/**
+	 * Determines which of the given entity keys are in the second-level cache, with a single access to the cache.
+	 *
+	 * @return The keys of the cached entities
+	 */
+	private Set<EntityKey> getCachedKeys(List<EntityKey> entityKeys, Serializable id, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+			final Map<Object, EntityKey> entityKeysByCacheKey = new HashMap<>( entityKeys.size() * 2 );
+			for ( EntityKey entityKey : entityKeys ) {
+				if ( !persister.getIdentifierType().isEqual( id, entityKey.getIdentifier() ) ) {
+					final Object key = cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					);
+					entityKeysByCacheKey.put( key, entityKey );
+				}
+			}
+			if ( !entityKeysByCacheKey.isEmpty() ) {
+				final Map<Object, Object> cachedValues = CacheHelper.fromSharedCache(
+						session,
+						entityKeysByCacheKey.keySet(),
+						cache
+				);
+				if ( !cachedValues.isEmpty() ) {
+					final Set<EntityKey> cachedKeys = new HashSet<>( cachedValues.size() * 2 );
+					for ( Object key : cachedValues.keySet() ) {
+						cachedKeys.add( entityKeysByCacheKey.get( key ) );
+					}
+					return cachedKeys;
+				}
+			}
 		}
-		return false;
+		return Collections.emptySet();
 	}
 
 
@@ -298,8 +421,31 @@ public class BatchFetchQueue {
 		final Serializable[] keys = new Serializable[batchSize];
 		keys[0] = id;
 
+		if ( adaptiveSizing == null ) {
+			fillCollectionBatch( keys, collectionPersister, id, batchSize );
+		}
+		else {
+			if ( collectionBatchFetches == null ) {
+				collectionBatchFetches = new HashMap<>( 12 );
+			}
+			final BatchFetches fetches = collectionBatchFetches.computeIfAbsent(
+					collectionPersister.getRole(),
+					k -> new BatchFetches( batchSize )
+			);
+			final int size = adaptiveSizing.getCollectionBatchSize( collectionPersister.getRole(), batchSize, fetches.lastFull );
+			fillCollectionBatch( keys, collectionPersister, id, size );
+			fetches.fetched( ArrayHelper.countNonNull( keys ), size );
+		}
+		return keys;
+	}
+
+	private void fillCollectionBatch(
+			final Serializable[] keys,
+			final CollectionPersister collectionPersister,
+			final Serializable id,
+			final int batchSize) {
 		if ( batchLoadableCollections == null ) {
-			return keys;
+			return;
 		}
 
 		int i = 1;
@@ -328,7 +474,7 @@ public class BatchFetchQueue {
 				}
 
 				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
+					return; //the first key found after the given key
 				}
 
 				final boolean isEqual = collectionPersister.getKeyType().isEqual(
@@ -354,7 +500,7 @@ public class BatchFetchQueue {
 				}
 			}
 		}
-		return keys; //we ran out of keys to try
+		//we ran out of keys to try
 	}
 
 	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
@@ -372,4 +518,46 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The batch fetches of an entity or collection role, as observed by the adaptive batch sizing.
+	 */
+	private static final class BatchFetches {
+		private final int maxBatchSize;
+		private boolean lastFull;
+		private int largestBatch;
+		private int prefetched;
+		private int accessed;
+		private Set<EntityKey> prefetchedKeys;
+
+		private BatchFetches(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+		}
+
+		private void fetched(int count, int size) {
+			lastFull = count == size;
+			largestBatch = Math.max( largestBatch, count );
+		}
+
+		private void entityFetched(EntityKey key) {
+			// fetched ahead of need, but then left out by the loader
+			if ( prefetchedKeys != null && prefetchedKeys.remove( key ) ) {
+				prefetched--;
+			}
+		}
+
+		private void entityPrefetched(EntityKey key) {
+			if ( prefetchedKeys == null ) {
+				prefetchedKeys = new HashSet<>();
+			}
+			if ( prefetchedKeys.add( key ) ) {
+				prefetched++;
+			}
+		}
+
+		private void entityAccessed(EntityKey key) {
+			if ( prefetchedKeys != null && prefetchedKeys.remove( key ) ) {
+				accessed++;
+			}
+		}
+	}
 }
@@ -14,6 +14,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.FlushModeType;
@@ -471,6 +473,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.getPersistenceContextInternal();
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		return delegate.executeAsync( work );
+	}
+
 	@Override
 	public SessionEventListenerManager getEventListenerManager() {
 		return delegate.getEventListenerManager();
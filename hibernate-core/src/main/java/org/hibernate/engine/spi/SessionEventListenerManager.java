@@ -7,10 +7,19 @@
 package org.hibernate.engine.spi;
 
 import org.hibernate.SessionEventListener;
+import org.hibernate.StatementTracingSessionEventListener;
 
 /**
  * @author Steve Ebersole
  */
-public interface SessionEventListenerManager extends SessionEventListener {
+public interface SessionEventListenerManager extends StatementTracingSessionEventListener {
 	void addListener(SessionEventListener... listeners);
+
+	/**
+	 * Whether any of the listeners is a {@link StatementTracingSessionEventListener}: the details
+	 * of the JDBC work are collected only when this is the case.
+	 */
+	default boolean isStatementTracingEnabled() {
+		return false;
+	}
 }
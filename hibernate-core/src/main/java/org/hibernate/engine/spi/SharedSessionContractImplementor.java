@@ -11,6 +11,9 @@ import java.sql.Connection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 import javax.persistence.TransactionRequiredException;
 import javax.persistence.criteria.Selection;
@@ -522,6 +525,32 @@ public interface SharedSessionContractImplementor
 	 */
 	PersistenceContext getPersistenceContextInternal();
 
+	/**
+	 * Execute the given work on the {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}.
+	 * The executions of a session are confined: each waits for the completion of the previous one, so that they
+	 * never interleave on the {@link JdbcCoordinator}.  The session must not be used by other means until the
+	 * returned stage completes.
+	 * <p/>
+	 * The default implementation executes the work synchronously, on the calling thread.
+	 *
+	 * @param work The work, typically a query execution
+	 * @param <T> The type of the result of the work
+	 *
+	 * @return The stage completed with the result of the work
+	 *
+	 * @since 5.5
+	 */
+	default <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		final CompletableFuture<T> execution = new CompletableFuture<>();
+		try {
+			execution.complete( work.get() );
+		}
+		catch (RuntimeException e) {
+			execution.completeExceptionally( e );
+		}
+		return execution;
+	}
+
 	default boolean isEnforcingFetchGraph() {
 		return false;
 	}
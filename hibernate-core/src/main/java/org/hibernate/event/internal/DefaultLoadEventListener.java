@@ -510,7 +510,13 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		Object entity = persistenceContextEntry.getEntity();
 
 		if ( entity != null ) {
-			return persistenceContextEntry.isManaged() ? entity : null;
+			if ( persistenceContextEntry.isManaged() ) {
+				if ( session.getFactory().getFastSessionServices().adaptiveBatchFetchSizing != null ) {
+					session.getPersistenceContextInternal().getBatchFetchQueue().entityAccessed( keyToLoad );
+				}
+				return entity;
+			}
+			return null;
 		}
 
 		entity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad );
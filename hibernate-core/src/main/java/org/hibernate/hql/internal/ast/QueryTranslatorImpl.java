@@ -43,6 +43,7 @@ import org.hibernate.hql.internal.ast.tree.QueryNode;
 import org.hibernate.hql.internal.ast.tree.Statement;
 import org.hibernate.hql.internal.ast.util.ASTUtil;
 import org.hibernate.hql.internal.ast.util.NodeTraverser;
+import org.hibernate.hql.internal.ast.util.QueryCacheRowRestriction;
 import org.hibernate.hql.internal.ast.util.TokenPrinters;
 import org.hibernate.hql.spi.FilterTranslator;
 import org.hibernate.hql.spi.ParameterTranslations;
@@ -86,6 +87,7 @@ public class QueryTranslatorImpl implements FilterTranslator {
 
 	private boolean compiled;
 	private QueryLoader queryLoader;
+	private QueryCacheRowRestriction queryCacheRowRestriction;
 	private StatementExecutor statementExecutor;
 
 	private Statement sqlAst;
@@ -211,6 +213,9 @@ public class QueryTranslatorImpl implements FilterTranslator {
 				// PHASE 3 : Generate the SQL.
 				generate( (QueryNode) sqlAst );
 				queryLoader = createQueryLoader( w, factory );
+				if ( factory.getSessionFactoryOptions().isQueryCacheRowInvalidationEnabled() ) {
+					queryCacheRowRestriction = QueryCacheRowRestriction.resolve( (QueryNode) sqlAst, w.getQuerySpaces() );
+				}
 			}
 
 			compiled = true;
@@ -363,6 +368,16 @@ public class QueryTranslatorImpl implements FilterTranslator {
 		return getWalker().getQuerySpaces();
 	}
 
+	/**
+	 * The restriction of the query to some rows of an entity, when the row invalidation of
+	 * the query cache is enabled.
+	 *
+	 * @return The row restriction, or {@code null} if the query is not restricted to rows
+	 */
+	public QueryCacheRowRestriction getQueryCacheRowRestriction() {
+		return queryCacheRowRestriction;
+	}
+
 	@Override
 	public List list(SharedSessionContractImplementor session, QueryParameters queryParameters)
 			throws HibernateException {
@@ -0,0 +1,274 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.internal.ast.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.cache.spi.QuerySpacesHelper;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.hql.internal.antlr.SqlTokenTypes;
+import org.hibernate.hql.internal.ast.tree.BinaryLogicOperatorNode;
+import org.hibernate.hql.internal.ast.tree.DotNode;
+import org.hibernate.hql.internal.ast.tree.FromClause;
+import org.hibernate.hql.internal.ast.tree.FromElement;
+import org.hibernate.hql.internal.ast.tree.InLogicOperatorNode;
+import org.hibernate.hql.internal.ast.tree.ParameterNode;
+import org.hibernate.hql.internal.ast.tree.QueryNode;
+import org.hibernate.param.NamedParameterSpecification;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.param.PositionalParameterSpecification;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import antlr.collections.AST;
+
+/**
+ * Describes a query selecting from a single entity, whose where clause restricts the rows to
+ * those having the identifiers or natural id bound to some of its parameters.  The results of
+ * such a query only depend on those rows, and are validated against the timestamp spaces of
+ * their stripe rather than against the spaces of the tables.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_ROW_INVALIDATION
+ * @see QuerySpacesHelper#ROW_STRIPES
+ */
+public final class QueryCacheRowRestriction {
+	private final EntityPersister persister;
+	private final boolean naturalId;
+	private final String[] querySpaces;
+	/**
+	 * The alternative rows the query is restricted to, given by the parameters of either
+	 * the identifier, or the natural id properties
+	 */
+	private final List<ParameterSpecification[]> rows;
+
+	private QueryCacheRowRestriction(
+			EntityPersister persister,
+			boolean naturalId,
+			String[] querySpaces,
+			List<ParameterSpecification[]> rows) {
+		this.persister = persister;
+		this.naturalId = naturalId;
+		this.querySpaces = querySpaces;
+		this.rows = rows;
+	}
+
+	/**
+	 * Resolve the row restriction of a query, if any.
+	 *
+	 * @param query The SQL AST of the query
+	 * @param querySpaces The spaces of the query
+	 *
+	 * @return The row restriction, or {@code null} if the query is not restricted to rows
+	 */
+	public static QueryCacheRowRestriction resolve(QueryNode query, Set<Serializable> querySpaces) {
+		final FromClause fromClause = query.getFromClause();
+		if ( fromClause.getFromElements().size() != 1 || fromClause.getExplicitFromElements().size() != 1 ) {
+			return null;
+		}
+		final FromElement fromElement = (FromElement) fromClause.getFromElements().get( 0 );
+		final EntityPersister persister = fromElement.getEntityPersister();
+		if ( persister == null || fromElement.isCollectionJoin()
+				|| !querySpaces.equals( new HashSet<>( Arrays.asList( persister.getQuerySpaces() ) ) ) ) {
+			return null;
+		}
+		if ( !query.hasWhereClause() || containsSubquery( query.getFirstChild() ) ) {
+			return null;
+		}
+
+		final List<AST> conjuncts = new ArrayList<>();
+		for ( AST condition = query.getWhereClause().getFirstChild(); condition != null; condition = condition.getNextSibling() ) {
+			collectConjuncts( condition, conjuncts );
+		}
+
+		final String[] spaces = querySpaces.toArray( new String[querySpaces.size()] );
+		final List<ParameterSpecification[]> identifiers = resolveIdentifiers( conjuncts, fromElement, persister );
+		if ( identifiers != null ) {
+			return new QueryCacheRowRestriction( persister, false, spaces, identifiers );
+		}
+		final ParameterSpecification[] naturalIdentifier = resolveNaturalIdentifier( conjuncts, fromElement, persister );
+		if ( naturalIdentifier != null ) {
+			final List<ParameterSpecification[]> naturalIdentifiers = new ArrayList<>( 1 );
+			naturalIdentifiers.add( naturalIdentifier );
+			return new QueryCacheRowRestriction( persister, true, spaces, naturalIdentifiers );
+		}
+		return null;
+	}
+
+	private static boolean containsSubquery(AST node) {
+		for ( AST child = node; child != null; child = child.getNextSibling() ) {
+			if ( child instanceof QueryNode || containsSubquery( child.getFirstChild() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void collectConjuncts(AST condition, List<AST> conjuncts) {
+		if ( condition.getType() == SqlTokenTypes.AND ) {
+			for ( AST operand = condition.getFirstChild(); operand != null; operand = operand.getNextSibling() ) {
+				collectConjuncts( operand, conjuncts );
+			}
+		}
+		else {
+			conjuncts.add( condition );
+		}
+	}
+
+	private static List<ParameterSpecification[]> resolveIdentifiers(
+			List<AST> conjuncts,
+			FromElement fromElement,
+			EntityPersister persister) {
+		if ( persister.getIdentifierType().isComponentType() ) {
+			return null;
+		}
+		for ( AST conjunct : conjuncts ) {
+			if ( conjunct.getType() == SqlTokenTypes.EQ && conjunct instanceof BinaryLogicOperatorNode ) {
+				final ParameterSpecification parameter = resolveComparedParameter(
+						(BinaryLogicOperatorNode) conjunct,
+						fromElement,
+						persister.getIdentifierPropertyName()
+				);
+				if ( parameter != null ) {
+					final List<ParameterSpecification[]> identifiers = new ArrayList<>( 1 );
+					identifiers.add( new ParameterSpecification[] { parameter } );
+					return identifiers;
+				}
+			}
+			else if ( conjunct.getType() == SqlTokenTypes.IN && conjunct instanceof InLogicOperatorNode
+					&& isPropertyReference( ( (InLogicOperatorNode) conjunct ).getLeftHandOperand(), fromElement, persister.getIdentifierPropertyName() ) ) {
+				final List<ParameterSpecification[]> identifiers = new ArrayList<>();
+				for ( AST value = ( (InLogicOperatorNode) conjunct ).getInList().getFirstChild(); value != null; value = value.getNextSibling() ) {
+					if ( !( value instanceof ParameterNode ) ) {
+						return null;
+					}
+					identifiers.add( new ParameterSpecification[] { ( (ParameterNode) value ).getHqlParameterSpecification() } );
+				}
+				return identifiers.isEmpty() ? null : identifiers;
+			}
+		}
+		return null;
+	}
+
+	private static ParameterSpecification[] resolveNaturalIdentifier(
+			List<AST> conjuncts,
+			FromElement fromElement,
+			EntityPersister persister) {
+		if ( !persister.hasNaturalIdentifier() ) {
+			return null;
+		}
+		final int[] naturalIdProperties = persister.getNaturalIdentifierProperties();
+		final ParameterSpecification[] parameters = new ParameterSpecification[naturalIdProperties.length];
+		for ( int i = 0; i < naturalIdProperties.length; i++ ) {
+			if ( persister.getPropertyTypes()[naturalIdProperties[i]].isComponentType() ) {
+				return null;
+			}
+			final String propertyName = persister.getPropertyNames()[naturalIdProperties[i]];
+			for ( AST conjunct : conjuncts ) {
+				if ( conjunct.getType() == SqlTokenTypes.EQ && conjunct instanceof BinaryLogicOperatorNode ) {
+					parameters[i] = resolveComparedParameter( (BinaryLogicOperatorNode) conjunct, fromElement, propertyName );
+					if ( parameters[i] != null ) {
+						break;
+					}
+				}
+			}
+			if ( parameters[i] == null ) {
+				return null;
+			}
+		}
+		return parameters;
+	}
+
+	private static ParameterSpecification resolveComparedParameter(
+			BinaryLogicOperatorNode comparison,
+			FromElement fromElement,
+			String propertyName) {
+		if ( isPropertyReference( comparison.getLeftHandOperand(), fromElement, propertyName )
+				&& comparison.getRightHandOperand() instanceof ParameterNode ) {
+			return ( (ParameterNode) comparison.getRightHandOperand() ).getHqlParameterSpecification();
+		}
+		if ( isPropertyReference( comparison.getRightHandOperand(), fromElement, propertyName )
+				&& comparison.getLeftHandOperand() instanceof ParameterNode ) {
+			return ( (ParameterNode) comparison.getLeftHandOperand() ).getHqlParameterSpecification();
+		}
+		return null;
+	}
+
+	private static boolean isPropertyReference(AST node, FromElement fromElement, String propertyName) {
+		if ( !( node instanceof DotNode ) ) {
+			return false;
+		}
+		final DotNode dotNode = (DotNode) node;
+		return dotNode.getFromElement() == fromElement
+				&& propertyName != null
+				&& ( propertyName.equals( dotNode.getPropertyPath() )
+						|| propertyName.equals( fromElement.getEntityPersister().getIdentifierPropertyName() )
+						&& EntityPersister.ENTITY_ID.equals( dotNode.getPropertyPath() ) );
+	}
+
+	/**
+	 * Resolve the timestamp spaces against which the cached results of the query are validated.
+	 *
+	 * @param queryParameters The parameters of the query execution
+	 *
+	 * @return The timestamp spaces, or {@code null} if the parameters do not identify rows
+	 */
+	public Set<Serializable> resolveTimestampSpaces(QueryParameters queryParameters) {
+		final QuerySpacesHelper helper = QuerySpacesHelper.INSTANCE;
+		final Map<String, TypedValue> namedParameters = queryParameters.getNamedParameters();
+		if ( namedParameters == null ) {
+			return null;
+		}
+		final Set<Serializable> timestampSpaces = new HashSet<>();
+		for ( String space : querySpaces ) {
+			timestampSpaces.add( helper.unattributedSpace( space ) );
+		}
+
+		for ( ParameterSpecification[] row : rows ) {
+			final Object[] values = new Object[row.length];
+			for ( int i = 0; i < row.length; i++ ) {
+				final TypedValue typedValue;
+				if ( row[i] instanceof NamedParameterSpecification ) {
+					typedValue = namedParameters.get( ( (NamedParameterSpecification) row[i] ).getName() );
+				}
+				else if ( row[i] instanceof PositionalParameterSpecification ) {
+					typedValue = namedParameters.get( Integer.toString( ( (PositionalParameterSpecification) row[i] ).getLabel() ) );
+				}
+				else {
+					return null;
+				}
+				final Type type = naturalId
+						? persister.getPropertyTypes()[persister.getNaturalIdentifierProperties()[i]]
+						: persister.getIdentifierType();
+				if ( typedValue == null || !type.getReturnedClass().isInstance( typedValue.getValue() ) ) {
+					return null;
+				}
+				values[i] = typedValue.getValue();
+			}
+
+			if ( naturalId ) {
+				final int hash = helper.naturalIdentifierHash( values, persister );
+				for ( String space : querySpaces ) {
+					timestampSpaces.add( helper.naturalIdentifierSpace( space, hash ) );
+				}
+			}
+			else {
+				final int hash = helper.identifierHash( values[0], persister );
+				for ( String space : querySpaces ) {
+					timestampSpaces.add( helper.identifierSpace( space, hash ) );
+				}
+			}
+		}
+		return timestampSpaces;
+	}
+}
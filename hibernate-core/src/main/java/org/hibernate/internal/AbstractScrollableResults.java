@@ -12,6 +12,7 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
@@ -123,6 +124,16 @@ public abstract class AbstractScrollableResults implements ScrollableResultsImpl
 		return this.closed;
 	}
 
+	@Override
+	public void setFetchSize(int fetchSize) {
+		try {
+			resultSet.setFetchSize( fetchSize );
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert( sqle, "could not set fetch size" );
+		}
+	}
+
 	@Override
 	public int getNumberOfTypes() {
 		return this.types.length;
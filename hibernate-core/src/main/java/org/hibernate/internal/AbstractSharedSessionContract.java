@@ -14,6 +14,10 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 import javax.persistence.TransactionRequiredException;
 import javax.persistence.Tuple;
@@ -153,6 +157,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 
 	private CriteriaCompiler criteriaCompiler;
 
+	//Lazily initialized; completes, always normally, once the last asynchronous execution completes
+	private transient CompletableFuture<Void> lastAsyncExecution;
+
 	public AbstractSharedSessionContract(SessionFactoryImpl factory, SessionCreationOptions options) {
 		this.factory = factory;
 		this.fastSessionServices = factory.getFastSessionServices();
@@ -394,6 +401,21 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		}
 	}
 
+	@Override
+	public <T> CompletionStage<T> executeAsync(Supplier<T> work) {
+		checkOpen();
+		final CompletableFuture<T> execution;
+		synchronized ( this ) {
+			final CompletableFuture<Void> previous = lastAsyncExecution == null
+					? CompletableFuture.completedFuture( null )
+					: lastAsyncExecution;
+			execution = previous.thenApplyAsync( ignored -> work.get(), fastSessionServices.asyncExecutor );
+			lastAsyncExecution = execution.handle( (result, failure) -> null );
+		}
+		// a dependent stage: completing it explicitly must not release the next execution early
+		return execution.thenApply( Function.identity() );
+	}
+
 	protected void checkOpenOrWaitingForAutoClose() {
 		if ( !waitingForAutoClose ) {
 			checkOpen();
@@ -1865,4 +1865,12 @@ public interface CoreMessageLogger extends BasicLogger {
 			"which is the default since Hibernate ORM 5.3. The Javassist one will be removed soon.", id = 507)
 	void warnUsingJavassistBytecodeProviderIsDeprecated();
 
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 508)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "JDBC batches executed: %s, with a total of %s rows", id = 509)
+	void jdbcBatchesExecuted(long jdbcBatchExecutionCount, long jdbcBatchRowCount);
+
 }
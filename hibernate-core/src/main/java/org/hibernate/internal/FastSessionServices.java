@@ -14,6 +14,7 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.AdaptiveBatchFetchSizing;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.ConnectionObserver;
@@ -61,11 +62,20 @@ import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
 
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.CacheRetrieveMode;
 import javax.persistence.CacheStoreMode;
@@ -157,6 +167,18 @@ public final class FastSessionServices {
 	final boolean discardOnClose;
 	final BaselineSessionEventsListenerBuilder defaultSessionEventListeners;
 	final LockOptions defaultLockOptions;
+	//The executor built when none is configured, to shut down with the SessionFactory
+	private final ExecutorService defaultAsyncExecutor;
+
+	/**
+	 * The executor of the asynchronous operations: the configured one, or else a default one shut down with the SessionFactory
+	 */
+	public final Executor asyncExecutor;
+
+	/**
+	 * The batch fetch sizes chosen at runtime, or {@code null} when batch fetching uses the configured sizes
+	 */
+	public final AdaptiveBatchFetchSizing adaptiveBatchFetchSizing;
 
 	//Private fields:
 	private final Dialect dialect;
@@ -233,7 +255,58 @@ public final class FastSessionServices {
 		this.defaultSessionEventListeners = sessionFactoryOptions.getBaselineSessionEventsListenerBuilder();
 		this.defaultLockOptions = initializeDefaultLockOptions( defaultSessionProperties );
 		this.initialSessionFlushMode = initializeDefaultFlushMode( defaultSessionProperties );
+		final Executor configuredAsyncExecutor = sessionFactoryOptions.getAsyncExecutor();
+		this.defaultAsyncExecutor = configuredAsyncExecutor == null ? buildDefaultAsyncExecutor() : null;
+		this.asyncExecutor = configuredAsyncExecutor == null ? defaultAsyncExecutor : configuredAsyncExecutor;
+		this.adaptiveBatchFetchSizing = sessionFactoryOptions.isAdaptiveBatchFetchEnabled()
+				? new AdaptiveBatchFetchSizing( sf, sessionFactoryOptions.getAdaptiveBatchFetchMinSize() )
+				: null;
+
+	}
 
+	private static ExecutorService buildDefaultAsyncExecutor() {
+		try {
+			// Virtual threads are only available since Java 21
+			final Method virtualThreadExecutor = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+			return (ExecutorService) virtualThreadExecutor.invoke( null );
+		}
+		catch (ReflectiveOperationException e) {
+			// The operations block on JDBC, so they must not run in the common pool: the threads of this
+			// bounded pool are only started when needed, and stopped once idle
+			final int poolSize = Runtime.getRuntime().availableProcessors();
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+					poolSize,
+					poolSize,
+					60L,
+					TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(),
+					new AsyncThreadFactory()
+			);
+			executor.allowCoreThreadTimeOut( true );
+			return executor;
+		}
+	}
+
+	/**
+	 * Shuts down the asynchronous executor, unless it was configured: the pending operations are still
+	 * executed.
+	 */
+	void close() {
+		if ( defaultAsyncExecutor != null ) {
+			defaultAsyncExecutor.shutdown();
+		}
+	}
+
+	private static class AsyncThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCount = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Async Executor Thread " + threadCount.incrementAndGet() );
+			return thread;
+		}
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -8,6 +8,7 @@ package org.hibernate.internal;
 
 import java.sql.Connection;
 
+import org.hibernate.StatementTracingSessionEventListener;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
@@ -85,4 +86,9 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	public void jdbcReleaseRegistryResourcesEnd() {
 	}
 
+	@Override
+	public StatementTracingSessionEventListener getStatementTracer() {
+		return eventListenerManager.isStatementTracingEnabled() ? eventListenerManager : null;
+	}
+
 }
@@ -818,6 +818,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			queryPlanCache.cleanup();
 		}
 
+		if ( fastSessionServices != null ) {
+			fastSessionServices.close();
+		}
+
 		if ( delayedDropAction != null ) {
 			delayedDropAction.perform( serviceRegistry );
 		}
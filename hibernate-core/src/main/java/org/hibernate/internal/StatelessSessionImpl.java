@@ -11,6 +11,7 @@ import java.sql.Connection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
@@ -180,6 +181,11 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return get( entityName, id, LockMode.NONE );
 	}
 
+	@Override
+	public CompletionStage<Object> getAsync(String entityName, Serializable id) {
+		return executeAsync( () -> get( entityName, id ) );
+	}
+
 	@Override
 	public Object get(String entityName, Serializable id, LockMode lockMode) {
 		checkOpen();
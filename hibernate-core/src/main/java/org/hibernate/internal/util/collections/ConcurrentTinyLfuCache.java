@@ -0,0 +1,510 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A bounded concurrent cache using the W-TinyLFU eviction policy.
+ * <p/>
+ * Reads never block: a hit is a plain {@link ConcurrentHashMap} lookup, after which the access is
+ * recorded into a striped, lossy ring buffer. The eviction policy itself is single threaded and only
+ * runs under a lock, which is acquired by writers and - with {@code tryLock} only - by the reader that
+ * finds its buffer stripe full. Lost access records merely make the policy slightly less precise.
+ * <p/>
+ * The policy follows the design of Caffeine: new entries go to a small LRU "admission window"
+ * (1% of the capacity); entries leaving the window compete with the least recently used entry of the
+ * "probation" segment of the main space, and the one having the lowest estimated access frequency is
+ * evicted. Entries accessed again while in probation are promoted to the "protected" segment (80% of
+ * the main space). Frequencies are estimated with a 4-bit count-min sketch which is periodically halved,
+ * so that entries which were popular in the past eventually age out.
+ * <p/>
+ * This compares favourably to {@link BoundedConcurrentHashMap} on read-mostly workloads under high
+ * concurrency, as the latter takes a segment lock on every hit to maintain its LIRS/LRU queues.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public final class ConcurrentTinyLfuCache<K, V> {
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+	private static final int DEAD = 3;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final BiConsumer<K, V> evictionListener;
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final ReadBuffer<K, V> readBuffer = new ReadBuffer<>();
+
+	// all of the below is guarded by evictionLock
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final int maximumSize;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+	private int windowSize;
+	private int probationSize;
+	private int protectedSize;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified of each entry evicted because of the size bound, may be {@code null}
+	 */
+	public ConcurrentTinyLfuCache(int maximumSize, BiConsumer<K, V> evictionListener) {
+		if ( maximumSize < 0 ) {
+			throw new IllegalArgumentException( "Maximum size must not be negative: " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.windowMaximum = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximum = (int) ( ( maximumSize - windowMaximum ) * 0.8d );
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1 << 16 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * Returns the value associated to the key, or {@code null}. Never blocks.
+	 */
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	/**
+	 * Associates the value to the key, unless a value is already associated to it.
+	 *
+	 * @return the previous value, or {@code null} if the given one was added
+	 */
+	public V putIfAbsent(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+		afterWrite( node );
+		return null;
+	}
+
+	/**
+	 * Returns the cached value, computing and caching it if absent. As with
+	 * {@link java.util.concurrent.ConcurrentMap#computeIfAbsent}, the function might be
+	 * invoked concurrently for the same key by different threads; only one of the values wins.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final V cached = get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+		final V computed = mappingFunction.apply( key );
+		if ( computed == null ) {
+			return null;
+		}
+		final V existing = putIfAbsent( key, computed );
+		return existing == null ? computed : existing;
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			readBuffer.drainTo( null );
+			data.clear();
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			windowSize = 0;
+			probationSize = 0;
+			protectedSize = 0;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		if ( readBuffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				readBuffer.drainTo( this );
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		evictionLock.lock();
+		try {
+			readBuffer.drainTo( this );
+			// the entry might have been removed by a concurrent clear()
+			if ( data.get( node.key ) == node ) {
+				sketch.increment( node.key.hashCode() );
+				node.queue = WINDOW;
+				window.addLast( node );
+				windowSize++;
+				evictEntries();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Eviction policy: only ever invoked while holding evictionLock
+
+	void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				sketch.increment( node.key.hashCode() );
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.key.hashCode() );
+				probation.remove( node );
+				probationSize--;
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedSize++;
+				while ( protectedSize > protectedMaximum ) {
+					final Node<K, V> demoted = protectedSegment.pollFirst();
+					protectedSize--;
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+					probationSize++;
+				}
+				break;
+			case PROTECTED:
+				sketch.increment( node.key.hashCode() );
+				protectedSegment.moveToBack( node );
+				break;
+			default:
+				// DEAD, or not yet added to the policy: nothing to record
+		}
+	}
+
+	private void evictEntries() {
+		// move the overflow of the admission window to the probation segment, where the
+		// newcomers will compete for admission with the probation victims
+		int candidates = 0;
+		while ( windowSize > windowMaximum ) {
+			final Node<K, V> node = window.pollFirst();
+			windowSize--;
+			node.queue = PROBATION;
+			probation.addLast( node );
+			probationSize++;
+			candidates++;
+		}
+
+		while ( windowSize + probationSize + protectedSize > maximumSize ) {
+			final Node<K, V> victim = probation.peekFirst();
+			final Node<K, V> candidate = candidates > 0 ? probation.peekLast() : null;
+			if ( victim == null ) {
+				// everything is in the protected segment or the window
+				evict( protectedSize > 0 ? protectedSegment.peekFirst() : window.peekFirst() );
+			}
+			else if ( candidate == null || candidate == victim ) {
+				evict( victim );
+				candidates = Math.max( 0, candidates - 1 );
+			}
+			else {
+				candidates--;
+				if ( sketch.frequency( candidate.key.hashCode() ) > sketch.frequency( victim.key.hashCode() ) ) {
+					evict( victim );
+				}
+				else {
+					evict( candidate );
+				}
+			}
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowSize--;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				probationSize--;
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedSize--;
+				break;
+			default:
+				return;
+		}
+		node.queue = DEAD;
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Support types
+
+	private static final class Node<K, V> {
+		final K key;
+		final V value;
+		// guarded by evictionLock; initially not part of any queue
+		int queue = -1;
+		Node<K, V> previous;
+		Node<K, V> next;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Intrusive, doubly linked list of nodes ordered from least to most recently used.
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		Node<K, V> peekLast() {
+			return last;
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.queue = DEAD;
+				node.previous = null;
+				node.next = null;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * Striped, lossy multiple-producers/single-consumer ring buffers recording read accesses.
+	 */
+	private static final class ReadBuffer<K, V> {
+		private static final int STRIPE_SIZE = 16;
+		private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+		private final Stripe<K, V>[] stripes;
+		private final int stripesMask;
+
+		@SuppressWarnings("unchecked")
+		ReadBuffer() {
+			final int processors = Runtime.getRuntime().availableProcessors();
+			final int count = Math.min( 64, Integer.highestOneBit( Math.max( 1, processors * 2 - 1 ) ) );
+			stripes = new Stripe[count];
+			for ( int i = 0; i < count; i++ ) {
+				stripes[i] = new Stripe<>();
+			}
+			stripesMask = count - 1;
+		}
+
+		/**
+		 * @return {@code true} if the stripe used by the current thread is full and should be drained
+		 */
+		boolean offer(Node<K, V> node) {
+			long threadHash = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+			final Stripe<K, V> stripe = stripes[(int) ( threadHash >>> 32 ) & stripesMask];
+			final long head = stripe.readCounter;
+			final long tail = stripe.writeCounter.get();
+			final long size = tail - head;
+			if ( size >= STRIPE_SIZE ) {
+				return true;
+			}
+			if ( stripe.writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				stripe.buffer.lazySet( (int) ( tail & STRIPE_MASK ), node );
+				return size + 1 >= STRIPE_SIZE;
+			}
+			// contended: just drop the access record
+			return false;
+		}
+
+		/**
+		 * Must be called while holding the eviction lock; a {@code null} cache discards the records.
+		 */
+		void drainTo(ConcurrentTinyLfuCache<K, V> cache) {
+			for ( Stripe<K, V> stripe : stripes ) {
+				long head = stripe.readCounter;
+				final long tail = stripe.writeCounter.get();
+				while ( head < tail ) {
+					final int index = (int) ( head & STRIPE_MASK );
+					final Node<K, V> node = stripe.buffer.get( index );
+					if ( node == null ) {
+						// the producer has claimed the slot but not yet published the node
+						break;
+					}
+					stripe.buffer.lazySet( index, null );
+					if ( cache != null ) {
+						cache.onAccess( node );
+					}
+					head++;
+				}
+				stripe.readCounter = head;
+			}
+		}
+	}
+
+	private static final class Stripe<K, V> {
+		final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( ReadBuffer.STRIPE_SIZE );
+		final AtomicLong writeCounter = new AtomicLong();
+		volatile long readCounter;
+	}
+
+	/**
+	 * A 4-bit count-min sketch estimating the access frequency of keys, with periodic aging.
+	 * Not thread safe: guarded by the eviction lock.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		FrequencySketch(int maximumSize) {
+			final int capacity = Math.max( 8, Integer.highestOneBit( Math.max( 1, Math.min( maximumSize, 1 << 24 ) ) * 2 - 1 ) );
+			table = new long[capacity];
+			tableMask = capacity - 1;
+			sampleSize = 10 * Math.max( 1, maximumSize );
+		}
+
+		int frequency(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(int hashCode) {
+			final int hash = spread( hashCode );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Halves every counter, so that the frequencies reflect the recent history only.
+		 */
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size - ( odd >>> 2 ) ) >>> 1;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
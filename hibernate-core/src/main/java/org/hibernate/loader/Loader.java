@@ -59,6 +59,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.engine.spi.TypedValue;
@@ -112,6 +113,7 @@ public abstract class Loader {
 
 	private final SessionFactoryImplementor factory;
 	private volatile ColumnNameCache columnNameCache;
+	private volatile QueryKey.QueryIdentity queryIdentity;
 
 	private boolean isJdbc4 = true;
 
@@ -951,7 +953,7 @@ public abstract class Loader {
 // that I could do the control breaking at the means to know when to stop
 
 		try {
-			return processResultSet(
+			final List results = processResultSet(
 					rs,
 					queryParameters,
 					session,
@@ -960,6 +962,15 @@ public abstract class Loader {
 					maxRows,
 					afterLoadActions
 			);
+			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			if ( eventListenerManager.isStatementTracingEnabled() ) {
+				eventListenerManager.jdbcRowsFetched(
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().getSql( st ),
+						getQueryIdentifier(),
+						results.size()
+				);
+			}
+			return results;
 		}
 		finally {
 			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
@@ -982,16 +993,22 @@ public abstract class Loader {
 		final List<EntityKey[]> subselectResultKeys = createSubselects ? new ArrayList<>() : null;
 		final List<Object> hydratedObjects = entitySpan == 0 ? null : new ArrayList<>( entitySpan * 10 );
 
-		final List results = getRowsFromResultSet(
-				rs,
-				queryParameters,
-				session,
-				returnProxies,
-				forcedResultTransformer,
-				maxRows,
-				hydratedObjects,
-				subselectResultKeys
-		);
+		final List results;
+		try {
+			results = getRowsFromResultSet(
+					rs,
+					queryParameters,
+					session,
+					returnProxies,
+					forcedResultTransformer,
+					maxRows,
+					hydratedObjects,
+					subselectResultKeys
+			);
+		}
+		finally {
+			session.getPersistenceContextInternal().getLoadContexts().cleanupEntityLoadContext( rs );
+		}
 
 		initializeEntitiesAndCollections(
 				hydratedObjects,
@@ -2370,7 +2387,7 @@ public abstract class Loader {
 		}
 	}
 
-	private ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
+	protected ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
 		final ColumnNameCache cache = columnNameCache;
 		if ( cache == null ) {
 			//there is no need for a synchronized second check, as in worst case
@@ -2678,7 +2695,7 @@ public abstract class Loader {
 		List result = getResultFromQueryCache(
 				session,
 				queryParameters,
-				querySpaces,
+				getQueryCacheTimestampSpaces( queryParameters, querySpaces ),
 				resultTypes,
 				queryCache,
 				key
@@ -2716,11 +2733,21 @@ public abstract class Loader {
 		return getResultList( result, queryParameters.getResultTransformer() );
 	}
 
+	/**
+	 * The spaces against which the cached results of the query are validated, by default
+	 * the query spaces.
+	 */
+	protected Set<Serializable> getQueryCacheTimestampSpaces(
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces) {
+		return querySpaces;
+	}
+
 	protected QueryKey generateQueryKey(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters) {
 		return QueryKey.generateQueryKey(
-				getSQLString(),
+				getQueryIdentity(),
 				queryParameters,
 				FilterKey.createFilterKeys( session.getLoadQueryInfluencers().getEnabledFilters() ),
 				session,
@@ -2728,6 +2755,19 @@ public abstract class Loader {
 		);
 	}
 
+	/**
+	 * The identity of the query in the keys of its cached results, created once for this loader
+	 */
+	private QueryKey.QueryIdentity getQueryIdentity() {
+		QueryKey.QueryIdentity identity = queryIdentity;
+		final String sql = getSQLString();
+		if ( identity == null || identity.getSqlQueryString() != sql ) {
+			identity = new QueryKey.QueryIdentity( sql );
+			queryIdentity = identity;
+		}
+		return identity;
+	}
+
 	protected CacheableResultTransformer createCacheableResultTransformer(QueryParameters queryParameters) {
 		return CacheableResultTransformer.create(
 				queryParameters.getResultTransformer(),
@@ -8,6 +8,7 @@ package org.hibernate.loader.collection;
 
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.collection.plan.ArrayBatchingCollectionInitializerBuilder;
 import org.hibernate.persister.collection.QueryableCollection;
 
 /**
@@ -19,6 +20,14 @@ import org.hibernate.persister.collection.QueryableCollection;
  */
 public abstract class BatchingCollectionInitializerBuilder {
 	public static BatchingCollectionInitializerBuilder getBuilder(SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().isBatchFetchArrayParameterEnabled()
+				&& factory.getJdbcServices().getDialect().supportsArrayParameterKeyRestriction() ) {
+			return new ArrayBatchingCollectionInitializerBuilder( getStyleBuilder( factory ) );
+		}
+		return getStyleBuilder( factory );
+	}
+
+	private static BatchingCollectionInitializerBuilder getStyleBuilder(SessionFactoryImplementor factory) {
 		switch ( factory.getSettings().getBatchFetchStyle() ) {
 			case PADDED: {
 				return PaddedBatchingCollectionInitializerBuilder.INSTANCE;
@@ -22,6 +22,7 @@ import org.hibernate.loader.plan.build.internal.FetchStyleLoadPlanBuildingAssoci
 import org.hibernate.loader.plan.build.spi.MetamodelDrivenLoadPlanBuilder;
 import org.hibernate.loader.plan.exec.internal.AbstractLoadPlanBasedLoader;
 import org.hibernate.loader.plan.exec.internal.BatchingLoadQueryDetailsFactory;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
 import org.hibernate.loader.plan.exec.query.spi.QueryBuildingParameters;
 import org.hibernate.loader.plan.exec.spi.LoadQueryDetails;
 import org.hibernate.loader.plan.spi.LoadPlan;
@@ -41,6 +42,7 @@ public abstract class AbstractLoadPlanBasedCollectionInitializer
 	private final QueryableCollection collectionPersister;
 	private final LoadQueryDetails staticLoadQuery;
 	private final LockOptions lockOptions;
+	private final KeyArrayType keyArrayType;
 
 	public AbstractLoadPlanBasedCollectionInitializer(
 			QueryableCollection collectionPersister,
@@ -64,6 +66,17 @@ public abstract class AbstractLoadPlanBasedCollectionInitializer
 				plan,
 				buildingParameters
 		);
+		if ( buildingParameters.isKeyArrayParameter() ) {
+			this.keyArrayType = KeyArrayType.resolve( collectionPersister.getKeyType(), collectionPersister.getFactory() );
+			if ( keyArrayType == null ) {
+				throw new AssertionFailure(
+						"Keys of collection " + collectionPersister.getRole() + " cannot be bound as an array"
+				);
+			}
+		}
+		else {
+			this.keyArrayType = null;
+		}
 	}
 
 	@Override
@@ -78,8 +91,14 @@ public abstract class AbstractLoadPlanBasedCollectionInitializer
 		final Serializable[] ids = new Serializable[]{id};
 		try {
 			final QueryParameters qp = new QueryParameters();
-			qp.setPositionalParameterTypes( new Type[]{ collectionPersister.getKeyType() } );
-			qp.setPositionalParameterValues( ids );
+			if ( keyArrayType != null ) {
+				qp.setPositionalParameterTypes( new Type[]{ keyArrayType } );
+				qp.setPositionalParameterValues( new Object[]{ ids } );
+			}
+			else {
+				qp.setPositionalParameterTypes( new Type[]{ collectionPersister.getKeyType() } );
+				qp.setPositionalParameterValues( ids );
+			}
 			qp.setCollectionKeys( ids );
 
 			qp.setLockOptions( lockOptions );
@@ -105,10 +124,59 @@ public abstract class AbstractLoadPlanBasedCollectionInitializer
 		log.debug( "Done loading collection" );
 	}
 
+	/**
+	 * Initialize the collections of the given keys at once, binding the keys as a single array parameter.
+	 *
+	 * @param ids The keys of the collections
+	 * @param session The session
+	 */
+	public void loadCollectionBatch(Serializable[] ids, SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( keyArrayType == null ) {
+			throw new AssertionFailure( "Collection loader not built to bind keys as an array" );
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Batch loading collection: %s",
+					MessageHelper.collectionInfoString( collectionPersister, ids, getFactory() ) );
+		}
+
+		try {
+			final QueryParameters qp = new QueryParameters();
+			qp.setPositionalParameterTypes( new Type[]{ keyArrayType } );
+			qp.setPositionalParameterValues( new Object[]{ ids } );
+			qp.setCollectionKeys( ids );
+
+			qp.setLockOptions( lockOptions );
+
+			executeLoad(
+					session,
+					qp,
+					getStaticLoadQuery(),
+					true,
+					null
+			);
+		}
+		catch ( SQLException sqle ) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not initialize a collection batch: " +
+							MessageHelper.collectionInfoString( collectionPersister, ids, getFactory() ),
+					staticLoadQuery.getSqlStatement()
+			);
+		}
+
+		log.debug( "Done batch load" );
+	}
+
 	protected QueryableCollection collectionPersister() {
 		return collectionPersister;
 	}
 
+	@Override
+	protected String getQueryIdentifier() {
+		return collectionPersister.getRole();
+	}
+
 	@Override
 	protected LoadQueryDetails getStaticLoadQuery() {
 		return staticLoadQuery;
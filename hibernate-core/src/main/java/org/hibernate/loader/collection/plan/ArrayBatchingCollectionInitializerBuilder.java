@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.collection.plan;
+
+import java.io.Serializable;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.collection.BatchingCollectionInitializerBuilder;
+import org.hibernate.loader.collection.CollectionInitializer;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
+import org.hibernate.persister.collection.QueryableCollection;
+
+/**
+ * LoadPlan-based batch collection initializer binding the keys to batch fetch as a single array
+ * parameter, so that a single SQL statement serves every number of keys.
+ * <p/>
+ * The collections whose keys cannot be bound as an array are handled by the builder of the
+ * configured {@link org.hibernate.loader.BatchFetchStyle}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+ */
+public class ArrayBatchingCollectionInitializerBuilder extends AbstractBatchingCollectionInitializerBuilder {
+	private final BatchingCollectionInitializerBuilder fallback;
+
+	public ArrayBatchingCollectionInitializerBuilder(BatchingCollectionInitializerBuilder fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	protected CollectionInitializer createRealBatchingCollectionInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		if ( KeyArrayType.resolve( persister.getKeyType(), factory ) == null ) {
+			return fallback.createBatchingCollectionInitializer( persister, maxBatchSize, factory, influencers );
+		}
+		return new ArrayBatchingCollectionInitializer( persister, maxBatchSize, influencers );
+	}
+
+	@Override
+	protected CollectionInitializer createRealBatchingOneToManyInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		if ( KeyArrayType.resolve( persister.getKeyType(), factory ) == null ) {
+			return fallback.createBatchingOneToManyInitializer( persister, maxBatchSize, factory, influencers );
+		}
+		return new ArrayBatchingCollectionInitializer( persister, maxBatchSize, influencers );
+	}
+
+	public static class ArrayBatchingCollectionInitializer extends BatchingCollectionInitializer {
+		private final int maxBatchSize;
+		private final CollectionLoader batchLoader;
+		private final CollectionLoader singleLoader;
+
+		public ArrayBatchingCollectionInitializer(
+				QueryableCollection persister,
+				int maxBatchSize,
+				LoadQueryInfluencers influencers) {
+			super( persister );
+			this.maxBatchSize = maxBatchSize;
+			this.batchLoader = CollectionLoader.forCollection( persister )
+					.withInfluencers( influencers )
+					.withBatchSize( maxBatchSize )
+					.withKeyArrayParameter( true )
+					.byKey();
+			this.singleLoader = CollectionLoader.forCollection( persister ).withInfluencers( influencers ).byKey();
+		}
+
+		@Override
+		public void initialize(Serializable id, SharedSessionContractImplementor session) throws HibernateException {
+			final Serializable[] batch = session.getPersistenceContextInternal().getBatchFetchQueue()
+					.getCollectionBatch( getCollectionPersister(), id, maxBatchSize );
+
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			if ( numberOfIds <= 1 ) {
+				singleLoader.initialize( id, session );
+				return;
+			}
+
+			final Serializable[] idsToLoad = new Serializable[numberOfIds];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+			batchLoader.loadCollectionBatch( idsToLoad, session );
+		}
+	}
+}
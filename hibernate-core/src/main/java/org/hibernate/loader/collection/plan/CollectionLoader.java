@@ -48,6 +48,7 @@ public class CollectionLoader extends AbstractLoadPlanBasedCollectionInitializer
 		private final QueryableCollection collectionPersister;
 		private int batchSize = 1;
 		private LoadQueryInfluencers influencers = LoadQueryInfluencers.NONE;
+		private boolean keyArrayParameter;
 
 		private Builder(QueryableCollection collectionPersister) {
 			this.collectionPersister = collectionPersister;
@@ -63,13 +64,23 @@ public class CollectionLoader extends AbstractLoadPlanBasedCollectionInitializer
 			return this;
 		}
 
+		/**
+		 * Whether to bind the keys as a single array parameter, which must be
+		 * {@link org.hibernate.loader.plan.exec.internal.KeyArrayType#resolve resolvable} for the key type.
+		 */
+		public Builder withKeyArrayParameter(boolean keyArrayParameter) {
+			this.keyArrayParameter = keyArrayParameter;
+			return this;
+		}
+
 		public CollectionLoader byKey() {
 			// capture current values in a new instance of QueryBuildingParametersImpl
 			final QueryBuildingParameters currentBuildingParameters = new QueryBuildingParametersImpl(
 					influencers,
 					batchSize,
 					LockMode.NONE,
-					null
+					null,
+					keyArrayParameter
 			);
 			return new CollectionLoader( collectionPersister, currentBuildingParameters ) ;
 		}
@@ -9,6 +9,7 @@ package org.hibernate.loader.custom;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.param.ParameterBinder;
 
 /**
@@ -46,4 +47,16 @@ public interface CustomQuery {
 	 */
 	List<Return> getCustomQueryReturns();
 
+	/**
+	 * The column name to index resolutions shared by all the executions of this query, used when
+	 * {@link org.hibernate.cfg.AvailableSettings#WRAP_RESULT_SETS wrapping result sets}.
+	 *
+	 * @return The shared resolutions, or {@code null} if each execution resolves the columns again.
+	 *
+	 * @since 5.5
+	 */
+	default ColumnNameCache getColumnNameCache() {
+		return null;
+	}
+
 }
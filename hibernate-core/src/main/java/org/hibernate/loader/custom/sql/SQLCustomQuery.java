@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQueryReturn;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
@@ -45,6 +46,8 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 
 	private final List customQueryReturns = new ArrayList();
 
+	// resolved by the first execution, as the query is cached within its NativeSQLQueryPlan
+	private transient volatile ColumnNameCache columnNameCache;
 
 	public String getSQL() {
 		return sql;
@@ -63,6 +66,20 @@ public class SQLCustomQuery implements CustomQuery, Serializable {
 		return customQueryReturns;
 	}
 
+	@Override
+	public ColumnNameCache getColumnNameCache() {
+		final ColumnNameCache cache = columnNameCache;
+		if ( cache == null ) {
+			//there is no need for synchronization, as in worst case
+			//concurrent executions resolve the same columns twice
+			columnNameCache = new ColumnNameCache();
+			return columnNameCache;
+		}
+		else {
+			return cache;
+		}
+	}
+
 	public SQLCustomQuery(
 			final String sqlQuery,
 			final NativeSQLQueryReturn[] queryReturns,
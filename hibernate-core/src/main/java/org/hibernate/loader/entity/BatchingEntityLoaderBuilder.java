@@ -10,6 +10,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.entity.plan.ArrayBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.plan.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.plan.LegacyBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.plan.PaddedBatchingEntityLoaderBuilder;
@@ -26,6 +27,14 @@ import org.hibernate.persister.entity.OuterJoinLoadable;
  */
 public abstract class BatchingEntityLoaderBuilder {
 	public static BatchingEntityLoaderBuilder getBuilder(SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().isBatchFetchArrayParameterEnabled()
+				&& factory.getJdbcServices().getDialect().supportsArrayParameterKeyRestriction() ) {
+			return new ArrayBatchingEntityLoaderBuilder( getStyleBuilder( factory ) );
+		}
+		return getStyleBuilder( factory );
+	}
+
+	private static BatchingEntityLoaderBuilder getStyleBuilder(SessionFactoryImplementor factory) {
 		switch ( factory.getSessionFactoryOptions().getBatchFetchStyle() ) {
 			case PADDED: {
 				return PaddedBatchingEntityLoaderBuilder.INSTANCE;
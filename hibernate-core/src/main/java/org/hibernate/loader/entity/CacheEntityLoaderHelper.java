@@ -7,6 +7,8 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -148,6 +150,78 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 	}
 
 
+	/**
+	 * Attempts to load several entities from the second-level cache at once, with a single
+	 * access to the cache.
+	 *
+	 * @param events The load events, one per entity, all of the same session and lock options
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The keys of the entities, in the order of the events
+	 *
+	 * @return The entities from the second-level cache, in the order of the events: {@code null}
+	 * for the entities which are not found in the second-level cache
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final LoadEvent[] events,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+		final Object[] entities = new Object[events.length];
+		if ( events.length == 0 ) {
+			return entities;
+		}
+
+		final SessionImplementor source = events[0].getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& events[0].getLockMode().lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return entities;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[events.length];
+		for ( int i = 0; i < events.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					events[i].getEntityId(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( source, Arrays.asList( cacheKeys ), cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		for ( int i = 0; i < events.length; i++ ) {
+			final Object ce = cachedEntries.get( cacheKeys[i] );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				// the same id may be requested more than once
+				final Object entity = persistenceContext.getEntity( entityKeys[i] );
+				entities[i] = entity != null
+						? entity
+						: processCachedEntry( events[i], persister, ce, source, entityKeys[i] );
+			}
+		}
+		return entities;
+	}
+
 	private Object processCachedEntry(
 			final LoadEvent event,
 			final EntityPersister persister,
@@ -31,6 +31,7 @@ import org.hibernate.loader.plan.build.spi.MetamodelDrivenLoadPlanBuilder;
 import org.hibernate.loader.plan.exec.internal.AbstractLoadPlanBasedLoader;
 import org.hibernate.loader.plan.exec.internal.BatchingLoadQueryDetailsFactory;
 import org.hibernate.loader.plan.exec.internal.EntityLoadQueryDetails;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
 import org.hibernate.loader.plan.exec.process.spi.ResultSetProcessorResolver;
 import org.hibernate.loader.plan.exec.query.spi.QueryBuildingParameters;
 import org.hibernate.loader.plan.exec.spi.LoadQueryDetails;
@@ -53,6 +54,7 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 	private final String entityName;
 
 	private final EntityLoadQueryDetails staticLoadQuery;
+	private final KeyArrayType keyArrayType;
 
 	public AbstractLoadPlanBasedEntityLoader(
 			OuterJoinLoadable entityPersister,
@@ -101,6 +103,7 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 				factory,
 				resultSetProcessorResolver
 		);
+		this.keyArrayType = resolveKeyArrayType( uniqueKeyType, factory, buildingParameters );
 	}
 
 	public AbstractLoadPlanBasedEntityLoader(
@@ -135,6 +138,7 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 				buildingParameters,
 				resultSetProcessorResolver
 		);
+		this.keyArrayType = resolveKeyArrayType( uniqueKeyType, factory, buildingParameters );
 	}
 
 	protected AbstractLoadPlanBasedEntityLoader(
@@ -153,6 +157,20 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 		);
 	}
 
+	private static KeyArrayType resolveKeyArrayType(
+			Type uniqueKeyType,
+			SessionFactoryImplementor factory,
+			QueryBuildingParameters buildingParameters) {
+		if ( !buildingParameters.isKeyArrayParameter() ) {
+			return null;
+		}
+		final KeyArrayType keyArrayType = KeyArrayType.resolve( uniqueKeyType, factory );
+		if ( keyArrayType == null ) {
+			throw new AssertionFailure( "Keys of type " + uniqueKeyType.getName() + " cannot be bound as an array" );
+		}
+		return keyArrayType;
+	}
+
 	public OuterJoinLoadable getEntityPersister() {
 		return entityPersister;
 	}
@@ -166,6 +184,11 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 		return entityName;
 	}
 
+	@Override
+	protected String getQueryIdentifier() {
+		return entityName;
+	}
+
 	public List<?> loadEntityBatch(
 			Serializable[] idsInBatch,
 			OuterJoinLoadable persister,
@@ -216,13 +239,19 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 			log.debugf( "Batch loading entity: %s", MessageHelper.infoString( persister, ids, getFactory() ) );
 		}
 
-		final Type[] types = new Type[ids.length];
-		Arrays.fill( types, idType );
 		List result;
 		try {
 			final QueryParameters qp = new QueryParameters();
-			qp.setPositionalParameterTypes( types );
-			qp.setPositionalParameterValues( ids );
+			if ( keyArrayType != null ) {
+				qp.setPositionalParameterTypes( new Type[] { keyArrayType } );
+				qp.setPositionalParameterValues( new Object[] { ids } );
+			}
+			else {
+				final Type[] types = new Type[ids.length];
+				Arrays.fill( types, idType );
+				qp.setPositionalParameterTypes( types );
+				qp.setPositionalParameterValues( ids );
+			}
 			qp.setOptionalObject( optionalObject );
 			qp.setOptionalEntityName( optionalEntityName );
 			qp.setOptionalId( optionalId );
@@ -273,8 +302,14 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 		final Object result;
 		try {
 			final QueryParameters qp = new QueryParameters();
-			qp.setPositionalParameterTypes( new Type[] { entityPersister.getIdentifierType() } );
-			qp.setPositionalParameterValues( new Object[] { id } );
+			if ( keyArrayType != null ) {
+				qp.setPositionalParameterTypes( new Type[] { keyArrayType } );
+				qp.setPositionalParameterValues( new Object[] { new Serializable[] { id } } );
+			}
+			else {
+				qp.setPositionalParameterTypes( new Type[] { entityPersister.getIdentifierType() } );
+				qp.setPositionalParameterValues( new Object[] { id } );
+			}
 			qp.setOptionalObject( optionalObject );
 			qp.setOptionalEntityName( entityPersister.getEntityName() );
 			qp.setOptionalId( id );
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity.plan;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.internal.BatchFetchQueueHelper;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
+import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+/**
+ * A walking/plan based BatchingEntityLoaderBuilder that builds entity-loader instances binding
+ * the ids to batch fetch as a single array parameter, so that a single SQL statement serves
+ * every number of ids.
+ * <p/>
+ * The entities whose ids cannot be bound as an array are handled by the builder of the
+ * configured {@link org.hibernate.loader.BatchFetchStyle}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+ */
+public class ArrayBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoaderBuilder {
+	private final BatchingEntityLoaderBuilder fallback;
+
+	public ArrayBatchingEntityLoaderBuilder(BatchingEntityLoaderBuilder fallback) {
+		this.fallback = fallback;
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockMode lockMode,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		if ( KeyArrayType.resolve( persister.getIdentifierType(), factory ) == null ) {
+			return fallback.buildLoader( persister, batchSize, lockMode, factory, influencers );
+		}
+		return new ArrayBatchingEntityLoader( persister, batchSize, lockMode, null, influencers );
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockOptions lockOptions,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		if ( KeyArrayType.resolve( persister.getIdentifierType(), factory ) == null ) {
+			return fallback.buildLoader( persister, batchSize, lockOptions, factory, influencers );
+		}
+		return new ArrayBatchingEntityLoader( persister, batchSize, null, lockOptions, influencers );
+	}
+
+	public static class ArrayBatchingEntityLoader extends BatchingEntityLoader {
+		private final int maxBatchSize;
+		private final EntityLoader batchLoader;
+		private final EntityLoader singleLoader;
+
+		protected ArrayBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				LockOptions lockOptions,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister );
+			this.maxBatchSize = maxBatchSize;
+			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
+					.withInfluencers( loadQueryInfluencers )
+					.withLockMode( lockMode )
+					.withLockOptions( lockOptions );
+
+			this.batchLoader = entityLoaderBuilder.withBatchSize( maxBatchSize ).withKeyArrayParameter( true ).byPrimaryKey();
+			// a single id is loaded without array, using the batch loader as a template
+			this.singleLoader = entityLoaderBuilder.withEntityLoaderTemplate( batchLoader )
+					.withBatchSize( 1 )
+					.withKeyArrayParameter( false )
+					.byPrimaryKey();
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions) {
+			return load( id, optionalObject, session, lockOptions, null );
+		}
+
+		@Override
+		public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session, LockOptions lockOptions, Boolean readOnly) {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getEntityBatch( persister(), id, maxBatchSize, persister().getEntityMode() );
+
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			if ( numberOfIds <= 1 ) {
+				final Object result = singleLoader.load( id, optionalObject, session, lockOptions, readOnly );
+				if ( result == null ) {
+					// There was no entity with the specified ID. Make sure the EntityKey does not remain
+					// in the batch to avoid including it in future batches that get executed.
+					BatchFetchQueueHelper.removeBatchLoadableEntityKey( id, persister(), session );
+				}
+				return result;
+			}
+
+			final Serializable[] idsToLoad = new Serializable[numberOfIds];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+
+			final List<?> results = batchLoader.loadEntityBatch(
+					session,
+					idsToLoad,
+					persister().getIdentifierType(),
+					optionalObject,
+					persister().getEntityName(),
+					id,
+					persister(),
+					lockOptions,
+					readOnly
+			);
+
+			// The EntityKey for any entity that is not found will remain in the batch.
+			// Explicitly remove the EntityKeys for entities that were not found to
+			// avoid including them in future batches that get executed.
+			BatchFetchQueueHelper.removeNotFoundBatchLoadableEntityKeys(
+					idsToLoad,
+					results,
+					persister(),
+					session
+			);
+
+			return getObjectFromList( results, id, session );
+		}
+	}
+}
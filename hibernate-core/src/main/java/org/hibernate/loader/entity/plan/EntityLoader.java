@@ -13,6 +13,7 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.loader.plan.exec.internal.EntityLoadQueryDetails;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
 import org.hibernate.loader.plan.exec.query.internal.QueryBuildingParametersImpl;
 import org.hibernate.loader.plan.exec.query.spi.QueryBuildingParameters;
 import org.hibernate.persister.entity.OuterJoinLoadable;
@@ -41,6 +42,7 @@ public class EntityLoader extends AbstractLoadPlanBasedEntityLoader  {
 		private LoadQueryInfluencers influencers = LoadQueryInfluencers.NONE;
 		private LockMode lockMode = LockMode.NONE;
 		private LockOptions lockOptions;
+		private boolean keyArrayParameter;
 
 		public Builder(OuterJoinLoadable persister) {
 			this.persister = persister;
@@ -71,6 +73,15 @@ public class EntityLoader extends AbstractLoadPlanBasedEntityLoader  {
 			return this;
 		}
 
+		/**
+		 * Whether to bind the keys as a single array parameter, which must be
+		 * {@link KeyArrayType#resolve resolvable} for the key type.
+		 */
+		public Builder withKeyArrayParameter(boolean keyArrayParameter) {
+			this.keyArrayParameter = keyArrayParameter;
+			return this;
+		}
+
 		public EntityLoader byPrimaryKey() {
 			return byUniqueKey( persister.getIdentifierColumnNames(), persister.getIdentifierType() );
 		}
@@ -87,7 +98,8 @@ public class EntityLoader extends AbstractLoadPlanBasedEntityLoader  {
 								influencers,
 								batchSize,
 								lockMode,
-								lockOptions
+								lockOptions,
+								keyArrayParameter
 						)
 				);
 			}
@@ -101,7 +113,8 @@ public class EntityLoader extends AbstractLoadPlanBasedEntityLoader  {
 								influencers,
 								batchSize,
 								lockMode,
-								lockOptions
+								lockOptions,
+								keyArrayParameter
 						)
 				);
 			}
@@ -25,6 +25,7 @@ import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.loader.entity.CacheEntityLoaderHelper;
+import org.hibernate.loader.plan.exec.internal.KeyArrayType;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.type.Type;
@@ -71,8 +72,9 @@ public class MultiEntityLoadingSupport {
 			);
 		}
 
-		final List<Serializable> idsInBatch = new ArrayList<>();
-		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		// the ids to look for in the second level cache, all at once
+		final List<Integer> elementPositionsLoadedFromCache = new ArrayList<>();
+		final List<LoadEvent> cacheLoadEvents = new ArrayList<>();
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Serializable id = ids[i];
@@ -107,31 +109,54 @@ public class MultiEntityLoadingSupport {
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					result.add( i, managedEntity );
 					continue;
 				}
+
+				if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					// look for it in the SessionFactory, along with the other ones
+					elementPositionsLoadedFromCache.add( i );
+					cacheLoadEvents.add( loadEvent );
+				}
+			}
+
+			// Save the EntityKey instance for use later!
+			result.add( i, entityKey );
+		}
+
+		if ( !cacheLoadEvents.isEmpty() ) {
+			final EntityKey[] cacheEntityKeys = new EntityKey[cacheLoadEvents.size()];
+			for ( int i = 0; i < cacheEntityKeys.length; i++ ) {
+				cacheEntityKeys[i] = (EntityKey) result.get( elementPositionsLoadedFromCache.get( i ) );
+			}
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					cacheLoadEvents.toArray( new LoadEvent[0] ),
+					persister,
+					cacheEntityKeys
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				if ( cachedEntities[i] != null ) {
+					result.set( elementPositionsLoadedFromCache.get( i ), cachedEntities[i] );
+				}
+			}
+		}
+
+		// the elements which are still EntityKeys need to be batch loaded
+		final List<Serializable> idsInBatch = new ArrayList<>();
+		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( !( result.get( i ) instanceof EntityKey ) ) {
+				continue;
 			}
 
-			// if we did not hit any of the continues above, then we need to batch
-			// load the entity state.
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
 				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
 			}
 
-			// Save the EntityKey instance for use later!
-			result.add( i, entityKey );
 			elementPositionsLoadedByBatch.add( i );
 		}
 
@@ -167,6 +192,7 @@ public class MultiEntityLoadingSupport {
 		final EntityLoader entityLoader = EntityLoader.forEntity( persister )
 				.withInfluencers( session.getLoadQueryInfluencers() )
 				.withLockOptions( lockOptions )
+				.withKeyArrayParameter( isKeyArrayParameter( persister, session ) )
 				.withBatchSize( idsInBatch.size() ).byPrimaryKey();
 
 		entityLoader.loadEntityBatch(
@@ -201,6 +227,9 @@ public class MultiEntityLoadingSupport {
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
 			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
+			// the ids to look for in the second level cache, all at once
+			final List<LoadEvent> cacheLoadEvents = new ArrayList<>();
+			final List<EntityKey> cacheEntityKeys = new ArrayList<>();
 			for ( Serializable id : ids ) {
 				final EntityKey entityKey = new EntityKey( id, persister );
 
@@ -232,23 +261,36 @@ public class MultiEntityLoadingSupport {
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					foundAnyManagedEntities = true;
 					result.add( managedEntity );
 				}
+				else if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					cacheLoadEvents.add( loadEvent );
+					cacheEntityKeys.add( entityKey );
+				}
 				else {
 					nonManagedIds.add( id );
 				}
 			}
 
+			if ( !cacheLoadEvents.isEmpty() ) {
+				final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+						cacheLoadEvents.toArray( new LoadEvent[0] ),
+						persister,
+						cacheEntityKeys.toArray( new EntityKey[0] )
+				);
+				for ( int i = 0; i < cachedEntities.length; i++ ) {
+					if ( cachedEntities[i] != null ) {
+						foundAnyManagedEntities = true;
+						result.add( cachedEntities[i] );
+					}
+					else {
+						nonManagedIds.add( cacheLoadEvents.get( i ).getEntityId() );
+					}
+				}
+			}
+
 			if ( foundAnyManagedEntities ) {
 				if ( nonManagedIds.isEmpty() ) {
 					// all of the given ids were already associated with the Session
@@ -279,6 +321,7 @@ public class MultiEntityLoadingSupport {
 			);
 		}
 
+		final boolean keyArrayParameter = isKeyArrayParameter( persister, session );
 		int idPosition = 0;
 		while ( numberOfIdsLeft > 0 ) {
 			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
@@ -286,6 +329,7 @@ public class MultiEntityLoadingSupport {
 			final EntityLoader entityLoader = EntityLoader.forEntity( persister )
 					.withInfluencers( session.getLoadQueryInfluencers() )
 					.withLockOptions( lockOptions )
+					.withKeyArrayParameter( keyArrayParameter )
 					.withBatchSize( batchSize ).byPrimaryKey();
 
 			Serializable[] idsInBatch = new Serializable[batchSize];
@@ -306,6 +350,13 @@ public class MultiEntityLoadingSupport {
 		return result;
 	}
 
+	/**
+	 * Whether the ids are bound as a single array parameter, so that the same SQL serves every batch size.
+	 */
+	private static boolean isKeyArrayParameter(OuterJoinLoadable persister, SharedSessionContractImplementor session) {
+		return KeyArrayType.resolve( persister.getIdentifierType(), session.getFactory() ) != null;
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -6,6 +6,7 @@
  */
 package org.hibernate.loader.hql;
 
+import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -15,6 +16,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
@@ -32,6 +34,7 @@ import org.hibernate.hql.internal.ast.tree.AggregatedSelectExpression;
 import org.hibernate.hql.internal.ast.tree.FromElement;
 import org.hibernate.hql.internal.ast.tree.QueryNode;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
+import org.hibernate.hql.internal.ast.util.QueryCacheRowRestriction;
 import org.hibernate.hql.spi.NamedParameterInformation;
 import org.hibernate.hql.spi.ParameterInformation;
 import org.hibernate.internal.IteratorImpl;
@@ -506,6 +509,20 @@ public class QueryLoader extends BasicLoader {
 		return list( session, queryParameters, queryTranslator.getQuerySpaces(), queryReturnTypes );
 	}
 
+	@Override
+	protected Set<Serializable> getQueryCacheTimestampSpaces(
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces) {
+		final QueryCacheRowRestriction rowRestriction = queryTranslator.getQueryCacheRowRestriction();
+		if ( rowRestriction != null ) {
+			final Set<Serializable> timestampSpaces = rowRestriction.resolveTimestampSpaces( queryParameters );
+			if ( timestampSpaces != null ) {
+				return timestampSpaces;
+			}
+		}
+		return querySpaces;
+	}
+
 	protected void checkQuery(QueryParameters queryParameters) {
 		if ( hasSelectNew() && queryParameters.getResultTransformer() != null ) {
 			throw new QueryException( "ResultTransformer is not allowed for 'select new' queries." );
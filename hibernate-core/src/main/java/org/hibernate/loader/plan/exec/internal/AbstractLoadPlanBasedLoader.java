@@ -30,6 +30,7 @@ import org.hibernate.engine.jdbc.spi.ResultSetWrapper;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
@@ -77,6 +78,16 @@ public abstract class AbstractLoadPlanBasedLoader {
 
 	protected abstract void autoDiscoverTypes(ResultSet rs);
 
+	/**
+	 * The entity name or collection role the queries of this loader are executed for.
+	 *
+	 * @return The identifier reported to the {@link org.hibernate.StatementTracingSessionEventListener}s,
+	 * or {@code null}
+	 */
+	protected String getQueryIdentifier() {
+		return null;
+	}
+
 	protected List executeLoad(
 			SharedSessionContractImplementor session,
 			QueryParameters queryParameters,
@@ -117,6 +128,15 @@ public abstract class AbstractLoadPlanBasedLoader {
 						forcedResultTransformer,
 						Collections.EMPTY_LIST
 				);
+				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+				if ( eventListenerManager.isStatementTracingEnabled() ) {
+					eventListenerManager.jdbcRowsFetched(
+							session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+									.getSql( wrapper.getStatement() ),
+							getQueryIdentifier(),
+							results.size()
+					);
+				}
 			}
 			finally {
 				if ( wrapper != null ) {
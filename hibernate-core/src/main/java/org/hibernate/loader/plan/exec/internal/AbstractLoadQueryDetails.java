@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.MultipleBagFetchException;
 import org.hibernate.loader.plan.build.spi.LoadPlanTreePrinter;
 import org.hibernate.loader.plan.exec.process.internal.ResultSetProcessorImpl;
@@ -137,7 +138,7 @@ public abstract class AbstractLoadQueryDetails implements LoadQueryDetails {
 					select,
 					getRootTableAlias(),
 					keyColumnNames,
-					getQueryBuildingParameters().getBatchSize()
+					getQueryBuildingParameters()
 			);
 		}
 		else {
@@ -147,7 +148,7 @@ public abstract class AbstractLoadQueryDetails implements LoadQueryDetails {
 					select,
 					getRootTableAlias(),
 					keyColumnNames,
-					getQueryBuildingParameters().getBatchSize()
+					getQueryBuildingParameters()
 			);
 			applyRootReturnFilterRestrictions( select );
 		}
@@ -225,8 +226,21 @@ public abstract class AbstractLoadQueryDetails implements LoadQueryDetails {
 	protected abstract void applyRootReturnOrderByFragments(SelectStatementBuilder selectStatementBuilder);
 
 
-		private static void applyKeyRestriction(SelectStatementBuilder select, String alias, String[] keyColumnNames, int batchSize) {
-		if ( keyColumnNames.length==1 ) {
+	private void applyKeyRestriction(
+			SelectStatementBuilder select,
+			String alias,
+			String[] keyColumnNames,
+			QueryBuildingParameters buildingParameters) {
+		final int batchSize = buildingParameters.getBatchSize();
+		if ( buildingParameters.isKeyArrayParameter() ) {
+			// whatever the number of keys, use "foo = any(?)"
+			select.appendRestrictions(
+					getSessionFactory().getJdbcServices().getDialect().getArrayParameterKeyRestriction(
+							StringHelper.qualify( alias, keyColumnNames[0] )
+					)
+			);
+		}
+		else if ( keyColumnNames.length==1 ) {
 			// NOT A COMPOSITE KEY
 			// 		for batching, use "foo in (?, ?, ?)" for batching
 			//		for no batching, use "foo = ?"
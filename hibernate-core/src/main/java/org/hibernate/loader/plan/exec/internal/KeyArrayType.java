@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.plan.exec.internal;
+
+import java.io.Serializable;
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BasicBinder;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+/**
+ * Binds the keys of a batch load as a single SQL array parameter, for the key restrictions
+ * rendered by {@link Dialect#getArrayParameterKeyRestriction}.
+ * <p/>
+ * Only used to bind parameters, never to read values.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ARRAY_PARAMETER
+ */
+public class KeyArrayType extends AbstractSingleColumnStandardBasicType<Serializable[]> {
+	private final Type keyType;
+
+	private KeyArrayType(AbstractStandardBasicType<?> keyType, Class<?> jdbcType, String elementTypeName) {
+		super(
+				new KeyArraySqlTypeDescriptor( keyType.getJavaTypeDescriptor(), jdbcType, elementTypeName ),
+				KeyArrayJavaTypeDescriptor.INSTANCE
+		);
+		this.keyType = keyType;
+	}
+
+	/**
+	 * Resolve the type binding the given keys as an array, if applicable.
+	 *
+	 * @param keyType The type of the keys
+	 * @param factory The SessionFactory
+	 *
+	 * @return The type binding the keys as an array, or {@code null} if either not enabled, or not
+	 * supported by the Dialect or for this type of keys.
+	 */
+	public static KeyArrayType resolve(Type keyType, SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		if ( !factory.getSessionFactoryOptions().isBatchFetchArrayParameterEnabled()
+				|| !dialect.supportsArrayParameterKeyRestriction()
+				|| !( keyType instanceof AbstractStandardBasicType ) ) {
+			return null;
+		}
+		final int[] sqlTypes = keyType.sqlTypes( factory );
+		if ( sqlTypes.length != 1 ) {
+			return null;
+		}
+		final Class<?> jdbcType;
+		switch ( sqlTypes[0] ) {
+			case Types.BIGINT: {
+				jdbcType = Long.class;
+				break;
+			}
+			case Types.INTEGER: {
+				jdbcType = Integer.class;
+				break;
+			}
+			case Types.SMALLINT: {
+				jdbcType = Short.class;
+				break;
+			}
+			case Types.VARCHAR: {
+				jdbcType = String.class;
+				break;
+			}
+			default: {
+				return null;
+			}
+		}
+		return new KeyArrayType(
+				(AbstractStandardBasicType<?>) keyType,
+				jdbcType,
+				dialect.getArrayParameterElementTypeName( sqlTypes[0] )
+		);
+	}
+
+	@Override
+	public String getName() {
+		return keyType.getName() + "[]";
+	}
+
+	@Override
+	protected boolean registerUnderJavaType() {
+		return false;
+	}
+
+	private static class KeyArraySqlTypeDescriptor implements SqlTypeDescriptor {
+		private final JavaTypeDescriptor keyJavaTypeDescriptor;
+		private final Class<?> jdbcType;
+		private final String elementTypeName;
+
+		private KeyArraySqlTypeDescriptor(
+				JavaTypeDescriptor keyJavaTypeDescriptor,
+				Class<?> jdbcType,
+				String elementTypeName) {
+			this.keyJavaTypeDescriptor = keyJavaTypeDescriptor;
+			this.jdbcType = jdbcType;
+			this.elementTypeName = elementTypeName;
+		}
+
+		@Override
+		public int getSqlType() {
+			return Types.ARRAY;
+		}
+
+		@Override
+		public boolean canBeRemapped() {
+			return false;
+		}
+
+		@Override
+		public <X> ValueBinder<X> getBinder(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			return new BasicBinder<X>( javaTypeDescriptor, this ) {
+				@Override
+				protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+						throws SQLException {
+					st.setArray( index, createArray( st.getConnection(), (Serializable[]) value, options ) );
+				}
+
+				@Override
+				protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+						throws SQLException {
+					st.setObject( name, createArray( st.getConnection(), (Serializable[]) value, options ) );
+				}
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private Array createArray(Connection connection, Serializable[] keys, WrapperOptions options)
+				throws SQLException {
+			final Object[] elements = new Object[keys.length];
+			for ( int i = 0; i < keys.length; i++ ) {
+				elements[i] = keyJavaTypeDescriptor.unwrap( keys[i], jdbcType, options );
+			}
+			return connection.createArrayOf( elementTypeName, elements );
+		}
+
+		@Override
+		public <X> ValueExtractor<X> getExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+			throw new UnsupportedOperationException( "Key arrays are only bound as parameters" );
+		}
+	}
+
+	private static class KeyArrayJavaTypeDescriptor extends AbstractTypeDescriptor<Serializable[]> {
+		private static final KeyArrayJavaTypeDescriptor INSTANCE = new KeyArrayJavaTypeDescriptor();
+
+		private KeyArrayJavaTypeDescriptor() {
+			super( Serializable[].class );
+		}
+
+		@Override
+		public boolean areEqual(Serializable[] one, Serializable[] another) {
+			return Arrays.equals( one, another );
+		}
+
+		@Override
+		public int extractHashCode(Serializable[] value) {
+			return Arrays.hashCode( value );
+		}
+
+		@Override
+		public String toString(Serializable[] value) {
+			return Arrays.toString( value );
+		}
+
+		@Override
+		public Serializable[] fromString(String string) {
+			throw new UnsupportedOperationException( "Key arrays are only bound as parameters" );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <X> X unwrap(Serializable[] value, Class<X> type, WrapperOptions options) {
+			if ( value == null ) {
+				return null;
+			}
+			if ( type.isInstance( value ) ) {
+				return (X) value;
+			}
+			throw unknownUnwrap( type );
+		}
+
+		@Override
+		public <X> Serializable[] wrap(X value, WrapperOptions options) {
+			if ( value == null || value instanceof Serializable[] ) {
+				return (Serializable[]) value;
+			}
+			throw unknownWrap( value.getClass() );
+		}
+	}
+}
@@ -91,7 +91,13 @@ public class ResultSetProcessorImpl implements ResultSetProcessor {
 				readOnly
 		);
 
-		final List loadResults = extractRows( resultSet, queryParameters, context );
+		final List loadResults;
+		try {
+			loadResults = extractRows( resultSet, queryParameters, context );
+		}
+		finally {
+			session.getPersistenceContextInternal().getLoadContexts().cleanupEntityLoadContext( resultSet );
+		}
 
 		rowReader.finishUp( context, afterLoadActionList );
 		context.wrapUp();
@@ -19,16 +19,27 @@ public class QueryBuildingParametersImpl implements QueryBuildingParameters {
 	private final int batchSize;
 	private final LockMode lockMode;
 	private final LockOptions lockOptions;
+	private final boolean keyArrayParameter;
 
 	public QueryBuildingParametersImpl(
 			LoadQueryInfluencers loadQueryInfluencers,
 			int batchSize,
 			LockMode lockMode,
 			LockOptions lockOptions) {
+		this( loadQueryInfluencers, batchSize, lockMode, lockOptions, false );
+	}
+
+	public QueryBuildingParametersImpl(
+			LoadQueryInfluencers loadQueryInfluencers,
+			int batchSize,
+			LockMode lockMode,
+			LockOptions lockOptions,
+			boolean keyArrayParameter) {
 		this.loadQueryInfluencers = loadQueryInfluencers;
 		this.batchSize = batchSize;
 		this.lockMode = lockMode;
 		this.lockOptions = lockOptions;
+		this.keyArrayParameter = keyArrayParameter;
 	}
 
 	@Override
@@ -50,4 +61,9 @@ public class QueryBuildingParametersImpl implements QueryBuildingParameters {
 	public LockOptions getLockOptions() {
 		return lockOptions;
 	}
+
+	@Override
+	public boolean isKeyArrayParameter() {
+		return keyArrayParameter;
+	}
 }
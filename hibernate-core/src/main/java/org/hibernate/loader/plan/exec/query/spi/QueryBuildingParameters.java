@@ -48,4 +48,15 @@ public interface QueryBuildingParameters {
 	 * @return The lock options.
 	 */
 	public LockOptions getLockOptions();
+
+	/**
+	 * Whether the keys to load are bound as a single array parameter, rather than as one parameter per key.
+	 *
+	 * @return {@code true} if the keys are bound as an array.
+	 *
+	 * @see org.hibernate.dialect.Dialect#getArrayParameterKeyRestriction
+	 */
+	default boolean isKeyArrayParameter() {
+		return false;
+	}
 }
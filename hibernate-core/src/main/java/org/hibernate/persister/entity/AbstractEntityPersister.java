@@ -46,11 +46,16 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.bytecode.spi.HydrationOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
+import org.hibernate.cache.spi.entry.SerializedCacheEntry;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
@@ -64,9 +69,11 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.EntityInsertBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.loading.internal.EntityLoadContext;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingActions;
@@ -144,14 +151,31 @@ import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.ValueGeneration;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AssociationType;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.ByteType;
+import org.hibernate.type.CharacterType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.CompositeType;
+import org.hibernate.type.DoubleType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.NumericBooleanType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.TrueFalseType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
+import org.hibernate.type.YesNoType;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.jboss.logging.Logger;
 
 /**
  * Basic functionality for persisting an entity via JDBC
@@ -165,6 +189,9 @@ public abstract class AbstractEntityPersister
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractEntityPersister.class );
 
+	// the values read by a HydrationOptimizer are not logged, so it is bypassed when tracing the extracted values
+	private static final Logger EXTRACTION_LOG = CoreLogging.logger( BasicExtractor.class );
+
 	public static final String ENTITY_CLASS = "class";
 
 	private final NavigableRole navigableRole;
@@ -215,6 +242,12 @@ public abstract class AbstractEntityPersister
 
 	private final List<Integer> lobProperties;
 
+	private final DirtyCheckOptimizer dirtyCheckOptimizer;
+	private final DirtyCheckOptimizer.PropertyDirtyCheck propertyDirtyCheck = this::isPropertyDirty;
+
+	private final HydrationOptimizer hydrationOptimizer;
+	private final boolean[] propertyHydrationOptimized;
+
 	//information about lazy properties of this class
 	private final String[] lazyPropertyNames;
 	private final int[] lazyPropertyNumbers;
@@ -945,6 +978,11 @@ public abstract class AbstractEntityPersister
 
 		this.cacheEntryHelper = buildCacheEntryHelper();
 
+		this.dirtyCheckOptimizer = buildDirtyCheckOptimizer( persistentClass, sessionFactoryOptions );
+
+		this.propertyHydrationOptimized = new boolean[hydrateSpan];
+		this.hydrationOptimizer = buildHydrationOptimizer( persistentClass, sessionFactoryOptions );
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.invalidateCache = canWriteToCache && determineWhetherToInvalidateCache( persistentClass, creationContext );
 		}
@@ -1031,6 +1069,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().getCacheEntrySerializer() != null ) {
+			return new SerializedCacheEntryHelper( this, factory.getSessionFactoryOptions().getCacheEntrySerializer() );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -3190,7 +3232,16 @@ public abstract class AbstractEntityPersister
 			final boolean[] laziness = getPropertyLaziness();
 			final String[] propSubclassNames = getSubclassPropertySubclassNameClosure();
 
+			// deferred properties are read from the sequential select, by column label
+			final boolean optimized = hydrationOptimizer != null && !hasDeferred && !EXTRACTION_LOG.isTraceEnabled();
+			if ( optimized ) {
+				hydrationOptimizer.hydrate( rs, resolveHydrationColumnIndexes( rs, suffixedPropertyColumns, session ), values );
+			}
+
 			for ( int i = 0; i < types.length; i++ ) {
+				if ( optimized && propertyHydrationOptimized[i] ) {
+					continue;
+				}
 				if ( !propertySelectable[i] ) {
 					values[i] = PropertyAccessStrategyBackRefImpl.UNKNOWN;
 				}
@@ -3294,6 +3345,42 @@ public abstract class AbstractEntityPersister
 
 	private BasicBatchKey inserBatchKey;
 
+	private BasicBatchKey buildInsertBatchKey(Expectation expectation) {
+		if ( !getFactory().getSessionFactoryOptions().isJdbcBatchStatementGroupingEnabled() ) {
+			return new BasicBatchKey( getEntityName() + "#INSERT", expectation );
+		}
+
+		final Set<String> tableNames = new HashSet<>();
+		for ( Serializable space : getPropertySpaces() ) {
+			tableNames.add( (String) space );
+		}
+		final Set<String> referencedTableNames = new HashSet<>();
+		collectReferencedTableNames( getIdentifierType(), referencedTableNames );
+		for ( Type propertyType : getPropertyTypes() ) {
+			collectReferencedTableNames( propertyType, referencedTableNames );
+		}
+		return new EntityInsertBatchKey(
+				getEntityName() + "#INSERT",
+				expectation,
+				tableNames,
+				referencedTableNames
+		);
+	}
+
+	private void collectReferencedTableNames(Type type, Set<String> referencedTableNames) {
+		if ( type.isEntityType() ) {
+			final String associatedEntityName = ( (EntityType) type ).getAssociatedEntityName();
+			for ( Serializable space : getFactory().getMetamodel().entityPersister( associatedEntityName ).getPropertySpaces() ) {
+				referencedTableNames.add( (String) space );
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				collectReferencedTableNames( subtype, referencedTableNames );
+			}
+		}
+	}
+
 	/**
 	 * Perform an SQL INSERT.
 	 * <p/>
@@ -3334,10 +3421,7 @@ public abstract class AbstractEntityPersister
 						getIdentifierGenerator().supportsJdbcBatchInserts();
 
 		if ( useBatch && inserBatchKey == null ) {
-			inserBatchKey = new BasicBatchKey(
-					getEntityName() + "#INSERT",
-					expectation
-			);
+			inserBatchKey = buildInsertBatchKey( expectation );
 		}
 		final boolean callable = isInsertCallable( j );
 
@@ -4731,13 +4815,15 @@ public abstract class AbstractEntityPersister
 	 */
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = TypeHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = dirtyCheckOptimizer != null
+				? dirtyCheckOptimizer.findDirty( currentState, previousState, propertyDirtyCheck, session )
+				: TypeHelper.findDirty(
+						entityMetamodel.getProperties(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				);
 		if ( props == null ) {
 			return null;
 		}
@@ -4788,6 +4874,178 @@ public abstract class AbstractEntityPersister
 				: getPropertyUpdateability();
 	}
 
+	private DirtyCheckOptimizer buildDirtyCheckOptimizer(
+			PersistentClass persistentClass,
+			SessionFactoryOptions sessionFactoryOptions) {
+		// the state of entities enhanced for lazy loading may hold unfetched values, which only TypeHelper deals with
+		if ( !sessionFactoryOptions.isDirtyCheckOptimizerEnabled()
+				|| entityMetamodel.getEntityMode() != EntityMode.POJO
+				|| entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				|| persistentClass.getMappedClass() == null ) {
+			return null;
+		}
+
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final DirtyCheckOptimizer.PropertyComparison[] comparisons = new DirtyCheckOptimizer.PropertyComparison[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			comparisons[i] = determinePropertyComparison( properties[i], propertyColumnUpdateable[i] );
+		}
+
+		final BytecodeProvider bytecodeProvider = factory.getServiceRegistry().getService( BytecodeProvider.class );
+		return bytecodeProvider.getDirtyCheckOptimizer( persistentClass.getMappedClass(), comparisons );
+	}
+
+	private static DirtyCheckOptimizer.PropertyComparison determinePropertyComparison(
+			NonIdentifierAttribute property,
+			boolean[] columnUpdateability) {
+		if ( !property.isDirtyCheckable() ) {
+			return DirtyCheckOptimizer.PropertyComparison.NONE;
+		}
+		if ( columnUpdateability.length != 1 ) {
+			return DirtyCheckOptimizer.PropertyComparison.DELEGATE;
+		}
+		final DirtyCheckOptimizer.PropertyComparison comparison = determineBasicComparison( property.getType() );
+		if ( comparison != DirtyCheckOptimizer.PropertyComparison.DELEGATE && !columnUpdateability[0] ) {
+			// the basic types are never dirty when their column is not updatable
+			return DirtyCheckOptimizer.PropertyComparison.NONE;
+		}
+		return comparison;
+	}
+
+	private static DirtyCheckOptimizer.PropertyComparison determineBasicComparison(Type type) {
+		// only the registered instances are known to compare their values through equals()
+		if ( type == LongType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.LONG;
+		}
+		else if ( type == IntegerType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.INTEGER;
+		}
+		else if ( type == ShortType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.SHORT;
+		}
+		else if ( type == ByteType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.BYTE;
+		}
+		else if ( type == CharacterType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.CHARACTER;
+		}
+		else if ( type == BooleanType.INSTANCE
+				|| type == YesNoType.INSTANCE
+				|| type == TrueFalseType.INSTANCE
+				|| type == NumericBooleanType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.BOOLEAN;
+		}
+		else if ( type == StringType.INSTANCE ) {
+			return DirtyCheckOptimizer.PropertyComparison.STRING;
+		}
+		return DirtyCheckOptimizer.PropertyComparison.DELEGATE;
+	}
+
+	private HydrationOptimizer buildHydrationOptimizer(
+			PersistentClass persistentClass,
+			SessionFactoryOptions sessionFactoryOptions) {
+		if ( !sessionFactoryOptions.isHydrationOptimizerEnabled()
+				|| entityMetamodel.getEntityMode() != EntityMode.POJO
+				|| entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading()
+				|| persistentClass.getMappedClass() == null ) {
+			return null;
+		}
+
+		final Type[] types = getPropertyTypes();
+		final boolean[] laziness = getPropertyLaziness();
+		final HydrationOptimizer.ColumnRead[] reads = new HydrationOptimizer.ColumnRead[types.length];
+		boolean anyRead = false;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( propertySelectable[i] && !laziness[i] && propertyColumnSpans[i] == 1 ) {
+				reads[i] = determineColumnRead( types[i], factory.getDialect() );
+			}
+			else {
+				reads[i] = HydrationOptimizer.ColumnRead.NONE;
+			}
+			propertyHydrationOptimized[i] = reads[i] != HydrationOptimizer.ColumnRead.NONE;
+			anyRead = anyRead || propertyHydrationOptimized[i];
+		}
+		if ( !anyRead ) {
+			return null;
+		}
+
+		final BytecodeProvider bytecodeProvider = factory.getServiceRegistry().getService( BytecodeProvider.class );
+		final HydrationOptimizer optimizer = bytecodeProvider.getHydrationOptimizer( persistentClass.getMappedClass(), reads );
+		if ( optimizer == null ) {
+			Arrays.fill( propertyHydrationOptimized, false );
+		}
+		return optimizer;
+	}
+
+	private static HydrationOptimizer.ColumnRead determineColumnRead(Type type, Dialect dialect) {
+		// only the registered instances are known to read their value through the getter of the primitive type,
+		// unless the Dialect overrides their SqlTypeDescriptor
+		final HydrationOptimizer.ColumnRead read;
+		if ( type == LongType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.LONG;
+		}
+		else if ( type == IntegerType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.INTEGER;
+		}
+		else if ( type == ShortType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.SHORT;
+		}
+		else if ( type == ByteType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.BYTE;
+		}
+		else if ( type == BooleanType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.BOOLEAN;
+		}
+		else if ( type == DoubleType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.DOUBLE;
+		}
+		else if ( type == FloatType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.FLOAT;
+		}
+		else if ( type == StringType.INSTANCE ) {
+			read = HydrationOptimizer.ColumnRead.STRING;
+		}
+		else {
+			return HydrationOptimizer.ColumnRead.NONE;
+		}
+
+		final SqlTypeDescriptor sqlTypeDescriptor = ( (AbstractStandardBasicType) type ).getSqlTypeDescriptor();
+		final SqlTypeDescriptor remapped = dialect.remapSqlTypeDescriptor( sqlTypeDescriptor );
+		return remapped == null || remapped == sqlTypeDescriptor ? read : HydrationOptimizer.ColumnRead.NONE;
+	}
+
+	private int[] resolveHydrationColumnIndexes(
+			ResultSet rs,
+			String[][] suffixedPropertyColumns,
+			SharedSessionContractImplementor session) throws SQLException {
+		// the indexes are resolved once per result set, and kept with the other state of its processing
+		final EntityLoadContext entityLoadContext = session.getPersistenceContextInternal()
+				.getLoadContexts()
+				.getEntityLoadContext( rs );
+		final int[] resolved = entityLoadContext.getHydrationColumnIndexes( suffixedPropertyColumns );
+		if ( resolved != null ) {
+			return resolved;
+		}
+
+		final int[] columnIndexes = new int[suffixedPropertyColumns.length];
+		for ( int i = 0; i < columnIndexes.length; i++ ) {
+			if ( propertyHydrationOptimized[i] ) {
+				columnIndexes[i] = rs.findColumn( suffixedPropertyColumns[i][0] );
+			}
+		}
+		entityLoadContext.registerHydrationColumnIndexes( suffixedPropertyColumns, columnIndexes );
+		return columnIndexes;
+	}
+
+	private boolean isPropertyDirty(int property, Object previous, Object current, SharedSessionContractImplementor session) {
+		return entityMetamodel.getProperties()[property].getType().isDirty(
+				previous,
+				current,
+				propertyColumnUpdateable[property],
+				session
+		);
+	}
+
 	private void logDirtyProperties(int[] props) {
 		if ( LOG.isTraceEnabled() ) {
 			for ( int i = 0; i < props.length; i++ ) {
@@ -5890,6 +6148,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class SerializedCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final SerializedCacheEntry structure;
+
+		private SerializedCacheEntryHelper(EntityPersister persister, CacheEntrySerializer serializer) {
+			this.persister = persister;
+			this.structure = new SerializedCacheEntry( persister, serializer );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
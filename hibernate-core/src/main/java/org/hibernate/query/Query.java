@@ -20,6 +20,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -93,6 +95,31 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 */
 	Stream<R> stream();
 
+	/**
+	 * Retrieve a Stream over the query results, like {@link #stream()}, in constant memory: the entities
+	 * of each row are evicted from the session once the stream moves on to the next row (or is closed),
+	 * so that they don't accumulate in the persistence context.  The entities they reference are only
+	 * evicted as per the cascading of the evict operation, and the entities of the consumed rows must not
+	 * be expected to be managed.
+	 * <p>
+	 * The rows are fetched as the stream is consumed.  Unless a fetch size is set on the query, or through
+	 * {@link org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_SIZE}, the JDBC fetch size starts small
+	 * and grows with the number of consumed rows.
+	 * <p>
+	 *
+	 * You should call {@link java.util.stream.Stream#close()} after processing the stream
+	 * so that the underlying resources are deallocated right away.
+	 * <p/>
+	 * The default implementation returns {@link #stream()}, which does not evict anything.
+	 *
+	 * @return The results Stream
+	 *
+	 * @since 5.5
+	 */
+	default Stream<R> detachedStream() {
+		return stream();
+	}
+
 	/**
 	 * Apply the given graph using the given semantic
 	 *
@@ -172,6 +199,55 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 		return uniqueResult();
 	}
 
+	/**
+	 * Asynchronously execute the query, as per {@link #list()}, on the
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}.
+	 * <p/>
+	 * The asynchronous executions of a session never interleave, but the session
+	 * must not be used otherwise until the returned stage completes.  Note that
+	 * the execution does not happen on the calling thread, hence outside of any
+	 * JTA transaction associated to it.
+	 * <p/>
+	 * The default implementation executes the query synchronously, on the calling thread.
+	 *
+	 * @return The stage completed with the query results
+	 *
+	 * @since 5.5
+	 */
+	default CompletionStage<List<R>> listAsync() {
+		final CompletableFuture<List<R>> execution = new CompletableFuture<>();
+		try {
+			execution.complete( list() );
+		}
+		catch (RuntimeException e) {
+			execution.completeExceptionally( e );
+		}
+		return execution;
+	}
+
+	/**
+	 * Asynchronously execute the query, as per {@link #uniqueResult()}, on the
+	 * {@link org.hibernate.cfg.AvailableSettings#ASYNC_EXECUTOR asynchronous executor}.
+	 * <p/>
+	 * The default implementation executes the query synchronously, on the calling thread.
+	 *
+	 * @return The stage completed with the single result, or {@code null}
+	 *
+	 * @see #listAsync()
+	 *
+	 * @since 5.5
+	 */
+	default CompletionStage<R> uniqueResultAsync() {
+		final CompletableFuture<R> execution = new CompletableFuture<>();
+		try {
+			execution.complete( uniqueResult() );
+		}
+		catch (RuntimeException e) {
+			execution.completeExceptionally( e );
+		}
+		return execution;
+	}
+
 	@Override
 	FlushMode getHibernateFlushMode();
 
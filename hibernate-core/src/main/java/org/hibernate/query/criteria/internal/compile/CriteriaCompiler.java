@@ -12,6 +12,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.ParameterExpression;
 
 import org.hibernate.dialect.Dialect;
@@ -33,6 +34,12 @@ import org.hibernate.type.Type;
  * <p/>
  * NOTE : This is a temporary implementation which simply translates the criteria query into a JPAQL query string.  A
  * better, long-term solution is being implemented as part of refactoring the JPAQL/HQL translator.
+ * <p/>
+ * The JPAQL string is the key under which the query plan is cached, so when
+ * {@link org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_NORMALIZATION} is enabled the rendering keeps
+ * anything but the structure of the criteria out of it: literals are bound rather than inlined and, for select
+ * queries, named parameters are rendered under generated names.  Criteria of the same structure then share a single
+ * query plan.
  *
  * @author Steve Ebersole
  */
@@ -56,16 +63,32 @@ public class CriteriaCompiler implements Serializable {
 
 		final SessionFactoryImplementor sessionFactory = entityManager.getFactory();
 
-		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
+		final boolean normalizePlanCacheKey = sessionFactory
+				.getSessionFactoryOptions()
+				.isCriteriaPlanCacheNormalizationEnabled();
+
+		final LiteralHandlingMode configuredLiteralHandlingMode = sessionFactory
 				.getSessionFactoryOptions()
 				.getCriteriaLiteralHandlingMode();
 
+		final LiteralHandlingMode criteriaLiteralHandlingMode =
+				normalizePlanCacheKey && configuredLiteralHandlingMode == LiteralHandlingMode.AUTO
+						? LiteralHandlingMode.BIND
+						: configuredLiteralHandlingMode;
+
+		// update and delete criteria are compiled to a plain Query, whose parameters are bound under their JPQL names,
+		// so only select queries (wrapped by CriteriaQueryTypeQueryAdapter) may render them under generated names
+		final boolean renameNamedParameters = normalizePlanCacheKey && criteria instanceof CriteriaQuery;
+
 		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 
 		RenderingContext renderingContext = new RenderingContext() {
 			private int aliasCount;
 			private int explicitParameterCount;
 
+			// distinct ParameterExpressions given the same name are the same JPQL parameter
+			private final Map<String, String> renderedParameterNames = new HashMap<>();
+
 			private final Stack<Clause> clauseStack = new StandardStack<>();
 			private final Stack<FunctionExpression> functionContextStack = new StandardStack<>();
 
@@ -95,6 +118,12 @@ public class CriteriaCompiler implements Serializable {
 					if ( StringHelper.isNotEmpty( criteriaQueryParameter.getName() ) ) {
 						parameterInfo = new ExplicitParameterInfo(
 								criteriaQueryParameter.getName(),
+								renameNamedParameters
+										? renderedParameterNames.computeIfAbsent(
+												criteriaQueryParameter.getName(),
+												name -> generateParameterName()
+										)
+										: criteriaQueryParameter.getName(),
 								null,
 								criteriaQueryParameter.getJavaType()
 						);
@@ -14,11 +14,13 @@ import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -32,15 +34,21 @@ import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.PropertyNotFoundException;
 import org.hibernate.Query;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.engine.query.spi.NamedParameterDescriptor;
+import org.hibernate.engine.query.spi.OrdinalParameterDescriptor;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.property.access.spi.BuiltInPropertyAccessStrategies;
+import org.hibernate.property.access.spi.Getter;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.QueryParameter;
+import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.query.spi.QueryImplementor;
 import org.hibernate.query.spi.QueryProducerImplementor;
 import org.hibernate.transform.ResultTransformer;
@@ -62,6 +70,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	private final SharedSessionContractImplementor entityManager;
 	private final QueryImplementor<X> jpqlQuery;
 	private final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap;
+	private ParameterMetadata parameterMetadata;
 
 	public CriteriaQueryTypeQueryAdapter(
 			SharedSessionContractImplementor entityManager,
@@ -81,6 +90,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.uniqueResult();
 	}
 
+	@Override
+	public CompletionStage<X> uniqueResultAsync() {
+		return jpqlQuery.uniqueResultAsync();
+	}
+
 	@Override
 	public Optional<X> uniqueResultOptional() {
 		return jpqlQuery.uniqueResultOptional();
@@ -91,11 +105,21 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.stream();
 	}
 
+	@Override
+	public Stream<X> detachedStream() {
+		return jpqlQuery.detachedStream();
+	}
+
 	@Override
 	public List<X> list() {
 		return jpqlQuery.list();
 	}
 
+	@Override
+	public CompletionStage<List<X>> listAsync() {
+		return jpqlQuery.listAsync();
+	}
+
 	@Override
 	public QueryImplementor<X> setCacheMode(CacheMode cacheMode) {
 		jpqlQuery.setCacheMode( cacheMode );
@@ -113,12 +137,46 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 
 	@Override
 	public ParameterMetadata getParameterMetadata() {
-		return jpqlQuery.getParameterMetadata();
+		if ( parameterMetadata == null ) {
+			parameterMetadata = buildParameterMetadata();
+		}
+		return parameterMetadata;
+	}
+
+	/**
+	 * The named parameters of the JPQL query may be rendered under generated names (see
+	 * {@link ExplicitParameterInfo#getRenderedName()}): expose them under the name they were given in the criteria.
+	 */
+	private ParameterMetadata buildParameterMetadata() {
+		final ParameterMetadata jpqlMetadata = jpqlQuery.getParameterMetadata();
+		final Map<String, String> givenNames = new HashMap<>();
+		for ( ExplicitParameterInfo<?> parameterInfo : explicitParameterInfoMap.values() ) {
+			if ( parameterInfo.isNamed() && !parameterInfo.getName().equals( parameterInfo.getRenderedName() ) ) {
+				givenNames.put( parameterInfo.getRenderedName(), parameterInfo.getName() );
+			}
+		}
+		if ( givenNames.isEmpty() ) {
+			return jpqlMetadata;
+		}
+
+		final Map<Integer, OrdinalParameterDescriptor> ordinalDescriptors = new HashMap<>();
+		for ( QueryParameter parameter : jpqlMetadata.getPositionalParameters() ) {
+			ordinalDescriptors.put( parameter.getPosition(), (OrdinalParameterDescriptor) parameter );
+		}
+		final Map<String, NamedParameterDescriptor> namedDescriptors = new HashMap<>();
+		for ( QueryParameter parameter : jpqlMetadata.getNamedParameters() ) {
+			final String name = givenNames.getOrDefault( parameter.getName(), parameter.getName() );
+			namedDescriptors.put(
+					name,
+					new NamedParameterDescriptor( name, parameter.getHibernateType(), parameter.getSourceLocations() )
+			);
+		}
+		return new ParameterMetadataImpl( ordinalDescriptors, namedDescriptors );
 	}
 
 	@Override
 	public String[] getNamedParameters() {
-		return jpqlQuery.getNamedParameters();
+		return getParameterMetadata().getNamedParameterNames().toArray( new String[0] );
 	}
 
 	public int getMaxResults() {
@@ -344,7 +402,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		Parameter<?> jpqlParameter;
 		if ( parameterInfo.isNamed() ) {
-			jpqlParameter = jpqlQuery.getParameter( parameterInfo.getName() );
+			jpqlParameter = jpqlQuery.getParameter( parameterInfo.getRenderedName() );
 		}
 		else {
 			jpqlParameter = jpqlQuery.getParameter( parameterInfo.getPosition() );
@@ -358,7 +416,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			return ( T ) jpqlQuery.getParameterValue( parameterInfo.getName() );
+			return ( T ) jpqlQuery.getParameterValue( parameterInfo.getRenderedName() );
 		}
 		else {
 			return ( T ) jpqlQuery.getParameterValue( parameterInfo.getPosition() );
@@ -390,7 +448,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), t );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), t );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), t );
@@ -403,7 +461,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), calendar, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), calendar, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), calendar, temporalType );
@@ -416,7 +474,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), date, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), date, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), date, temporalType );
@@ -432,8 +490,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public Object getParameterValue(String name) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		return jpqlQuery.getParameterValue( name );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		return jpqlQuery.getParameterValue( renderedName );
 	}
 
 	private ExplicitParameterInfo<?> locateParameterByName(String name) {
@@ -478,7 +536,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( true );
 		ExplicitParameterInfo<?> parameterInfo = locateParameterByName( name );
 		parameterInfo.validateBindValue( value );
-		jpqlQuery.setParameter( name, value );
+		jpqlQuery.setParameter( parameterInfo.getRenderedName(), value );
 		return this;
 	}
 
@@ -487,7 +545,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( true );
 		ExplicitParameterInfo<?> parameterInfo = locateParameterByName( name );
 		parameterInfo.validateCalendarBind();
-		jpqlQuery.setParameter( name, calendar, temporalType );
+		jpqlQuery.setParameter( parameterInfo.getRenderedName(), calendar, temporalType );
 		return this;
 	}
 
@@ -496,7 +554,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( true );
 		ExplicitParameterInfo<?> parameterInfo = locateParameterByName( name );
 		parameterInfo.validateDateBind();
-		jpqlQuery.setParameter( name, date, temporalType );
+		jpqlQuery.setParameter( parameterInfo.getRenderedName(), date, temporalType );
 		return this;
 	}
 
@@ -505,7 +563,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		ExplicitParameterInfo<?> parameterInfo = locateParameterByName( name );
 		parameterInfo.validateBindValue( val );
-		jpqlQuery.setEntity( name, val );
+		jpqlQuery.setEntity( parameterInfo.getRenderedName(), val );
 		return this;
 	}
 
@@ -514,7 +572,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		ExplicitParameterInfo<?> parameterInfo = locateParameterByName( name );
 		parameterInfo.validateBindValue( val );
-		jpqlQuery.setParameter( name, val, type );
+		jpqlQuery.setParameter( parameterInfo.getRenderedName(), val, type );
 		return this;
 	}
 
@@ -524,7 +582,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( parameter );
 		parameterInfo.validateBindValue( val );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), val );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), val );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), val );
@@ -538,7 +596,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( parameter );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), val, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), val, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), val, temporalType );
@@ -549,8 +607,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public <P> QueryImplementor<X> setParameter(String name, P val, TemporalType temporalType) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, val, temporalType );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, val, temporalType );
 		return this;
 	}
 
@@ -559,7 +617,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( parameter );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), values );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), values );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), values );
@@ -570,8 +628,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public QueryImplementor<X> setParameterList(String name, Collection values) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, values );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, values );
 		return this;
 	}
 
@@ -586,8 +644,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public QueryImplementor<X> setParameterList(String name, Collection values, Type type) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, values, type );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, values, type );
 		return this;
 	}
 
@@ -602,8 +660,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public QueryImplementor<X> setParameterList(String name, Object[] values, Type type) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, values, type );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, values, type );
 		return this;
 	}
 
@@ -618,8 +676,8 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public QueryImplementor<X> setParameterList(String name, Object[] values) {
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, values );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, values );
 		return this;
 	}
 
@@ -636,7 +694,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( parameter );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), value, type );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), value, type );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), value, type );
@@ -649,7 +707,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), value, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), value, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), value, temporalType );
@@ -662,7 +720,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), value, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), value, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), value, temporalType );
@@ -675,7 +733,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), value, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), value, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), value, temporalType );
@@ -688,7 +746,7 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		entityManager.checkOpen( false );
 		final ExplicitParameterInfo<?> parameterInfo = resolveParameterInfo( param );
 		if ( parameterInfo.isNamed() ) {
-			jpqlQuery.setParameter( parameterInfo.getName(), value, temporalType );
+			jpqlQuery.setParameter( parameterInfo.getRenderedName(), value, temporalType );
 		}
 		else {
 			jpqlQuery.setParameter( parameterInfo.getPosition(), value, temporalType );
@@ -699,32 +757,32 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 	@Override
 	public QueryImplementor<X> setParameter(String name, Instant value, TemporalType temporalType){
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, value, temporalType );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, value, temporalType );
 		return this;
 	}
 
 	@Override
 	public QueryImplementor<X> setParameter(String name, LocalDateTime value, TemporalType temporalType){
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, value, temporalType );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, value, temporalType );
 		return this;
 	}
 
 	@Override
 	public QueryImplementor<X> setParameter(String name, ZonedDateTime value, TemporalType temporalType){
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, value, temporalType );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, value, temporalType );
 		return this;
 	}
 
 	@Override
 	public QueryImplementor<X> setParameter(String name, OffsetDateTime value, TemporalType temporalType){
 		entityManager.checkOpen( false );
-		locateParameterByName( name );
-		jpqlQuery.setParameter( name, value, temporalType );
+		final String renderedName = locateParameterByName( name ).getRenderedName();
+		jpqlQuery.setParameter( renderedName, value, temporalType );
 		return this;
 	}
 
@@ -736,16 +794,62 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 
 	@Override
 	public QueryImplementor<X> setProperties(Object bean) {
-		jpqlQuery.setProperties( bean );
+		entityManager.checkOpen( false );
+		final Class clazz = bean.getClass();
+		for ( ExplicitParameterInfo<?> parameterInfo : explicitParameterInfoMap.values() ) {
+			if ( !parameterInfo.isNamed() ) {
+				continue;
+			}
+			try {
+				final Getter getter = BuiltInPropertyAccessStrategies.BASIC.getStrategy()
+						.buildPropertyAccess( clazz, parameterInfo.getName() )
+						.getGetter();
+				bindProperty( parameterInfo, getter.get( bean ), getter.getReturnType() );
+			}
+			catch (PropertyNotFoundException pnfe) {
+				// ignore
+			}
+		}
 		return this;
 	}
 
 	@Override
 	public QueryImplementor setProperties(Map map) {
-		jpqlQuery.setProperties( map );
+		entityManager.checkOpen( false );
+		for ( ExplicitParameterInfo<?> parameterInfo : explicitParameterInfoMap.values() ) {
+			if ( !parameterInfo.isNamed() ) {
+				continue;
+			}
+			final Object object = map.get( parameterInfo.getName() );
+			if ( object != null || map.containsKey( parameterInfo.getName() ) ) {
+				bindProperty( parameterInfo, object, object == null ? null : object.getClass() );
+			}
+		}
 		return this;
 	}
 
+	/**
+	 * Binds a bean property or map entry to the JPQL parameter the given criteria parameter was rendered as,
+	 * the same way {@link org.hibernate.query.internal.AbstractProducedQuery#setProperties(Object)} does.
+	 */
+	@SuppressWarnings("unchecked")
+	private void bindProperty(ExplicitParameterInfo<?> parameterInfo, Object value, Class valueType) {
+		final String renderedName = parameterInfo.getRenderedName();
+		if ( valueType != null && Collection.class.isAssignableFrom( valueType ) ) {
+			jpqlQuery.setParameterList( renderedName, (Collection) value );
+		}
+		else if ( valueType != null && valueType.isArray() ) {
+			jpqlQuery.setParameterList( renderedName, (Object[]) value );
+		}
+		else {
+			Type type = jpqlQuery.getParameterMetadata().getQueryParameter( renderedName ).getHibernateType();
+			if ( type == null && valueType != null ) {
+				type = entityManager.getFactory().resolveParameterBindType( valueType );
+			}
+			jpqlQuery.setParameter( renderedName, value, type );
+		}
+	}
+
 	@Override
 	public QueryProducerImplementor getProducer() {
 		return jpqlQuery.getProducer();
@@ -15,10 +15,24 @@ import javax.persistence.Parameter;
  */
 public class ExplicitParameterInfo<T> implements Parameter<T> {
 	private final String name;
+	private final String renderedName;
 	private final Integer position;
 	private final Class<T> type;
 
 	public ExplicitParameterInfo(String name, Integer position, Class<T> type) {
+		this( name, name, position, type );
+	}
+
+	/**
+	 * Creates the info for a named parameter which is rendered into the JPQL under a different name than the one
+	 * it was registered with.
+	 *
+	 * @param name The name of the parameter, as given to the criteria
+	 * @param renderedName The name used in the rendered JPQL
+	 * @param position Always {@code null} when a name is given
+	 * @param type The parameter java type
+	 */
+	public ExplicitParameterInfo(String name, String renderedName, Integer position, Class<T> type) {
 		if ( name == null && position == null ) {
 			throw new IllegalStateException( "Both name and position were null; caller should have generated parameter name" );
 		}
@@ -27,6 +41,7 @@ public class ExplicitParameterInfo<T> implements Parameter<T> {
 		}
 
 		this.name = name;
+		this.renderedName = renderedName;
 		this.position = position;
 		this.type = type;
 	}
@@ -39,6 +54,15 @@ public class ExplicitParameterInfo<T> implements Parameter<T> {
 		return name;
 	}
 
+	/**
+	 * The name of this named parameter within the rendered JPQL; usually the same as {@link #getName()}
+	 *
+	 * @return The rendered name, or {@code null} for positional parameters
+	 */
+	public String getRenderedName() {
+		return renderedName;
+	}
+
 	public Integer getPosition() {
 		return position;
 	}
@@ -55,7 +79,7 @@ public class ExplicitParameterInfo<T> implements Parameter<T> {
 	 */
 	public String render() {
 		return isNamed()
-				? ":" + name
+				? ":" + renderedName
 				: "?" + position.toString();
 	}
 
@@ -25,9 +25,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import javax.persistence.CacheRetrieveMode;
@@ -1434,16 +1436,23 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			);
 		}
 
+		// the mutable options are copied, so that the query can be reused while executing asynchronously
+		final RowSelection selection = new RowSelection();
+		selection.setFirstRow( queryOptions.getFirstRow() );
+		selection.setMaxRows( queryOptions.getMaxRows() );
+		selection.setTimeout( queryOptions.getTimeout() );
+		selection.setFetchSize( queryOptions.getFetchSize() );
+
 		QueryParameters queryParameters = new QueryParameters(
 				getQueryParameterBindings(),
-				getLockOptions(),
-				queryOptions,
+				getLockOptions().makeCopy(),
+				selection,
 				true,
 				isReadOnly(),
 				cacheable,
 				cacheRegion,
 				comment,
-				dbHints,
+				dbHints.isEmpty() ? Collections.emptyList() : new ArrayList<>( dbHints ),
 				null,
 				optionalObject,
 				optionalEntityName,
@@ -1492,9 +1501,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private CacheMode sessionCacheMode;
 
 	protected void beforeQuery() {
-		if ( optionalId == null ) {
-			getQueryParameterBindings().verifyParametersBound( isCallable() );
-		}
+		validateForExecution();
 
 		assert sessionFlushMode == null;
 		assert sessionCacheMode == null;
@@ -1513,6 +1520,25 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		}
 	}
 
+	/**
+	 * Validates, and completes if needed, the state of this query before an execution.
+	 */
+	protected void validateForExecution() {
+		if ( optionalId == null ) {
+			getQueryParameterBindings().verifyParametersBound( isCallable() );
+		}
+	}
+
+	/**
+	 * Captures, from the current state of this query, the Session work to perform right before an
+	 * execution, once the flush and cache modes of the query applied.
+	 *
+	 * @return The work, or {@code null} if none
+	 */
+	protected Runnable prepareBeforeExecution() {
+		return null;
+	}
+
 	protected void afterQuery() {
 		if ( sessionFlushMode != null ) {
 			getProducer().setHibernateFlushMode( sessionFlushMode );
@@ -1592,6 +1618,106 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return stream;
 	}
 
+	@Override
+	public CompletionStage<List<R>> listAsync() {
+		return getProducer().executeAsync( snapshotListExecution() );
+	}
+
+	@Override
+	public CompletionStage<R> uniqueResultAsync() {
+		final Supplier<List<R>> execution = snapshotListExecution();
+		return getProducer().executeAsync( () -> uniqueElement( execution.get() ) );
+	}
+
+	/**
+	 * Captures, on the calling thread, the parameter bindings, options and hints of this query into
+	 * an execution listing its results, so that the query can be rebound or reused while the execution
+	 * runs on another thread.
+	 */
+	private Supplier<List<R>> snapshotListExecution() {
+		validateForExecution();
+		final Supplier<List<R>> list = prepareList();
+		final Runnable beforeExecution = prepareBeforeExecution();
+		final FlushMode flushMode = this.flushMode;
+		final CacheMode cacheMode = CacheModeHelper.effectiveCacheMode( cacheStoreMode, cacheRetrieveMode );
+		final boolean enforcingFetchGraph = entityGraphQueryHint != null
+				&& entityGraphQueryHint.getSemantic() == GraphSemantic.FETCH;
+		final LockOptions lockOptions = getLockOptions().makeCopy();
+
+		return () -> {
+			final SharedSessionContractImplementor session = getProducer();
+			final FlushMode sessionFlushMode = session.getHibernateFlushMode();
+			final CacheMode sessionCacheMode = session.getCacheMode();
+			try {
+				if ( flushMode != null ) {
+					session.setHibernateFlushMode( flushMode );
+				}
+				if ( cacheMode != null ) {
+					session.setCacheMode( cacheMode );
+				}
+				if ( enforcingFetchGraph ) {
+					session.setEnforcingFetchGraph( true );
+				}
+				if ( beforeExecution != null ) {
+					beforeExecution.run();
+				}
+				return list.get();
+			}
+			catch (QueryExecutionRequestException he) {
+				throw new IllegalStateException( he );
+			}
+			catch (TypeMismatchException e) {
+				throw new IllegalArgumentException( e );
+			}
+			catch (HibernateException he) {
+				throw getExceptionConverter().convert( he, lockOptions );
+			}
+			finally {
+				session.setHibernateFlushMode( sessionFlushMode );
+				session.setCacheMode( sessionCacheMode );
+				session.setEnforcingFetchGraph( false );
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<R> detachedStream() {
+		if ( getMaxResults() == 0 ) {
+			final Spliterator<R> spliterator = Spliterators.emptySpliterator();
+			return StreamSupport.stream( spliterator, false );
+		}
+
+		// the fetch size needs to be set before the execution, as some drivers fetch all the rows otherwise
+		final boolean adaptiveFetchSize = queryOptions.getFetchSize() == null
+				&& getProducer().getFactory().getSessionFactoryOptions().getJdbcFetchSize() == null;
+		final ScrollableResultsImplementor scrollableResults;
+		if ( adaptiveFetchSize ) {
+			queryOptions.setFetchSize( DetachingScrollableResultsIterator.INITIAL_FETCH_SIZE );
+			try {
+				scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+			}
+			finally {
+				queryOptions.setFetchSize( (Integer) null );
+			}
+		}
+		else {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+
+		final DetachingScrollableResultsIterator<R> iterator = new DetachingScrollableResultsIterator<>(
+				scrollableResults,
+				getProducer(),
+				adaptiveFetchSize
+		);
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		return new StreamDecorator(
+				StreamSupport.stream( spliterator, false ),
+				iterator::close
+		);
+	}
+
 	@Override
 	public Optional<R> uniqueResultOptional() {
 		return Optional.ofNullable( uniqueResult() );
@@ -1621,22 +1747,28 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return false;
 	}
 
-	@SuppressWarnings("unchecked")
 	protected List<R> doList() {
+		return prepareList().get();
+	}
+
+	/**
+	 * Captures the current parameter bindings and options of this query into an execution listing
+	 * its results.
+	 */
+	@SuppressWarnings("unchecked")
+	protected Supplier<List<R>> prepareList() {
 		if ( getMaxResults() == 0 ) {
-			return Collections.EMPTY_LIST;
+			return Collections::emptyList;
 		}
-		if ( lockOptions.getLockMode() != null && lockOptions.getLockMode() != LockMode.NONE ) {
-			if ( !getProducer().isTransactionInProgress() ) {
+		final boolean locking = lockOptions.getLockMode() != null && lockOptions.getLockMode() != LockMode.NONE;
+		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final QueryParameters queryParameters = makeQueryParametersForExecution( expandedQuery );
+		return () -> {
+			if ( locking && !getProducer().isTransactionInProgress() ) {
 				throw new TransactionRequiredException( "no transaction is in progress" );
 			}
-		}
-
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
-		return getProducer().list(
-				expandedQuery,
-				makeQueryParametersForExecution( expandedQuery )
-		);
+			return getProducer().list( expandedQuery, queryParameters );
+		};
 	}
 
 	protected abstract QueryParameterBindings getQueryParameterBindings();
@@ -8,6 +8,7 @@ package org.hibernate.query.internal;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.ScrollMode;
@@ -73,13 +74,15 @@ public class CollectionFilterImpl extends org.hibernate.query.internal.AbstractP
 	@Override
 	public List list() throws HibernateException {
 		getQueryParameterBindings().verifyParametersBound( false );
+		return prepareList().get();
+	}
 
+	@Override
+	protected Supplier<List> prepareList() {
 		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
-		return getProducer().listFilter(
-				collection,
-				expandedQuery,
-				makeQueryParametersForExecution( expandedQuery )
-		);
+		final QueryParameters queryParameters = makeQueryParametersForExecution( expandedQuery );
+		final Object collection = this.collection;
+		return () -> getProducer().listFilter( collection, expandedQuery, queryParameters );
 	}
 
 	@Override
@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * Iterates over the rows of {@link org.hibernate.query.Query#detachedStream()}: the entities of each row
+ * are evicted from the session once the iteration moves on, so that they don't accumulate in the
+ * persistence context.  Unless a fetch size is configured, the fetch size grows with the number of
+ * consumed rows, so that the first rows are available early while the later ones take few round-trips.
+ * <p/>
+ * The entities which were already managed by the session when the stream was opened are left alone: the stream
+ * only evicts what it loaded.
+ *
+ * @since 5.5
+ */
+class DetachingScrollableResultsIterator<T> implements CloseableIterator {
+	static final int INITIAL_FETCH_SIZE = 16;
+	static final int MAX_FETCH_SIZE = 1024;
+
+	private final ScrollableResultsImplementor scrollableResults;
+	private final SharedSessionContractImplementor session;
+	private final Set<EntityKey> managedEntityKeys;
+
+	private int fetchSize;
+	private int fetchedRows;
+	private Object[] currentRow;
+	private boolean currentRowConsumed = true;
+	private boolean exhausted;
+
+	@SuppressWarnings("unchecked")
+	DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor scrollableResults,
+			SharedSessionContractImplementor session,
+			boolean adaptiveFetchSize) {
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		this.fetchSize = adaptiveFetchSize ? INITIAL_FETCH_SIZE : 0;
+		this.managedEntityKeys = session instanceof EventSource
+				? new HashSet<>( session.getPersistenceContextInternal().getEntitiesByKey().keySet() )
+				: Collections.emptySet();
+	}
+
+	@Override
+	public void close() {
+		try {
+			detachCurrentRow();
+		}
+		finally {
+			scrollableResults.close();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( !currentRowConsumed ) {
+			return true;
+		}
+		detachCurrentRow();
+		if ( exhausted || scrollableResults.isClosed() || !scrollableResults.next() ) {
+			exhausted = true;
+			return false;
+		}
+		currentRow = scrollableResults.get();
+		currentRowConsumed = false;
+		if ( fetchSize > 0 && ++fetchedRows == fetchSize ) {
+			// the driver has just fetched as many rows as the current fetch size: ask for twice more next time
+			fetchedRows = 0;
+			fetchSize = fetchSize < MAX_FETCH_SIZE ? fetchSize * 2 : 0;
+			if ( fetchSize > 0 ) {
+				scrollableResults.setFetchSize( fetchSize );
+			}
+		}
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		currentRowConsumed = true;
+		if ( currentRow.length == 1 ) {
+			return (T) currentRow[0];
+		}
+		else {
+			return (T) currentRow;
+		}
+	}
+
+	private void detachCurrentRow() {
+		if ( currentRow == null ) {
+			return;
+		}
+		// stateless sessions don't retain what they load
+		if ( session instanceof EventSource && !session.isClosed() ) {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			for ( Object element : currentRow ) {
+				if ( element == null ) {
+					continue;
+				}
+				final EntityEntry entry = persistenceContext.getEntry( element );
+				if ( entry != null && !managedEntityKeys.contains( entry.getEntityKey() ) ) {
+					( (EventSource) session ).evict( element );
+				}
+			}
+		}
+		currentRow = null;
+	}
+}
@@ -20,6 +20,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.function.Supplier;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -172,11 +173,10 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 
 	@Override
 	@SuppressWarnings("unchecked")
-	protected List<T> doList() {
-		return getProducer().list(
-				generateQuerySpecification(),
-				getQueryParameters()
-		);
+	protected Supplier<List<T>> prepareList() {
+		final NativeSQLQuerySpecification specification = generateQuerySpecification();
+		final QueryParameters queryParameters = getQueryParameters();
+		return () -> getProducer().list( specification, queryParameters );
 	}
 
 	private NativeSQLQuerySpecification generateQuerySpecification() {
@@ -227,7 +227,7 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 	}
 
 	@Override
-	protected void beforeQuery() {
+	protected void validateForExecution() {
 		prepareQueryReturnsIfNecessary();
 		boolean noReturns = queryReturns == null || queryReturns.isEmpty();
 		if ( noReturns ) {
@@ -249,13 +249,25 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 			}
 		}
 
+		super.validateForExecution();
+	}
+
+	@Override
+	protected void beforeQuery() {
 		super.beforeQuery();
 
+		final Runnable beforeExecution = prepareBeforeExecution();
+		if ( beforeExecution != null ) {
+			beforeExecution.run();
+		}
+	}
 
+	@Override
+	protected Runnable prepareBeforeExecution() {
 		if ( CollectionHelper.isNotEmpty( getSynchronizedQuerySpaces() ) ) {
 			// The application defined query spaces on the Hibernate native SQLQuery which means the query will already
 			// perform a partial flush according to the defined query spaces, no need to do a full flush.
-			return;
+			return null;
 		}
 
 		// otherwise we need to flush.  the query itself is not required to execute in a transaction; if there is
@@ -263,9 +275,12 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 		// apps, so we only do the flush if a transaction is in progress.
 		//
 		// NOTE : this was added for JPA initially.  Perhaps we want to only do this from JPA usage?
-		if ( shouldFlush() ) {
-			getProducer().flush();
-		}
+		final FlushMode flushMode = getHibernateFlushMode();
+		return () -> {
+			if ( shouldFlush( flushMode ) ) {
+				getProducer().flush();
+			}
+		};
 	}
 
 	@Override
@@ -273,9 +288,9 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 		throw new UnsupportedOperationException( "SQL queries do not currently support iteration" );
 	}
 
-	private boolean shouldFlush() {
+	private boolean shouldFlush(FlushMode flushMode) {
 		if ( getProducer().isTransactionInProgress() ) {
-			FlushMode effectiveFlushMode = getHibernateFlushMode();
+			FlushMode effectiveFlushMode = flushMode;
 			if ( effectiveFlushMode == null ) {
 				effectiveFlushMode = getProducer().getHibernateFlushMode();
 			}
@@ -18,4 +18,15 @@ import org.hibernate.ScrollableResults;
 public interface ScrollableResultsImplementor extends ScrollableResults {
 	boolean isClosed();
 	int getNumberOfTypes();
+
+	/**
+	 * Give the JDBC driver a hint as to the number of rows to fetch on the next
+	 * round-trips to the database, as per {@link java.sql.ResultSet#setFetchSize}.
+	 *
+	 * @param fetchSize The number of rows to fetch
+	 *
+	 * @since 5.5
+	 */
+	default void setFetchSize(int fetchSize) {
+	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
@@ -43,6 +44,84 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Take a statement prepared earlier with the same SQL and result set options out of the
+	 * statement cache, and register it as {@link #registerCacheable cacheable}.
+	 *
+	 * @param sql The SQL of the statement
+	 * @param callable Is the statement a {@link java.sql.CallableStatement}?
+	 * @param resultSetType The result set type of the statement
+	 * @param resultSetConcurrency The result set concurrency of the statement
+	 *
+	 * @return The cached statement, or {@code null} if there is none, or statements are not cached.
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default PreparedStatement getCachedStatement(
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int resultSetConcurrency) {
+		return null;
+	}
+
+	/**
+	 * Register a JDBC statement which is, once {@link #release(Statement) released}, kept in the
+	 * statement cache for reuse rather than closed, if statements are cached.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL of the statement
+	 * @param callable Is the statement a {@link java.sql.CallableStatement}?
+	 * @param resultSetType The result set type of the statement
+	 * @param resultSetConcurrency The result set concurrency of the statement
+	 *
+	 * @since 5.5
+	 */
+	default void registerCacheable(
+			PreparedStatement statement,
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int resultSetConcurrency) {
+		register( statement, true );
+	}
+
+	/**
+	 * Close the statements kept in the statement cache.  To be called before the physical
+	 * Connection the statements were prepared on is released.
+	 *
+	 * @since 5.5
+	 */
+	default void releaseCachedStatements() {
+	}
+
+	/**
+	 * Associate the SQL of a registered statement to it, for the statement executions to be
+	 * traced along with their SQL.  The association ends with the release of the statement.
+	 *
+	 * @param statement The registered statement
+	 * @param sql The SQL of the statement
+	 *
+	 * @since 5.5
+	 * @see org.hibernate.StatementTracingSessionEventListener
+	 */
+	default void registerSql(Statement statement, String sql) {
+	}
+
+	/**
+	 * The SQL {@link #registerSql associated} to a registered statement.
+	 *
+	 * @param statement The registered statement
+	 *
+	 * @return The SQL of the statement, or {@code null} if unknown
+	 *
+	 * @since 5.5
+	 */
+	default String getSql(Statement statement) {
+		return null;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p/>
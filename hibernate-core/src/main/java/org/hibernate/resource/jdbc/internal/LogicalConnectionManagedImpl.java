@@ -209,6 +209,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		try {
 			try {
 				getResourceRegistry().releaseResources();
+				// the cached statements belong to the released Connection
+				getResourceRegistry().releaseCachedStatements();
 				if ( !localVariableConnection.isClosed() ) {
 					sqlExceptionHelper.logAndClearWarnings( localVariableConnection );
 				}
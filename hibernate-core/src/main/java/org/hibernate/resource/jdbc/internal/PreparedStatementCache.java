@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The released statements of a physical JDBC Connection kept open for reuse, keyed by their
+ * SQL and result set options, and evicted least recently used first.
+ * <p/>
+ * A statement is taken out of the cache while in use, so that it is never handed out twice.
+ * This class is not threadsafe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+ */
+final class PreparedStatementCache {
+	private final LinkedHashMap<Key, PreparedStatement> statements;
+
+	PreparedStatementCache(final int maxSize) {
+		this.statements = new LinkedHashMap<Key, PreparedStatement>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, PreparedStatement> eldest) {
+				if ( size() > maxSize ) {
+					ResourceRegistryStandardImpl.close( eldest.getValue() );
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Take the statement cached for the given key out of the cache.
+	 *
+	 * @return the cached statement, or {@code null} if none
+	 */
+	PreparedStatement checkOut(Key key) {
+		return statements.remove( key );
+	}
+
+	/**
+	 * Put a released statement back in the cache, possibly evicting the least recently used one.
+	 */
+	void checkIn(Key key, PreparedStatement statement) {
+		final PreparedStatement previous = statements.put( key, statement );
+		if ( previous != null && previous != statement ) {
+			// the same SQL was in use twice at the same time
+			ResourceRegistryStandardImpl.close( previous );
+		}
+	}
+
+	/**
+	 * Close all the cached statements.
+	 */
+	void clear() {
+		if ( !statements.isEmpty() ) {
+			statements.forEach( (key, statement) -> ResourceRegistryStandardImpl.close( statement ) );
+			statements.clear();
+		}
+	}
+
+	static final class Key {
+		private final String sql;
+		private final boolean callable;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		private final int hashCode;
+
+		Key(String sql, boolean callable, int resultSetType, int resultSetConcurrency) {
+			this.sql = sql;
+			this.callable = callable;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			int result = sql.hashCode();
+			result = 31 * result + ( callable ? 1 : 0 );
+			result = 31 * result + resultSetType;
+			result = 31 * result + resultSetConcurrency;
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return callable == key.callable
+					&& resultSetType == key.resultSetType
+					&& resultSetConcurrency == key.resultSetConcurrency
+					&& sql.equals( key.sql );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -34,6 +35,10 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
  *
+ * When a statement cache size is given, the statements registered as cacheable
+ * are cleaned and kept in a {@link PreparedStatementCache} once released,
+ * until {@link #releaseCachedStatements()}.
+ *
  * @author Steve Ebersole
  * @author Sanne Grinovero
  */
@@ -60,12 +65,35 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 
 	private Statement lastQuery;
 
+	//Only used when the statement executions are traced
+	private HashMap<Statement, String> statementSql;
+
+	//Null when statements are not cached
+	private final PreparedStatementCache statementCache;
+	private final HashMap<Statement, PreparedStatementCache.Key> cacheableStatements;
+
 	public ResourceRegistryStandardImpl() {
 		this( null );
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	/**
+	 * @param jdbcObserver The observer notified of the release of the resources, may be null
+	 * @param statementCacheSize The maximum number of released statements kept for reuse, {@code 0} to disable
+	 */
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		if ( statementCacheSize > 0 ) {
+			this.statementCache = new PreparedStatementCache( statementCacheSize );
+			this.cacheableStatements = new HashMap<>();
+		}
+		else {
+			this.statementCache = null;
+			this.cacheableStatements = null;
+		}
 	}
 
 	@Override
@@ -92,10 +120,75 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		}
 	}
 
+	@Override
+	public PreparedStatement getCachedStatement(
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int resultSetConcurrency) {
+		if ( statementCache == null ) {
+			return null;
+		}
+		final PreparedStatementCache.Key key = new PreparedStatementCache.Key(
+				sql,
+				callable,
+				resultSetType,
+				resultSetConcurrency
+		);
+		final PreparedStatement statement = statementCache.checkOut( key );
+		if ( statement != null ) {
+			register( statement, true );
+			cacheableStatements.put( statement, key );
+		}
+		return statement;
+	}
+
+	@Override
+	public void registerCacheable(
+			PreparedStatement statement,
+			String sql,
+			boolean callable,
+			int resultSetType,
+			int resultSetConcurrency) {
+		register( statement, true );
+		if ( statementCache != null ) {
+			cacheableStatements.put(
+					statement,
+					new PreparedStatementCache.Key( sql, callable, resultSetType, resultSetConcurrency )
+			);
+		}
+	}
+
+	@Override
+	public void releaseCachedStatements() {
+		if ( statementCache != null ) {
+			log.trace( "Closing cached statements" );
+			statementCache.clear();
+			cacheableStatements.clear();
+		}
+	}
+
+	@Override
+	public void registerSql(Statement statement, String sql) {
+		if ( statementSql == null ) {
+			statementSql = new HashMap<>();
+		}
+		statementSql.put( statement, sql );
+	}
+
+	@Override
+	public String getSql(Statement statement) {
+		return statementSql == null ? null : statementSql.get( statement );
+	}
+
 	@Override
 	public void release(Statement statement) {
 		log.tracev( "Releasing statement [{0}]", statement );
 
+		if ( statementSql != null ) {
+			statementSql.remove( statement );
+		}
+
 		final HashMap<ResultSet,Object> resultSets = xref.remove( statement );
 		if ( resultSets != null ) {
 			closeAll( resultSets );
@@ -106,7 +199,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( statementCache == null ) {
+			close( statement );
+		}
+		else {
+			closeOrCache( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
@@ -156,6 +254,47 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		close( s );
 	}
 
+	private void releaseCacheableXref(final Statement s, final HashMap<ResultSet, Object> r) {
+		closeAll( r );
+		closeOrCache( s );
+	}
+
+	private void closeOrCache(final Statement statement) {
+		final PreparedStatementCache.Key key = cacheableStatements.remove( statement );
+		if ( key != null && cleanForReuse( (PreparedStatement) statement ) ) {
+			log.tracef( "Caching prepared statement [%s]", statement );
+			statementCache.checkIn( key, (PreparedStatement) statement );
+		}
+		else {
+			close( statement );
+		}
+	}
+
+	private static boolean cleanForReuse(final PreparedStatement statement) {
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			statement.clearParameters();
+			// the statement might be released after a failure, in the middle of a batch
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+			// fetch size hints are applied again as the statement is reused, when needed
+			statement.setFetchSize( 0 );
+			return true;
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+	}
+
 	@SuppressWarnings({"unchecked"})
 	private static void close(final ResultSet resultSet) {
 		log.tracef( "Closing result set [%s]", resultSet );
@@ -320,8 +459,16 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			jdbcObserver.jdbcReleaseRegistryResourcesStart();
 		}
 
-		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		if ( statementCache == null ) {
+			xref.forEach( ResourceRegistryStandardImpl::releaseXref );
+		}
+		else {
+			xref.forEach( this::releaseCacheableXref );
+		}
 		xref.clear();
+		if ( statementSql != null ) {
+			statementSql.clear();
+		}
 
 		closeAll( unassociatedResultSets );
 
@@ -8,6 +8,8 @@ package org.hibernate.resource.jdbc.spi;
 
 import java.sql.Connection;
 
+import org.hibernate.StatementTracingSessionEventListener;
+
 /**
  * @deprecated It is no longer possible to plug custom implementations of
  * this SPI. It will be removed.
@@ -33,5 +35,14 @@ public interface JdbcObserver {
 	default public void jdbcReleaseRegistryResourcesStart() {}
 	default public void jdbcReleaseRegistryResourcesEnd() {}
 
+	/**
+	 * The listener to notify of the details of the JDBC work, if any.
+	 *
+	 * @return the listener, or {@code null} when the details need not be collected
+	 */
+	default public StatementTracingSessionEventListener getStatementTracer() {
+		return null;
+	}
+
 
 }
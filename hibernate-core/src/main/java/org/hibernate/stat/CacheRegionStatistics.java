@@ -8,6 +8,8 @@ package org.hibernate.stat;
 
 import java.io.Serializable;
 
+import org.hibernate.cache.spi.access.AccessType;
+
 /**
  * Second level cache statistics of a specific region
  *
@@ -41,6 +43,49 @@ public interface CacheRegionStatistics extends Serializable {
 	 */
 	long getMissCount();
 
+	/**
+	 * The number of look-ups against the region which found an entry, but a stale one,
+	 * since the last Statistics clearing.  These look-ups are also counted as misses.
+	 * <p/>
+	 * Only maintained for query result regions, where it is the number of cached results
+	 * found to be invalidated by changes to the data they depend on.
+	 *
+	 * @since 5.5
+	 */
+	default long getStaleCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of entries put into the region by the preloading of the cache since
+	 * the last Statistics clearing.  These puts are also counted by {@link #getPutCount()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+	 * @since 5.5
+	 */
+	default long getPreloadCount() {
+		return 0;
+	}
+
+	/**
+	 * The durations of an operation of the given access type against the region, since
+	 * the last Statistics clearing.
+	 * <p/>
+	 * Only maintained for the domain data regions of the caching providers built on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}, such as JCache.
+	 *
+	 * @param accessType The access type of the data being accessed
+	 * @param operation The operation
+	 *
+	 * @return The durations, or {@code null} if the region does not hold data of the given
+	 * access type, or if durations are not recorded for the region
+	 *
+	 * @since 5.5
+	 */
+	default LatencyStatistics getLatencyStatistics(AccessType accessType, Operation operation) {
+		return null;
+	}
+
 	/**
 	 * The number of elements currently in memory within the cache provider.
 	 *
@@ -73,4 +118,30 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The operations against a region whose durations are recorded.
+	 *
+	 * @see #getLatencyStatistics
+	 * @since 5.5
+	 */
+	enum Operation {
+		/**
+		 * The look-ups of entries in the cache
+		 */
+		GET,
+		/**
+		 * The puts of entries into the cache, including the puts of soft locks
+		 */
+		PUT,
+		/**
+		 * The removals and evictions of entries from the cache
+		 */
+		EVICT,
+		/**
+		 * The acquisitions and releases of soft locks by the read-write access type,
+		 * including the gets and puts they involve
+		 */
+		LOCK
+	}
 }
@@ -44,4 +44,15 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch fetch size last chosen (since last Statistics clearing) for this collection
+	 * by the adaptive batch fetching, or {@code 0} if none.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	default int getBatchFetchSize() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -50,4 +50,15 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch fetch size last chosen (since last Statistics clearing) for this entity
+	 * by the adaptive batch fetching, or {@code 0} if none.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_FETCH_ADAPTIVE
+	 */
+	default int getBatchFetchSize() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * The distribution of the durations of an operation since the last Statistics clearing.
+ * <p/>
+ * The durations are recorded into a histogram whose buckets span a quarter of a power of
+ * two: the percentiles are approximated by the upper bound of their bucket, within 25%.
+ *
+ * @since 5.5
+ */
+public interface LatencyStatistics extends Serializable {
+	/**
+	 * The number of recorded operations
+	 */
+	long getCount();
+
+	/**
+	 * The total duration of the recorded operations, in nanoseconds
+	 */
+	long getTotalTime();
+
+	/**
+	 * The duration of the slowest recorded operation, in nanoseconds
+	 */
+	long getMaxTime();
+
+	/**
+	 * The approximate duration, in nanoseconds, under which fall the given proportion
+	 * of the recorded operations.
+	 *
+	 * @param percentile The proportion of the operations, between 0 and 1, e.g. {@code 0.99}
+	 */
+	long getPercentile(double percentile);
+}
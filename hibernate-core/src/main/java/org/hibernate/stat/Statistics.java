@@ -249,6 +249,27 @@ public interface Statistics {
 	 */
 	long getSecondLevelCachePutCount();
 
+	/**
+	 * Global number of cacheable entities put in the cache by its preloading
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+	 * @since 5.5
+	 */
+	default long getSecondLevelCachePreloadCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of entities whose preloading into the cache is scheduled or in progress.
+	 * Unlike the other counts, it is not reset by {@link #clear()}.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_PRELOAD
+	 * @since 5.5
+	 */
+	default long getSecondLevelCachePreloadPendingCount() {
+		return 0;
+	}
+
 	/**
 	 * Global number of sessions closed
 	 */
@@ -386,4 +407,60 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of query plans evicted from the cache to honour its maximum size
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of JDBC batches that were executed, counting one execution per statement of a batch
+	 */
+	default long getJdbcBatchExecutionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of rows (sets of parameters) that were sent to the database as part of JDBC batches.
+	 * Divided by {@link #getJdbcBatchExecutionCount()}, this gives the average size of the executed batches.
+	 */
+	default long getJdbcBatchRowCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of times the adaptive batch fetching changed the batch size of an entity or collection role.
+	 *
+	 * @see EntityStatistics#getBatchFetchSize()
+	 * @see CollectionStatistics#getBatchFetchSize()
+	 */
+	default long getBatchFetchSizeChangeCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements reused from the per Connection statement cache, rather than prepared again.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements looked up in the per Connection statement cache, but prepared anew.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -7,11 +7,17 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.cache.spi.ExtendedStatisticsSupport;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.LatencyStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
 
 /**
@@ -24,10 +30,35 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 
 	private final LongAdder hitCount = new LongAdder();
 	private final LongAdder missCount = new LongAdder();
+	private final LongAdder staleCount = new LongAdder();
+	private final LongAdder preloadCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 
+	/**
+	 * The durations of the operations against the region, indexed by operation ordinal,
+	 * for the access types of the data held by the region
+	 */
+	private final Map<AccessType, LatencyHistogram[]> latencies;
+
 	CacheRegionStatisticsImpl(Region region) {
+		this( region, Collections.emptySet() );
+	}
+
+	CacheRegionStatisticsImpl(Region region, Set<AccessType> accessTypes) {
 		this.region = region;
+		if ( accessTypes.isEmpty() ) {
+			this.latencies = Collections.emptyMap();
+		}
+		else {
+			this.latencies = new EnumMap<>( AccessType.class );
+			for ( AccessType accessType : accessTypes ) {
+				final LatencyHistogram[] histograms = new LatencyHistogram[Operation.values().length];
+				for ( int i = 0; i < histograms.length; i++ ) {
+					histograms[i] = new LatencyHistogram();
+				}
+				this.latencies.put( accessType, histograms );
+			}
+		}
 	}
 
 	@Override
@@ -45,6 +76,22 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		return missCount.sum();
 	}
 
+	@Override
+	public long getStaleCount() {
+		return staleCount.sum();
+	}
+
+	@Override
+	public long getPreloadCount() {
+		return preloadCount.sum();
+	}
+
+	@Override
+	public LatencyStatistics getLatencyStatistics(AccessType accessType, Operation operation) {
+		final LatencyHistogram[] histograms = latencies.get( accessType );
+		return histograms == null ? null : histograms[operation.ordinal()];
+	}
+
 	@Override
 	public long getPutCount() {
 		return putCount.sum();
@@ -82,6 +129,21 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		missCount.increment();
 	}
 
+	void incrementStaleCount() {
+		staleCount.increment();
+	}
+
+	void incrementPreloadCount(int count) {
+		preloadCount.add( count );
+	}
+
+	void recordLatency(AccessType accessType, Operation operation, long nanoseconds) {
+		final LatencyHistogram[] histograms = latencies.get( accessType );
+		if ( histograms != null ) {
+			histograms[operation.ordinal()].record( nanoseconds );
+		}
+	}
+
 	void incrementPutCount() {
 		putCount.increment();
 	}
@@ -92,6 +154,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 				.append( "[region=").append( region.getName() )
 				.append( ",hitCount=").append( this.hitCount )
 				.append( ",missCount=").append( this.missCount )
+				.append( ",staleCount=").append( this.staleCount )
+				.append( ",preloadCount=").append( this.preloadCount )
 				.append( ",putCount=").append( this.putCount )
 				.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
 				.append( ",elementCountOnDisk=" ).append( this.getElementCountOnDisk() )
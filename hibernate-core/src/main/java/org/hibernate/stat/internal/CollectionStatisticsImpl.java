@@ -25,6 +25,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -76,6 +77,15 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		removeCount.increment();
 	}
 
+	@Override
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	public String toString() {
 		final StringBuilder buffer = new StringBuilder()
 				.append( "CollectionStatistics" )
@@ -84,7 +94,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
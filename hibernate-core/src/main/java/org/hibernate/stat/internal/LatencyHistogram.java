@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyStatistics;
+
+/**
+ * A lock-free histogram of durations, counted with striped counters so that concurrent
+ * recordings do not contend.
+ * <p/>
+ * The durations below {@value #SUB_BUCKETS} nanoseconds have their own bucket; above, each power of
+ * two is split into {@value #SUB_BUCKETS} buckets, up to {@code 2^}{@value #MAX_MAGNITUDE} nanoseconds
+ * (about 18 minutes), the last bucket counting all the longer durations.
+ */
+public class LatencyHistogram implements LatencyStatistics {
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_MAGNITUDE = 40;
+	private static final int BUCKETS = ( MAX_MAGNITUDE - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	LatencyHistogram() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	void record(long nanoseconds) {
+		final long duration = Math.max( nanoseconds, 0 );
+		buckets[bucket( duration )].increment();
+		totalTime.add( duration );
+		// only contended while the maximum increases
+		long max;
+		while ( duration > ( max = maxTime.get() ) && !maxTime.compareAndSet( max, duration ) ) {
+		}
+	}
+
+	static int bucket(long nanoseconds) {
+		if ( nanoseconds < SUB_BUCKETS ) {
+			return (int) nanoseconds;
+		}
+		final int magnitude = 63 - Long.numberOfLeadingZeros( nanoseconds );
+		final int subBucket = (int) ( nanoseconds >>> ( magnitude - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+		return Math.min( ( magnitude - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket, BUCKETS - 1 );
+	}
+
+	/**
+	 * The greatest duration counted by the given bucket
+	 */
+	static long upperBound(int bucket) {
+		if ( bucket < SUB_BUCKETS ) {
+			return bucket;
+		}
+		final int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long subBucket = bucket % SUB_BUCKETS;
+		return ( ( SUB_BUCKETS + subBucket + 1 ) << ( magnitude - SUB_BUCKET_BITS ) ) - 1;
+	}
+
+	@Override
+	public long getCount() {
+		long count = 0;
+		for ( LongAdder bucket : buckets ) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getPercentile(double percentile) {
+		final long[] counts = new long[BUCKETS];
+		long count = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts[i] = buckets[i].sum();
+			count += counts[i];
+		}
+		if ( count == 0 ) {
+			return 0;
+		}
+		final long rank = Math.max( 1, (long) Math.ceil( Math.min( Math.max( percentile, 0 ), 1 ) * count ) );
+		long cumulated = 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			cumulated += counts[i];
+			if ( cumulated >= rank ) {
+				return Math.min( upperBound( i ), getMaxTime() );
+			}
+		}
+		return getMaxTime();
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram[count=" + getCount()
+				+ ",totalTime=" + getTotalTime()
+				+ ",maxTime=" + getMaxTime()
+				+ ",p50=" + getPercentile( 0.5 )
+				+ ",p99=" + getPercentile( 0.99 )
+				+ ']';
+	}
+}
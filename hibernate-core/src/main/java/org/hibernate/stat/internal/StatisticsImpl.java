@@ -6,22 +6,29 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -54,6 +61,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder jdbcBatchExecutionCount = new LongAdder();
+	private final LongAdder jdbcBatchRowCount = new LongAdder();
+	private final LongAdder batchFetchSizeChangeCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -69,6 +81,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder secondLevelCacheHitCount = new LongAdder();
 	private final LongAdder secondLevelCacheMissCount = new LongAdder();
 	private final LongAdder secondLevelCachePutCount = new LongAdder();
+	private final LongAdder secondLevelCachePreloadCount = new LongAdder();
+	// not reset by clear()
+	private final LongAdder secondLevelCachePreloadPendingCount = new LongAdder();
 	
 	private final LongAdder naturalIdCacheHitCount = new LongAdder();
 	private final LongAdder naturalIdCacheMissCount = new LongAdder();
@@ -87,6 +102,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -137,6 +153,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		secondLevelCacheHitCount.reset();
 		secondLevelCacheMissCount.reset();
 		secondLevelCachePutCount.reset();
+		secondLevelCachePreloadCount.reset();
 		
 		naturalIdCacheHitCount.reset();
 		naturalIdCacheMissCount.reset();
@@ -153,6 +170,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		jdbcBatchExecutionCount.reset();
+		jdbcBatchRowCount.reset();
+		batchFetchSizeChangeCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -191,6 +213,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		startTime = System.currentTimeMillis();
 	}
@@ -315,6 +338,28 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		getEntityStatistics( entityName.getFullPath() ).incrementCacheMissCount();
 	}
 
+	@Override
+	public void entityCachePreloadScheduled(String entityName) {
+		LOG.tracef( "Statistics#entityCachePreloadScheduled( `%s` )", entityName );
+
+		secondLevelCachePreloadPendingCount.increment();
+	}
+
+	@Override
+	public void entityCachePreloaded(String entityName, String regionName, int count) {
+		LOG.tracef( "Statistics#entityCachePreloaded( `%s`, `%s`, %s )", entityName, regionName, count );
+
+		secondLevelCachePreloadCount.add( count );
+		getDomainDataRegionStatistics( regionName ).incrementPreloadCount( count );
+	}
+
+	@Override
+	public void entityCachePreloadEnded(String entityName) {
+		LOG.tracef( "Statistics#entityCachePreloadEnded( `%s` )", entityName );
+
+		secondLevelCachePreloadPendingCount.decrement();
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Collection stats
@@ -576,11 +621,45 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 						);
 					}
 
-					return new CacheRegionStatisticsImpl( region );
+					return new CacheRegionStatisticsImpl( region, getAccessTypes( region ) );
 				}
 		);
 	}
 
+	/**
+	 * The access types of the data held by a domain data region, for which the durations
+	 * of the operations are recorded
+	 */
+	private Set<AccessType> getAccessTypes(Region region) {
+		if ( !( region instanceof DomainDataRegion ) ) {
+			return Collections.emptySet();
+		}
+		final Set<AccessType> accessTypes = EnumSet.noneOf( AccessType.class );
+		for ( EntityPersister persister : metamodel.entityPersisters().values() ) {
+			if ( persister.canWriteToCache() && persister.getCacheAccessStrategy().getRegion() == region ) {
+				accessTypes.add( persister.getCacheAccessStrategy().getAccessType() );
+			}
+			if ( persister.hasNaturalIdCache() && persister.getNaturalIdCacheAccessStrategy().getRegion() == region ) {
+				accessTypes.add( persister.getNaturalIdCacheAccessStrategy().getAccessType() );
+			}
+		}
+		for ( CollectionPersister persister : metamodel.collectionPersisters().values() ) {
+			if ( persister.hasCache() && persister.getCacheAccessStrategy().getRegion() == region ) {
+				accessTypes.add( persister.getCacheAccessStrategy().getAccessType() );
+			}
+		}
+		return accessTypes;
+	}
+
+	@Override
+	public void cacheOperationCompleted(
+			String regionName,
+			AccessType accessType,
+			CacheRegionStatistics.Operation operation,
+			long nanoseconds) {
+		getDomainDataRegionStatistics( regionName ).recordLatency( accessType, operation, nanoseconds );
+	}
+
 	@Override
 	public CacheRegionStatisticsImpl getQueryRegionStatistics(String regionName) {
 		final CacheRegionStatisticsImpl existing = l2CacheStatsMap.get( regionName );
@@ -622,7 +701,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 						region = cache.getQueryResultsCache( s ).getRegion();
 					}
 
-					return new CacheRegionStatisticsImpl( region );
+					return new CacheRegionStatisticsImpl( region, getAccessTypes( region ) );
 				}
 		);
 	}
@@ -647,6 +726,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return secondLevelCachePutCount.sum();
 	}
 
+	@Override
+	public long getSecondLevelCachePreloadCount() {
+		return secondLevelCachePreloadCount.sum();
+	}
+
+	@Override
+	public long getSecondLevelCachePreloadPendingCount() {
+		return secondLevelCachePreloadPendingCount.sum();
+	}
+
 	@Override
 	public long getUpdateTimestampsCacheHitCount() {
 		return updateTimestampsCacheHitCount.sum();
@@ -772,6 +861,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void queryCacheStale(String regionName) {
+		LOG.tracef( "Statistics#queryCacheStale( `%s` )", regionName );
+
+		getQueryRegionStats( regionName ).incrementStaleCount();
+	}
+
 	@Override
 	public void queryCachePut(String hql, String regionName) {
 		LOG.tracef( "Statistics#queryCachePut( `%s`, `%s` )", hql, regionName );
@@ -795,6 +891,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public void queryPlanCacheEviction(int count) {
+		queryPlanCacheEvictionCount.add( count );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -863,6 +969,31 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getJdbcBatchExecutionCount() {
+		return jdbcBatchExecutionCount.sum();
+	}
+
+	@Override
+	public long getJdbcBatchRowCount() {
+		return jdbcBatchRowCount.sum();
+	}
+
+	@Override
+	public long getBatchFetchSizeChangeCount() {
+		return batchFetchSizeChangeCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -893,6 +1024,34 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
+	@Override
+	public void jdbcBatchExecuted(int rowCount) {
+		jdbcBatchExecutionCount.increment();
+		jdbcBatchRowCount.add( rowCount );
+	}
+
+	@Override
+	public void entityBatchFetchSizeChanged(String entityName, int batchSize) {
+		batchFetchSizeChangeCount.increment();
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void collectionBatchFetchSizeChanged(String role, int batchSize) {
+		batchFetchSizeChangeCount.increment();
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -914,6 +1073,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		LOG.connectionsObtained( connectCount.sum() );
 		LOG.statementsPrepared( prepareStatementCount.sum() );
 		LOG.statementsClosed( closeStatementCount.sum() );
+		LOG.jdbcBatchesExecuted( jdbcBatchExecutionCount.sum(), jdbcBatchRowCount.sum() );
 		LOG.secondLevelCachePuts( secondLevelCachePutCount.sum() );
 		LOG.secondLevelCacheHits( secondLevelCacheHitCount.sum() );
 		LOG.secondLevelCacheMisses( secondLevelCacheMissCount.sum() );
@@ -942,6 +1102,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 		LOG.queryPlanCacheHits( queryPlanCacheHitCount.sum() );
 		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.sum() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.sum() );
 	}
 
 	@Override
@@ -958,6 +1119,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",connections obtained=" ).append( connectCount )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
+				.append( ",JDBC batches executed=" ).append( jdbcBatchExecutionCount )
+				.append( ",JDBC batched rows=" ).append( jdbcBatchRowCount )
+				.append( ",batch fetch size changes=" ).append( batchFetchSizeChangeCount )
+				.append( ",prepared statement cache hits=" ).append( preparedStatementCacheHitCount )
+				.append( ",prepared statement cache misses=" ).append( preparedStatementCacheMissCount )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
 				.append( ",second level cache hits=" ).append( secondLevelCacheHitCount )
 				.append( ",second level cache misses=" ).append( secondLevelCacheMissCount )
@@ -986,6 +1152,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append( ']' )
 				.toString();
 	}
@@ -6,8 +6,10 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 /**
@@ -156,6 +158,48 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void entityCacheMiss(NavigableRole entityName, String regionName);
 
+	/**
+	 * Callback indicating the preloading of an entity into the second level cache was scheduled.
+	 *
+	 * @param entityName The name of the preloaded entity
+	 */
+	default void entityCachePreloadScheduled(String entityName) {
+	}
+
+	/**
+	 * Callback indicating entities were put into the second level cache by its preloading.
+	 *
+	 * @param entityName The name of the preloaded entity
+	 * @param regionName The name of the cache region
+	 * @param count The number of entities
+	 */
+	default void entityCachePreloaded(String entityName, String regionName, int count) {
+	}
+
+	/**
+	 * Callback indicating the preloading of an entity into the second level cache ended,
+	 * whether it completed or failed.
+	 *
+	 * @param entityName The name of the preloaded entity
+	 */
+	default void entityCachePreloadEnded(String entityName) {
+	}
+
+	/**
+	 * Callback indicating an operation against a domain data region of the second level cache completed.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param accessType The access type of the data being accessed
+	 * @param operation The operation
+	 * @param nanoseconds The duration of the operation
+	 */
+	default void cacheOperationCompleted(
+			String regionName,
+			AccessType accessType,
+			CacheRegionStatistics.Operation operation,
+			long nanoseconds) {
+	}
+
 	/**
 	 * Callback indicating a put into second level cache.
 	 *
@@ -224,6 +268,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void queryCacheMiss(String hql, String regionName);
 
+	/**
+	 * Callback indicating a get from the query cache found results, but stale ones.  The get
+	 * is also reported as a miss through {@link #queryCacheMiss}.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void queryCacheStale(String regionName) {
+	}
+
 	/**
 	 * Callback indicating execution of a sql/hql query
 	 *
@@ -266,4 +319,56 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating query plans were evicted from the query plan cache
+	 *
+	 * @param count The number of evicted plans
+	 */
+	default void queryPlanCacheEviction(int count) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the execution of a JDBC batch
+	 *
+	 * @param rowCount The number of rows (sets of parameters) in the executed batch
+	 */
+	default void jdbcBatchExecuted(int rowCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the adaptive batch fetching changed the batch size of an entity
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The new batch size
+	 */
+	default void entityBatchFetchSizeChanged(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating that the adaptive batch fetching changed the batch size of a collection role
+	 *
+	 * @param role The collection role
+	 * @param batchSize The new batch size
+	 */
+	default void collectionBatchFetchSizeChanged(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was reused from the statement cache of a Connection.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the statement cache of a Connection.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
 }
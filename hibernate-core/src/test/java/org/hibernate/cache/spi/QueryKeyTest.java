@@ -9,8 +9,10 @@ package org.hibernate.cache.spi;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.transform.AliasToBeanResultTransformer;
@@ -24,10 +26,17 @@ import org.hibernate.transform.ResultTransformer;
 import org.hibernate.transform.RootEntityResultTransformer;
 import org.hibernate.transform.ToListResultTransformer;
 import org.hibernate.transform.TupleSubsetResultTransformer;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
 
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
 /**
  * Tests relating to {@link QueryKey} instances.
  *
@@ -208,6 +217,48 @@ public class QueryKeyTest extends BaseUnitTestCase {
 		doTest( buildBasicKey( CacheableResultTransformer.create( transformer, null, new boolean[] {false, false, true } ) ) );
 	}
 
+	@Test
+	public void testSerializedEqualityWithParameters() {
+		final Map<String, TypedValue> namedParameters = new HashMap<>();
+		namedParameters.put( "name", new TypedValue( StringType.INSTANCE, "abc" ) );
+		namedParameters.put( "id", new TypedValue( LongType.INSTANCE, 1L ) );
+		doTest( buildKey( namedParameters, 1 ) );
+		doTest( buildKey( Collections.singletonMap( "name", new TypedValue( StringType.INSTANCE, null ) ), 1 ) );
+	}
+
+	@Test
+	public void testNamedParametersOrder() {
+		final Map<String, TypedValue> namedParameters = new LinkedHashMap<>();
+		namedParameters.put( "name", new TypedValue( StringType.INSTANCE, "abc" ) );
+		namedParameters.put( "id", new TypedValue( LongType.INSTANCE, 1L ) );
+		final Map<String, TypedValue> reversedNamedParameters = new LinkedHashMap<>();
+		reversedNamedParameters.put( "id", new TypedValue( LongType.INSTANCE, 1L ) );
+		reversedNamedParameters.put( "name", new TypedValue( StringType.INSTANCE, "abc" ) );
+
+		final QueryKey key = buildKey( namedParameters, 1 );
+		assertEquals( key, buildKey( reversedNamedParameters, 1 ) );
+		assertEquals( key.hashCode(), buildKey( reversedNamedParameters, 1 ).hashCode() );
+		assertEquals( namedParameters, key.getNamedParameters() );
+
+		assertNotEquals( key, buildKey( namedParameters, 2 ) );
+		reversedNamedParameters.put( "name", new TypedValue( StringType.INSTANCE, "abd" ) );
+		assertNotEquals( key, buildKey( reversedNamedParameters, 1 ) );
+	}
+
+	private QueryKey buildKey(Map<String, TypedValue> namedParameters, int positionalParameterValue) {
+		return new QueryKey(
+				QUERY_STRING,
+				new Type[] { IntegerType.INSTANCE },
+				new Object[] { positionalParameterValue },
+				namedParameters,
+				0,
+				10,
+				Collections.EMPTY_SET,
+				"tenant",
+				null
+		);
+	}
+
 	private QueryKey buildBasicKey(CacheableResultTransformer resultTransformer) {
 		return new QueryKey(
 				QUERY_STRING,
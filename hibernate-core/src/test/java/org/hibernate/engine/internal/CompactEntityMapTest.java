@@ -0,0 +1,205 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link EntityKeyOpenHashMap} and {@link IdentityOpenHashMap}, both standalone and as the maps
+ * of the persistence context.
+ */
+public class CompactEntityMapTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.PERSISTENCE_CONTEXT_COMPACT_ENTITY_MAP, "true" );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class, Animal.class };
+	}
+
+	@Test
+	public void testMapOperationsAgainstHashMap() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Person.class );
+		final EntityKeyOpenHashMap map = new EntityKeyOpenHashMap( 0 );
+		final Map<EntityKey, Object> reference = new HashMap<>();
+		final Random random = new Random( 42 );
+
+		for ( int i = 0; i < 20_000; i++ ) {
+			final EntityKey key = new EntityKey( (long) random.nextInt( 2_000 ), persister );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertSame( reference.remove( key ), map.remove( key ) );
+			}
+			else {
+				final Object value = new Object();
+				assertSame( reference.put( key, value ), map.put( key, value ) );
+			}
+			assertEquals( reference.size(), map.size() );
+		}
+
+		for ( long id = 0; id < 2_000; id++ ) {
+			final EntityKey key = new EntityKey( id, persister );
+			assertEquals( reference.containsKey( key ), map.containsKey( key ) );
+			assertSame( reference.get( key ), map.get( key ) );
+		}
+
+		int iterated = 0;
+		for ( Iterator<Object> values = map.valuesIterator(); values.hasNext(); ) {
+			assertTrue( reference.containsValue( values.next() ) );
+			iterated++;
+		}
+		assertEquals( reference.size(), iterated );
+		assertEquals( reference.keySet(), map.keySet() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( new EntityKey( 1L, persister ) ) );
+	}
+
+	@Test
+	public void testDistinctEntitiesWithSameIdentifierValue() {
+		final EntityPersister personPersister = sessionFactory().getMetamodel().entityPersister( Person.class );
+		final EntityPersister animalPersister = sessionFactory().getMetamodel().entityPersister( Animal.class );
+		final EntityKeyOpenHashMap map = new EntityKeyOpenHashMap( 0 );
+
+		final Object person = new Object();
+		final Object animal = new Object();
+		map.put( new EntityKey( 1L, personPersister ), person );
+		map.put( new EntityKey( 1L, animalPersister ), animal );
+
+		assertEquals( 2, map.size() );
+		assertSame( person, map.get( new EntityKey( 1L, personPersister ) ) );
+		assertSame( animal, map.get( new EntityKey( 1L, animalPersister ) ) );
+	}
+
+	@Test
+	public void testIdentityMapOperationsAgainstLinkedHashMap() {
+		final List<Object> keys = new ArrayList<>();
+		for ( int i = 0; i < 500; i++ ) {
+			keys.add( new Object() );
+		}
+		final IdentityOpenHashMap<Object, Object> map = new IdentityOpenHashMap<>( 0 );
+		final Map<Object, Object> reference = new LinkedHashMap<>();
+		final Random random = new Random( 42 );
+
+		for ( int i = 0; i < 20_000; i++ ) {
+			final Object key = keys.get( random.nextInt( keys.size() ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertSame( reference.remove( key ), map.remove( key ) );
+			}
+			else {
+				final Object value = new Object();
+				assertSame( reference.put( key, value ), map.put( key, value ) );
+			}
+			assertEquals( reference.size(), map.size() );
+		}
+
+		for ( Object key : keys ) {
+			assertEquals( reference.containsKey( key ), map.containsKey( key ) );
+			assertSame( reference.get( key ), map.get( key ) );
+		}
+
+		// the insertion order is kept
+		final Iterator<Object> expectedKeys = reference.keySet().iterator();
+		for ( Map.Entry<Object, Object> entry : map.entryArray() ) {
+			final Object key = expectedKeys.next();
+			assertSame( key, entry.getKey() );
+			assertSame( reference.get( key ), entry.getValue() );
+		}
+		assertFalse( expectedKeys.hasNext() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( keys.get( 0 ) ) );
+	}
+
+	@Test
+	public void testIdentityMapComparesKeysByIdentity() {
+		final IdentityOpenHashMap<String, Object> map = new IdentityOpenHashMap<>( 0 );
+		final String key = "key";
+		map.put( key, 1 );
+		map.put( new String( key ), 2 );
+
+		assertEquals( 2, map.size() );
+		assertEquals( 1, map.get( key ) );
+	}
+
+	@Test
+	public void testPersistenceContextUsesCompactMap() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 1_000; id++ ) {
+				session.persist( new Person( id, "person" + id ) );
+			}
+			session.flush();
+
+			final PersistenceContext persistenceContext = ( (SessionImplementor) session ).getPersistenceContextInternal();
+			assertTrue( persistenceContext.getEntitiesByKey() instanceof EntityKeyOpenHashMap );
+			assertTrue( persistenceContext.getCollectionEntries() instanceof IdentityOpenHashMap );
+			assertEquals( 1_000, persistenceContext.getNumberOfManagedEntities() );
+
+			final Person person = session.get( Person.class, 500L );
+			session.evict( person );
+			assertFalse( session.contains( person ) );
+			assertEquals( 999, persistenceContext.getEntitiesByKey().size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Person person = session.get( Person.class, 500L );
+			assertEquals( "person500", person.name );
+			assertSame( person, session.get( Person.class, 500L ) );
+			session.createQuery( "delete from Person" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		Long id;
+		String name;
+
+		Person() {
+		}
+
+		Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Animal")
+	public static class Animal {
+		@Id
+		Long id;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -75,6 +76,25 @@ public class ResultSetWrapperProxyTest {
 		verify( resultSet, times( 1 ) ).updateInt( 23, 19 );
 	}
 
+	@Test
+	public void testColumnIsResolvedOnce() throws SQLException {
+		resultSetProxy.getString( "myColumn" );
+		resultSetProxy.getString( "myColumn" );
+		assertEquals( 1, resultSetProxy.findColumn( "myColumn" ) );
+
+		verify( resultSet, times( 2 ) ).getString( 1 );
+		verify( resultSet, times( 1 ) ).findColumn( "myColumn" );
+	}
+
+	@Test
+	public void testFallbackOnColumnLabel() throws SQLException {
+		when( resultSet.getString( 1 ) ).thenThrow( new SQLException( "index not supported" ) );
+		when( resultSet.getString( "myColumn" ) ).thenReturn( "value" );
+
+		assertEquals( "value", resultSetProxy.getString( "myColumn" ) );
+		verify( resultSet, times( 1 ) ).getString( "myColumn" );
+	}
+
 	@Test
 	public void testStandardMethod() throws SQLException {
 		resultSetProxy.getFetchSize();
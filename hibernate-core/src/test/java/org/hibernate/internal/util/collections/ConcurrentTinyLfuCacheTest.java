@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentTinyLfuCacheTest {
+
+	@Test
+	public void testBasicOperations() {
+		final ConcurrentTinyLfuCache<String, String> cache = new ConcurrentTinyLfuCache<>( 10, null );
+		assertNull( cache.get( "a" ) );
+		assertNull( cache.putIfAbsent( "a", "1" ) );
+		assertEquals( "1", cache.putIfAbsent( "a", "2" ) );
+		assertEquals( "1", cache.get( "a" ) );
+		assertEquals( "3", cache.computeIfAbsent( "b", k -> "3" ) );
+		assertEquals( "3", cache.computeIfAbsent( "b", k -> "4" ) );
+		assertEquals( 2, cache.size() );
+
+		cache.clear();
+		assertEquals( 0, cache.size() );
+		assertNull( cache.get( "a" ) );
+	}
+
+	@Test
+	public void testMaximumSizeIsHonoured() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final ConcurrentTinyLfuCache<Integer, Integer> cache = new ConcurrentTinyLfuCache<>(
+				100,
+				(k, v) -> evictions.incrementAndGet()
+		);
+		for ( int i = 0; i < 1_000; i++ ) {
+			cache.putIfAbsent( i, i );
+			assertTrue( cache.size() <= 100 );
+		}
+		assertEquals( 100, cache.size() );
+		assertEquals( 900, evictions.get() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScans() {
+		final ConcurrentTinyLfuCache<Integer, Integer> cache = new ConcurrentTinyLfuCache<>( 100, null );
+		for ( int hot = 0; hot < 50; hot++ ) {
+			cache.putIfAbsent( hot, hot );
+		}
+		for ( int round = 0; round < 20; round++ ) {
+			for ( int hot = 0; hot < 50; hot++ ) {
+				assertNotNull( cache.get( hot ) );
+			}
+		}
+
+		// a scan of one-off entries, as for queries built with literals
+		for ( int oneOff = 1_000; oneOff < 11_000; oneOff++ ) {
+			cache.putIfAbsent( oneOff, oneOff );
+		}
+
+		int survivors = 0;
+		for ( int hot = 0; hot < 50; hot++ ) {
+			if ( cache.get( hot ) != null ) {
+				survivors++;
+			}
+		}
+		assertTrue( "Only " + survivors + " frequently used entries survived", survivors >= 45 );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final ConcurrentTinyLfuCache<Integer, Integer> cache = new ConcurrentTinyLfuCache<>( 64, null );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				final int seed = t;
+				futures.add( executor.submit( () -> {
+					for ( int i = 0; i < 50_000; i++ ) {
+						final int key = ( i * 31 + seed ) % 200;
+						final Integer value = cache.computeIfAbsent( key, k -> k );
+						assertEquals( key, value.intValue() );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertTrue( cache.size() <= 64 );
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa.test.criteria;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+import org.hibernate.query.Query;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInJPA;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Criteria of the same structure must share a single query plan when
+ * {@link AvailableSettings#CRITERIA_PLAN_CACHE_NORMALIZATION} is enabled.
+ */
+public class CriteriaPlanCacheNormalizationTest extends BaseEntityManagerFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {
+				Product.class
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.CRITERIA_PLAN_CACHE_NORMALIZATION, "true" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void init() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				Product product = new Product();
+				product.id = i;
+				product.name = "product " + i;
+				product.quantity = i * 10;
+				entityManager.persist( product );
+			}
+		} );
+	}
+
+	@Test
+	public void testSameShapeSharesQueryPlan() {
+		final Statistics statistics = entityManagerFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 1; i <= 10; i++ ) {
+			final int id = i;
+			doInJPA( this::entityManagerFactory, entityManager -> {
+				final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+				final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+				final Root<Product> root = criteria.from( Product.class );
+				final ParameterExpression<String> name = cb.parameter( String.class, "name" + id );
+				criteria.where(
+						cb.and(
+								cb.equal( root.get( "id" ), cb.literal( id ) ),
+								cb.equal( root.get( "name" ), name ),
+								cb.greaterThan( root.<Integer>get( "quantity" ), id )
+						)
+				);
+
+				final TypedQuery<Product> query = entityManager.createQuery( criteria );
+				query.setParameter( name, "product " + id );
+				final List<Product> products = query.getResultList();
+				assertEquals( 1, products.size() );
+				assertEquals( Integer.valueOf( id ), products.get( 0 ).id );
+			} );
+		}
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testNamedParameterAccessByGivenName() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+			final Root<Product> root = criteria.from( Product.class );
+			criteria.where(
+					cb.lessThanOrEqualTo( root.<Integer>get( "quantity" ), cb.parameter( Integer.class, "maxQuantity" ) )
+			);
+
+			final TypedQuery<Product> query = entityManager.createQuery( criteria );
+			query.setParameter( "maxQuantity", 30 );
+			assertEquals( Integer.valueOf( 30 ), query.getParameterValue( "maxQuantity" ) );
+			assertEquals( Integer.class, query.getParameter( "maxQuantity" ).getParameterType() );
+			assertEquals( 3, query.getResultList().size() );
+		} );
+	}
+
+	@Test
+	public void testNameGivenToSeveralParameters() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+			final Root<Product> root = criteria.from( Product.class );
+			criteria.where(
+					cb.and(
+							cb.greaterThan( root.<Integer>get( "quantity" ), cb.parameter( Integer.class, "bound" ) ),
+							cb.greaterThan( root.<Integer>get( "id" ), cb.parameter( Integer.class, "bound" ) )
+					)
+			);
+
+			final Query<Product> query = (Query<Product>) entityManager.createQuery( criteria );
+			assertEquals(
+					new HashSet<>( Arrays.asList( "bound" ) ),
+					query.getParameterMetadata().getNamedParameterNames()
+			);
+			query.setParameter( "bound", 7 );
+			assertEquals( 3, query.getResultList().size() );
+		} );
+	}
+
+	@Test
+	public void testSetPropertiesByGivenName() {
+		doInJPA( this::entityManagerFactory, entityManager -> {
+			final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+			final Root<Product> root = criteria.from( Product.class );
+			criteria.where(
+					cb.and(
+							cb.greaterThan( root.<Integer>get( "quantity" ), cb.parameter( Integer.class, "quantity" ) ),
+							cb.like( root.get( "name" ), cb.parameter( String.class, "name" ) )
+					)
+			);
+
+			final Query<Product> query = (Query<Product>) entityManager.createQuery( criteria );
+			assertEquals(
+					new HashSet<>( Arrays.asList( "quantity", "name" ) ),
+					query.getParameterMetadata().getNamedParameterNames()
+			);
+			query.setProperties( new ProductFilter( "product 1%", 50 ) );
+			assertEquals( 1, query.getResultList().size() );
+
+			final Map<String, Object> properties = new HashMap<>();
+			properties.put( "quantity", 0 );
+			properties.put( "name", "product%" );
+			query.setProperties( properties );
+			assertEquals( 10, query.getResultList().size() );
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int quantity;
+	}
+
+	public static class ProductFilter {
+
+		private final String name;
+
+		private final Integer quantity;
+
+		public ProductFilter(String name, Integer quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getQuantity() {
+			return quantity;
+		}
+	}
+}
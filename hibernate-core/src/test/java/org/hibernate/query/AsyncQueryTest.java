@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.NonUniqueResultException;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the asynchronous query executions, on the {@link AvailableSettings#ASYNC_EXECUTOR configured executor}.
+ */
+public class AsyncQueryTest extends BaseCoreFunctionalTestCase {
+
+	private static final AtomicInteger executions = new AtomicInteger();
+
+	// the executions are held until the gate opens
+	private static volatile CountDownLatch gate = new CountDownLatch( 0 );
+
+	private static final Executor executor = command -> {
+		executions.incrementAndGet();
+		final CountDownLatch executionGate = gate;
+		new Thread( () -> {
+			try {
+				executionGate.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			command.run();
+		} ).start();
+	};
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.getProperties().put( AvailableSettings.ASYNC_EXECUTOR, executor );
+	}
+
+	@Before
+	public void prepareBooks() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.persist( new Book( 1L, "Hibernate in Action" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate" ) );
+			session.persist( new Book( 3L, "High-Performance Java Persistence" ) );
+		} );
+		executions.set( 0 );
+	}
+
+	@Test
+	public void testListAsync() {
+		final Thread caller = Thread.currentThread();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<String> titles = session.createQuery( "from Book b order by b.id", Book.class )
+					.listAsync()
+					.thenApply( books -> {
+						assertNotSame( caller, Thread.currentThread() );
+						return books.stream().map( book -> book.title ).collect( Collectors.toList() );
+					} )
+					.toCompletableFuture()
+					.join();
+			assertEquals( 3, titles.size() );
+			assertEquals( "Hibernate in Action", titles.get( 0 ) );
+		} );
+		assertEquals( 1, executions.get() );
+	}
+
+	@Test
+	public void testConfinedExecutions() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Query<Book> all = session.createQuery( "from Book b order by b.id", Book.class );
+			final Query<Book> single = session.createQuery( "from Book b where b.id = :id", Book.class )
+					.setParameter( "id", 2L );
+
+			// the second execution only starts once the first one completes
+			final CompletionStage<List<Book>> books = all.listAsync();
+			final CompletionStage<Book> book = single.uniqueResultAsync();
+
+			assertEquals( 3, books.toCompletableFuture().join().size() );
+			assertEquals( "Java Persistence with Hibernate", book.toCompletableFuture().join().title );
+			// the entities are managed by the session, whichever thread loaded them
+			assertTrue( session.contains( book.toCompletableFuture().join() ) );
+		} );
+		assertEquals( 2, executions.get() );
+	}
+
+	@Test
+	public void testQueryReusedDuringExecution() {
+		gate = new CountDownLatch( 1 );
+		try {
+			doInHibernate( this::sessionFactory, session -> {
+				final Query<Book> query = session.createQuery( "from Book b where b.id >= :id order by b.id", Book.class )
+						.setParameter( "id", 2L )
+						.setMaxResults( 1 );
+
+				final CompletionStage<List<Book>> books = query.listAsync();
+				// rebinding the query does not affect the pending execution
+				query.setParameter( "id", 3L ).setMaxResults( 2 );
+				gate.countDown();
+
+				final List<Book> result = books.toCompletableFuture().join();
+				assertEquals( 1, result.size() );
+				assertEquals( "Java Persistence with Hibernate", result.get( 0 ).title );
+			} );
+		}
+		finally {
+			gate = new CountDownLatch( 0 );
+		}
+	}
+
+	@Test
+	public void testFailedExecution() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Query<Book> nonUnique = session.createQuery( "from Book", Book.class );
+			final Query<Book> all = session.createQuery( "from Book", Book.class );
+
+			final CompletionStage<Book> failed = nonUnique.uniqueResultAsync();
+			final CompletionStage<List<Book>> next = all.listAsync();
+
+			try {
+				failed.toCompletableFuture().join();
+				fail( "Expecting a NonUniqueResultException" );
+			}
+			catch (CompletionException expected) {
+				assertTrue( expected.getCause() instanceof NonUniqueResultException );
+			}
+			// a failed execution does not prevent the next ones
+			assertEquals( 3, next.toCompletableFuture().join().size() );
+		} );
+	}
+
+	@Test
+	public void testStatelessGetAsync() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final Book book = session.getAsync( Book.class, 3L ).toCompletableFuture().join();
+			assertEquals( "High-Performance Java Persistence", book.title );
+			assertEquals( book.title, ( (Book) session.getAsync( "Book", 3L ).toCompletableFuture().join() ).title );
+		}
+		assertEquals( 2, executions.get() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests {@link Query#detachedStream()}.
+ */
+public class DetachedStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final int ROWS = 100;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Invoice.class };
+	}
+
+	@Before
+	public void prepareInvoices() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Invoice" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+			final Customer customer = new Customer( 1L );
+			session.persist( customer );
+			for ( long i = 1; i <= ROWS; i++ ) {
+				session.persist( new Invoice( i, customer ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreDetached() {
+		doInHibernate( this::sessionFactory, session -> {
+			final SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+			try ( Stream<Invoice> invoices = session.createQuery( "from Invoice i order by i.id", Invoice.class )
+					.detachedStream() ) {
+				final Iterator<Invoice> iterator = invoices.iterator();
+				Invoice previous = null;
+				long count = 0;
+				while ( iterator.hasNext() ) {
+					final Invoice invoice = iterator.next();
+					assertTrue( session.contains( invoice ) );
+					if ( previous != null ) {
+						assertFalse( session.contains( previous ) );
+					}
+					// the current invoice and its customer, at most
+					assertTrue( sessionImplementor.getPersistenceContext().getNumberOfManagedEntities() <= 2 );
+					previous = invoice;
+					count++;
+				}
+				assertEquals( ROWS, count );
+				assertFalse( session.contains( previous ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testIteratorContract() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Invoice> invoices = session.createQuery( "from Invoice i order by i.id", Invoice.class )
+					.detachedStream() ) {
+				final Iterator<Invoice> iterator = invoices.iterator();
+				assertTrue( iterator.hasNext() );
+				assertTrue( iterator.hasNext() );
+				assertEquals( Long.valueOf( 1L ), iterator.next().id );
+				assertEquals( Long.valueOf( 2L ), iterator.next().id );
+				long count = 2;
+				while ( iterator.hasNext() ) {
+					iterator.next();
+					count++;
+				}
+				assertEquals( ROWS, count );
+				assertFalse( iterator.hasNext() );
+				try {
+					iterator.next();
+					fail( "NoSuchElementException expected" );
+				}
+				catch (NoSuchElementException expected) {
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesManagedBeforeAreNotDetached() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Invoice managed = session.get( Invoice.class, 1L );
+			try ( Stream<Invoice> invoices = session.createQuery( "from Invoice i order by i.id", Invoice.class )
+					.detachedStream() ) {
+				assertEquals( ROWS, invoices.count() );
+			}
+			assertTrue( session.contains( managed ) );
+			assertTrue( session.contains( managed.customer ) );
+		} );
+	}
+
+	@Test
+	public void testTuplesAreDetached() {
+		doInHibernate( this::sessionFactory, session -> {
+			try ( Stream<Object[]> rows = session.createQuery(
+					"select i, c from Invoice i join i.customer c order by i.id",
+					Object[].class
+			).setFetchSize( 10 ).detachedStream() ) {
+				assertEquals(
+						ROWS,
+						rows.filter( row -> session.contains( row[0] ) && session.contains( row[1] ) ).count()
+				);
+			}
+			assertEquals( 0, session.unwrap( SessionImplementor.class ).getPersistenceContext().getNumberOfManagedEntities() );
+		} );
+	}
+
+	@Test
+	public void testStatelessSession() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession();
+				Stream<Invoice> invoices = session.createQuery( "from Invoice", Invoice.class ).detachedStream() ) {
+			assertEquals( ROWS, invoices.count() );
+		}
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		public Customer() {
+		}
+
+		public Customer(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Customer customer;
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest extends BaseUnitTestCase {
+
+	@Test
+	public void testBuckets() {
+		for ( long nanoseconds = 0; nanoseconds < 1_000_000; nanoseconds += 7 ) {
+			final int bucket = LatencyHistogram.bucket( nanoseconds );
+			assertTrue( nanoseconds <= LatencyHistogram.upperBound( bucket ) );
+			assertTrue( bucket == 0 || nanoseconds > LatencyHistogram.upperBound( bucket - 1 ) );
+		}
+		assertEquals( LatencyHistogram.bucket( Long.MAX_VALUE ), LatencyHistogram.bucket( 1L << 50 ) );
+	}
+
+	@Test
+	public void testStats() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals( 0, histogram.getCount() );
+		assertEquals( 0, histogram.getPercentile( 0.99 ) );
+
+		for ( int i = 1; i <= 100; i++ ) {
+			histogram.record( i * 1000L );
+		}
+
+		assertEquals( 100, histogram.getCount() );
+		assertEquals( 5_050_000, histogram.getTotalTime() );
+		assertEquals( 100_000, histogram.getMaxTime() );
+		assertWithin( 50_000, histogram.getPercentile( 0.5 ) );
+		assertWithin( 99_000, histogram.getPercentile( 0.99 ) );
+		assertEquals( 100_000, histogram.getPercentile( 1 ) );
+	}
+
+	private static void assertWithin(long expected, long actual) {
+		assertTrue( actual >= expected );
+		assertTrue( actual <= expected * 1.25 );
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the batches of different entity inserts being kept open side by side.
+ */
+public class BatchStatementGroupingTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Review.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		configuration.setProperty( AvailableSettings.BATCH_STATEMENT_GROUPING, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update Book set featuredReview = null" ).executeUpdate();
+			session.createQuery( "delete from Review" ).executeUpdate();
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInterleavedInsertsAreGrouped() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				session.persist( new Book( i, author ) );
+			}
+		} );
+
+		assertEquals( 2, statistics.getJdbcBatchExecutionCount() );
+		assertEquals( 20, statistics.getJdbcBatchRowCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				assertSame( session.get( Author.class, i ), session.get( Book.class, i ).author );
+			}
+		} );
+	}
+
+	@Test
+	public void testForeignKeyOrderIsHonoured() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Author( 1L ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = session.get( Author.class, 1L );
+			final Book first = new Book( 1L, author );
+			session.persist( first );
+			final Review review = new Review( 1L, first );
+			session.persist( review );
+			// this Book row references the Review row, so it may not be added to the batch of the first one
+			final Book second = new Book( 2L, author );
+			second.featuredReview = review;
+			session.persist( second );
+		} );
+
+		assertEquals( 3, statistics.getJdbcBatchExecutionCount() );
+		assertEquals( 3, statistics.getJdbcBatchRowCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertSame( session.get( Review.class, 1L ), session.get( Book.class, 2L ).featuredReview );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		public Author() {
+		}
+
+		public Author(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Author author;
+
+		@ManyToOne
+		private Review featuredReview;
+
+		public Book() {
+		}
+
+		public Book(Long id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Book book;
+
+		public Review() {
+		}
+
+		public Review(Long id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the batch sizes chosen when {@value AvailableSettings#BATCH_FETCH_ADAPTIVE} is enabled.
+ */
+public class AdaptiveBatchFetchTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Country.class, City.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "16" );
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_ADAPTIVE, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testBatchSizeFollowsTheAccessPattern() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				final Country country = new Country( "Country " + i );
+				session.persist( country );
+				session.persist( new City( "City " + i, country ) );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		// every country is needed: the batch size grows along the ladder of 16, from 2 to 6 (2+3+4+5+6 = 20)
+		doInHibernate( this::sessionFactory, session -> {
+			final List<City> cities = session.createQuery( "from City order by id", City.class ).list();
+			for ( City city : cities ) {
+				city.getCountry().getName();
+			}
+		} );
+		final EntityStatistics countryStatistics = statistics.getEntityStatistics( Country.class.getName() );
+		assertEquals( 6, countryStatistics.getBatchFetchSize() );
+		assertEquals( 4, statistics.getBatchFetchSizeChangeCount() );
+
+		// a single country is needed: the countries fetched ahead of it are wasted, so the batch size shrinks
+		doInHibernate( this::sessionFactory, session -> {
+			final List<City> cities = session.createQuery( "from City order by id", City.class ).list();
+			cities.get( 0 ).getCountry().getName();
+		} );
+		assertEquals( 5, countryStatistics.getBatchFetchSize() );
+		assertEquals( 5, statistics.getBatchFetchSizeChangeCount() );
+	}
+}
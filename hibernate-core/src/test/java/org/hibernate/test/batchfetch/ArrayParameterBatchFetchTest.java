@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the batch fetches binding their keys as a single array parameter.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class })
+public class ArrayParameterBatchFetchTest extends BaseCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Country.class, City.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "16" );
+		configuration.setProperty( AvailableSettings.BATCH_FETCH_ARRAY_PARAMETER, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( configuration );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntityBatchesOfAnySizeShareTheirSql() {
+		createCountries( 5 );
+
+		final String fiveCountriesSql = fetchCountriesOfCities( "from City" );
+		final String twoCountriesSql = fetchCountriesOfCities( "from City c where c.name in ('City 0', 'City 4')" );
+
+		assertTrue( fiveCountriesSql.contains( "any(?)" ) );
+		assertEquals( fiveCountriesSql, twoCountriesSql );
+	}
+
+	@Test
+	public void testCollectionBatch() {
+		createCountries( 3 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Country> countries = session.createQuery( "from Country", Country.class ).list();
+			sqlStatementInterceptor.clear();
+			Hibernate.initialize( countries.get( 0 ).getCities() );
+
+			assertEquals( 1, sqlStatementInterceptor.getQueryCount() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( "any(?)" ) );
+			for ( Country country : countries ) {
+				assertTrue( Hibernate.isInitialized( country.getCities() ) );
+				assertEquals( 1, country.getCities().size() );
+			}
+		} );
+	}
+
+	@Test
+	public void testMultiLoad() {
+		final List<Integer> ids = createCountries( 3 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Country> countries = session.byMultipleIds( Country.class ).multiLoad( ids );
+
+			assertEquals( 3, countries.size() );
+			assertEquals( 1, sqlStatementInterceptor.getQueryCount() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( "any(?)" ) );
+		} );
+	}
+
+	private List<Integer> createCountries(int count) {
+		final List<Integer> ids = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < count; i++ ) {
+				final Country country = new Country( "Country " + i );
+				session.persist( country );
+				session.persist( new City( "City " + i, country ) );
+				ids.add( country.getId() );
+			}
+		} );
+		return ids;
+	}
+
+	private String fetchCountriesOfCities(String hql) {
+		final List<String> sql = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<City> cities = session.createQuery( hql, City.class ).list();
+			sqlStatementInterceptor.clear();
+			for ( City city : cities ) {
+				city.getCountry().getName();
+			}
+			// all the countries are fetched by the first batch
+			assertEquals( 1, sqlStatementInterceptor.getQueryCount() );
+			sql.add( sqlStatementInterceptor.getSqlQueries().getFirst() );
+		} );
+		return sql.get( 0 );
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer.PropertyComparison;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the dirty checking generated by the ByteBuddy {@link org.hibernate.bytecode.spi.BytecodeProvider}.
+ */
+public class DirtyCheckOptimizerTest extends BaseUnitTestCase {
+
+	private static final PropertyComparison[] COMPARISONS = new PropertyComparison[] {
+			PropertyComparison.LONG,
+			PropertyComparison.INTEGER,
+			PropertyComparison.SHORT,
+			PropertyComparison.BYTE,
+			PropertyComparison.CHARACTER,
+			PropertyComparison.BOOLEAN,
+			PropertyComparison.STRING,
+			PropertyComparison.NONE,
+			PropertyComparison.DELEGATE
+	};
+
+	private final List<Integer> delegatedProperties = new ArrayList<>();
+
+	private final DirtyCheckOptimizer.PropertyDirtyCheck delegate = (property, previous, current, session) -> {
+		delegatedProperties.add( property );
+		return !Objects.equals( previous, current );
+	};
+
+	@Test
+	public void testNothingDirty() {
+		final DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer( Bean.class, COMPARISONS );
+
+		assertNull( optimizer.findDirty( state(), state(), delegate, null ) );
+		assertEquals( 1, delegatedProperties.size() );
+		assertEquals( Integer.valueOf( 8 ), delegatedProperties.get( 0 ) );
+	}
+
+	@Test
+	public void testEachPropertyDirty() {
+		final DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer( Bean.class, COMPARISONS );
+
+		final Object[] changed = new Object[] {
+				2L, 2, (short) 2, (byte) 2, 'b', false, "two", "ignored", 2.0d
+		};
+		for ( int i = 0; i < changed.length; i++ ) {
+			final Object[] current = state();
+			current[i] = changed[i];
+			final int[] dirty = optimizer.findDirty( current, state(), delegate, null );
+			if ( COMPARISONS[i] == PropertyComparison.NONE ) {
+				assertNull( dirty );
+			}
+			else {
+				assertArrayEquals( new int[] { i }, dirty );
+			}
+		}
+	}
+
+	@Test
+	public void testNullValues() {
+		final DirtyCheckOptimizer optimizer = new BytecodeProviderImpl().getDirtyCheckOptimizer( Bean.class, COMPARISONS );
+
+		final Object[] nulls = new Object[COMPARISONS.length];
+		assertNull( optimizer.findDirty( nulls, new Object[COMPARISONS.length], delegate, null ) );
+		assertArrayEquals( new int[] { 0, 1, 2, 3, 4, 5, 6, 8 }, optimizer.findDirty( nulls, state(), delegate, null ) );
+		assertArrayEquals( new int[] { 0, 1, 2, 3, 4, 5, 6, 8 }, optimizer.findDirty( state(), nulls, delegate, null ) );
+	}
+
+	private static Object[] state() {
+		// new instances, so that the values are not compared by identity
+		return new Object[] {
+				new Long( 1L ),
+				new Integer( 1 ),
+				new Short( (short) 1 ),
+				new Byte( (byte) 1 ),
+				new Character( 'a' ),
+				new Boolean( true ),
+				new String( "one" ),
+				"unchecked",
+				new Double( 1.0d )
+		};
+	}
+}
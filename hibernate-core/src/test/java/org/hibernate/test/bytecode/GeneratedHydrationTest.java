@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.annotations.Formula;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the loading of entities read by {@link AvailableSettings#HYDRATION_OPTIMIZER generated classes}.
+ */
+public class GeneratedHydrationTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.HYDRATION_OPTIMIZER, "true" );
+	}
+
+	@Test
+	public void testLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1L );
+			session.persist( owner );
+			final Item item = new Item( 1L, "first" );
+			item.quantity = 3;
+			item.price = 2.5d;
+			item.available = true;
+			item.owner = owner;
+			session.persist( item );
+			session.persist( new Item( 2L, null ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = session.createQuery( "from Item i order by i.id", Item.class ).list();
+			assertEquals( 2, items.size() );
+
+			final Item first = items.get( 0 );
+			assertEquals( "first", first.name );
+			assertEquals( Integer.valueOf( 3 ), first.quantity );
+			assertEquals( 2.5d, first.price, 0d );
+			assertEquals( true, first.available );
+			assertEquals( Integer.valueOf( 6 ), first.doubleQuantity );
+			assertSame( session.get( Owner.class, 1L ), first.owner );
+
+			final Item second = items.get( 1 );
+			assertNull( second.name );
+			assertNull( second.quantity );
+			assertNull( second.doubleQuantity );
+			assertNull( second.owner );
+
+			first.quantity = 4;
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( Integer.valueOf( 4 ), session.get( Item.class, 1L ).quantity );
+		} );
+	}
+
+	@Test
+	public void testSelfJoin() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Item left = new Item( 10L, "left" );
+			left.quantity = 10;
+			session.persist( left );
+			final Item right = new Item( 11L, "right" );
+			right.quantity = 11;
+			session.persist( right );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// both aliases of Item are read from the same result set, at different column indexes
+			final Object[] row = session.createQuery(
+					"select l, r from Item l, Item r where l.id = 10 and r.id = 11",
+					Object[].class
+			).getSingleResult();
+			final Item left = (Item) row[0];
+			final Item right = (Item) row[1];
+			assertEquals( "left", left.name );
+			assertEquals( Integer.valueOf( 10 ), left.quantity );
+			assertEquals( "right", right.name );
+			assertEquals( Integer.valueOf( 11 ), right.quantity );
+		} );
+	}
+
+	@Test
+	public void testStatelessLoad() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item( 3L, "stateless" ) );
+		} );
+
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final Item item = (Item) session.get( Item.class, 3L );
+			assertEquals( "stateless", item.name );
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Integer quantity;
+
+		private double price;
+
+		private boolean available;
+
+		@Formula("quantity * 2")
+		private Integer doubleQuantity;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.HydrationOptimizer;
+import org.hibernate.bytecode.spi.HydrationOptimizer.ColumnRead;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Tests the hydration generated by the ByteBuddy {@link org.hibernate.bytecode.spi.BytecodeProvider}.
+ */
+public class HydrationOptimizerTest extends BaseUnitTestCase {
+
+	private static final ColumnRead[] READS = new ColumnRead[] {
+			ColumnRead.LONG,
+			ColumnRead.INTEGER,
+			ColumnRead.SHORT,
+			ColumnRead.BYTE,
+			ColumnRead.BOOLEAN,
+			ColumnRead.DOUBLE,
+			ColumnRead.FLOAT,
+			ColumnRead.STRING,
+			ColumnRead.NONE
+	};
+
+	// the columns are deliberately not in the order of the properties
+	private static final int[] COLUMN_INDEXES = new int[] { 10, 9, 8, 7, 6, 5, 4, 3, 1 };
+
+	@Test
+	public void testValues() throws Exception {
+		final HydrationOptimizer optimizer = new BytecodeProviderImpl().getHydrationOptimizer( Bean.class, READS );
+
+		final Object[] row = new Object[] {
+				null, null, "one", 1.0f, 1.0d, true, (byte) 1, (short) 1, 1, 1L
+		};
+		final Object[] values = new Object[READS.length];
+		values[8] = "untouched";
+		optimizer.hydrate( resultSet( row ), COLUMN_INDEXES, values );
+
+		assertArrayEquals(
+				new Object[] { 1L, 1, (short) 1, (byte) 1, true, 1.0d, 1.0f, "one", "untouched" },
+				values
+		);
+	}
+
+	@Test
+	public void testNullValues() throws Exception {
+		final HydrationOptimizer optimizer = new BytecodeProviderImpl().getHydrationOptimizer( Bean.class, READS );
+
+		final Object[] values = new Object[READS.length];
+		values[8] = "untouched";
+		optimizer.hydrate( resultSet( new Object[10] ), COLUMN_INDEXES, values );
+
+		assertArrayEquals(
+				new Object[] { null, null, null, null, null, null, null, null, "untouched" },
+				values
+		);
+	}
+
+	/**
+	 * A result set over a single row, following the JDBC conventions for SQL NULL values.
+	 */
+	private static ResultSet resultSet(Object[] row) {
+		final boolean[] wasNull = new boolean[1];
+		return (ResultSet) Proxy.newProxyInstance(
+				HydrationOptimizerTest.class.getClassLoader(),
+				new Class[] { ResultSet.class },
+				(proxy, method, args) -> {
+					if ( method.getName().equals( "wasNull" ) ) {
+						return wasNull[0];
+					}
+					final Object value = row[(Integer) args[0] - 1];
+					wasNull[0] = value == null;
+					if ( value != null || !method.getReturnType().isPrimitive() ) {
+						return value;
+					}
+					else if ( method.getReturnType() == boolean.class ) {
+						return false;
+					}
+					else if ( method.getReturnType() == double.class ) {
+						return 0d;
+					}
+					else if ( method.getReturnType() == float.class ) {
+						return 0f;
+					}
+					else if ( method.getReturnType() == long.class ) {
+						return 0L;
+					}
+					else if ( method.getReturnType() == int.class ) {
+						return 0;
+					}
+					else if ( method.getReturnType() == short.class ) {
+						return (short) 0;
+					}
+					else {
+						return (byte) 0;
+					}
+				}
+		);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the asynchronous application of the cache updates completing the transactions.
+ */
+public class AsyncCacheUpdatesTest extends BaseCoreFunctionalTestCase {
+
+	/**
+	 * Holds the tasks until the test runs them; shared by the test instances, like the session factory
+	 */
+	private static final List<Runnable> tasks = new ArrayList<>();
+	private static final Executor executor = tasks::add;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_ASYNC_UPDATES, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_ASYNC_UPDATES_QUEUE_SIZE, "1" );
+		configuration.getProperties().put( AvailableSettings.ASYNC_EXECUTOR, executor );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void applyPendingUpdates() {
+		runTasks();
+	}
+
+	@Test
+	public void testUpdatesAreAppliedAfterCompletion() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		assertFalse( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+
+		runTasks();
+		assertTrue( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+	}
+
+	@Test
+	public void testEntriesStayLockedUntilUpdated() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		runTasks();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L ).name = "Acme Corp";
+		} );
+
+		// the soft lock is still held: the entity is loaded from the database
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme Corp", session.get( Customer.class, 1L ).name );
+		} );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+
+		runTasks();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme Corp", session.get( Customer.class, 1L ).name );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testSessionEventsAreIssuedOnCompletion() {
+		sessionFactory().getStatistics().clear();
+		final CachePutCounter counter = new CachePutCounter();
+		doInHibernateSessionBuilder( () -> sessionFactory().withOptions().eventListeners( counter ), session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		// the put is only queued, but the session is gone by the time it is applied
+		assertEquals( 1, counter.cachePuts );
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCachePutCount() );
+		assertFalse( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+
+		runTasks();
+		assertEquals( 1, counter.cachePuts );
+		assertTrue( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+	}
+
+	@Test
+	public void testUpdatesAreAppliedSynchronouslyWhenQueueIsFull() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 2L, "Initech" ) );
+		} );
+		assertFalse( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+		assertTrue( sessionFactory().getCache().containsEntity( Customer.class, 2L ) );
+
+		runTasks();
+		assertTrue( sessionFactory().getCache().containsEntity( Customer.class, 1L ) );
+	}
+
+	private void runTasks() {
+		while ( !tasks.isEmpty() ) {
+			tasks.remove( 0 ).run();
+		}
+	}
+
+	private static class CachePutCounter extends BaseSessionEventListener {
+		private int cachePuts;
+
+		@Override
+		public void cachePutEnd() {
+			cachePuts++;
+		}
+	}
+
+	@Entity(name = "Customer")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the preloading of the second-level cache.
+ */
+public class CachePreloadTest extends BaseCoreFunctionalTestCase {
+
+	/**
+	 * Holds the tasks until the test runs them; shared by the test instances, like the session factory
+	 */
+	private static final List<Runnable> tasks = new ArrayList<>();
+	private static final Executor executor = tasks::add;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_PRELOAD, "Customer" );
+		configuration.setProperty( AvailableSettings.CACHE_PRELOAD_BATCH_SIZE, "2" );
+		configuration.getProperties().put( AvailableSettings.ASYNC_EXECUTOR, executor );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void completeStartupPreload() {
+		runTasks();
+	}
+
+	@Test
+	public void testPreload() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Customer customer = new Customer( id, "customer" + id + "@acme.com" );
+				customer.tags.add( "tag" + id );
+				session.persist( customer );
+			}
+		} );
+		sessionFactory().getCache().evictAllRegions();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final CompletableFuture<Void> preload = sessionFactory().getCache()
+				.preload( Collections.singleton( "Customer" ) );
+		assertFalse( preload.isDone() );
+		assertEquals( 1, statistics.getSecondLevelCachePreloadPendingCount() );
+
+		runTasks();
+		assertTrue( preload.isDone() );
+		assertEquals( 0, statistics.getSecondLevelCachePreloadPendingCount() );
+		assertEquals( 3, statistics.getSecondLevelCachePreloadCount() );
+		assertEquals( 3, statistics.getDomainDataRegionStatistics( Customer.class.getName() ).getPreloadCount() );
+		for ( long id = 1; id <= 3; id++ ) {
+			assertTrue( sessionFactory().getCache().containsEntity( Customer.class, id ) );
+			assertTrue( sessionFactory().getCache().containsCollection( Customer.class.getName() + ".tags", id ) );
+		}
+
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = session.bySimpleNaturalId( Customer.class ).load( "customer2@acme.com" );
+			assertEquals( 2L, (long) customer.id );
+			assertEquals( Collections.singleton( "tag2" ), customer.tags );
+		} );
+		assertEquals( 1, statistics.getNaturalIdCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	private void runTasks() {
+		while ( !tasks.isEmpty() ) {
+			tasks.remove( 0 ).run();
+		}
+	}
+
+	@Entity(name = "Customer")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Customer {
+		@Id
+		private Long id;
+
+		@NaturalId
+		private String email;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<String> tags = new HashSet<>();
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String email) {
+			this.id = id;
+			this.email = email;
+		}
+	}
+}
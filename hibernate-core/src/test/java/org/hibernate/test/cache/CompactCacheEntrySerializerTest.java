@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntrySerializer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the second-level cache entries serialized by the {@link CompactCacheEntrySerializer}.
+ */
+public class CompactCacheEntrySerializerTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Invoice.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_ENTRY_SERIALIZER, CompactCacheEntrySerializer.SHORT_NAME );
+	}
+
+	@Test
+	public void testRoundTrip() {
+		final UUID reference = UUID.randomUUID();
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = new Customer( 1L, "Acme" );
+			session.persist( customer );
+			final Invoice invoice = new Invoice( 1L, customer );
+			invoice.reference = reference;
+			invoice.amount = new BigDecimal( "1234.56" );
+			invoice.address = new Address( "Main Street", 12 );
+			invoice.lines.add( "first" );
+			invoice.lines.add( "second" );
+			invoice.lines.add( "third" );
+			session.persist( invoice );
+		} );
+
+		sessionFactory().getCache().evictAllRegions();
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Invoice invoice = session.get( Invoice.class, 1L );
+			assertEquals( 3, invoice.lines.size() );
+		} );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Invoice invoice = session.get( Invoice.class, 1L );
+			assertEquals( reference, invoice.reference );
+			assertEquals( new BigDecimal( "1234.56" ), invoice.amount );
+			assertEquals( "Main Street", invoice.address.street );
+			assertEquals( 12, invoice.address.number );
+			assertSame( session.get( Customer.class, 1L ), invoice.customer );
+			assertEquals( "first", invoice.lines.get( 0 ) );
+			assertEquals( "second", invoice.lines.get( 1 ) );
+			assertEquals( "third", invoice.lines.get( 2 ) );
+		} );
+		// the invoice, its customer and its lines
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testQueryResults() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+			session.persist( new Customer( 2L, null ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Object[]> rows = session.createQuery( "select c.id, c.name from Customer c order by c.id" )
+						.setCacheable( true )
+						.list();
+				assertEquals( 2, rows.size() );
+				assertEquals( Long.valueOf( 1L ), rows.get( 0 )[0] );
+				assertEquals( "Acme", rows.get( 0 )[1] );
+				assertNull( rows.get( 1 )[1] );
+			} );
+		}
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testSmallerThanJavaSerialization() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = new Customer( 1L, "Acme" );
+			session.persist( customer );
+			final Invoice invoice = new Invoice( 1L, customer );
+			invoice.reference = UUID.randomUUID();
+			invoice.amount = new BigDecimal( "1234.56" );
+			invoice.address = new Address( "Main Street", 12 );
+			session.persist( invoice );
+			session.flush();
+
+			final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Invoice.class );
+			final CacheEntry entry = persister.buildCacheEntry(
+					invoice,
+					persister.getPropertyValues( invoice ),
+					null,
+					(SessionImplementor) session
+			);
+			final Object structured = persister.getCacheEntryStructure().structure( entry );
+			assertTrue( structured instanceof byte[] );
+			final int compactSize = ( (byte[]) structured ).length;
+			final int javaSize = SerializationHelper.serialize( entry ).length;
+			assertTrue( compactSize + " should be less than half of " + javaSize, compactSize * 2 < javaSize );
+
+			final CacheEntry restored = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( structured, sessionFactory() );
+			assertEquals( entry.getSubclass(), restored.getSubclass() );
+			assertEquals( entry.getDisassembledState().length, restored.getDisassembledState().length );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Invoice")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Invoice {
+		@Id
+		private Long id;
+
+		private UUID reference;
+
+		private BigDecimal amount;
+
+		@Embedded
+		private Address address;
+
+		@ManyToOne
+		private Customer customer;
+
+		@ElementCollection
+		@OrderColumn
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<String> lines = new ArrayList<>();
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		private int number;
+
+		public Address() {
+		}
+
+		public Address(String street, int number) {
+			this.street = street;
+			this.number = number;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the near-cache held in front of the storage of the domain data regions.
+ */
+public class NearCacheTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Country.class, Currency.class, Language.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, "100" );
+		configuration.setProperty( AvailableSettings.CACHE_NEAR_CACHE_TTL, "60000" );
+		configuration.setProperty( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES + ".countries", "0" );
+		configuration.setProperty( AvailableSettings.CACHE_NEAR_CACHE_TTL + ".currencies", "0" );
+		configuration.setProperty( AvailableSettings.CACHE_NEAR_CACHE_TTL + ".languages", "0" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testPerRegionConfiguration() {
+		assertTrue( getStorageAccess( "customers" ) instanceof NearCacheStorageAccess );
+		assertFalse( getStorageAccess( "countries" ) instanceof NearCacheStorageAccess );
+	}
+
+	@Test
+	public void testReadWriteDataRequiresTimeToLive() {
+		assertFalse( getStorageAccess( "currencies" ) instanceof NearCacheStorageAccess );
+		assertTrue( getStorageAccess( "languages" ) instanceof NearCacheStorageAccess );
+	}
+
+	@Test
+	public void testReadsAreServedLocally() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		sessionFactory().getCache().evictAllRegions();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 1, statistics.getSecondLevelCachePutCount() );
+
+		// the entry is still found once gone from the remote cache
+		final NearCacheStorageAccess storageAccess = (NearCacheStorageAccess) getStorageAccess( "customers" );
+		storageAccess.getDelegate().evictData();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme", session.get( Customer.class, 1L ).name );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testUpdatesGoThrough() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L ).name = "Acme Corp";
+		} );
+
+		final NearCacheStorageAccess storageAccess = (NearCacheStorageAccess) getStorageAccess( "customers" );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		// both the near-cache and the remote cache hold the updated entry
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme Corp", session.get( Customer.class, 1L ).name );
+		} );
+		storageAccess.getDelegate().evictData();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme Corp", session.get( Customer.class, 1L ).name );
+		} );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testEvictionInvalidatesLocalEntries() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+			session.persist( new Customer( 2L, "Initech" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L );
+			session.get( Customer.class, 2L );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		sessionFactory().getCache().evictEntityData( Customer.class, 1L );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L );
+			session.get( Customer.class, 2L );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+		statistics.clear();
+		sessionFactory().getCache().evictEntityData( Customer.class );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L );
+			session.get( Customer.class, 2L );
+		} );
+		assertEquals( 2, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	private DomainDataStorageAccess getStorageAccess(String regionName) {
+		return ( (DomainDataRegionTemplate) sessionFactory().getCache().getRegion( regionName ) )
+				.getCacheStorageAccess();
+	}
+
+	@Entity(name = "Customer")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "countries")
+	public static class Country {
+		@Id
+		private String code;
+	}
+
+	@Entity(name = "Currency")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "currencies")
+	public static class Currency {
+		@Id
+		private String code;
+	}
+
+	@Entity(name = "Language")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "languages")
+	public static class Language {
+		@Id
+		private String code;
+	}
+}
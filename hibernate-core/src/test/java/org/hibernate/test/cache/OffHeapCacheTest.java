@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.spi.entry.CompactCacheEntrySerializer;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the regions stored off-heap by the {@link OffHeapRegionFactory}.
+ */
+public class OffHeapCacheTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Country.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() );
+		configuration.setProperty( AvailableSettings.CACHE_ENTRY_SERIALIZER, CompactCacheEntrySerializer.SHORT_NAME );
+		configuration.setProperty( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + ".countries", "4096" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntitiesAreReadFromOffHeapStorage() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Customer( 1L, "Acme" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Customer.class, 1L ).name = "Acme Corp";
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Acme Corp", session.get( Customer.class, 1L ).name );
+		} );
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, getStorageAccess( "customers" ).getElementCount() );
+	}
+
+	@Test
+	public void testRegionSizeIsBounded() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 1000; i++ ) {
+				session.persist( new Country( "C" + i, "Country number " + i ) );
+			}
+		} );
+
+		final OffHeapStorageAccess storageAccess = getStorageAccess( "countries" );
+		assertTrue( storageAccess.getElementCount() < 1000 );
+		assertTrue( storageAccess.getSize() <= 4096 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Country number 999", session.get( Country.class, "C999" ).name );
+			assertEquals( "Country number 0", session.get( Country.class, "C0" ).name );
+		} );
+	}
+
+	@Test
+	public void testValuesReadAreGivenASecondChance() {
+		// 16 segments of 64 bytes
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1024 );
+		for ( int i = 0; i < 16; i++ ) {
+			storageAccess.putIntoCache( i, new byte[63], null );
+		}
+		assertEquals( 16, storageAccess.getElementCount() );
+
+		storageAccess.getFromCache( 1, null );
+		storageAccess.putIntoCache( 16, new byte[] { 1, 2, 3 }, null );
+		storageAccess.putIntoCache( 17, new byte[63], null );
+
+		// the first segments are reclaimed in turn: the value read is kept, the next one is evicted
+		assertArrayEquals( new byte[63], (byte[]) storageAccess.getFromCache( 1, null ) );
+		assertFalse( storageAccess.contains( 0 ) );
+		assertFalse( storageAccess.contains( 2 ) );
+		assertArrayEquals( new byte[] { 1, 2, 3 }, (byte[]) storageAccess.getFromCache( 16, null ) );
+		assertTrue( storageAccess.contains( 17 ) );
+
+		storageAccess.putIntoCache( 18, "not serialized by Hibernate", null );
+		assertEquals( "not serialized by Hibernate", storageAccess.getFromCache( 18, null ) );
+
+		storageAccess.evictData();
+		assertNull( storageAccess.getFromCache( 1, null ) );
+		assertEquals( 0, storageAccess.getSize() );
+	}
+
+	private OffHeapStorageAccess getStorageAccess(String regionName) {
+		return (OffHeapStorageAccess) ( (DomainDataRegionTemplate) sessionFactory().getCache().getRegion( regionName ) )
+				.getCacheStorageAccess();
+	}
+
+	@Entity(name = "Customer")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "countries")
+	public static class Country {
+		@Id
+		private String code;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
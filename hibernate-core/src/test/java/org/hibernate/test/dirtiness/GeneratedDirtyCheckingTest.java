@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.dirtiness;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the dirty checking by {@link AvailableSettings#DIRTY_CHECK_OPTIMIZER generated classes}.
+ */
+public class GeneratedDirtyCheckingTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.DIRTY_CHECK_OPTIMIZER, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testDirtyProperties() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Owner( 1L ) );
+			session.persist( new Owner( 2L ) );
+			final Item item = new Item( 1L, "item" );
+			item.owner = session.load( Owner.class, 1L );
+			session.persist( item );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Item item = session.get( Item.class, 1L );
+			item.name = new String( "item" );
+			item.quantity = Integer.valueOf( 0 );
+		} );
+		assertEquals( 0, statistics.getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 1L ).quantity = 5;
+		} );
+		assertEquals( 1, statistics.getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 1L ).available = true;
+		} );
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Item.class, 1L ).owner = session.get( Owner.class, 2L );
+		} );
+		assertEquals( 3, statistics.getEntityUpdateCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Item item = session.get( Item.class, 1L );
+			assertEquals( "item", item.name );
+			assertEquals( Integer.valueOf( 5 ), item.quantity );
+			assertEquals( true, item.available );
+			assertSame( session.get( Owner.class, 2L ), item.owner );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Integer quantity = 0;
+
+		private boolean available;
+
+		@ManyToOne
+		private Owner owner;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
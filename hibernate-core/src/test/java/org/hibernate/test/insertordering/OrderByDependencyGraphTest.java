@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the ordering of the entity actions by {@link AvailableSettings#ORDER_BY_DEPENDENCY_GRAPH}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class OrderByDependencyGraphTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Country.class,
+				City.class,
+				Street.class,
+				House.class,
+				Document.class,
+				Folder.class,
+				Tag.class
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.ORDER_BY_DEPENDENCY_GRAPH, "true" );
+	}
+
+	@Test
+	public void testInsertsOfDeepGraph() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Country country = new Country( i );
+				session.persist( country );
+				final City city = new City( i, country );
+				session.persist( city );
+				final Street street = new Street( i, city );
+				session.persist( street );
+				session.persist( new House( i, street ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Country (id) values (?)", 5 ),
+				new Batch( "insert into City (country_id, id) values (?, ?)", 5 ),
+				new Batch( "insert into Street (city_id, id) values (?, ?)", 5 ),
+				new Batch( "insert into House (street_id, id) values (?, ?)", 5 )
+		);
+		verifyPreparedStatementCount( 4 );
+	}
+
+	@Test
+	public void testDeletesOfDeepGraph() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 11; i <= 15; i++ ) {
+				final Country country = new Country( i );
+				session.persist( country );
+				final City city = new City( i, country );
+				session.persist( city );
+				final Street street = new Street( i, city );
+				session.persist( street );
+				session.persist( new House( i, street ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 11; i <= 15; i++ ) {
+				final House house = session.get( House.class, i );
+				final Street street = house.street;
+				final City city = street.city;
+				final Country country = city.country;
+				session.remove( house );
+				session.remove( street );
+				session.remove( city );
+				session.remove( country );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "delete from House where id=?", 5 ),
+				new Batch( "delete from Street where id=?", 5 ),
+				new Batch( "delete from City where id=?", 5 ),
+				new Batch( "delete from Country where id=?", 5 )
+		);
+		verifyPreparedStatementCount( 4 );
+	}
+
+	@Test
+	public void testCycleDoesNotPreventOrdering() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Document first = new Document( i * 2 - 1 );
+				session.persist( first );
+				final Document second = new Document( i * 2 );
+				session.persist( second );
+				// Folder references Document through its cover, and Document references Folder through the
+				// foreign key of the one-to-many collection
+				final Folder folder = new Folder( i, first );
+				folder.documents.add( first );
+				folder.documents.add( second );
+				session.persist( folder );
+				session.persist( new Tag( i ) );
+			}
+
+			clearBatches();
+		} );
+
+		verifyContainsBatches( new Batch( "insert into Tag (id) values (?)", 3 ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Folder folder = session.get( Folder.class, i );
+				assertEquals( 2, folder.documents.size() );
+				assertSame( session.get( Document.class, i * 2 - 1 ), folder.cover );
+			}
+		} );
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		private Integer id;
+
+		public Country() {
+		}
+
+		public Country(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Country country;
+
+		public City() {
+		}
+
+		public City(Integer id, Country country) {
+			this.id = id;
+			this.country = country;
+		}
+	}
+
+	@Entity(name = "Street")
+	public static class Street {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private City city;
+
+		public Street() {
+		}
+
+		public Street(Integer id, City city) {
+			this.id = id;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "House")
+	public static class House {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Street street;
+
+		public House() {
+		}
+
+		public House(Integer id, Street street) {
+			this.id = id;
+			this.street = street;
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+
+		public Document() {
+		}
+
+		public Document(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Document cover;
+
+		@OneToMany
+		@JoinColumn(name = "folder_id")
+		private List<Document> documents = new ArrayList<>();
+
+		public Folder() {
+		}
+
+		public Folder(Integer id, Document cover) {
+			this.id = id;
+			this.cover = cover;
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		private Integer id;
+
+		public Tag() {
+		}
+
+		public Tag(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the reuse of prepared statements when {@value AvailableSettings#STATEMENT_CACHE_SIZE} is set.
+ */
+public class PreparedStatementCacheTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Ticket.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.STATEMENT_CACHE_SIZE, "2" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createTickets() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Ticket( i, "Ticket " + i ) );
+			}
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testStatementIsReusedForTheSameSql() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				assertEquals( "Ticket " + i, session.get( Ticket.class, i ).getName() );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 1, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 2, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedStatementIsEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "select t.id from Ticket t" ).list();
+			session.createQuery( "select t.name from Ticket t" ).list();
+			session.createQuery( "select count(t) from Ticket t" ).list();
+			// evicted by the third query, the cache holding 2 statements
+			session.createQuery( "select t.id from Ticket t" ).list();
+			session.createQuery( "select count(t) from Ticket t" ).list();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 4, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 1, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Test
+	public void testStatementsAreClosedWithTheConnection() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Ticket.class, 1 );
+		} );
+		// the Connection is released after the transaction, together with its statements
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Ticket.class, 2 );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 2, statistics.getPreparedStatementCacheMissCount() );
+		assertEquals( 0, statistics.getPreparedStatementCacheHitCount() );
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -14,6 +14,7 @@ import javax.persistence.Id;
 import javax.persistence.SharedCacheMode;
 import javax.persistence.Table;
 
+import org.hibernate.BaseSessionEventListener;
 import org.hibernate.CacheMode;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.boot.MetadataBuilder;
@@ -407,6 +408,58 @@ public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
 		);
 	}
 
+	@Test
+	public void testMultiLoadFrom2ndLevelCacheInSingleAccess() {
+		sessionFactory().getCache().evictAll();
+
+		inTransaction(
+				session -> {
+					// put every other item in the Level 2 cache
+					for ( int i = 2; i <= 10; i += 2 ) {
+						assertNotNull( session.get( SimpleEntity.class, i ) );
+					}
+				}
+		);
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		inTransaction(
+				session -> {
+					final CacheGetCountingListener listener = new CacheGetCountingListener();
+					session.addEventListeners( listener );
+					sqlStatementInterceptor.getSqlQueries().clear();
+
+					List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+							.with( CacheMode.NORMAL )
+							.enableSessionCheck( true )
+							.multiLoad( ids( 10 ) );
+
+					assertEquals( 10, entities.size() );
+					for ( int i = 0; i < entities.size(); i++ ) {
+						assertEquals( Integer.valueOf( i + 1 ), entities.get( i ).getId() );
+						assertTrue( session.contains( entities.get( i ) ) );
+					}
+					assertEquals( 5, statistics.getSecondLevelCacheHitCount() );
+					assertEquals( 5, statistics.getSecondLevelCacheMissCount() );
+					assertEquals( 1, listener.cacheGetCount );
+
+					assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+					final int paramCount = StringHelper.countUnquoted( sqlStatementInterceptor.getSqlQueries().getFirst(), '?' );
+					assertThat( paramCount, is( 5 ) );
+				}
+		);
+	}
+
+	private static class CacheGetCountingListener extends BaseSessionEventListener {
+		private int cacheGetCount;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGetCount++;
+		}
+	}
+
 	@Test
 	public void testMultiLoadWithCacheModeIgnore() {
 		// do the multi-load, telling Hibernate to IGNORE the L2 cache -
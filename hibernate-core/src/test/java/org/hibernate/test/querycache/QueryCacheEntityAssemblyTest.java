@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the assembly of the entities returned by cached query results.
+ */
+public class QueryCacheEntityAssemblyTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Category.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.QUERY_CACHE_LAZY_RESULTS, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntitiesAreLoadedByBatch() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Product( id, "Product " + id ) );
+			}
+		} );
+		findAll( Product.class );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.createQuery( "from Product p order by p.id", Product.class )
+					.setCacheable( true )
+					.list();
+			assertEquals( 10, products.size() );
+			assertEquals( "Product 10", products.get( 9 ).name );
+		} );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testEntitiesAreLookedUpInSecondLevelCache() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 10; id++ ) {
+				session.persist( new Category( id, "Category " + id ) );
+			}
+		} );
+		findAll( Category.class );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		findAll( Category.class );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 10, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testLazyAssembly() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 250; id++ ) {
+				session.persist( new Product( id, "Product " + id ) );
+			}
+		} );
+		findAll( Product.class );
+
+		// the statements loading the entities of a window of rows
+		final int batchSize = getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize( 1, 100 );
+		final long windowStatements = ( 100 + batchSize - 1 ) / batchSize;
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List<Product> products = doInHibernate( this::sessionFactory, session -> {
+			final List<Product> results = session.createQuery( "from Product p order by p.id", Product.class )
+					.setCacheable( true )
+					.list();
+			assertEquals( 250, results.size() );
+			assertEquals( 0, statistics.getPrepareStatementCount() );
+
+			assertEquals( "Product 1", results.get( 0 ).name );
+			assertEquals( "Product 100", results.get( 99 ).name );
+			assertEquals( windowStatements, statistics.getPrepareStatementCount() );
+
+			assertEquals( "Product 101", results.get( 100 ).name );
+			assertEquals( 2 * windowStatements, statistics.getPrepareStatementCount() );
+			return results;
+		} );
+		assertEquals( "Product 1", products.get( 0 ).name );
+
+		try {
+			products.get( 249 );
+			fail( "Should have thrown LazyInitializationException" );
+		}
+		catch (LazyInitializationException expected) {
+		}
+	}
+
+	private <T> List<T> findAll(Class<T> entityClass) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from " + entityClass.getSimpleName(), entityClass )
+					.setCacheable( true )
+					.list();
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Category")
+	@Cacheable
+	public static class Category {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the invalidation of the cached results of queries restricted to rows.
+ */
+public class QueryCacheRowInvalidationTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Purchase.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.QUERY_CACHE_ROW_INVALIDATION, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void createPurchases() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				session.persist( new Purchase( id, "P-" + id, "NEW" ) );
+			}
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testIdentifierRestriction() {
+		assertEquals( "NEW", findById( 1L ).status );
+		assertEquals( "NEW", findById( 1L ).status );
+		assertCacheCounts( 1, 0 );
+
+		updateStatus( 2L, "SHIPPED" );
+		assertEquals( "NEW", findById( 1L ).status );
+		assertCacheCounts( 2, 0 );
+
+		updateStatus( 1L, "SHIPPED" );
+		assertEquals( "SHIPPED", findById( 1L ).status );
+		assertCacheCounts( 2, 1 );
+	}
+
+	@Test
+	public void testIdentifierListRestriction() {
+		assertEquals( 2, findByIds( 1L, 3L ).size() );
+		updateStatus( 2L, "SHIPPED" );
+		assertEquals( 2, findByIds( 1L, 3L ).size() );
+		assertCacheCounts( 1, 0 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.delete( session.get( Purchase.class, 3L ) );
+		} );
+		assertEquals( 1, findByIds( 1L, 3L ).size() );
+		assertCacheCounts( 1, 1 );
+	}
+
+	@Test
+	public void testNaturalIdRestriction() {
+		findByReference( "P-1" );
+		updateStatus( 2L, "SHIPPED" );
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Purchase( 4L, "P-4", "NEW" ) );
+		} );
+		assertEquals( "NEW", findByReference( "P-1" ).status );
+		assertCacheCounts( 1, 0 );
+
+		updateStatus( 1L, "SHIPPED" );
+		assertEquals( "SHIPPED", findByReference( "P-1" ).status );
+		assertCacheCounts( 1, 1 );
+	}
+
+	@Test
+	public void testUnrestrictedQueriesAreInvalidatedPerTable() {
+		findByStatus( "NEW" );
+		updateStatus( 2L, "SHIPPED" );
+		assertEquals( 2, findByStatus( "NEW" ).size() );
+		assertCacheCounts( 0, 1 );
+	}
+
+	@Test
+	public void testBulkUpdatesInvalidateRestrictedQueries() {
+		findById( 1L );
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update Purchase set status = 'CANCELLED' where id = 2" ).executeUpdate();
+		} );
+		findById( 1L );
+		assertCacheCounts( 0, 1 );
+	}
+
+	private Purchase findById(Long id) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Purchase p where p.id = :id", Purchase.class )
+					.setParameter( "id", id )
+					.setCacheable( true )
+					.getSingleResult();
+		} );
+	}
+
+	private List<Purchase> findByIds(Long... ids) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Purchase p where p.id in (:ids)", Purchase.class )
+					.setParameterList( "ids", Arrays.asList( ids ) )
+					.setCacheable( true )
+					.list();
+		} );
+	}
+
+	private Purchase findByReference(String reference) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Purchase p where p.reference = :reference", Purchase.class )
+					.setParameter( "reference", reference )
+					.setCacheable( true )
+					.getSingleResult();
+		} );
+	}
+
+	private List<Purchase> findByStatus(String status) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Purchase p where p.status = :status", Purchase.class )
+					.setParameter( "status", status )
+					.setCacheable( true )
+					.list();
+		} );
+	}
+
+	private void updateStatus(Long id, String status) {
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Purchase.class, id ).status = status;
+		} );
+	}
+
+	private void assertCacheCounts(long hits, long stale) {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(
+				RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME
+		);
+		assertEquals( hits, statistics.getQueryCacheHitCount() );
+		assertEquals( hits, regionStatistics.getHitCount() );
+		assertEquals( stale, regionStatistics.getStaleCount() );
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Long id;
+
+		@NaturalId
+		private String reference;
+
+		private String status;
+
+		public Purchase() {
+		}
+
+		public Purchase(Long id, String reference, String status) {
+			this.id = id;
+			this.reference = reference;
+			this.status = status;
+		}
+	}
+}
@@ -75,7 +75,11 @@ public class EhcacheRegionFactory extends RegionFactoryTemplate {
 		return new DomainDataRegionImpl(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyNearCache(
+						createDomainDataStorageAccess( regionConfig, buildingContext ),
+						regionConfig,
+						buildingContext
+				),
 				cacheKeysFactory,
 				buildingContext
 		);
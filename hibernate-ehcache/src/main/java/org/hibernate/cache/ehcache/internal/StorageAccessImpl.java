@@ -13,6 +13,7 @@ import net.sf.ehcache.hibernate.nonstop.HibernateNonstopCacheExceptionHandler;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.SessionlessStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 import org.jboss.logging.Logger;
@@ -22,7 +23,7 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class StorageAccessImpl implements DomainDataStorageAccess  {
+public class StorageAccessImpl implements DomainDataStorageAccess, SessionlessStorageAccess {
 	private static final Logger LOG = Logger.getLogger( StorageAccessImpl.class );
 
 	private final Ehcache cache;
@@ -43,6 +44,11 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 
 	@Override
 	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return getFromCache( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
 		try {
 			final Element element = getCache().get( key );
 			if ( element == null ) {
@@ -66,6 +72,11 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		putIntoCache( key, value );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value) {
 		try {
 			final Element element = new Element( key, value );
 			getCache().put( element );
@@ -84,6 +95,16 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 		}
 	}
 
+	@Override
+	public void removeFromCache(Object key) {
+		evictData( key );
+	}
+
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return this;
+	}
+
 	@Override
 	public void evictData(Object key) {
 		try {
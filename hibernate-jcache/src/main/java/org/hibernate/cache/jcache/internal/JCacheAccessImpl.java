@@ -6,9 +6,14 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.SessionlessStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -17,7 +22,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  * @author Steve Ebersole
  */
 @SuppressWarnings("unchecked")
-public class JCacheAccessImpl implements DomainDataStorageAccess {
+public class JCacheAccessImpl implements DomainDataStorageAccess, SessionlessStorageAccess {
 	private final Cache underlyingCache;
 
 	public JCacheAccessImpl(Cache underlyingCache) {
@@ -35,19 +40,45 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 
 	@Override
 	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return getFromCache( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Set<?> keySet = keys instanceof Set ? (Set<?>) keys : new HashSet<>( keys );
+		return underlyingCache.getAll( keySet );
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		putIntoCache( key, value );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value) {
 		underlyingCache.put( key, value );
 	}
 
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		removeFromCache( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key) {
 		underlyingCache.remove( key );
 	}
 
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return this;
+	}
+
 	@Override
 	public void evictData(Object key) {
 		underlyingCache.remove( key );
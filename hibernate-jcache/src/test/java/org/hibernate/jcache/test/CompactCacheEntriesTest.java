@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jcache.test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.cache.Cache;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.entry.CompactCacheEntrySerializer;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the second-level cache entries stored into JCache as {@code byte[]} by the
+ * {@link CompactCacheEntrySerializer}.
+ */
+public class CompactCacheEntriesTest extends BaseUnitTestCase {
+	private ServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Before
+	public void acquireResources() {
+		serviceRegistry = TestHelper.getStandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.CACHE_ENTRY_SERIALIZER, CompactCacheEntrySerializer.SHORT_NAME )
+				.build();
+
+		final Metadata metadata = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Product.class )
+				.buildMetadata();
+		TestHelper.createRegions( metadata, true );
+
+		sessionFactory = (SessionFactoryImplementor) metadata.buildSessionFactory();
+	}
+
+	@After
+	public void releaseResources() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	public void testEntityAndCollectionEntries() {
+		inTransaction(
+				sessionFactory,
+				session -> {
+					final Product product = new Product( 1L, "SKU-1", "Hibernate ORM" );
+					product.price = new BigDecimal( "10.50" );
+					product.releasedOn = new Date();
+					product.tags.add( "orm" );
+					product.tags.add( "jpa" );
+					session.persist( product );
+				}
+		);
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		final Date[] releasedOn = new Date[1];
+		inTransaction(
+				sessionFactory,
+				session -> {
+					final Product product = session.get( Product.class, 1L );
+					assertEquals( 2, product.tags.size() );
+					releasedOn[0] = product.releasedOn;
+				}
+		);
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 2, statistics.getSecondLevelCacheMissCount() );
+
+		assertValuesAreBytes( TestHelper.getCache( Product.class.getName() ) );
+		assertValuesAreBytes( TestHelper.getCache( Product.class.getName() + ".tags" ) );
+
+		inTransaction(
+				sessionFactory,
+				session -> {
+					final Product product = session.get( Product.class, 1L );
+					assertEquals( "SKU-1", product.sku );
+					assertEquals( "Hibernate ORM", product.name );
+					assertEquals( new BigDecimal( "10.50" ), product.price );
+					assertEquals( releasedOn[0], product.releasedOn );
+					assertEquals( 0, product.version );
+					assertEquals( 2, product.tags.size() );
+					assertTrue( product.tags.contains( "orm" ) );
+				}
+		);
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testNaturalIdEntries() {
+		inTransaction(
+				sessionFactory,
+				session -> session.persist( new Product( 1L, "SKU-1", "Hibernate ORM" ) )
+		);
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			inTransaction(
+					sessionFactory,
+					session -> {
+						final Product product = session.bySimpleNaturalId( Product.class ).load( "SKU-1" );
+						assertEquals( Long.valueOf( 1L ), product.id );
+					}
+			);
+		}
+		assertEquals( 1, statistics.getNaturalIdCacheHitCount() );
+	}
+
+	@Test
+	public void testQueryResultEntries() {
+		inTransaction(
+				sessionFactory,
+				session -> {
+					session.persist( new Product( 1L, "SKU-1", "Hibernate ORM" ) );
+					session.persist( new Product( 2L, "SKU-2", "Hibernate Search" ) );
+				}
+		);
+
+		final Statistics statistics = sessionFactory.getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			inTransaction(
+					sessionFactory,
+					session -> {
+						final List<Object[]> rows = session.createQuery(
+								"select p.id, p.name from Product p order by p.id",
+								Object[].class
+						)
+								.setCacheable( true )
+								.list();
+						assertEquals( 2, rows.size() );
+						assertEquals( Long.valueOf( 2L ), rows.get( 1 )[0] );
+						assertEquals( "Hibernate Search", rows.get( 1 )[1] );
+					}
+			);
+		}
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void assertValuesAreBytes(Cache cache) {
+		int count = 0;
+		for ( Object entry : cache ) {
+			assertTrue( ( (Cache.Entry) entry ).getValue() instanceof byte[] );
+			count++;
+		}
+		assertEquals( 1, count );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "product")
+	@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	@NaturalIdCache
+	public static class Product {
+		@Id
+		private Long id;
+
+		@NaturalId
+		private String sku;
+
+		private String name;
+
+		private BigDecimal price;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date releasedOn;
+
+		@Version
+		private int version;
+
+		@ElementCollection
+		@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+		private Set<String> tags = new HashSet<>();
+
+		public Product() {
+		}
+
+		public Product(Long id, String sku, String name) {
+			this.id = id;
+			this.sku = sku;
+			this.name = name;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.stat;
 
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -17,12 +18,15 @@ import io.micrometer.core.lang.NonNullFields;
 import io.micrometer.core.lang.Nullable;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.stat.Statistics;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceException;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -35,6 +39,11 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	/**
+	 * The percentiles of the durations of the cache operations which are published
+	 */
+	private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -147,6 +156,12 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.statements", "The number of prepared statements that were released",
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
+		counter(registry, "hibernate.jdbc.batches", "The number of JDBC batches that were executed",
+				Statistics::getJdbcBatchExecutionCount
+		);
+		counter(registry, "hibernate.jdbc.batches.rows", "The number of rows that were sent as part of JDBC batches",
+				Statistics::getJdbcBatchRowCount
+		);
 
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
@@ -188,6 +203,14 @@ public class HibernateMetrics implements MeterBinder {
 							"region",
 							regionName
 					);
+					final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( regionName );
+					for ( AccessType accessType : AccessType.values() ) {
+						for ( CacheRegionStatistics.Operation operation : CacheRegionStatistics.Operation.values() ) {
+							if ( regionStatistics.getLatencyStatistics( accessType, operation ) != null ) {
+								timer( registry, regionName, accessType, operation );
+							}
+						}
+					}
 				} );
 
 		// Entity information
@@ -335,6 +358,62 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+		counter(registry, "hibernate.cache.query.plan.evictions", "The global number of query plans evicted from cache",
+				Statistics::getQueryPlanCacheEvictionCount
+		);
+	}
+
+	private void timer(
+			MeterRegistry registry,
+			String regionName,
+			AccessType accessType,
+			CacheRegionStatistics.Operation operation) {
+		// the region statistics are replaced when the statistics are cleared
+		final Function<Statistics, LatencyStatistics> latency = stats -> stats.getDomainDataRegionStatistics( regionName )
+				.getLatencyStatistics( accessType, operation );
+		final Tags timerTags = Tags.concat(
+				tags,
+				"region",
+				regionName,
+				"access",
+				accessType.getExternalName(),
+				"operation",
+				operation.name().toLowerCase( Locale.ROOT )
+		);
+
+		FunctionTimer.builder(
+				"hibernate.second.level.cache.operations",
+				statistics,
+				stats -> latency.apply( stats ).getCount(),
+				stats -> latency.apply( stats ).getTotalTime(),
+				TimeUnit.NANOSECONDS
+		)
+				.description( "The durations of the operations against the cache region" )
+				.tags( timerTags )
+				.register( registry );
+
+		TimeGauge.builder(
+				"hibernate.second.level.cache.operations.max",
+				statistics,
+				TimeUnit.NANOSECONDS,
+				stats -> latency.apply( stats ).getMaxTime()
+		)
+				.description( "The duration of the slowest operation against the cache region" )
+				.tags( timerTags )
+				.register( registry );
+
+		for ( double percentile : PERCENTILES ) {
+			TimeGauge.builder(
+					"hibernate.second.level.cache.operations.percentile",
+					statistics,
+					TimeUnit.NANOSECONDS,
+					stats -> latency.apply( stats ).getPercentile( percentile )
+			)
+					.description( "The approximate percentiles of the durations of the operations against the cache region" )
+					.tags( timerTags )
+					.tag( "phi", String.valueOf( percentile ) )
+					.register( registry );
+		}
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
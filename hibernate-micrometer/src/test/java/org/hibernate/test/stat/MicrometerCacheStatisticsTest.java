@@ -107,6 +107,9 @@ public class MicrometerCacheStatisticsTest extends BaseNonConfigCoreFunctionalTe
 		Assert.assertNotNull(registry.get("hibernate.second.level.cache.requests").tags("result", "hit", "region", REGION));
 		Assert.assertNotNull(registry.get("hibernate.second.level.cache.requests").tags("result", "miss", "region", REGION));
 		Assert.assertNotNull(registry.get("hibernate.second.level.cache.puts").tags("region", REGION).functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.second.level.cache.operations").tags("region", REGION, "access", "read-write", "operation", "put").functionTimer());
+		Assert.assertNotNull(registry.get("hibernate.second.level.cache.operations.max").tags("region", REGION, "access", "read-write", "operation", "get").timeGauge());
+		Assert.assertNotNull(registry.get("hibernate.second.level.cache.operations.percentile").tags("region", REGION, "access", "read-write", "operation", "lock", "phi", "0.99").timeGauge());
 
 		Assert.assertNotNull(registry.get("hibernate.entities.deletes").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.entities.fetches").functionCounter());
@@ -154,6 +157,7 @@ public class MicrometerCacheStatisticsTest extends BaseNonConfigCoreFunctionalTe
 		Assert.assertEquals( 1, registry.get("hibernate.transactions").tags("result", "success").functionCounter().count(), 0 );
 		Assert.assertEquals( 1, registry.get("hibernate.cache.natural.id.puts").functionCounter().count(), 0);
 		Assert.assertEquals(2, registry.get("hibernate.second.level.cache.puts").tags("region", REGION).functionCounter().count(), 0);
+		Assert.assertEquals(2, registry.get("hibernate.second.level.cache.operations").tags("region", REGION, "access", "read-write", "operation", "put").functionTimer().count(), 0);
 
 		final String queryString = "select p from Person p";
 		inTransaction(
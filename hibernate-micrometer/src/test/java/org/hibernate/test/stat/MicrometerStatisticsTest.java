@@ -74,6 +74,8 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.connections.obtained").functionCounter());
 
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.jdbc.batches").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.jdbc.batches.rows").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
 
 		// Second level cache disabled
@@ -110,6 +112,7 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.puts").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
+		Assert.assertNotNull(registry.get("hibernate.cache.query.plan.evictions").functionCounter());
 
 		// prepare some test data...
 		Session session = openSession();
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.opentelemetry;
+
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.StatementTracingSessionEventListener;
+import org.hibernate.Version;
+
+/**
+ * A {@link StatementTracingSessionEventListener} exporting the JDBC work of the Session as
+ * OpenTelemetry spans, children of the span current when the work is done:
+ * <ul>
+ *     <li>a span per statement execution, carrying the SQL and the number of rows affected,</li>
+ *     <li>a span per batch execution, also carrying the batch size and what the batch was executed for,</li>
+ *     <li>an event on the current span once the results of a query have been read, carrying the number of
+ *     rows read and the query or entity they were read for.</li>
+ * </ul>
+ * It can be registered for every Session with
+ * {@value org.hibernate.cfg.AvailableSettings#AUTO_SESSION_EVENTS_LISTENER}, in which case the spans are created
+ * with the tracer of {@link GlobalOpenTelemetry}.
+ */
+public class OpenTelemetrySessionEventListener extends BaseSessionEventListener
+		implements StatementTracingSessionEventListener {
+
+	/**
+	 * The name of the tracer of {@link GlobalOpenTelemetry} used by default.
+	 */
+	public static final String INSTRUMENTATION_NAME = "org.hibernate.orm";
+
+	public static final AttributeKey<String> DB_STATEMENT = AttributeKey.stringKey( "db.statement" );
+	public static final AttributeKey<String> DB_OPERATION = AttributeKey.stringKey( "db.operation" );
+	public static final AttributeKey<String> ORIGIN = AttributeKey.stringKey( "hibernate.origin" );
+	public static final AttributeKey<Long> BATCH_SIZE = AttributeKey.longKey( "hibernate.batch_size" );
+	public static final AttributeKey<Long> ROWS_AFFECTED = AttributeKey.longKey( "hibernate.rows_affected" );
+	public static final AttributeKey<Long> ROWS_FETCHED = AttributeKey.longKey( "hibernate.rows_fetched" );
+
+	/**
+	 * The name of the event recording the number of rows read by a query.
+	 */
+	public static final String ROWS_FETCHED_EVENT = "hibernate.rows_fetched";
+
+	private static final String DEFAULT_SPAN_NAME = "JDBC";
+	private static final String[] OPERATIONS = { "SELECT", "INSERT", "UPDATE", "DELETE", "MERGE", "CALL", "WITH" };
+
+	// Not serialized: a deserialized listener falls back to the tracer of GlobalOpenTelemetry
+	private transient Tracer tracer;
+
+	// To convert the System#nanoTime() of the callbacks to the epoch based timestamps of the spans
+	private final long epochOffsetNanos;
+
+	/**
+	 * Creates a listener using the tracer of {@link GlobalOpenTelemetry}.
+	 */
+	public OpenTelemetrySessionEventListener() {
+		this( null );
+	}
+
+	/**
+	 * @param tracer The tracer creating the spans, or {@code null} to use the one of {@link GlobalOpenTelemetry}
+	 */
+	public OpenTelemetrySessionEventListener(Tracer tracer) {
+		this.tracer = tracer;
+		this.epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos( System.currentTimeMillis() ) - System.nanoTime();
+	}
+
+	@Override
+	public void jdbcStatementExecuted(String sql, long startNanos, long durationNanos, int rowCount) {
+		final SpanBuilder spanBuilder = spanBuilder( sql, startNanos );
+		if ( rowCount >= 0 ) {
+			spanBuilder.setAttribute( ROWS_AFFECTED, (long) rowCount );
+		}
+		spanBuilder.startSpan().end( epochOffsetNanos + startNanos + durationNanos, TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public void jdbcBatchExecuted(
+			String sql,
+			String origin,
+			int batchSize,
+			long startNanos,
+			long durationNanos,
+			long rowCount) {
+		final SpanBuilder spanBuilder = spanBuilder( sql, startNanos );
+		spanBuilder.setAttribute( BATCH_SIZE, (long) batchSize );
+		if ( origin != null ) {
+			spanBuilder.setAttribute( ORIGIN, origin );
+		}
+		if ( rowCount >= 0 ) {
+			spanBuilder.setAttribute( ROWS_AFFECTED, rowCount );
+		}
+		spanBuilder.startSpan().end( epochOffsetNanos + startNanos + durationNanos, TimeUnit.NANOSECONDS );
+	}
+
+	@Override
+	public void jdbcRowsFetched(String sql, String origin, int rowCount) {
+		final Span span = Span.current();
+		if ( !span.isRecording() ) {
+			return;
+		}
+		final AttributesBuilder attributes = Attributes.builder();
+		attributes.put( ROWS_FETCHED, (long) rowCount );
+		if ( sql != null ) {
+			attributes.put( DB_STATEMENT, sql );
+		}
+		if ( origin != null ) {
+			attributes.put( ORIGIN, origin );
+		}
+		span.addEvent( ROWS_FETCHED_EVENT, attributes.build() );
+	}
+
+	private SpanBuilder spanBuilder(String sql, long startNanos) {
+		final String operation = sql == null ? null : operation( sql );
+		final SpanBuilder spanBuilder = tracer()
+				.spanBuilder( operation == null ? DEFAULT_SPAN_NAME : operation )
+				.setSpanKind( SpanKind.CLIENT )
+				.setStartTimestamp( epochOffsetNanos + startNanos, TimeUnit.NANOSECONDS );
+		if ( sql != null ) {
+			spanBuilder.setAttribute( DB_STATEMENT, sql );
+		}
+		if ( operation != null ) {
+			spanBuilder.setAttribute( DB_OPERATION, operation );
+		}
+		return spanBuilder;
+	}
+
+	private Tracer tracer() {
+		if ( tracer == null ) {
+			tracer = GlobalOpenTelemetry.getTracer( INSTRUMENTATION_NAME, Version.getVersionString() );
+		}
+		return tracer;
+	}
+
+	/**
+	 * The operation of the SQL, that is its first keyword once the leading comments skipped.
+	 *
+	 * @return One of the {@link #OPERATIONS} or {@code null}
+	 */
+	static String operation(String sql) {
+		final int length = sql.length();
+		int start = 0;
+		while ( start < length ) {
+			final char c = sql.charAt( start );
+			if ( Character.isWhitespace( c ) ) {
+				start++;
+			}
+			else if ( c == '/' && sql.startsWith( "/*", start ) ) {
+				final int end = sql.indexOf( "*/", start + 2 );
+				if ( end < 0 ) {
+					return null;
+				}
+				start = end + 2;
+			}
+			else {
+				break;
+			}
+		}
+		for ( String operation : OPERATIONS ) {
+			final int end = start + operation.length();
+			if ( sql.regionMatches( true, start, operation, 0, operation.length() )
+					&& ( end == length || !Character.isLetterOrDigit( sql.charAt( end ) ) ) ) {
+				return operation;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.opentelemetry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.opentelemetry.OpenTelemetrySessionEventListener;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the spans exported by the {@link OpenTelemetrySessionEventListener}.
+ */
+public class OpenTelemetrySessionEventListenerTest extends BaseCoreFunctionalTestCase {
+	private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+	private SdkTracerProvider tracerProvider;
+	private Tracer tracer;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Ticket.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void setUpTracer() {
+		tracerProvider = SdkTracerProvider.builder()
+				.addSpanProcessor( SimpleSpanProcessor.create( spanExporter ) )
+				.build();
+		tracer = tracerProvider.get( "test" );
+	}
+
+	@After
+	public void shutdownTracer() {
+		tracerProvider.shutdown();
+		spanExporter.reset();
+	}
+
+	@Test
+	public void testBatchSpan() {
+		final long beforeEpochNanos = TimeUnit.MILLISECONDS.toNanos( System.currentTimeMillis() );
+		createTickets( 3 );
+
+		final List<SpanData> spans = spanExporter.getFinishedSpanItems();
+		assertEquals( 1, spans.size() );
+		final SpanData batch = spans.get( 0 );
+		assertEquals( "INSERT", batch.getName() );
+		assertTrue( batch.getAttributes().get( OpenTelemetrySessionEventListener.DB_STATEMENT ).startsWith( "insert" ) );
+		assertTrue( batch.getAttributes().get( OpenTelemetrySessionEventListener.ORIGIN ).contains( Ticket.class.getName() ) );
+		assertEquals( 3L, (long) batch.getAttributes().get( OpenTelemetrySessionEventListener.BATCH_SIZE ) );
+		assertEquals( 3L, (long) batch.getAttributes().get( OpenTelemetrySessionEventListener.ROWS_AFFECTED ) );
+		// the start is converted from System#nanoTime() to the epoch, allowing for the precision of the clock
+		assertTrue( batch.getStartEpochNanos() >= beforeEpochNanos - TimeUnit.MILLISECONDS.toNanos( 100 ) );
+		assertTrue( batch.getEndEpochNanos() >= batch.getStartEpochNanos() );
+	}
+
+	@Test
+	public void testStatementSpan() {
+		createTickets( 3 );
+		spanExporter.reset();
+
+		doInHibernateSessionBuilder( this::sessionBuilder, session -> {
+			assertEquals( 3, session.createQuery( "update Ticket set name = 'Closed'" ).executeUpdate() );
+		} );
+
+		final List<SpanData> spans = spanExporter.getFinishedSpanItems();
+		assertEquals( 1, spans.size() );
+		final SpanData update = spans.get( 0 );
+		assertEquals( "UPDATE", update.getName() );
+		assertTrue( update.getAttributes().get( OpenTelemetrySessionEventListener.DB_STATEMENT ).startsWith( "update" ) );
+		assertEquals( 3L, (long) update.getAttributes().get( OpenTelemetrySessionEventListener.ROWS_AFFECTED ) );
+	}
+
+	@Test
+	public void testQuerySpanAndRowsFetchedEvent() {
+		createTickets( 3 );
+		spanExporter.reset();
+
+		final Span parent = tracer.spanBuilder( "parent" ).startSpan();
+		try ( Scope scope = parent.makeCurrent() ) {
+			doInHibernateSessionBuilder( this::sessionBuilder, session -> {
+				assertEquals( 3, session.createQuery( "from Ticket" ).list().size() );
+			} );
+		}
+		finally {
+			parent.end();
+		}
+
+		final List<SpanData> selects = spanExporter.getFinishedSpanItems().stream()
+				.filter( span -> span.getName().equals( "SELECT" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 1, selects.size() );
+		final SpanData select = selects.get( 0 );
+		assertEquals( parent.getSpanContext().getSpanId(), select.getParentSpanId() );
+		assertTrue( select.getAttributes().get( OpenTelemetrySessionEventListener.DB_STATEMENT ).startsWith( "select" ) );
+
+		final SpanData parentData = spanExporter.getFinishedSpanItems().stream()
+				.filter( span -> span.getName().equals( "parent" ) )
+				.findFirst()
+				.get();
+		assertEquals( 1, parentData.getEvents().size() );
+		final EventData rowsFetched = parentData.getEvents().get( 0 );
+		assertEquals( OpenTelemetrySessionEventListener.ROWS_FETCHED_EVENT, rowsFetched.getName() );
+		assertEquals( 3L, (long) rowsFetched.getAttributes().get( OpenTelemetrySessionEventListener.ROWS_FETCHED ) );
+		assertEquals(
+				select.getAttributes().get( OpenTelemetrySessionEventListener.DB_STATEMENT ),
+				rowsFetched.getAttributes().get( OpenTelemetrySessionEventListener.DB_STATEMENT )
+		);
+		assertEquals( "from Ticket", rowsFetched.getAttributes().get( OpenTelemetrySessionEventListener.ORIGIN ) );
+	}
+
+	private SessionBuilder sessionBuilder() {
+		return sessionFactory().withOptions().eventListeners( new OpenTelemetrySessionEventListener( tracer ) );
+	}
+
+	private void createTickets(int count) {
+		doInHibernateSessionBuilder( this::sessionBuilder, session -> {
+			for ( int i = 1; i <= count; i++ ) {
+				session.persist( new Ticket( i, "Ticket " + i ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.SessionlessStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -17,7 +18,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
  *
  * @author Steve Ebersole
  */
-public class MapStorageAccessImpl implements DomainDataStorageAccess {
+public class MapStorageAccessImpl implements DomainDataStorageAccess, SessionlessStorageAccess {
 	private ConcurrentMap data;
 
 	@Override
@@ -27,6 +28,11 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 
 	@Override
 	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return getFromCache( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key) {
 		if ( data == null ) {
 			return null;
 		}
@@ -34,8 +40,13 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		putIntoCache( key, value );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void putIntoCache(Object key, Object value) {
 		getOrMakeDataMap().put( key, value );
 	}
 
@@ -49,6 +60,11 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		removeFromCache( key );
+	}
+
+	@Override
+	public void removeFromCache(Object key) {
 		if ( data == null ) {
 			return;
 		}
@@ -56,6 +72,11 @@ public class MapStorageAccessImpl implements DomainDataStorageAccess {
 		data.remove( key );
 	}
 
+	@Override
+	public SessionlessStorageAccess getSessionlessAccess() {
+		return this;
+	}
+
 	@Override
 	public void clearCache(SharedSessionContractImplementor session) {
 		if ( data == null ) {